@@ -0,0 +1,69 @@
+package com.rikuthin.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.graphics.animations.AnimationClock;
+import com.rikuthin.graphics.animations.AnimationInstance;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.managers.AnimationManager;
+
+/**
+ * Measures one tick of animation work for {@code entityCount} playing
+ * instances of the same looping template: advancing the shared
+ * {@link AnimationClock} and resolving every instance's current frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationInstanceBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private BenchmarkWorld world;
+    private AnimationInstance[] instances;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        AnimationTemplate template = AnimationManager.getInstance().getAnimation("player-idle");
+        instances = new AnimationInstance[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            instances[i] = new AnimationInstance(template);
+            instances[i].start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.stop();
+    }
+
+    @Benchmark
+    public int update() {
+        AnimationClock.getInstance().advance(world.getGameManager().getTickDurationMs());
+
+        int frameSum = 0;
+        for (AnimationInstance instance : instances) {
+            frameSum += instance.getCurrentFrameIndex();
+        }
+        return frameSum;
+    }
+}
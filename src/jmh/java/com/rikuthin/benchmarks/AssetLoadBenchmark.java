@@ -0,0 +1,86 @@
+package com.rikuthin.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.graphics.animations.AnimationLoader;
+import com.rikuthin.managers.AssetPack;
+import com.rikuthin.managers.AssetPackBuilder;
+
+/**
+ * Measures loading every default sprite sheet, as done at startup:
+ * <ul>
+ * <li>{@code DECODE}: decoding each PNG from the classpath with
+ * {@link ImageIO}.</li>
+ * <li>{@code PACK}: mapping a pre-built {@link AssetPack} and copying each
+ * sheet's pixels out of it.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetLoadBenchmark {
+
+    public enum Source {
+        DECODE, PACK
+    }
+
+    @Param({"DECODE", "PACK"})
+    public Source source;
+
+    private List<String> paths;
+    private Path packFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        paths = AnimationLoader.getDefaultSpriteSheetPaths();
+        packFile = Files.createTempFile("benchmark", ".pack");
+
+        AssetPackBuilder builder = new AssetPackBuilder();
+        for (String path : paths) {
+            builder.addResource(path);
+        }
+        builder.write(packFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(packFile);
+    }
+
+    @Benchmark
+    public long loadSpriteSheets() throws IOException {
+        AssetPack pack = source == Source.PACK ? AssetPack.open(packFile) : null;
+        long checksum = 0;
+        for (String path : paths) {
+            BufferedImage image = pack != null
+                    ? pack.loadImage(path)
+                    : ImageIO.read(AssetLoadBenchmark.class.getResource(path));
+            checksum += image.getWidth() + image.getRGB(image.getWidth() / 2, image.getHeight() / 2);
+        }
+        return checksum;
+    }
+}
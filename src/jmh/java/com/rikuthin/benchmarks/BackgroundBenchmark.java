@@ -0,0 +1,96 @@
+package com.rikuthin.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.screens.subpanels.Subpanel;
+import com.rikuthin.managers.ImageManager;
+
+/**
+ * Measures the per-frame cost of drawing a subpanel's background, comparing
+ * a scaling blit of the original image every frame ({@code scaledEveryFrame})
+ * with {@link Subpanel}'s pre-scaled, cached background ({@code prescaled}).
+ * <p>
+ * Panel sizes match the gameplay screen's panels inside a decorated
+ * {@link GameFrame}, where neither background image is drawn at its natural
+ * size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BackgroundBenchmark {
+
+    /**
+     * The approximate height of a window title bar, taken off the frame.
+     */
+    private static final int TITLE_BAR_HEIGHT = 28;
+
+    @Param({"game-panel", "info-panel"})
+    public String background;
+
+    private BufferedImage image;
+    private Subpanel panel;
+    private BufferedImage backBuffer;
+    private int width;
+    private int height;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String filepath = "/images/backgrounds/" + background + ".png";
+        height = GameFrame.FRAME_HEIGHT - TITLE_BAR_HEIGHT;
+        width = "game-panel".equals(background) ? GameFrame.FRAME_HEIGHT : GameFrame.FRAME_WIDTH - GameFrame.FRAME_HEIGHT;
+
+        image = ImageManager.loadCompatibleImage(filepath);
+        panel = new Subpanel(width, height, filepath) {
+        };
+        panel.setSize(width, height);
+        backBuffer = ImageManager.createCompatibleImage(width, height, Transparency.OPAQUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        backBuffer.flush();
+    }
+
+    @Benchmark
+    public BufferedImage scaledEveryFrame() {
+        Graphics2D g2d = backBuffer.createGraphics();
+        try {
+            g2d.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return backBuffer;
+    }
+
+    @Benchmark
+    public BufferedImage prescaled() {
+        Graphics2D g2d = backBuffer.createGraphics();
+        try {
+            panel.render(g2d);
+        } finally {
+            g2d.dispose();
+        }
+        return backBuffer;
+    }
+}
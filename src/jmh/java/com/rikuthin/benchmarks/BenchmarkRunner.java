@@ -0,0 +1,51 @@
+package com.rikuthin.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the simulation benchmarks with the GC profiler attached, so allocation
+ * rates ({@code gc.alloc.rate.norm}, in bytes per operation) are reported
+ * alongside timings.
+ * <p>
+ * Results are also written to {@code target/jmh-result.json} for comparison
+ * between releases. Any standard JMH command-line options (e.g., a benchmark
+ * name pattern, or {@code -p entityCount=1000}) override the defaults.
+ * <p>
+ * Run with: {@code mvn -P benchmark test-compile exec:exec}
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * The default result file.
+     */
+    private static final String RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + "\\..*Benchmark");
+        }
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON).result(RESULT_FILE);
+        }
+
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,131 @@
+package com.rikuthin.benchmarks;
+
+import java.awt.Point;
+import java.util.SplittableRandom;
+
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.entities.enemies.RedMage;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.managers.AnimationManager;
+import com.rikuthin.managers.BulletManager;
+import com.rikuthin.managers.EnemyManager;
+import com.rikuthin.managers.GameManager;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Builds reproducible headless game worlds for the benchmarks.
+ * <p>
+ * Every world uses the same arena and a fixed random seed, so the numbers from
+ * one release can be compared directly with the next.
+ */
+final class BenchmarkWorld {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The width and height of the benchmark arena in pixels.
+     */
+    static final int ARENA_SIZE = 720;
+    /**
+     * The seed used for every random placement.
+     */
+    static final long SEED = 0x5EED_DA4AL;
+    /**
+     * The bullet animation used for spawned bullets.
+     */
+    static final String BULLET_ANIMATION_KEY = "player-bullet";
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The headless simulation the world runs in.
+     */
+    private final HeadlessSimulation simulation;
+    /**
+     * The random generator used for placement.
+     */
+    private final SplittableRandom random;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Starts a new, empty headless game.
+     */
+    BenchmarkWorld() {
+        simulation = new HeadlessSimulation(new Arena(ARENA_SIZE, ARENA_SIZE));
+        simulation.start();
+        random = new SplittableRandom(SEED);
+    }
+
+    // ----- GETTERS -----
+    GameManager getGameManager() {
+        return simulation.getGameManager();
+    }
+
+    SplittableRandom getRandom() {
+        return random;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Spawns the given number of bullets at random positions within the arena.
+     *
+     * @param count The number of bullets.
+     * @param velocity The speed of every bullet in pixels per tick. Zero keeps
+     * the bullet count constant across invocations.
+     * @param damage The damage each bullet deals.
+     * @param owner The handle of the entity that fired the bullets.
+     */
+    void spawnBullets(final int count, final float velocity, final int damage, final long owner) {
+        BulletManager bulletManager = getGameManager().getBulletManager();
+        AnimationTemplate animation = AnimationManager.getInstance().getAnimation(BULLET_ANIMATION_KEY);
+        bulletManager.getBullets().ensureCapacity(bulletManager.getBulletCount() + count);
+
+        for (int i = 0; i < count; i++) {
+            bulletManager.spawnBullet(
+                    random.nextInt(ARENA_SIZE),
+                    random.nextInt(ARENA_SIZE),
+                    velocity,
+                    velocity,
+                    damage,
+                    owner,
+                    animation
+            );
+        }
+    }
+
+    /**
+     * Creates the given number of enemies at random positions and adds them to
+     * the {@link EnemyManager}, raising its cap so that they all fit.
+     *
+     * @param count The number of enemies.
+     */
+    void spawnEnemies(final int count) {
+        EnemyManager enemyManager = getGameManager().getEnemyManager();
+        enemyManager.setMaxEnemyCount(enemyManager.getEnemies().size() + count);
+
+        for (int i = 0; i < count; i++) {
+            enemyManager.addEnemy(createEnemy());
+        }
+    }
+
+    /**
+     * Creates an enemy at a random position without adding it to any manager.
+     *
+     * @return The enemy.
+     */
+    Enemy createEnemy() {
+        Enemy enemy = new RedMage.RedMageBuilder(getGameManager().getArena())
+                .collidability(true)
+                .build();
+        enemy.setPosition(new Point(random.nextInt(ARENA_SIZE), random.nextInt(ARENA_SIZE)));
+        enemy.setVelocityX(random.nextInt(-4, 5));
+        enemy.setHitboxFromCurrentSprite();
+        return enemy;
+    }
+
+    /**
+     * Ends the headless game.
+     */
+    void stop() {
+        simulation.stop();
+    }
+}
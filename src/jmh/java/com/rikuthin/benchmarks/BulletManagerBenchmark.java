@@ -0,0 +1,65 @@
+package com.rikuthin.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.managers.BulletManager;
+
+/**
+ * Measures one tick of {@link BulletManager#update()}, serially or spread over
+ * one thread per processor ({@code parallel}).
+ * <p>
+ * Bullets are stationary, so none leave the arena and the bullet count stays
+ * at {@code entityCount} for the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulletManagerBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private BenchmarkWorld world;
+    private BulletManager bulletManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        world.getGameManager().setParallelUpdate(parallel);
+        long owner = world.getGameManager().getPlayer().getHandle();
+        world.spawnBullets(entityCount, 0, 1, owner);
+        bulletManager = world.getGameManager().getBulletManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.stop();
+        world.getGameManager().setParallelUpdate(false);
+    }
+
+    @Benchmark
+    public int update() {
+        bulletManager.update();
+        return bulletManager.getBulletCount();
+    }
+}
@@ -0,0 +1,101 @@
+package com.rikuthin.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.entities.EntityRegistry;
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.interfaces.ArenaBounds;
+import com.rikuthin.managers.AnimationManager;
+import com.rikuthin.managers.BulletManager;
+import com.rikuthin.managers.CollisionManager;
+import com.rikuthin.managers.GameManager;
+
+/**
+ * Measures one tick of collision resolution with {@code entityCount} player
+ * bullets spread over the arena and one enemy per hundred bullets.
+ * <p>
+ * Bullets deal no damage, so enemies never die. Every bullet that hits
+ * something is removed by the {@link CollisionManager}, and is replaced at a
+ * random position after each invocation to keep the bullet count constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private BenchmarkWorld world;
+    private CollisionManager collisionManager;
+    private BulletManager bulletManager;
+    private EntityRegistry entityRegistry;
+    private Player player;
+    private List<Enemy> enemies;
+    private ArenaBounds arena;
+    private AnimationTemplate bulletAnimation;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        GameManager gameManager = world.getGameManager();
+
+        collisionManager = gameManager.getCollisionManager();
+        bulletManager = gameManager.getBulletManager();
+        entityRegistry = gameManager.getEntityRegistry();
+        player = gameManager.getPlayer();
+        arena = gameManager.getArena();
+        bulletAnimation = AnimationManager.getInstance().getAnimation(BenchmarkWorld.BULLET_ANIMATION_KEY);
+        random = world.getRandom();
+
+        world.spawnEnemies(Math.max(entityCount / 100, 1));
+        world.spawnBullets(entityCount, 0, 0, player.getHandle());
+        enemies = gameManager.getEnemyManager().getEnemies();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.stop();
+    }
+
+    @Benchmark
+    public int resolve() {
+        collisionManager.resolve(bulletManager, entityRegistry, player, enemies, arena);
+
+        int hits = collisionManager.getHitCount();
+        for (int i = 0; i < hits; i++) {
+            bulletManager.spawnBullet(
+                    random.nextInt(BenchmarkWorld.ARENA_SIZE),
+                    random.nextInt(BenchmarkWorld.ARENA_SIZE),
+                    0,
+                    0,
+                    0,
+                    player.getHandle(),
+                    bulletAnimation
+            );
+        }
+        return collisionManager.getCandidatePairCount();
+    }
+}
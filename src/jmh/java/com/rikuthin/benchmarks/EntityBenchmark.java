@@ -0,0 +1,61 @@
+package com.rikuthin.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.entities.Entity;
+
+/**
+ * Measures {@link Entity#setHitboxFromCurrentSprite()} across
+ * {@code entityCount} entities, i.e., the hitbox refresh done for every entity
+ * on every tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private BenchmarkWorld world;
+    private Entity[] entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new BenchmarkWorld();
+        entities = new Entity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = world.createEnemy();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.stop();
+    }
+
+    @Benchmark
+    public Entity[] setHitboxFromCurrentSprite() {
+        for (Entity entity : entities) {
+            entity.setHitboxFromCurrentSprite();
+        }
+        return entities;
+    }
+}
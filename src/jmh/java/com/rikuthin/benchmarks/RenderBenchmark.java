@@ -0,0 +1,121 @@
+package com.rikuthin.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.managers.ImageManager;
+
+/**
+ * Measures blitting {@code spriteCount} sprites onto a frame-sized back
+ * buffer, comparing sprite formats:
+ * <ul>
+ * <li>{@code DECODED}: the image exactly as {@link javax.imageio.ImageIO}
+ * decoded it (usually {@link BufferedImage#TYPE_4BYTE_ABGR} for PNGs).</li>
+ * <li>{@code INT_ARGB}: a {@link BufferedImage#TYPE_INT_ARGB} copy, as
+ * sprites were stored before the acceleration layer.</li>
+ * <li>{@code COMPATIBLE}: a copy in the screen's pixel format, from
+ * {@link ImageManager#toCompatibleImage(BufferedImage)}.</li>
+ * </ul>
+ * The back buffer is a volatile image when a screen is available (as in
+ * {@link GameFrame}) and a compatible image otherwise. Run with a display
+ * (i.e., not headless) to include hardware acceleration in the comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    public enum SpriteFormat {
+        DECODED, INT_ARGB, COMPATIBLE
+    }
+
+    private static final String SPRITE_SHEET = "/images/animations/mage-guardian-blue.png";
+
+    @Param({"100", "1000", "10000"})
+    public int spriteCount;
+
+    @Param({"DECODED", "INT_ARGB", "COMPATIBLE"})
+    public SpriteFormat spriteFormat;
+
+    private BufferedImage sprite;
+    private VolatileImage volatileBackBuffer;
+    private BufferedImage backBuffer;
+    private int[] x;
+    private int[] y;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BufferedImage decoded = ImageManager.loadBufferedImage(SPRITE_SHEET);
+        sprite = switch (spriteFormat) {
+            case DECODED -> decoded;
+            case INT_ARGB -> {
+                BufferedImage copy = new BufferedImage(decoded.getWidth(), decoded.getHeight(), BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g2d = copy.createGraphics();
+                g2d.drawImage(decoded, 0, 0, null);
+                g2d.dispose();
+                yield copy;
+            }
+            case COMPATIBLE -> ImageManager.toCompatibleImage(decoded);
+        };
+
+        volatileBackBuffer = ImageManager.createVolatileImage(GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT, Transparency.OPAQUE);
+        if (volatileBackBuffer == null) {
+            backBuffer = ImageManager.createCompatibleImage(GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT, Transparency.OPAQUE);
+        }
+
+        Random random = new Random(BenchmarkWorld.SEED);
+        x = new int[spriteCount];
+        y = new int[spriteCount];
+        for (int i = 0; i < spriteCount; i++) {
+            x[i] = random.nextInt(GameFrame.FRAME_WIDTH - sprite.getWidth());
+            y[i] = random.nextInt(GameFrame.FRAME_HEIGHT - sprite.getHeight());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (volatileBackBuffer != null) {
+            volatileBackBuffer.flush();
+        }
+    }
+
+    @Benchmark
+    public int render() {
+        if (volatileBackBuffer != null) {
+            volatileBackBuffer.validate(ImageManager.getGraphicsConfiguration());
+        }
+
+        Graphics2D g2d = volatileBackBuffer != null ? volatileBackBuffer.createGraphics() : backBuffer.createGraphics();
+        try {
+            g2d.clearRect(0, 0, GameFrame.FRAME_WIDTH, GameFrame.FRAME_HEIGHT);
+            for (int i = 0; i < spriteCount; i++) {
+                g2d.drawImage(sprite, x[i], y[i], null);
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return spriteCount;
+    }
+}
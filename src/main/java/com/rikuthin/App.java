@@ -9,7 +9,9 @@ public class App {
     /**
      * How often the app should refresh the rendered frame in milliseconds.
      * <p>
-     * Note that game updates occur once per frame.
+     * Note that game updates are decoupled from the frame rate: each frame,
+     * {@link com.rikuthin.managers.GameManager} runs however many fixed-length
+     * simulation ticks are due.
      */
     public static final long FRAME_RATE_MS = (long) 16.7;  // 16.7 ms is approx. 60 FPS
 
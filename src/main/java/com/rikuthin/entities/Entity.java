@@ -4,14 +4,15 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
-import javax.swing.JPanel;
-
+import com.rikuthin.graphics.animations.AnimationController;
+import com.rikuthin.graphics.animations.AnimationFrame;
 import com.rikuthin.graphics.animations.AnimationInstance;
 import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.interfaces.ArenaBounds;
 import com.rikuthin.interfaces.Renderable;
 import com.rikuthin.interfaces.Updateable;
 import com.rikuthin.managers.AnimationManager;
@@ -25,15 +26,16 @@ import com.rikuthin.managers.AnimationManager;
  * features such as animations, speed, invisibility, and collision handling.
  * <p>
  * Entities may interact with other entities and are capable of rendering
- * themselves within a game panel.
+ * themselves within a game panel. Entity logic only depends on the
+ * {@link ArenaBounds} it lives in, so it can also run headlessly.
  */
 public abstract class Entity implements Updateable, Renderable {
 
     // ----- INSTANCE VARIABLES -----
     /**
-     * The {@link JPanel} where the entity will be rendered.
+     * The {@link ArenaBounds} the entity lives (and is rendered) within.
      */
-    protected final JPanel panel;
+    protected final ArenaBounds arena;
 
     /**
      * The position of the entity in the game world.
@@ -46,20 +48,16 @@ public abstract class Entity implements Updateable, Renderable {
     protected boolean isInvisible;
 
     /**
-     * A set of all the animation keys (names) associated with the entity.
+     * The IDs of all the animations associated with the entity (distinct and
+     * sorted).
      */
-    protected HashSet<String> animationKeys;
+    protected int[] animationIds;
 
     /**
-     * The key of the currently active animation.
-     */
-    protected String currentAnimationKey;
-
-    /**
-     * The currently active animation. Set through a query to
-     * {@link AnimationManager}.
+     * Chooses (and plays) the entity's current animation, reusing a single
+     * {@link AnimationInstance}.
      */
-    protected AnimationInstance currentAnimation;
+    protected final AnimationController animationController;
 
     /**
      * The hitbox used for collision detection.
@@ -81,6 +79,13 @@ public abstract class Entity implements Updateable, Renderable {
      */
     protected int currentHitPoints;
 
+    /**
+     * The entity's handle in the {@link EntityRegistry} it is registered with
+     * ({@link EntityHandle#NONE} while unregistered). Identity is by reference
+     * and handle, never by the entity's mutable fields.
+     */
+    private long handle = EntityHandle.NONE;
+
     // ----- CONSTRUCTORS -----
     /**
      * Private constructor used by the builder pattern to instantiate an Entity.
@@ -95,28 +100,30 @@ public abstract class Entity implements Updateable, Renderable {
             ));
         }
 
-        this.panel = builder.panel;
-        this.position = builder.position;
+        this.arena = builder.arena;
+        // Copied once here, then only ever mutated in place.
+        this.position = new Point(builder.position);
         this.isInvisible = builder.isInvisible;
-        this.animationKeys = builder.animationKeys;
-        this.hitbox = builder.hitbox;
+        this.animationIds = builder.animationIds;
+        this.animationController = new AnimationController();
+        this.hitbox = new Rectangle(builder.hitbox);
         this.isCollidable = builder.isCollidable;
         setMaxHitPoints(builder.maxHitPoints);
         setCurrentHitPoints(builder.currentHitPoints);
 
         // Set initial animation and hitbox
-        setAnimation(builder.currentAnimationKey);
+        setAnimation(builder.currentAnimationId);
         setHitboxFromCurrentSprite();
     }
 
     // ----- GETTERS -----
     /**
-     * Returns the panel where the entity is rendered.
+     * Returns the arena the entity lives within.
      *
-     * @return The {@link JPanel} for rendering.
+     * @return The {@link ArenaBounds} of the play area.
      */
-    public JPanel getPanel() {
-        return panel;
+    public ArenaBounds getArena() {
+        return arena;
     }
 
     /**
@@ -159,19 +166,53 @@ public abstract class Entity implements Updateable, Renderable {
      * Returns the set of keys this entity can use to query
      * {@link AnimationManager} for an {@link AnimationTemplate}.
      *
-     * @return The set of animation keys.
+     * @return A copy of the set of animation keys.
      */
     public Set<String> getAnimationKeys() {
-        return animationKeys;
+        Set<String> keys = new LinkedHashSet<>();
+        for (int id : animationIds) {
+            keys.add(AnimationManager.getInstance().getAnimationKey(id));
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the IDs of the animations this entity can switch to.
+     *
+     * @return A copy of the animation IDs (distinct and sorted).
+     */
+    public int[] getAnimationIds() {
+        return animationIds.clone();
+    }
+
+    /**
+     * Returns whether this entity can switch to the given animation.
+     *
+     * @param id The animation's ID.
+     * @return {@code true} if the ID is in the entity's animation set,
+     * {@code false} otherwise.
+     */
+    public boolean hasAnimation(final int id) {
+        return Arrays.binarySearch(animationIds, id) >= 0;
     }
 
     /**
      * Returns the key associated with the current {@link AnimationInstance}.
      *
-     * @return
+     * @return The current animation key, or {@code null} if there is none.
      */
     public String getCurrentAnimationKey() {
-        return currentAnimationKey;
+        return AnimationManager.getInstance().getAnimationKey(animationController.getCurrentStateId());
+    }
+
+    /**
+     * Returns the ID of the current {@link AnimationInstance}.
+     *
+     * @return The current animation ID, or
+     * {@link AnimationManager#NO_ANIMATION} if there is none.
+     */
+    public int getCurrentAnimationId() {
+        return animationController.getCurrentStateId();
     }
 
     /**
@@ -180,7 +221,17 @@ public abstract class Entity implements Updateable, Renderable {
      * @return The current {@link AnimationInstance}.
      */
     public AnimationInstance getCurrentAnimation() {
-        return currentAnimation;
+        return animationController.getCurrentAnimation();
+    }
+
+    /**
+     * Returns the state machine choosing the entity's animation, for declaring
+     * transitions and one-shots.
+     *
+     * @return The entity's {@link AnimationController}.
+     */
+    public AnimationController getAnimationController() {
+        return animationController;
     }
 
     /**
@@ -190,6 +241,7 @@ public abstract class Entity implements Updateable, Renderable {
      * {@link BufferedImage} (if one is set); {@code null} otherwise.
      */
     public BufferedImage getCurrentSprite() {
+        AnimationInstance currentAnimation = animationController.getCurrentAnimation();
         if (currentAnimation == null) {
             return null;
         }
@@ -202,8 +254,8 @@ public abstract class Entity implements Updateable, Renderable {
      * @return The sprite width.
      */
     public int getSpriteWidth() {
-        BufferedImage currentSprite = currentAnimation.getCurrentFrameImage();
-        return currentSprite != null ? currentSprite.getWidth() : 0;
+        AnimationInstance currentAnimation = animationController.getCurrentAnimation();
+        return currentAnimation != null ? currentAnimation.getCurrentFrame().getWidth() : 0;
     }
 
     /**
@@ -212,8 +264,8 @@ public abstract class Entity implements Updateable, Renderable {
      * @return The sprite height.
      */
     public int getSpriteHeight() {
-        BufferedImage currentSprite = currentAnimation.getCurrentFrameImage();
-        return currentSprite != null ? currentSprite.getHeight() : 0;
+        AnimationInstance currentAnimation = animationController.getCurrentAnimation();
+        return currentAnimation != null ? currentAnimation.getCurrentFrame().getHeight() : 0;
     }
 
     /**
@@ -253,14 +305,45 @@ public abstract class Entity implements Updateable, Renderable {
         return currentHitPoints;
     }
 
+    /**
+     * Returns the entity's handle in the {@link EntityRegistry} it is
+     * registered with.
+     *
+     * @return The handle, or {@link EntityHandle#NONE} if unregistered.
+     */
+    public long getHandle() {
+        return handle;
+    }
+
     // ----- SETTERS -----
     /**
-     * Sets the position of the entity.
+     * Sets the entity's handle. Only {@link EntityRegistry} should call this.
+     *
+     * @param handle The new handle.
+     */
+    void setHandle(final long handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Sets the position of the entity. The given point is copied, not
+     * retained.
      *
      * @param position The new position to set.
      */
     public void setPosition(Point position) {
-        this.position = new Point(position);
+        setPosition(position.x, position.y);
+    }
+
+    /**
+     * Sets the position of the entity.
+     *
+     * @param x The new x-coordinate.
+     * @param y The new y-coordinate.
+     */
+    public void setPosition(final int x, final int y) {
+        position.x = x;
+        position.y = y;
     }
 
     /**
@@ -282,27 +365,18 @@ public abstract class Entity implements Updateable, Renderable {
      * doesn't exist in {@link AnimationManager}'s key set.
      */
     public final void setAnimationKeys(final Set<String> animationKeys) throws IllegalArgumentException {
-        if (animationKeys == null) {
-            this.animationKeys = new HashSet<>();
-            return;
-        }
-
-        for (String key : animationKeys) {
-            if (key == null || key.isBlank()) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: Keys cannot be null nor empty.",
-                        this.getClass().getName()
-                ));
-            }
-            if (AnimationManager.getInstance().getAnimation(key) == null) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: Keys must exist within AnimationManager's key set.",
-                        this.getClass().getName()
-                ));
-            }
-        }
+        this.animationIds = AnimationManager.getInstance().requireAnimationIds(animationKeys);
+    }
 
-        this.animationKeys = new HashSet<>(animationKeys);
+    /**
+     * Sets the IDs of the animations this entity can switch to.
+     *
+     * @param animationIds The animation IDs.
+     * @throws IllegalArgumentException if any ID does not exist in
+     * {@link AnimationManager}.
+     */
+    public final void setAnimationIds(final int... animationIds) throws IllegalArgumentException {
+        this.animationIds = AnimationManager.getInstance().requireAnimationIds(animationIds);
     }
 
     /**
@@ -322,7 +396,7 @@ public abstract class Entity implements Updateable, Renderable {
      */
     public final void setAnimation(final String key) throws IllegalArgumentException {
         if (key == null) {
-            currentAnimation = null;
+            setAnimation(AnimationManager.NO_ANIMATION);
             return;
         }
 
@@ -333,44 +407,75 @@ public abstract class Entity implements Updateable, Renderable {
             ));
         }
 
-        if (!animationKeys.contains(key)) {
+        int id = AnimationManager.getInstance().getAnimationId(key);
+        if (!hasAnimation(id)) {
             throw new IllegalArgumentException(String.format(
                     "%s: Animation key <'%s'> not found within key set. Please add key to set.",
                     this.getClass().getName(),
                     key
             ));
         }
+        setAnimation(id);
+    }
 
-        AnimationTemplate template = AnimationManager.getInstance().getAnimation(key);
-        if (template == null) {
-            throw new IllegalArgumentException(String.format(
-                    "%s: Could not find template in AnimationManager mapped to key <'%s'>.",
-                    this.getClass().getName(),
-                    key
-            ));
+    /**
+     * Sets the animation for the entity by ID, bypassing the
+     * {@link AnimationController}'s transitions and clearing any one-shots.
+     * Unlike {@link #setAnimation(String)}, this does no string lookups.
+     * <p>
+     * Setting the current animation again does nothing (it keeps playing);
+     * use {@link AnimationController#restart()} to play it from the start.
+     *
+     * @param id The animation's ID, or {@link AnimationManager#NO_ANIMATION}
+     * for no animation.
+     * @throws IllegalArgumentException if the ID is not within the entity's
+     * animation set.
+     */
+    public final void setAnimation(final int id) throws IllegalArgumentException {
+        if (id != AnimationManager.NO_ANIMATION) {
+            requireAnimation(id);
         }
-        this.currentAnimation = new AnimationInstance(template);
-        currentAnimation.start();
+        animationController.set(id);
+    }
+
+    /**
+     * Asks the entity's {@link AnimationController} to switch animation,
+     * honouring its declared transitions and one-shots. Requests for the
+     * current animation are ignored, so this is cheap to call every tick.
+     *
+     * @param id The animation's ID.
+     * @return {@code true} if the request changed anything, {@code false} if
+     * it was ignored.
+     * @throws IllegalArgumentException if the ID is not within the entity's
+     * animation set.
+     */
+    public final boolean requestAnimation(final int id) throws IllegalArgumentException {
+        requireAnimation(id);
+        return animationController.request(id);
     }
 
     /**
      * Updates the hitbox dimensions based on the current sprite. The hitbox is
-     * adjusted to match the width and height of the sprite.
+     * adjusted (in place) to match the position, width and height of the
+     * sprite.
      */
     public final void setHitboxFromCurrentSprite() {
-        BufferedImage currentSprite = getCurrentSprite();
-
-        int width = currentSprite != null ? currentSprite.getWidth() : 0;
-        int height = currentSprite != null ? currentSprite.getHeight() : 0;
+        AnimationInstance currentAnimation = animationController.getCurrentAnimation();
+        if (currentAnimation == null) {
+            hitbox.setBounds(position.x, position.y, 0, 0);
+            return;
+        }
 
-        hitbox = new Rectangle(position.x, position.y, width, height);
+        AnimationFrame frame = currentAnimation.getCurrentFrame();
+        hitbox.setBounds(position.x, position.y, frame.getWidth(), frame.getHeight());
     }
 
     /**
-     * Updates the hitbox dimensions based on the provided {@link Rectangle}.
+     * Updates the hitbox dimensions (in place) based on the provided
+     * {@link Rectangle}.
      */
     public final void setHitboxFromRectangle(final Rectangle rectangle) {
-        hitbox = new Rectangle(rectangle);
+        hitbox.setBounds(rectangle);
     }
 
     /**
@@ -410,27 +515,33 @@ public abstract class Entity implements Updateable, Renderable {
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Determines if the entity is fully within the bounds of the panel.
+     * Determines if the entity is fully within the bounds of the arena.
      *
-     * @return {@code true} if the entity is fully within the panel,
+     * @return {@code true} if the entity is fully within the arena,
      * {@code false} otherwise.
      */
-    public boolean isFullyWithinPanel() {
+    public boolean isFullyWithinArena() {
         return position.x >= 0 && position.y >= 0
-                && position.x + getSpriteWidth() <= panel.getWidth()
-                && position.y + getSpriteHeight() <= panel.getHeight();
+                && position.x + getSpriteWidth() <= arena.getWidth()
+                && position.y + getSpriteHeight() <= arena.getHeight();
     }
 
     /**
-     * Determines if the entity is fully outside the bounds of the panel.
+     * Determines if the entity is fully outside the bounds of the arena.
      *
-     * @return {@code true} if the entity is fully outside the panel,
+     * @return {@code true} if the entity is fully outside the arena,
      * {@code false} otherwise.
      */
-    public boolean isFullyOutsidePanel() {
-        Rectangle spriteBounds = new Rectangle(position.x, position.y, getSpriteWidth(), getSpriteHeight());
-        Rectangle panelBounds = new Rectangle(0, 0, panel.getWidth(), panel.getHeight());
-        return !spriteBounds.intersects(panelBounds);
+    public boolean isFullyOutsideArena() {
+        int width = getSpriteWidth();
+        int height = getSpriteHeight();
+
+        // Matches Rectangle.intersects(): an empty sprite never overlaps the arena.
+        if (width <= 0 || height <= 0) {
+            return true;
+        }
+        return position.x >= arena.getWidth() || position.y >= arena.getHeight()
+                || position.x + width <= 0 || position.y + height <= 0;
     }
 
     /**
@@ -455,6 +566,18 @@ public abstract class Entity implements Updateable, Renderable {
         return collides(entity.getHitbox());
     }
 
+    /**
+     * Reduces the entity's current hit points by the given amount, stopping at
+     * zero. Non-positive amounts are ignored.
+     *
+     * @param damage The number of hit points to remove.
+     */
+    public void applyDamage(final int damage) {
+        if (damage > 0) {
+            currentHitPoints = Math.max(currentHitPoints - damage, 0);
+        }
+    }
+
     /**
      * Adds a new key to the set of keys this entity can query
      * {@link AnimationManager} with.
@@ -464,85 +587,66 @@ public abstract class Entity implements Updateable, Renderable {
      * passed, or the key doesn't exist in {@link AnimationManager}'s key set.
      */
     public void addAnimationKey(final String key) throws IllegalArgumentException {
-        if (key == null || key.isBlank()) {
-            throw new IllegalArgumentException(String.format(
-                    "%s: Keys cannot be null nor empty.",
-                    this.getClass().getName()
-            ));
-        }
-        if (AnimationManager.getInstance().getAnimation(key) == null) {
-            throw new IllegalArgumentException(String.format(
-                    "%s: Keys must exist within AnimationManager's key set.",
-                    this.getClass().getName()
-            ));
+        addAnimationId(AnimationManager.getInstance().requireAnimationId(key));
+    }
+
+    /**
+     * Adds a new animation to the set this entity can switch to.
+     *
+     * @param id The animation's ID.
+     * @throws IllegalArgumentException if the ID doesn't exist in
+     * {@link AnimationManager}.
+     */
+    public void addAnimationId(final int id) throws IllegalArgumentException {
+        if (hasAnimation(id)) {
+            return;
         }
-        animationKeys.add(key);
+        int[] newIds = Arrays.copyOf(animationIds, animationIds.length + 1);
+        newIds[animationIds.length] = id;
+        animationIds = AnimationManager.getInstance().requireAnimationIds(newIds);
     }
 
     /**
-     * Returns the central coordinates of the entity's sprite.
+     * Returns the x-coordinate of the centre of the entity's sprite.
+     *
+     * @return The centre x-coordinate.
      */
-    public Point getCentreCoordinates() {
-        return new Point(
-                (position.x + getSpriteWidth()) / 2,
-                (position.y + getSpriteHeight()) / 2
-        );
+    public int getCentreX() {
+        return position.x + getSpriteWidth() / 2;
     }
 
-    // ----- OVERRIDDEN METHODS -----
     /**
-     * Compares this entity to another object for equality.
+     * Returns the y-coordinate of the centre of the entity's sprite.
      *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
+     * @return The centre y-coordinate.
      */
-    @Override
-    public boolean equals(final Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!(obj instanceof Entity)) {
-            return false;
-        }
-        Entity other = (Entity) obj;
-        return Objects.equals(panel, other.getPanel())
-                && Objects.equals(position, other.getPosition())
-                && isInvisible == other.isInvisible()
-                && Objects.equals(animationKeys, other.getAnimationKeys())
-                && Objects.equals(currentAnimationKey, other.getCurrentAnimationKey())
-                && Objects.equals(hitbox, other.getHitbox())
-                && isCollidable == other.isCollidable()
-                && maxHitPoints == other.getMaxHitPoints()
-                && currentHitPoints == other.getCurrentHitPoints();
+    public int getCentreY() {
+        return position.y + getSpriteHeight() / 2;
     }
 
     /**
-     * Returns a hash code for this entity.
+     * Writes the central coordinates of the entity's sprite into the given
+     * point, rather than allocating a new one.
      *
-     * @return The hash code of the entity.
+     * @param destination The point to write into.
+     * @return The destination point.
      */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                panel,
-                position,
-                isInvisible,
-                animationKeys,
-                currentAnimationKey,
-                hitbox,
-                isCollidable,
-                maxHitPoints,
-                currentHitPoints
-        );
+    public Point getCentreCoordinates(final Point destination) {
+        destination.x = getCentreX();
+        destination.y = getCentreY();
+        return destination;
     }
 
+    // ----- OVERRIDDEN METHODS -----
     /**
      * Updates the entity's state.
      */
     @Override
     public void update() {
-        if (currentAnimation != null) {
-            currentAnimation.update();
+        // Animations advance with the shared AnimationClock; only finished
+        // one-shots and the hitbox need refreshing for the current frame.
+        animationController.update();
+        if (animationController.getCurrentAnimation() != null) {
             setHitboxFromCurrentSprite();
         }
     }
@@ -554,10 +658,9 @@ public abstract class Entity implements Updateable, Renderable {
      */
     @Override
     public void render(final Graphics2D g2d) {
-        BufferedImage currentSprite = currentAnimation.getCurrentFrameImage();
-
-        if (!isInvisible && currentSprite != null) {
-            g2d.drawImage(currentSprite, position.x, position.y, getSpriteWidth(), getSpriteHeight(), null);
+        AnimationInstance currentAnimation = animationController.getCurrentAnimation();
+        if (!isInvisible && currentAnimation != null) {
+            currentAnimation.getCurrentFrame().draw(g2d, position.x, position.y);
         }
     }
 
@@ -567,8 +670,21 @@ public abstract class Entity implements Updateable, Renderable {
      */
     protected void correctPosition() {
         // Trying to use Math.clamp gave out of bounds issues or something. This is simpler.
-        position.x = Math.max(0, Math.min(position.x, panel.getWidth() - getSpriteWidth()));
-        position.y = Math.max(0, Math.min(position.y, panel.getHeight() - getSpriteHeight()));
+        position.x = Math.max(0, Math.min(position.x, arena.getWidth() - getSpriteWidth()));
+        position.y = Math.max(0, Math.min(position.y, arena.getHeight() - getSpriteHeight()));
+    }
+
+    /**
+     * Checks that an animation is within the entity's animation set.
+     */
+    private void requireAnimation(final int id) throws IllegalArgumentException {
+        if (!hasAnimation(id)) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Animation ID <%d> not found within the entity's animation set.",
+                    this.getClass().getName(),
+                    id
+            ));
+        }
     }
 
     // ----- BUILDER PATTERN -----
@@ -578,11 +694,11 @@ public abstract class Entity implements Updateable, Renderable {
      */
     public static class EntityBuilder<T extends EntityBuilder<T>> {
 
-        private JPanel panel = null;
+        private ArenaBounds arena = null;
         private Point position = new Point(0, 0);
         private boolean isInvisible = false;
-        private HashSet<String> animationKeys = new HashSet<>();
-        private String currentAnimationKey = null;
+        private int[] animationIds = new int[0];
+        private int currentAnimationId = AnimationManager.NO_ANIMATION;
         private Rectangle hitbox = new Rectangle(0, 0, 0, 0);
         private boolean isCollidable = false;
         private int maxHitPoints = 0;
@@ -591,13 +707,13 @@ public abstract class Entity implements Updateable, Renderable {
         /**
          * Creates a EntityBuilder for constructing an Entity.
          *
-         * @param panel The {@link JPanel} where the entity will be rendered.
+         * @param arena The {@link ArenaBounds} the entity will live within.
          */
-        public EntityBuilder(final JPanel panel) throws IllegalArgumentException {
-            if (panel == null) {
-                throw new IllegalArgumentException("Panel cannot be null.");
+        public EntityBuilder(final ArenaBounds arena) throws IllegalArgumentException {
+            if (arena == null) {
+                throw new IllegalArgumentException("Arena cannot be null.");
             }
-            this.panel = panel;
+            this.arena = arena;
         }
 
         /**
@@ -628,9 +744,24 @@ public abstract class Entity implements Updateable, Renderable {
          *
          * @param animationKeys The set of animation keys.
          * @return The builder instance.
+         * @throws IllegalArgumentException if any key is {@code null}, blank
+         * or doesn't exist in {@link AnimationManager}'s key set.
+         */
+        public T animationKeys(final Set<String> animationKeys) throws IllegalArgumentException {
+            this.animationIds = AnimationManager.getInstance().requireAnimationIds(animationKeys);
+            return self();
+        }
+
+        /**
+         * Sets the IDs of the animations the entity can switch to.
+         *
+         * @param animationIds The animation IDs.
+         * @return The builder instance.
+         * @throws IllegalArgumentException if any ID doesn't exist in
+         * {@link AnimationManager}.
          */
-        public T animationKeys(final Set<String> animationKeys) {
-            this.animationKeys = (animationKeys == null) ? new HashSet<>() : new HashSet<>(animationKeys);
+        public T animationIds(final int... animationIds) throws IllegalArgumentException {
+            this.animationIds = AnimationManager.getInstance().requireAnimationIds(animationIds);
             return self();
         }
 
@@ -638,11 +769,29 @@ public abstract class Entity implements Updateable, Renderable {
          * Sets the animation for the entity. Must set a collection of available
          * keys using animationKeys() first.
          *
-         * @param currentAnimationKey The key identifying the current animation.
+         * @param currentAnimationKey The key identifying the current animation
+         * ({@code null} for none).
+         * @return The builder instance.
+         * @throws IllegalArgumentException if the key is blank or doesn't
+         * exist in {@link AnimationManager}'s key set.
+         */
+        public T currentAnimationKey(final String currentAnimationKey) throws IllegalArgumentException {
+            this.currentAnimationId = (currentAnimationKey == null)
+                    ? AnimationManager.NO_ANIMATION
+                    : AnimationManager.getInstance().requireAnimationId(currentAnimationKey);
+            return self();
+        }
+
+        /**
+         * Sets the animation for the entity by ID. Must set the available IDs
+         * using animationIds() (or animationKeys()) first.
+         *
+         * @param currentAnimationId The ID of the current animation
+         * ({@link AnimationManager#NO_ANIMATION} for none).
          * @return The builder instance.
          */
-        public T currentAnimationKey(final String currentAnimationKey) {
-            this.currentAnimationKey = currentAnimationKey;
+        public T currentAnimationId(final int currentAnimationId) {
+            this.currentAnimationId = currentAnimationId;
             return self();
         }
 
@@ -0,0 +1,74 @@
+package com.rikuthin.entities;
+
+/**
+ * Static helpers for packing and unpacking entity handles.
+ * <p>
+ * A handle is a plain {@code long} that identifies a live {@link Entity}
+ * registered with an {@link EntityRegistry}. The high 32 bits hold the slot
+ * index the entity occupies, and the low 32 bits hold the generation of that
+ * slot when the entity was registered. Slots are reused after an entity is
+ * unregistered, but the slot's generation is bumped first, so stale handles
+ * simply stop resolving instead of pointing at whichever entity took the slot
+ * over.
+ * <p>
+ * Handles are primitives, so they can be stored in arrays, compared with
+ * {@code ==} and hashed without allocating.
+ */
+public final class EntityHandle {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The handle of an entity that is not registered. Never resolves.
+     */
+    public static final long NONE = 0L;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private EntityHandle() {
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Packs a slot index and generation into a handle.
+     *
+     * @param index The slot index.
+     * @param generation The slot's generation. (Must be non-zero.)
+     * @return The handle.
+     */
+    public static long of(final int index, final int generation) {
+        return ((long) index << 32) | (generation & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Returns the slot index a handle refers to.
+     *
+     * @param handle The handle.
+     * @return The slot index.
+     */
+    public static int indexOf(final long handle) {
+        return (int) (handle >>> 32);
+    }
+
+    /**
+     * Returns the slot generation a handle refers to.
+     *
+     * @param handle The handle.
+     * @return The generation.
+     */
+    public static int generationOf(final long handle) {
+        return (int) handle;
+    }
+
+    /**
+     * Returns a human-readable form of a handle (e.g., {@code "3:7"} for slot 3,
+     * generation 7).
+     *
+     * @param handle The handle.
+     * @return The handle as a string.
+     */
+    public static String toString(final long handle) {
+        return handle == NONE ? "none" : indexOf(handle) + ":" + generationOf(handle);
+    }
+}
@@ -0,0 +1,242 @@
+package com.rikuthin.entities;
+
+import java.util.Arrays;
+
+/**
+ * A generational slot map that hands out stable {@link EntityHandle handles}
+ * for live entities.
+ * <p>
+ * Each registered entity occupies one slot. Looking an entity up by handle is
+ * a bounds check, an array read and a generation comparison. When an entity is
+ * unregistered its slot's generation is incremented and the slot is pushed onto
+ * a free list for reuse, so any handles still held elsewhere (e.g., as a
+ * bullet's owner) stop resolving rather than aliasing a newer entity.
+ * <p>
+ * Entities keep their handle in {@link Entity#getHandle()} while registered,
+ * which gives them a stable identity that does not depend on their (mutable)
+ * position, hitbox or animation state.
+ */
+public final class EntityRegistry {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of slots a new registry starts with.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The entity in each slot ({@code null} if the slot is free).
+     */
+    private Entity[] entities;
+    /**
+     * The current generation of each slot. Starts at 1 so that no live handle
+     * is ever equal to {@link EntityHandle#NONE}.
+     */
+    private int[] generations;
+    /**
+     * A stack of free slot indices, reused before any new slots are opened.
+     */
+    private int[] freeSlots;
+    /**
+     * The number of indices on the free stack.
+     */
+    private int freeCount;
+    /**
+     * The number of slots that have ever been used. Slots at or beyond this
+     * index have never held an entity.
+     */
+    private int slotCount;
+    /**
+     * The number of currently registered entities.
+     */
+    private int size;
+
+    // ----- CONSTRUCTORS -----
+    public EntityRegistry() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty registry with room for the given number of entities
+     * before it needs to grow.
+     *
+     * @param initialCapacity The initial slot count. (Minimum value: 1)
+     */
+    public EntityRegistry(final int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        entities = new Entity[capacity];
+        generations = new int[capacity];
+        freeSlots = new int[capacity];
+        Arrays.fill(generations, 1);
+        freeCount = 0;
+        slotCount = 0;
+        size = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of currently registered entities.
+     *
+     * @return The entity count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether no entities are registered.
+     *
+     * @return {@code true} if empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the given handle still refers to a registered entity.
+     *
+     * @param handle The handle.
+     * @return {@code true} if the handle resolves, {@code false} otherwise.
+     */
+    public boolean isAlive(final long handle) {
+        return get(handle) != null;
+    }
+
+    /**
+     * Resolves a handle to its entity.
+     *
+     * @param handle The handle.
+     * @return The entity, or {@code null} if the handle is stale or
+     * {@link EntityHandle#NONE}.
+     */
+    public Entity get(final long handle) {
+        int index = EntityHandle.indexOf(handle);
+        if (index < 0 || index >= slotCount
+                || generations[index] != EntityHandle.generationOf(handle)) {
+            return null;
+        }
+        return entities[index];
+    }
+
+    /**
+     * Resolves a handle to an entity of the given type.
+     *
+     * @param <T> The expected entity type.
+     * @param handle The handle.
+     * @param type The expected entity class.
+     * @return The entity, or {@code null} if the handle is stale or refers to
+     * an entity of a different type.
+     */
+    public <T extends Entity> T get(final long handle, final Class<T> type) {
+        Entity entity = get(handle);
+        return type.isInstance(entity) ? type.cast(entity) : null;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Registers an entity, giving it a new handle.
+     *
+     * @param entity The entity to register.
+     * @return The entity's new handle.
+     * @throws IllegalArgumentException If the entity is {@code null} or is
+     * already registered.
+     */
+    public long register(final Entity entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Entity cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        if (entity.getHandle() != EntityHandle.NONE) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Entity is already registered with handle %s.",
+                    this.getClass().getName(),
+                    EntityHandle.toString(entity.getHandle())
+            ));
+        }
+
+        int index;
+        if (freeCount > 0) {
+            index = freeSlots[--freeCount];
+        } else {
+            if (slotCount == entities.length) {
+                grow();
+            }
+            index = slotCount++;
+        }
+
+        long handle = EntityHandle.of(index, generations[index]);
+        entities[index] = entity;
+        entity.setHandle(handle);
+        size++;
+        return handle;
+    }
+
+    /**
+     * Unregisters the entity a handle refers to. The handle (and every copy of
+     * it) stops resolving immediately.
+     *
+     * @param handle The entity's handle.
+     * @return {@code true} if an entity was unregistered, {@code false} if the
+     * handle was already stale.
+     */
+    public boolean unregister(final long handle) {
+        Entity entity = get(handle);
+        if (entity == null) {
+            return false;
+        }
+
+        int index = EntityHandle.indexOf(handle);
+        entities[index] = null;
+        generations[index] = nextGeneration(generations[index]);
+        freeSlots[freeCount++] = index;
+        entity.setHandle(EntityHandle.NONE);
+        size--;
+        return true;
+    }
+
+    /**
+     * Unregisters every entity. All previously issued handles become stale.
+     */
+    public void clear() {
+        for (int i = 0; i < slotCount; i++) {
+            Entity entity = entities[i];
+            if (entity != null) {
+                unregister(entity.getHandle());
+            }
+        }
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public String toString() {
+        return String.format(
+                "%s[size=%d, slots=%d, free=%d]",
+                this.getClass().getSimpleName(),
+                size,
+                slotCount,
+                freeCount
+        );
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the generation that follows the given one. Generations are
+     * treated as unsigned, and 0 is skipped on wrap-around so a live handle
+     * can never equal {@link EntityHandle#NONE}.
+     */
+    static int nextGeneration(final int generation) {
+        return generation == -1 ? 1 : generation + 1;
+    }
+
+    private void grow() {
+        int oldCapacity = entities.length;
+        int newCapacity = oldCapacity * 2;
+        entities = Arrays.copyOf(entities, newCapacity);
+        generations = Arrays.copyOf(generations, newCapacity);
+        freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+        Arrays.fill(generations, oldCapacity, newCapacity, 1);
+    }
+}
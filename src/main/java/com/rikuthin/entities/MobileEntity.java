@@ -1,8 +1,6 @@
 package com.rikuthin.entities;
 
-import java.util.Objects;
-
-import javax.swing.JPanel;
+import com.rikuthin.interfaces.ArenaBounds;
 
 /**
  * Represents a mobile entity in the game that can move around the game world.
@@ -110,47 +108,16 @@ public abstract class MobileEntity extends Entity {
     }
 
     // ----- OVERRIDDEN METHODS -----
-    /**
-     * Compares this entity to another object for equality.
-     *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!(obj instanceof MobileEntity)) {
-            return false;
-        }
-        MobileEntity other = (MobileEntity) obj;
-        return super.equals(other)
-                && Double.compare(velocityX, other.getVelocityX()) == 0
-                && Double.compare(velocityY, other.getVelocityY()) == 0;
-    }
-
-    /**
-     * Returns a hash code for this entity.
-     *
-     * @return The hash code of the entity.
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), velocityX, velocityY);
-    }
-
     /**
      * Updates the state of the entity, including its position based on its
      * velocity.
      */
     @Override
     public void update() {
-        super.update(); // Update animations and hitbox
-
         move();
 
-        // Update hitbox position
+        // Leave any finished one-shot, then refresh the hitbox once, after moving
+        animationController.update();
         setHitboxFromCurrentSprite();
     }
 
@@ -166,8 +133,8 @@ public abstract class MobileEntity extends Entity {
         private double velocityY = 0;
 
         // ------ CONSTRUCTORS -----
-        public MobileEntityBuilder(JPanel panel) {
-            super(panel);
+        public MobileEntityBuilder(ArenaBounds arena) {
+            super(arena);
         }
 
         // ---- SETTERS -----
@@ -1,16 +1,37 @@
 package com.rikuthin.entities;
 
-import java.util.Objects;
-
-import javax.swing.JPanel;
-
 import com.rikuthin.entities.bullets.BulletSpawner;
+import com.rikuthin.graphics.animations.AnimationController;
+import com.rikuthin.graphics.animations.AnimationKey;
+import com.rikuthin.interfaces.ArenaBounds;
 
 /**
  * Represents a player controlled character in the game.
  */
 public class Player extends MobileEntity {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The player's animation while standing still (the default state).
+     */
+    public static final AnimationKey IDLE_ANIMATION = new AnimationKey("player-idle");
+    /**
+     * The player's animation while moving up or down.
+     */
+    public static final AnimationKey WALK_UP_ANIMATION = new AnimationKey("player-walk-up");
+    /**
+     * The player's animation while moving left.
+     */
+    public static final AnimationKey WALK_UP_LEFT_ANIMATION = new AnimationKey("player-walk-up-left");
+    /**
+     * The player's animation while moving right.
+     */
+    public static final AnimationKey WALK_UP_RIGHT_ANIMATION = new AnimationKey("player-walk-up-right");
+    /**
+     * The player's one-shot animation on running out of hit points.
+     */
+    public static final AnimationKey DEATH_ANIMATION = new AnimationKey("player-death");
+
     /**
      * The player's bullet spawner.
      * <p>
@@ -33,6 +54,8 @@ public class Player extends MobileEntity {
         super(builder);
         this.bulletSpawner = null;
         this.isFiringBullets = false;
+
+        setUpAnimationStates();
     }
 
     // ---- GETTERS -----
@@ -79,48 +102,70 @@ public class Player extends MobileEntity {
     }
 
     // ----- OVERRIDDEN METHODS -----
+    @Override
+    public void move() {
+        super.move();
+        correctPosition();
+    }
+
     /**
-     * Compares this entity to another object for equality.
-     *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
+     * Updates the state of the player, including movement and firing any
+     * bullets that are due.
      */
     @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
+    public void update() {
+        super.update();
+        if (bulletSpawner != null) {
+            bulletSpawner.update();
         }
-        if (!(obj instanceof Player)) {
-            return false;
-        }
-        Player other = (Player) obj;
-        return super.equals(other)
-                && Objects.equals(bulletSpawner, other.getBulletSpawner())
-                && isFiringBullets == other.isFiringBullets();
     }
 
     /**
-     * Returns a hash code for this entity.
+     * Plays the death animation once the player runs out of hit points.
      *
-     * @return The hash code of the entity.
+     * @param damage The number of hit points to remove.
      */
     @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), bulletSpawner, isFiringBullets);
+    public void applyDamage(final int damage) {
+        boolean wasAlive = currentHitPoints > 0;
+        super.applyDamage(damage);
+        if (wasAlive && currentHitPoints == 0 && hasAnimation(DEATH_ANIMATION.getId())) {
+            requestAnimation(DEATH_ANIMATION.getId());
+        }
     }
 
-    @Override
-    public void move() {
-        super.move();
-        correctPosition();
+    // ----- HELPER METHODS -----
+    /**
+     * Declares the player's animation states: the movement animations can
+     * switch freely between each other, and any of them can switch to the
+     * death one-shot, which returns to idle once played.
+     */
+    private void setUpAnimationStates() {
+        int[] movementIds = {
+            IDLE_ANIMATION.getId(),
+            WALK_UP_ANIMATION.getId(),
+            WALK_UP_LEFT_ANIMATION.getId(),
+            WALK_UP_RIGHT_ANIMATION.getId()
+        };
+        int deathId = DEATH_ANIMATION.getId();
+
+        AnimationController controller = getAnimationController();
+        controller.setDefaultState(IDLE_ANIMATION.getId());
+        controller.addOneShot(deathId);
+        for (int fromId : movementIds) {
+            for (int toId : movementIds) {
+                controller.addTransition(fromId, toId);
+            }
+            controller.addTransition(fromId, deathId);
+        }
     }
 
     // ----- STATIC BUILDER FOR PLAYER -----
     public static class PlayerBuilder extends MobileEntityBuilder<PlayerBuilder> {
 
         // ----- CONSTRUCTOR -----
-        public PlayerBuilder(final JPanel panel) {
-            super(panel);
+        public PlayerBuilder(final ArenaBounds arena) {
+            super(arena);
         }
 
         // ----- BUSINESS LOGIC METHODS -----
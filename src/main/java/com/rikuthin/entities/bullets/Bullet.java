@@ -1,23 +1,22 @@
 package com.rikuthin.entities.bullets;
 
-import java.util.Objects;
-
-import javax.swing.JPanel;
-
 import com.rikuthin.entities.Entity;
+import com.rikuthin.entities.EntityHandle;
 import com.rikuthin.entities.MobileEntity;
+import com.rikuthin.interfaces.ArenaBounds;
 
 /**
- * Represents a generic bullet that moves within a JPanel.
+ * Represents a generic bullet that moves within the game arena.
  */
 public class Bullet extends MobileEntity {
 
     // ----- INSTANCE VARIABLES -----
     /**
-     * The {@link Entity} that owns/controls the {@link BulletSpawner} that
-     * created this bullet.
+     * The handle of the {@link Entity} that owns/controls the
+     * {@link BulletSpawner} that created this bullet. Stops resolving once the
+     * owner is removed from the game.
      */
-    protected Entity owner;
+    protected long owner;
     /**
      * How many points of damage the bullet should deal to entities it collides
      * with.
@@ -38,12 +37,12 @@ public class Bullet extends MobileEntity {
 
     // ---- GETTERS -----
     /**
-     * Returns a reference to the {@link Entity} that owns/controls this
-     * spawner.
+     * Returns the handle of the {@link Entity} that owns/controls this
+     * bullet's spawner.
      *
-     * @return The owner entity.
+     * @return The owner's handle.
      */
-    public Entity getOwner() {
+    public long getOwner() {
         return owner;
     }
 
@@ -68,39 +67,6 @@ public class Bullet extends MobileEntity {
         this.damage = damage;
     }
 
-    // ----- OVERRIDDEN METHODS -----
-    /**
-     * Compares this entity to another object for equality.
-     *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!(obj instanceof Bullet)) {
-            return false;
-        }
-        Bullet other = (Bullet) obj;
-        return super.equals(other)
-                && damage == other.getDamage();
-    }
-
-    /**
-     * Returns a hash code for this entity.
-     *
-     * @return The hash code of the entity.
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                super.hashCode(),
-                damage
-        );
-    }
-
     // ----- STATIC BUILDER FOR BULLET -----
     /**
      * The BulletBuilder class provides a fluent API for constructing a Bullet
@@ -110,9 +76,9 @@ public class Bullet extends MobileEntity {
 
         // ----- INSTANCE VARIABLES -----
         /**
-         * The {@link Entity} that owns/controls the spawner.
+         * The handle of the {@link Entity} that owns/controls the spawner.
          */
-        protected Entity owner = null;
+        protected long owner = EntityHandle.NONE;
 
         /**
          * How many points of damage the spawned bullets should do.
@@ -120,8 +86,8 @@ public class Bullet extends MobileEntity {
         protected int damage = 0;
 
         // ------ CONSTRUCTORS -----
-        public BulletBuilder(final JPanel panel, final Entity owner) {
-            super(panel);
+        public BulletBuilder(final ArenaBounds arena, final Entity owner) {
+            super(arena);
 
             if (owner == null) {
                 throw new IllegalArgumentException(String.format(
@@ -129,7 +95,7 @@ public class Bullet extends MobileEntity {
                         this.getClass().getName()
                 ));
             }
-            this.owner = owner;
+            this.owner = owner.getHandle();
         }
 
         // ---- SETTERS -----
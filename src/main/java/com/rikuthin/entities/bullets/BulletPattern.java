@@ -0,0 +1,34 @@
+package com.rikuthin.entities.bullets;
+
+/**
+ * The shapes of volley a {@link BulletSpawner} can fire.
+ * <p>
+ * Every bullet in a volley leaves the spawner at the same time and speed (the
+ * length of the spawner's bullet velocity); the pattern decides the direction
+ * of each one.
+ */
+public enum BulletPattern {
+    /**
+     * One bullet with exactly the spawner's bullet velocity.
+     */
+    SINGLE,
+    /**
+     * Bullets spaced evenly around a full circle, the first one along the
+     * spawner's bullet velocity.
+     */
+    RING,
+    /**
+     * Bullets spaced evenly across an arc (the spread) centred on the
+     * spawner's bullet velocity.
+     */
+    FAN,
+    /**
+     * A ring whose starting angle turns by a fixed step after every volley,
+     * so consecutive volleys trace out spiral arms.
+     */
+    SPIRAL,
+    /**
+     * A fan centred on the player at the moment the volley is fired.
+     */
+    AIMED
+}
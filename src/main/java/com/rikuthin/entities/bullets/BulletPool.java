@@ -0,0 +1,297 @@
+package com.rikuthin.entities.bullets;
+
+/**
+ * Hands out bullet slots from a {@link BulletStore} with acquire/release
+ * semantics.
+ * <p>
+ * Bullets have no per-instance objects, so "pooling" a bullet means reusing a
+ * pre-allocated slot in the store's parallel arrays. The pool allocates a
+ * configurable number of slots up front (the prewarm size) so a fight never
+ * has to allocate, and applies an {@link ExhaustionPolicy} when every slot is
+ * in use.
+ * <p>
+ * The pool also keeps simple statistics: acquires served from existing slots
+ * (hits), acquires that had to grow the store or were refused (misses), and
+ * the largest number of bullets alive at once (the high-water mark).
+ */
+public final class BulletPool {
+
+    // ----- ENUMERATORS -----
+    /**
+     * What the pool does when every slot is in use.
+     */
+    public enum ExhaustionPolicy {
+        /**
+         * Double the store's capacity. Never loses a bullet, but allocates.
+         */
+        GROW,
+        /**
+         * Refuse the new bullet. Never allocates, but bullets may be lost.
+         */
+        DROP,
+        /**
+         * Throw an {@link IllegalStateException}. Useful for catching
+         * undersized prewarm values during development.
+         */
+        THROW
+    }
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Returned by {@link #acquire()} when no slot could be provided.
+     */
+    public static final int NO_SLOT = -1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The store whose slots are handed out.
+     */
+    private final BulletStore store;
+    /**
+     * What to do when every slot is in use.
+     */
+    private ExhaustionPolicy exhaustionPolicy;
+    /**
+     * The number of acquires served from an already-allocated slot.
+     */
+    private long hits;
+    /**
+     * The number of acquires that had to grow the store or were refused.
+     */
+    private long misses;
+    /**
+     * The largest number of bullets alive at once.
+     */
+    private int highWaterMark;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a pool over the given store and allocates enough slots for the
+     * given number of bullets.
+     *
+     * @param store The store whose slots are handed out.
+     * @param prewarmSize How many slots to allocate up front.
+     * @param exhaustionPolicy What to do when every slot is in use.
+     */
+    public BulletPool(final BulletStore store, final int prewarmSize, final ExhaustionPolicy exhaustionPolicy) {
+        if (store == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Store cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.store = store;
+        setExhaustionPolicy(exhaustionPolicy);
+        prewarm(prewarmSize);
+        resetStats();
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the store whose slots are handed out.
+     *
+     * @return The bullet store.
+     */
+    public BulletStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns what the pool does when every slot is in use.
+     *
+     * @return The exhaustion policy.
+     */
+    public ExhaustionPolicy getExhaustionPolicy() {
+        return exhaustionPolicy;
+    }
+
+    /**
+     * Returns the number of allocated slots.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return store.capacity();
+    }
+
+    /**
+     * Returns the number of acquires served from an already-allocated slot.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of acquires that had to grow the store or were
+     * refused.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the largest number of bullets alive at once since the statistics
+     * were last reset.
+     *
+     * @return The high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets what the pool does when every slot is in use.
+     *
+     * @param exhaustionPolicy The exhaustion policy. (Defaults to
+     * {@link ExhaustionPolicy#GROW} if {@code null}.)
+     */
+    public void setExhaustionPolicy(final ExhaustionPolicy exhaustionPolicy) {
+        this.exhaustionPolicy = exhaustionPolicy != null ? exhaustionPolicy : ExhaustionPolicy.GROW;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Allocates enough slots for at least the given number of bullets.
+     *
+     * @param prewarmSize The number of slots required. (Minimum value: 1)
+     */
+    public void prewarm(final int prewarmSize) {
+        store.ensureCapacity(Math.max(prewarmSize, 1));
+    }
+
+    /**
+     * Acquires a slot for a new bullet. The caller must then write the
+     * bullet's state with
+     * {@link BulletStore#set(int, float, float, float, float, int, long, com.rikuthin.graphics.animations.AnimationTemplate)}.
+     *
+     * @return The slot index, or {@link #NO_SLOT} if the pool is exhausted and
+     * the policy is {@link ExhaustionPolicy#DROP}.
+     * @throws IllegalStateException If the pool is exhausted and the policy is
+     * {@link ExhaustionPolicy#THROW}.
+     */
+    public int acquire() throws IllegalStateException {
+        if (store.isFull()) {
+            misses++;
+            switch (exhaustionPolicy) {
+                case GROW ->
+                    store.ensureCapacity(store.capacity() * 2);
+                case DROP -> {
+                    return NO_SLOT;
+                }
+                case THROW ->
+                    throw new IllegalStateException(String.format(
+                            "%s: Pool exhausted (capacity <%d>).",
+                            this.getClass().getName(),
+                            store.capacity()
+                    ));
+                default ->
+                    throw new IllegalStateException("Switch-case recieved unexpected value: " + exhaustionPolicy);
+            }
+        } else {
+            hits++;
+        }
+
+        int slot = store.claim();
+        if (store.size() > highWaterMark) {
+            highWaterMark = store.size();
+        }
+        return slot;
+    }
+
+    /**
+     * Acquires consecutive slots for a batch of new bullets (e.g., a volley)
+     * in one step. The granted slots run from the returned index up to the
+     * store's size.
+     * <p>
+     * If fewer slots are free than requested, the exhaustion policy applies
+     * once for the whole batch: {@link ExhaustionPolicy#GROW} grows the store
+     * to fit, {@link ExhaustionPolicy#DROP} grants only the free slots, and
+     * {@link ExhaustionPolicy#THROW} throws. Statistics are counted per slot.
+     *
+     * @param count The number of slots wanted. (Minimum value: 1)
+     * @return The first granted slot index, or {@link #NO_SLOT} if none were
+     * granted.
+     * @throws IllegalStateException If the pool cannot fit the batch and the
+     * policy is {@link ExhaustionPolicy#THROW}.
+     */
+    public int acquire(final int count) throws IllegalStateException {
+        int wanted = Math.max(count, 1);
+        int free = store.capacity() - store.size();
+        int granted = wanted;
+
+        if (wanted > free) {
+            switch (exhaustionPolicy) {
+                case GROW ->
+                    store.ensureCapacity(Math.max(store.capacity() * 2, store.size() + wanted));
+                case DROP ->
+                    granted = free;
+                case THROW ->
+                    throw new IllegalStateException(String.format(
+                            "%s: Pool exhausted (capacity <%d>, <%d> free, <%d> wanted).",
+                            this.getClass().getName(),
+                            store.capacity(),
+                            free,
+                            wanted
+                    ));
+                default ->
+                    throw new IllegalStateException("Switch-case recieved unexpected value: " + exhaustionPolicy);
+            }
+        }
+        hits += Math.min(wanted, free);
+        misses += wanted - Math.min(wanted, free);
+
+        if (granted <= 0) {
+            return NO_SLOT;
+        }
+
+        int first = store.claim(granted);
+        if (store.size() > highWaterMark) {
+            highWaterMark = store.size();
+        }
+        return first;
+    }
+
+    /**
+     * Releases a bullet's slot back to the pool.
+     *
+     * @param slot The slot index of the bullet.
+     */
+    public void release(final int slot) {
+        store.remove(slot);
+    }
+
+    /**
+     * Releases every slot back to the pool. Allocated capacity is kept.
+     */
+    public void releaseAll() {
+        store.clear();
+    }
+
+    /**
+     * Resets the hit, miss and high-water mark statistics.
+     */
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        highWaterMark = store.size();
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public String toString() {
+        return String.format(
+                "BulletPool{capacity=%d, live=%d, hits=%d, misses=%d, highWaterMark=%d, policy=%s}",
+                store.capacity(),
+                store.size(),
+                hits,
+                misses,
+                highWaterMark,
+                exhaustionPolicy
+        );
+    }
+}
@@ -1,25 +1,56 @@
 package com.rikuthin.entities.bullets;
 
 import java.awt.Dimension;
-import java.awt.image.BufferedImage;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
-import javax.swing.JPanel;
-
 import com.rikuthin.entities.Entity;
+import com.rikuthin.entities.Player;
+import com.rikuthin.graphics.animations.AnimationFrame;
 import com.rikuthin.graphics.animations.AnimationInstance;
 import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.interfaces.ArenaBounds;
 import com.rikuthin.managers.AnimationManager;
 import com.rikuthin.managers.GameManager;
 
 /**
  * Represents an invisible {@link Bullet} spawner controlled by a game
  * {@link Entity}.
+ * <p>
+ * While spawning, the spawner follows its owner and fires a volley every
+ * {@link #getSpawnDelayMs() spawn delay} of simulation time. Each volley is a
+ * {@link BulletPattern} of one or more bullets, inserted into the
+ * {@link com.rikuthin.managers.BulletManager} as a single batch.
+ * <p>
+ * If a tick covers several spawn delays, the spawner catches up by firing
+ * several volleys, but never more than its catch-up limit; any further
+ * backlog is dropped. Together with the bullet manager's per-tick emission
+ * cap, this keeps a long frame from turning into a spawn storm.
  */
 public class BulletSpawner extends Entity {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default delay (in milliseconds) between volleys.
+     */
+    public static final long DEFAULT_SPAWN_DELAY_MS = 250;
+    /**
+     * The default maximum number of volleys fired in a single tick.
+     */
+    public static final int DEFAULT_MAX_VOLLEYS_PER_TICK = 4;
+    /**
+     * The default arc (in degrees) that {@link BulletPattern#FAN} and
+     * {@link BulletPattern#AIMED} volleys spread over.
+     */
+    public static final double DEFAULT_SPREAD_DEGREES = 30;
+    /**
+     * The default angle (in degrees) a {@link BulletPattern#SPIRAL} turns by
+     * after each volley.
+     */
+    public static final double DEFAULT_ANGULAR_STEP_DEGREES = 10;
+
+    // ----- INSTANCE VARIABLES -----
     /**
      * The {@link Entity} that owns/controls the spawner.
      */
@@ -44,26 +75,62 @@ public class BulletSpawner extends Entity {
      */
     protected double bulletVelocityY;
     /**
-     * A map of all the animations associated with the spawned bullets, keyed by
-     * animation name.
+     * The IDs of all the animations associated with the spawned bullets
+     * (distinct and sorted).
+     */
+    protected int[] bulletAnimationIds;
+    /**
+     * The ID of the animation used for spawned bullets
+     * ({@link AnimationManager#NO_ANIMATION} for none).
      */
-    protected HashSet<String> bulletAnimationKeys;
+    protected int currentBulletAnimationId;
     /**
-     * The current key of the animation used for spawned bullets.
+     * The template mapped to {@link #currentBulletAnimationId}, resolved once
+     * when the ID is set so spawning never needs a lookup.
      */
-    protected String currentBulletAnimationKey;
+    protected AnimationTemplate currentBulletAnimation;
     /**
-     * How many milliseconds to wait before spawning more bullets.
+     * The shape of each volley.
+     */
+    protected BulletPattern pattern;
+    /**
+     * The number of bullets in each volley (ignored by
+     * {@link BulletPattern#SINGLE}).
+     */
+    protected int volleySize;
+    /**
+     * The arc (in degrees) that fan-shaped volleys spread over.
+     */
+    protected double spreadDegrees;
+    /**
+     * The angle (in degrees) a spiral turns by after each volley.
+     */
+    protected double angularStepDegrees;
+    /**
+     * How far (in degrees) the spiral has turned so far.
+     */
+    private double spiralAngleDegrees;
+    /**
+     * How many milliseconds to wait between volleys.
      */
     private long spawnDelayMs;
     /**
-     * When the spawner was last updated.
+     * The maximum number of volleys fired in a single tick.
      */
-    private long lastUpdateTime;
+    private int maxVolleysPerTick;
     /**
-     * How much of the delay has already passed.
+     * How much simulation time (in milliseconds) of the delay has already
+     * passed.
      */
-    private long elapsedDelayTime;
+    private double elapsedDelayMs;
+    /**
+     * The x-axis velocities of the next volley (reused between volleys).
+     */
+    private float[] volleyVelocityX;
+    /**
+     * The y-axis velocities of the next volley (reused between volleys).
+     */
+    private float[] volleyVelocityY;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -79,11 +146,16 @@ public class BulletSpawner extends Entity {
         this.isSpawning = builder.isSpawning;
         this.bulletVelocityX = builder.bulletVelocityX;
         this.bulletVelocityY = builder.bulletVelocityY;
-        setBulletAnimationKeys(builder.bulletAnimationKeys);
-        setCurrentBulletAnimationKey(builder.currentBulletAnimationKey);
-        this.spawnDelayMs = Math.abs(spawnDelayMs);
-        this.lastUpdateTime = System.currentTimeMillis();
-        this.elapsedDelayTime = 0;
+        setBulletAnimationIds(builder.bulletAnimationIds);
+        setCurrentBulletAnimationId(builder.currentBulletAnimationId);
+        setPattern(builder.pattern);
+        setVolleySize(builder.volleySize);
+        this.spreadDegrees = builder.spreadDegrees;
+        this.angularStepDegrees = builder.angularStepDegrees;
+        this.spiralAngleDegrees = 0;
+        setSpawnDelayMs(builder.spawnDelayMs);
+        setMaxVolleysPerTick(builder.maxVolleysPerTick);
+        this.elapsedDelayMs = 0;
     }
 
     // ---- GETTERS -----
@@ -116,31 +188,68 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Returns how many milliseconds the spawner must wait before spawning more
-     * bullets.
+     * Returns how many milliseconds the spawner waits between volleys.
      *
-     * @return The delay;
+     * @return The delay.
      */
     public long getSpawnDelayMs() {
         return spawnDelayMs;
     }
 
     /**
-     * Returns how many milliseconds of the delay have passed.
+     * Returns how many milliseconds of simulation time of the delay have
+     * passed.
      *
      * @return The elasped time.
      */
-    public long getElapsedDelayTime() {
-        return elapsedDelayTime;
+    public double getElapsedDelayMs() {
+        return elapsedDelayMs;
     }
 
     /**
-     * Returns the last time the spawner was updated in milliseconds.
+     * Returns the maximum number of volleys fired in a single tick.
      *
-     * @return The last update time.
+     * @return The catch-up limit.
      */
-    public long getLastUpdateTime() {
-        return lastUpdateTime;
+    public int getMaxVolleysPerTick() {
+        return maxVolleysPerTick;
+    }
+
+    /**
+     * Returns the shape of each volley.
+     *
+     * @return The pattern.
+     */
+    public BulletPattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the number of bullets in each volley (ignored by
+     * {@link BulletPattern#SINGLE}).
+     *
+     * @return The volley size.
+     */
+    public int getVolleySize() {
+        return volleySize;
+    }
+
+    /**
+     * Returns the arc (in degrees) that fan-shaped volleys spread over.
+     *
+     * @return The spread.
+     */
+    public double getSpreadDegrees() {
+        return spreadDegrees;
+    }
+
+    /**
+     * Returns the angle (in degrees) a spiral turns by after each volley.
+     *
+     * @return The angular step.
+     */
+    public double getAngularStepDegrees() {
+        return angularStepDegrees;
     }
 
     /**
@@ -163,21 +272,44 @@ public class BulletSpawner extends Entity {
      * Returns the set of keys this spawner can use to query
      * {@link Animation Instance} for an {@link AnimationTemplate}.
      *
-     * @return The set of bullet animation keys.
+     * @return A copy of the set of bullet animation keys.
      */
     public Set<String> getBulletAnimationKeys() {
-        return bulletAnimationKeys;
+        Set<String> keys = new LinkedHashSet<>();
+        for (int id : bulletAnimationIds) {
+            keys.add(AnimationManager.getInstance().getAnimationKey(id));
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the IDs of the animations spawned bullets can use.
+     *
+     * @return A copy of the bullet animation IDs (distinct and sorted).
+     */
+    public int[] getBulletAnimationIds() {
+        return bulletAnimationIds.clone();
     }
 
     /**
-     * /**
      * Returns the key associated with the current {@link AnimationInstance}
      * used for a spawned {@link Bullet}.
      *
-     * @return The current bullet animation key.
+     * @return The current bullet animation key, or {@code null} if there is
+     * none.
      */
     public String getCurrentBulletAnimatioKey() {
-        return currentBulletAnimationKey;
+        return AnimationManager.getInstance().getAnimationKey(currentBulletAnimationId);
+    }
+
+    /**
+     * Returns the ID of the animation used for a spawned {@link Bullet}.
+     *
+     * @return The current bullet animation ID, or
+     * {@link AnimationManager#NO_ANIMATION} if there is none.
+     */
+    public int getCurrentBulletAnimationId() {
+        return currentBulletAnimationId;
     }
 
     // ---- SETTERS -----
@@ -192,13 +324,79 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Sets whether the spawner should create bullets.
+     * Sets whether the spawner should create bullets. Switching it on
+     * behaves like {@link #start()}.
      *
      * @param isSpawning {@code true} if creating bullets, {@code false}
      * otherwise.
      */
     public void setIsSpawning(final boolean isSpawning) {
-        this.isSpawning = isSpawning;
+        if (isSpawning && !this.isSpawning) {
+            start();
+        } else if (!isSpawning) {
+            stop();
+        }
+    }
+
+    /**
+     * Sets how many milliseconds the spawner waits between volleys.
+     *
+     * @param spawnDelayMs The delay. (Minimum value: 1)
+     */
+    public final void setSpawnDelayMs(final long spawnDelayMs) {
+        this.spawnDelayMs = Math.max(spawnDelayMs, 1);
+    }
+
+    /**
+     * Sets the maximum number of volleys fired in a single tick. Any further
+     * volleys that tick was due are dropped.
+     *
+     * @param maxVolleysPerTick The catch-up limit. (Minimum value: 1)
+     */
+    public final void setMaxVolleysPerTick(final int maxVolleysPerTick) {
+        this.maxVolleysPerTick = Math.max(maxVolleysPerTick, 1);
+    }
+
+    /**
+     * Sets the shape of each volley.
+     *
+     * @param pattern The pattern. (Defaults to {@link BulletPattern#SINGLE}
+     * if {@code null}.)
+     */
+    public final void setPattern(final BulletPattern pattern) {
+        this.pattern = pattern != null ? pattern : BulletPattern.SINGLE;
+    }
+
+    /**
+     * Sets the number of bullets in each volley (ignored by
+     * {@link BulletPattern#SINGLE}).
+     *
+     * @param volleySize The volley size. (Minimum value: 1)
+     */
+    public final void setVolleySize(final int volleySize) {
+        this.volleySize = Math.max(volleySize, 1);
+        if (volleyVelocityX == null || volleyVelocityX.length < this.volleySize) {
+            volleyVelocityX = new float[this.volleySize];
+            volleyVelocityY = new float[this.volleySize];
+        }
+    }
+
+    /**
+     * Sets the arc (in degrees) that fan-shaped volleys spread over.
+     *
+     * @param spreadDegrees The spread.
+     */
+    public void setSpreadDegrees(final double spreadDegrees) {
+        this.spreadDegrees = spreadDegrees;
+    }
+
+    /**
+     * Sets the angle (in degrees) a spiral turns by after each volley.
+     *
+     * @param angularStepDegrees The angular step.
+     */
+    public void setAngularStepDegrees(final double angularStepDegrees) {
+        this.angularStepDegrees = angularStepDegrees;
     }
 
     /**
@@ -230,27 +428,18 @@ public class BulletSpawner extends Entity {
      * doesn't exist in {@link AnimationManager}'s key set.
      */
     public final void setBulletAnimationKeys(final Set<String> bulletAnimationKeys) throws IllegalArgumentException {
-        if (bulletAnimationKeys == null) {
-            this.bulletAnimationKeys = new HashSet<>();
-            return;
-        }
-
-        for (String key : bulletAnimationKeys) {
-            if (key == null || key.isBlank()) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: Keys cannot be null nor empty.",
-                        this.getClass().getName()
-                ));
-            }
-            if (AnimationManager.getInstance().getAnimation(key) == null) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: Keys must exist within AnimationManager's key set.",
-                        this.getClass().getName()
-                ));
-            }
-        }
+        this.bulletAnimationIds = AnimationManager.getInstance().requireAnimationIds(bulletAnimationKeys);
+    }
 
-        this.bulletAnimationKeys = new HashSet<>(bulletAnimationKeys);
+    /**
+     * Sets the IDs of the animations spawned bullets can use.
+     *
+     * @param bulletAnimationIds The animation IDs.
+     * @throws IllegalArgumentException if any ID does not exist in
+     * {@link AnimationManager}.
+     */
+    public final void setBulletAnimationIds(final int... bulletAnimationIds) throws IllegalArgumentException {
+        this.bulletAnimationIds = AnimationManager.getInstance().requireAnimationIds(bulletAnimationIds);
     }
 
     /**
@@ -270,7 +459,7 @@ public class BulletSpawner extends Entity {
      */
     public final void setCurrentBulletAnimationKey(String key) throws IllegalArgumentException {
         if (key == null) {
-            currentBulletAnimationKey = null;
+            setCurrentBulletAnimationId(AnimationManager.NO_ANIMATION);
             return;
         }
 
@@ -281,49 +470,64 @@ public class BulletSpawner extends Entity {
             ));
         }
 
-        if (!bulletAnimationKeys.contains(key)) {
+        int id = AnimationManager.getInstance().getAnimationId(key);
+        if (Arrays.binarySearch(bulletAnimationIds, id) < 0) {
             throw new IllegalArgumentException(String.format(
                     "%s: Animation key <'%s'> not found within key set. Please add key to set.",
                     this.getClass().getName(),
                     key
             ));
         }
+        setCurrentBulletAnimationId(id);
+    }
+
+    /**
+     * Sets the animation for spawned bullets by ID. Unlike
+     * {@link #setCurrentBulletAnimationKey(String)}, this does no string
+     * lookups.
+     *
+     * @param id The animation's ID, or {@link AnimationManager#NO_ANIMATION}
+     * for no animation.
+     * @throws IllegalArgumentException if the ID is not within the spawner's
+     * bullet animation set.
+     */
+    public final void setCurrentBulletAnimationId(final int id) throws IllegalArgumentException {
+        if (id == AnimationManager.NO_ANIMATION) {
+            currentBulletAnimationId = AnimationManager.NO_ANIMATION;
+            currentBulletAnimation = null;
+            return;
+        }
 
-        AnimationTemplate template = AnimationManager.getInstance().getAnimation(key);
-        if (template == null) {
+        if (Arrays.binarySearch(bulletAnimationIds, id) < 0) {
             throw new IllegalArgumentException(String.format(
-                    "%s: Could not find template in AnimationManager mapped to key <'%s'>.",
+                    "%s: Animation ID <%d> not found within the spawner's bullet animation set.",
                     this.getClass().getName(),
-                    key
+                    id
             ));
         }
-        this.currentAnimationKey = key;
+
+        // IDs in the set were checked when added, and templates are never removed.
+        this.currentBulletAnimationId = id;
+        this.currentBulletAnimation = AnimationManager.getInstance().getAnimation(id);
     }
 
     // ----- BUSINESS LOGIC METHODS -----
     public Dimension getBulletSpriteDimensions() {
-        if (currentAnimationKey == null) {
+        if (currentBulletAnimation == null) {
             return new Dimension(0, 0);
         }
 
-        AnimationInstance bulletAnimation = new AnimationInstance(
-                AnimationManager.getInstance().getAnimation(currentAnimationKey)
-        );
-
-        BufferedImage bulletSprite = bulletAnimation.getCurrentFrameImage();
-        if (bulletSprite != null) {
-            return new Dimension(bulletSprite.getWidth(), bulletSprite.getHeight());
-        }
-        return new Dimension(0, 0);
+        AnimationFrame bulletSprite = currentBulletAnimation.getFrames().get(0);
+        return new Dimension(bulletSprite.getWidth(), bulletSprite.getHeight());
     }
 
     /**
-     * // * Begins the spawning of {@link Bullet} instances. //
+     * Begins the spawning of {@link Bullet} instances. The first volley is
+     * fired on the next update.
      */
     public void start() {
         isSpawning = true;
-        lastUpdateTime = System.currentTimeMillis();
-        elapsedDelayTime = 0;
+        elapsedDelayMs = spawnDelayMs;
     }
 
     /**
@@ -334,88 +538,177 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Spawns a new {@link Bullet} instance using the current stored values.
+     * Spawns a new bullet using the current stored values.
      * <p>
-     * Following creation, the new bullet is additionally added to the
-     * BulletManager's managed list of bullets.
+     * The bullet is written straight into a slot acquired from the
+     * BulletManager's pool, so spawning allocates nothing.
      *
-     * @return the newly created bullet.
-     */
-    public Bullet spawnBullet() {
-        Bullet bullet = new Bullet.BulletBuilder(panel, owner)
-                .position(position)
-                .invisibility(true)
-                .damage(bulletDamage)
-                .velocityX(bulletVelocityX)
-                .velocityY(bulletVelocityY)
-                .animationKeys(bulletAnimationKeys)
-                .currentAnimationKey(currentBulletAnimationKey)
-                .build();
-        GameManager.getInstance().getBulletManager().addBullet(bullet);
-        return bullet;
+     * @return The slot index of the new bullet, or
+     * {@link BulletPool#NO_SLOT} if the pool was exhausted and dropped it.
+     */
+    public int spawnBullet() {
+        return GameManager.getInstance().getBulletManager().spawnBullet(
+                position.x,
+                position.y,
+                (float) bulletVelocityX,
+                (float) bulletVelocityY,
+                bulletDamage,
+                owner.getHandle(),
+                currentBulletAnimation
+        );
     }
 
-    // ----- OVERRIDDEN METHODS -----
     /**
-     * Compares this entity to another object for equality.
+     * Fires one volley of the current pattern from the spawner's position, as
+     * a single batch.
+     * <p>
+     * The velocities are written into arrays reused between volleys, so
+     * firing allocates nothing.
      *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
+     * @return The number of bullets spawned (fewer than the volley size if
+     * the per-tick emission cap or the pool cut it short).
+     */
+    public int spawnVolley() {
+        int count = computeVolley();
+        int spawned = GameManager.getInstance().getBulletManager().spawnVolley(
+                position.x,
+                position.y,
+                volleyVelocityX,
+                volleyVelocityY,
+                count,
+                bulletDamage,
+                owner.getHandle(),
+                currentBulletAnimation
+        );
+
+        if (pattern == BulletPattern.SPIRAL) {
+            spiralAngleDegrees = (spiralAngleDegrees + angularStepDegrees) % 360;
+        }
+        return spawned;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Advances the spawner by one simulation tick and fires any volleys that
+     * have become due, from the owner's centre.
+     * <p>
+     * At most {@link #getMaxVolleysPerTick()} volleys are fired; if more were
+     * due, the rest of the backlog is dropped rather than carried over.
+     * <p>
+     * Spawns bullets into the shared bullet store, so must only be called from
+     * the thread that commits each tick.
      */
     @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
+    public void update() {
+        if (!isSpawning) {
+            return;
+        }
+
+        elapsedDelayMs += GameManager.getInstance().getTickDurationMs();
+        if (elapsedDelayMs < spawnDelayMs) {
+            return;
         }
-        if (!(obj instanceof BulletSpawner)) {
-            return false;
+
+        int due = (int) Math.min(elapsedDelayMs / spawnDelayMs, maxVolleysPerTick);
+        followOwner();
+        for (int i = 0; i < due; i++) {
+            spawnVolley();
         }
-        BulletSpawner other = (BulletSpawner) obj;
-        return Objects.equals(owner, other.getOwner())
-                && isSpawning == other.isSpawning()
-                && bulletDamage == other.bulletDamage
-                && Double.compare(bulletVelocityX, other.getBulletVelocityX()) == 0
-                && Double.compare(bulletVelocityY, other.getBulletVelocityY()) == 0
-                && Objects.equals(bulletAnimationKeys, other.getBulletAnimationKeys())
-                && Objects.equals(currentBulletAnimationKey, other.getCurrentBulletAnimatioKey())
-                && spawnDelayMs == other.getSpawnDelayMs()
-                && elapsedDelayTime == getElapsedDelayTime()
-                && lastUpdateTime == getLastUpdateTime();
+
+        // Keep only the time towards the next volley; any backlog beyond the limit is dropped.
+        elapsedDelayMs %= spawnDelayMs;
     }
 
+    // ----- HELPER METHODS -----
     /**
-     * Returns a hash code for this entity.
-     *
-     * @return The hash code of the entity.
+     * Centres the spawner (and so each bullet's origin) on its owner.
      */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                isSpawning,
-                bulletDamage,
-                bulletVelocityX,
-                bulletVelocityY,
-                bulletAnimationKeys,
-                currentBulletAnimationKey,
-                spawnDelayMs,
-                elapsedDelayTime,
-                lastUpdateTime
-        );
+    private void followOwner() {
+        int bulletWidth = 0;
+        int bulletHeight = 0;
+        if (currentBulletAnimation != null) {
+            AnimationFrame bulletSprite = currentBulletAnimation.getFrames().get(0);
+            bulletWidth = bulletSprite.getWidth();
+            bulletHeight = bulletSprite.getHeight();
+        }
+        position.x = owner.getCentreX() - bulletWidth / 2;
+        position.y = owner.getCentreY() - bulletHeight / 2;
     }
 
     /**
-     * Updates the entity's state.
+     * Writes the velocities of the next volley into the reused arrays.
+     *
+     * @return The number of bullets in the volley.
      */
-    @Override
-    public void update() {
-        if (isSpawning) {
-            long currentTime = System.currentTimeMillis();
-            elapsedDelayTime += currentTime - lastUpdateTime;
-            while (elapsedDelayTime >= spawnDelayMs) {
-                spawnBullet();
-                elapsedDelayTime -= spawnDelayMs; // Ensures correct timing
-            }
+    private int computeVolley() {
+        if (pattern == BulletPattern.SINGLE) {
+            volleyVelocityX[0] = (float) bulletVelocityX;
+            volleyVelocityY[0] = (float) bulletVelocityY;
+            return 1;
+        }
+
+        double speed = Math.hypot(bulletVelocityX, bulletVelocityY);
+        double baseRadians = Math.atan2(bulletVelocityY, bulletVelocityX);
+        double fullCircle = 2 * Math.PI;
+
+        switch (pattern) {
+            case RING ->
+                fillArc(baseRadians, fullCircle, speed, false);
+            case FAN ->
+                fillArc(baseRadians, Math.toRadians(spreadDegrees), speed, true);
+            case SPIRAL ->
+                fillArc(baseRadians + Math.toRadians(spiralAngleDegrees), fullCircle, speed, false);
+            case AIMED ->
+                fillArc(getAimRadians(baseRadians), Math.toRadians(spreadDegrees), speed, true);
+            default ->
+                throw new IllegalStateException("Switch-case recieved unexpected value: " + pattern);
+        }
+        return volleySize;
+    }
+
+    /**
+     * Spaces the volley's directions evenly over an arc.
+     *
+     * @param startRadians The direction of the first bullet, or of the arc's
+     * centre if centred.
+     * @param arcRadians The size of the arc.
+     * @param speed The speed of every bullet.
+     * @param isCentred Whether the arc is centred on the start direction
+     * (both ends included) or starts at it (a closed loop).
+     */
+    private void fillArc(final double startRadians, final double arcRadians, final double speed, final boolean isCentred) {
+        double first = startRadians;
+        double step = arcRadians / volleySize;
+        if (isCentred) {
+            first = volleySize > 1 ? startRadians - arcRadians / 2 : startRadians;
+            step = volleySize > 1 ? arcRadians / (volleySize - 1) : 0;
+        }
+
+        for (int i = 0; i < volleySize; i++) {
+            double radians = first + i * step;
+            volleyVelocityX[i] = (float) (speed * Math.cos(radians));
+            volleyVelocityY[i] = (float) (speed * Math.sin(radians)); // Cartesian
+        }
+    }
+
+    /**
+     * Returns the direction from the spawner to the player's centre.
+     *
+     * @param fallbackRadians The direction to use if there is no player to
+     * aim at (or the player owns the spawner).
+     * @return The direction in Cartesian radians.
+     */
+    private double getAimRadians(final double fallbackRadians) {
+        Player player = GameManager.getInstance().getPlayer();
+        if (player == null || player == owner) {
+            return fallbackRadians;
         }
+
+        AnimationFrame bulletSprite = currentBulletAnimation != null ? currentBulletAnimation.getFrames().get(0) : null;
+        int originX = position.x + (bulletSprite != null ? bulletSprite.getWidth() / 2 : 0);
+        int originY = position.y + (bulletSprite != null ? bulletSprite.getHeight() / 2 : 0);
+        // Screen y grows downwards; velocities are Cartesian.
+        return Math.atan2(originY - player.getCentreY(), player.getCentreX() - originX);
     }
 
     // ----- BUILDER FOR BULLET SPAWNER -----
@@ -455,19 +748,48 @@ public class BulletSpawner extends Entity {
         protected double bulletVelocityY = 0;
 
         /**
-         * A map of all the animations associated with the spawned bullets,
-         * keyed by animation name.
+         * The IDs of all the animations associated with the spawned bullets.
+         */
+        protected int[] bulletAnimationIds = new int[0];
+
+        /**
+         * The ID of the spawned bullet's initial active animation.
+         */
+        protected int currentBulletAnimationId = AnimationManager.NO_ANIMATION;
+
+        /**
+         * The shape of each volley.
+         */
+        protected BulletPattern pattern = BulletPattern.SINGLE;
+
+        /**
+         * The number of bullets in each volley.
          */
-        protected HashSet<String> bulletAnimationKeys = new HashSet<>();
+        protected int volleySize = 1;
 
         /**
-         * The key of the spawned bullet's initial active animation.
+         * The arc (in degrees) that fan-shaped volleys spread over.
          */
-        protected String currentBulletAnimationKey = null;
+        protected double spreadDegrees = DEFAULT_SPREAD_DEGREES;
+
+        /**
+         * The angle (in degrees) a spiral turns by after each volley.
+         */
+        protected double angularStepDegrees = DEFAULT_ANGULAR_STEP_DEGREES;
+
+        /**
+         * How many milliseconds to wait between volleys.
+         */
+        protected long spawnDelayMs = DEFAULT_SPAWN_DELAY_MS;
+
+        /**
+         * The maximum number of volleys fired in a single tick.
+         */
+        protected int maxVolleysPerTick = DEFAULT_MAX_VOLLEYS_PER_TICK;
 
         // ------ CONSTRUCTORS -----
-        public BulletSpawnerBuilder(final JPanel panel, final Entity owner) {
-            super(panel);
+        public BulletSpawnerBuilder(final ArenaBounds arena, final Entity owner) {
+            super(arena);
 
             if (owner == null) {
                 throw new IllegalArgumentException(String.format(
@@ -523,9 +845,23 @@ public class BulletSpawner extends Entity {
          * with.
          *
          * @param bulletAnimationKeys The set of animation keys.
+         * @throws IllegalArgumentException if any key is {@code null}, blank
+         * or doesn't exist in {@link AnimationManager}'s key set.
+         */
+        public final BulletSpawnerBuilder bulletAnimationKeys(final Set<String> bulletAnimationKeys) throws IllegalArgumentException {
+            this.bulletAnimationIds = AnimationManager.getInstance().requireAnimationIds(bulletAnimationKeys);
+            return this;
+        }
+
+        /**
+         * Sets the IDs of the animations spawned bullets can use.
+         *
+         * @param bulletAnimationIds The animation IDs.
+         * @throws IllegalArgumentException if any ID doesn't exist in
+         * {@link AnimationManager}.
          */
-        public final BulletSpawnerBuilder bulletAnimationKeys(final Set<String> bulletAnimationKeys) {
-            this.bulletAnimationKeys = (bulletAnimationKeys == null) ? new HashSet<>() : new HashSet<>(bulletAnimationKeys);
+        public final BulletSpawnerBuilder bulletAnimationIds(final int... bulletAnimationIds) throws IllegalArgumentException {
+            this.bulletAnimationIds = AnimationManager.getInstance().requireAnimationIds(bulletAnimationIds);
             return this;
         }
 
@@ -540,9 +876,85 @@ public class BulletSpawner extends Entity {
          * key set.
          *
          * @param key The key identifying the animation.
+         * @throws IllegalArgumentException if the key is blank or doesn't
+         * exist in {@link AnimationManager}'s key set.
+         */
+        public final BulletSpawnerBuilder currentBulletAnimationKey(String key) throws IllegalArgumentException {
+            this.currentBulletAnimationId = (key == null)
+                    ? AnimationManager.NO_ANIMATION
+                    : AnimationManager.getInstance().requireAnimationId(key);
+            return this;
+        }
+
+        /**
+         * Sets the animation for spawned bullets by ID. Must set the available
+         * IDs using bulletAnimationIds() (or bulletAnimationKeys()) first.
+         *
+         * @param id The animation's ID ({@link AnimationManager#NO_ANIMATION}
+         * for none).
+         */
+        public final BulletSpawnerBuilder currentBulletAnimationId(final int id) {
+            this.currentBulletAnimationId = id;
+            return this;
+        }
+
+        /**
+         * Sets the shape of each volley.
+         *
+         * @param pattern The pattern.
+         */
+        public BulletSpawnerBuilder pattern(final BulletPattern pattern) {
+            this.pattern = pattern;
+            return this;
+        }
+
+        /**
+         * Sets the number of bullets in each volley.
+         *
+         * @param volleySize The volley size.
+         */
+        public BulletSpawnerBuilder volleySize(final int volleySize) {
+            this.volleySize = volleySize;
+            return this;
+        }
+
+        /**
+         * Sets the arc (in degrees) that fan-shaped volleys spread over.
+         *
+         * @param spreadDegrees The spread.
+         */
+        public BulletSpawnerBuilder spreadDegrees(final double spreadDegrees) {
+            this.spreadDegrees = spreadDegrees;
+            return this;
+        }
+
+        /**
+         * Sets the angle (in degrees) a spiral turns by after each volley.
+         *
+         * @param angularStepDegrees The angular step.
+         */
+        public BulletSpawnerBuilder angularStepDegrees(final double angularStepDegrees) {
+            this.angularStepDegrees = angularStepDegrees;
+            return this;
+        }
+
+        /**
+         * Sets how many milliseconds to wait between volleys.
+         *
+         * @param spawnDelayMs The delay.
+         */
+        public BulletSpawnerBuilder spawnDelayMs(final long spawnDelayMs) {
+            this.spawnDelayMs = spawnDelayMs;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of volleys fired in a single tick.
+         *
+         * @param maxVolleysPerTick The catch-up limit.
          */
-        public final BulletSpawnerBuilder currentBulletAnimationKey(String key) {
-            this.currentBulletAnimationKey = key;
+        public BulletSpawnerBuilder maxVolleysPerTick(final int maxVolleysPerTick) {
+            this.maxVolleysPerTick = maxVolleysPerTick;
             return this;
         }
 
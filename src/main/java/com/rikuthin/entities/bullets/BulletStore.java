@@ -0,0 +1,596 @@
+package com.rikuthin.entities.bullets;
+
+import java.awt.Graphics2D;
+import java.util.Arrays;
+
+import com.rikuthin.entities.Entity;
+import com.rikuthin.graphics.animations.AnimationClock;
+import com.rikuthin.graphics.animations.AnimationFrame;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.interfaces.Renderable;
+
+/**
+ * Structure-of-arrays storage for every live bullet.
+ * <p>
+ * Rather than one {@link Bullet} object per bullet, each bullet is a slot index
+ * into a set of parallel primitive arrays (position, velocity, size, damage,
+ * owner and animation). Live bullets always occupy slots
+ * {@code [0, size())}; removing a bullet moves the last live bullet into its
+ * slot ("swap-remove"), so removal is O(1) and the arrays never contain gaps.
+ * <p>
+ * As a consequence, slot indices are only stable until the next removal and
+ * must not be held on to across ticks.
+ * <p>
+ * Velocities use the same Cartesian convention as {@link Bullet}: a positive
+ * y-velocity moves the bullet up the screen.
+ * <p>
+ * Besides the serial {@link #update(int, int)}, a tick can be run in two
+ * phases so the bulk of the work can be spread over several threads:
+ * {@link #computeUpdate(int, int, int, int)} only reads shared state and
+ * writes per-slot scratch arrays, so disjoint slot ranges may be computed
+ * concurrently; {@link #commitUpdate()} then applies the results on one thread,
+ * in exactly the order the serial update would have.
+ */
+public final class BulletStore implements Renderable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of slots allocated when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The number of live bullets.
+     */
+    private int size;
+    /**
+     * The x-coordinates (left edge) of each bullet.
+     */
+    private float[] x;
+    /**
+     * The y-coordinates (top edge) of each bullet.
+     */
+    private float[] y;
+    /**
+     * The x-axis velocities of each bullet in pixels per tick.
+     */
+    private float[] velocityX;
+    /**
+     * The y-axis velocities of each bullet in pixels per tick (Cartesian).
+     */
+    private float[] velocityY;
+    /**
+     * The hitbox widths of each bullet.
+     */
+    private int[] width;
+    /**
+     * The hitbox heights of each bullet.
+     */
+    private int[] height;
+    /**
+     * The damage each bullet deals on collision.
+     */
+    private int[] damage;
+    /**
+     * The handle of the {@link Entity} that fired each bullet.
+     */
+    private long[] owner;
+    /**
+     * The animation played by each bullet ({@code null} for none).
+     */
+    private AnimationTemplate[] animation;
+    /**
+     * The {@link AnimationClock} time (in milliseconds) at which each bullet's
+     * animation started. Frames are resolved from this on demand.
+     */
+    private long[] animationStartMs;
+    /**
+     * The x-coordinates computed for each bullet by
+     * {@link #computeUpdate(int, int, int, int)}, not yet committed.
+     */
+    private float[] nextX;
+    /**
+     * The y-coordinates computed for each bullet by
+     * {@link #computeUpdate(int, int, int, int)}, not yet committed.
+     */
+    private float[] nextY;
+    /**
+     * Whether {@link #computeUpdate(int, int, int, int)} found that each
+     * bullet has left the arena.
+     */
+    private boolean[] despawn;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty store with the default capacity.
+     */
+    public BulletStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store with room for the given number of bullets before
+     * it needs to grow.
+     *
+     * @param initialCapacity The initial capacity. (Minimum value: 1)
+     */
+    public BulletStore(final int initialCapacity) {
+        allocate(Math.max(initialCapacity, 1));
+        size = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of live bullets.
+     *
+     * @return The bullet count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether there are no live bullets.
+     *
+     * @return {@code true} if empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns how many bullets the store can hold before it needs to grow.
+     *
+     * @return The capacity.
+     */
+    public int capacity() {
+        return x.length;
+    }
+
+    /**
+     * Returns the x-coordinate (left edge) of a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The x-coordinate.
+     */
+    public float getX(final int index) {
+        return x[index];
+    }
+
+    /**
+     * Returns the y-coordinate (top edge) of a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The y-coordinate.
+     */
+    public float getY(final int index) {
+        return y[index];
+    }
+
+    /**
+     * Returns the x-axis velocity of a bullet in pixels per tick.
+     *
+     * @param index The slot index of the bullet.
+     * @return The x-axis velocity.
+     */
+    public float getVelocityX(final int index) {
+        return velocityX[index];
+    }
+
+    /**
+     * Returns the y-axis velocity of a bullet in pixels per tick (Cartesian).
+     *
+     * @param index The slot index of the bullet.
+     * @return The y-axis velocity.
+     */
+    public float getVelocityY(final int index) {
+        return velocityY[index];
+    }
+
+    /**
+     * Returns the hitbox width of a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The width.
+     */
+    public int getWidth(final int index) {
+        return width[index];
+    }
+
+    /**
+     * Returns the hitbox height of a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The height.
+     */
+    public int getHeight(final int index) {
+        return height[index];
+    }
+
+    /**
+     * Returns the damage a bullet deals on collision.
+     *
+     * @param index The slot index of the bullet.
+     * @return The damage.
+     */
+    public int getDamage(final int index) {
+        return damage[index];
+    }
+
+    /**
+     * Returns the handle of the {@link Entity} that fired a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The owner's handle.
+     */
+    public long getOwner(final int index) {
+        return owner[index];
+    }
+
+    /**
+     * Returns the animation played by a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The animation ({@code null} if none).
+     */
+    public AnimationTemplate getAnimation(final int index) {
+        return animation[index];
+    }
+
+    /**
+     * Returns the index of the frame currently displayed by a bullet.
+     *
+     * @param index The slot index of the bullet.
+     * @return The frame index.
+     */
+    public int getFrameIndex(final int index) {
+        AnimationTemplate template = animation[index];
+        if (template == null) {
+            return 0;
+        }
+        return template.getFrameIndexAt(AnimationClock.getInstance().getTimeMs() - animationStartMs[index]);
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns whether every allocated slot holds a live bullet.
+     *
+     * @return {@code true} if full, {@code false} otherwise.
+     */
+    public boolean isFull() {
+        return size == x.length;
+    }
+
+    /**
+     * Grows the store so it can hold at least the given number of bullets
+     * without further allocation. Does nothing if it already can.
+     *
+     * @param minCapacity The required capacity.
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > x.length) {
+            allocate(minCapacity);
+        }
+    }
+
+    /**
+     * Claims the next free slot for a new bullet. The slot's state must then
+     * be written with
+     * {@link #set(int, float, float, float, float, int, long, AnimationTemplate)}.
+     *
+     * @return The slot index of the new bullet.
+     * @throws IllegalStateException If the store is full.
+     */
+    public int claim() throws IllegalStateException {
+        if (isFull()) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot claim a slot; store is full (capacity <%d>).",
+                    this.getClass().getName(),
+                    x.length
+            ));
+        }
+        return size++;
+    }
+
+    /**
+     * Claims the next free slots for a batch of new bullets. The slots are
+     * contiguous, starting at the returned index, and their state must then be
+     * written (e.g., with
+     * {@link #setVolley(int, int, float, float, float[], float[], int, long, AnimationTemplate)}).
+     *
+     * @param count The number of slots to claim. (Minimum value: 1)
+     * @return The slot index of the first new bullet.
+     * @throws IllegalStateException If fewer than {@code count} slots are
+     * free.
+     */
+    public int claim(final int count) throws IllegalStateException {
+        if (count < 1 || size + count > x.length) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot claim <%d> slots; <%d> of <%d> are free.",
+                    this.getClass().getName(),
+                    count,
+                    x.length - size,
+                    x.length
+            ));
+        }
+        int first = size;
+        size += count;
+        return first;
+    }
+
+    /**
+     * Adds a new bullet, growing the store if it is full.
+     *
+     * @param posX The x-coordinate of the bullet's left edge.
+     * @param posY The y-coordinate of the bullet's top edge.
+     * @param velX The x-axis velocity in pixels per tick.
+     * @param velY The y-axis velocity in pixels per tick (Cartesian).
+     * @param bulletDamage The damage dealt on collision.
+     * @param bulletOwner The handle of the {@link Entity} that fired the
+     * bullet.
+     * @param bulletAnimation The animation to play ({@code null} for none).
+     * @return The slot index of the new bullet.
+     */
+    public int add(final float posX, final float posY, final float velX, final float velY,
+            final int bulletDamage, final long bulletOwner, final AnimationTemplate bulletAnimation) {
+        if (isFull()) {
+            allocate(x.length * 2);
+        }
+
+        int i = claim();
+        set(i, posX, posY, velX, velY, bulletDamage, bulletOwner, bulletAnimation);
+        return i;
+    }
+
+    /**
+     * Overwrites the state of a live bullet and restarts its animation.
+     *
+     * @param i The slot index of the bullet.
+     * @param posX The x-coordinate of the bullet's left edge.
+     * @param posY The y-coordinate of the bullet's top edge.
+     * @param velX The x-axis velocity in pixels per tick.
+     * @param velY The y-axis velocity in pixels per tick (Cartesian).
+     * @param bulletDamage The damage dealt on collision.
+     * @param bulletOwner The handle of the {@link Entity} that fired the
+     * bullet.
+     * @param bulletAnimation The animation to play ({@code null} for none).
+     */
+    public void set(final int i, final float posX, final float posY, final float velX, final float velY,
+            final int bulletDamage, final long bulletOwner, final AnimationTemplate bulletAnimation) {
+        x[i] = posX;
+        y[i] = posY;
+        velocityX[i] = velX;
+        velocityY[i] = velY;
+        damage[i] = bulletDamage;
+        owner[i] = bulletOwner;
+        animation[i] = bulletAnimation;
+        animationStartMs[i] = AnimationClock.getInstance().getTimeMs();
+
+        if (bulletAnimation != null) {
+            AnimationFrame firstFrame = bulletAnimation.getFrames().get(0);
+            width[i] = firstFrame.getWidth();
+            height[i] = firstFrame.getHeight();
+        } else {
+            width[i] = 0;
+            height[i] = 0;
+        }
+    }
+
+    /**
+     * Overwrites the state of a run of consecutive live bullets that share an
+     * origin, damage, owner and animation (a volley), each with its own
+     * velocity. Their animations all start now.
+     *
+     * @param first The slot index of the first bullet.
+     * @param count The number of bullets.
+     * @param posX The x-coordinate of every bullet's left edge.
+     * @param posY The y-coordinate of every bullet's top edge.
+     * @param velX The x-axis velocities in pixels per tick, one per bullet.
+     * @param velY The y-axis velocities in pixels per tick (Cartesian), one
+     * per bullet.
+     * @param bulletDamage The damage dealt on collision.
+     * @param bulletOwner The handle of the {@link Entity} that fired the
+     * bullets.
+     * @param bulletAnimation The animation to play ({@code null} for none).
+     */
+    public void setVolley(final int first, final int count, final float posX, final float posY,
+            final float[] velX, final float[] velY,
+            final int bulletDamage, final long bulletOwner, final AnimationTemplate bulletAnimation) {
+        int end = first + count;
+        int bulletWidth = 0;
+        int bulletHeight = 0;
+        if (bulletAnimation != null) {
+            AnimationFrame firstFrame = bulletAnimation.getFrames().get(0);
+            bulletWidth = firstFrame.getWidth();
+            bulletHeight = firstFrame.getHeight();
+        }
+
+        Arrays.fill(x, first, end, posX);
+        Arrays.fill(y, first, end, posY);
+        System.arraycopy(velX, 0, velocityX, first, count);
+        System.arraycopy(velY, 0, velocityY, first, count);
+        Arrays.fill(width, first, end, bulletWidth);
+        Arrays.fill(height, first, end, bulletHeight);
+        Arrays.fill(damage, first, end, bulletDamage);
+        Arrays.fill(owner, first, end, bulletOwner);
+        Arrays.fill(animation, first, end, bulletAnimation);
+        Arrays.fill(animationStartMs, first, end, AnimationClock.getInstance().getTimeMs());
+    }
+
+    /**
+     * Removes the bullet in the given slot by moving the last live bullet into
+     * it.
+     *
+     * @param index The slot index of the bullet to remove.
+     * @throws IndexOutOfBoundsException If the index is not a live slot.
+     */
+    public void remove(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "%s: Index <%d> is not a live bullet (size <%d>).",
+                    this.getClass().getName(),
+                    index,
+                    size
+            ));
+        }
+
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            velocityX[index] = velocityX[last];
+            velocityY[index] = velocityY[last];
+            width[index] = width[last];
+            height[index] = height[last];
+            damage[index] = damage[last];
+            owner[index] = owner[last];
+            animation[index] = animation[last];
+            animationStartMs[index] = animationStartMs[last];
+        }
+
+        // Drop object references so removed bullets don't keep anything alive.
+        animation[last] = null;
+    }
+
+    /**
+     * Removes all bullets.
+     */
+    public void clear() {
+        Arrays.fill(animation, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Advances every bullet by one tick: moves it and removes it if it has
+     * left the arena. (Animations are resolved from the
+     * {@link AnimationClock} when rendering, so need no per-tick work.)
+     *
+     * @param arenaWidth The width of the arena.
+     * @param arenaHeight The height of the arena.
+     */
+    public void update(final int arenaWidth, final int arenaHeight) {
+        int i = 0;
+        while (i < size) {
+            float newX = x[i] + velocityX[i];
+            float newY = y[i] - velocityY[i]; // Inverted for screen coordinates
+
+            // Fully outside the arena: swap the last bullet in and process it next.
+            if (newX >= arenaWidth || newX + width[i] <= 0
+                    || newY >= arenaHeight || newY + height[i] <= 0) {
+                remove(i);
+                continue;
+            }
+
+            x[i] = newX;
+            y[i] = newY;
+            i++;
+        }
+    }
+
+    /**
+     * Runs the read phase of a tick for the bullets in slots [from, to):
+     * computes where each one moves to and whether it leaves the arena,
+     * without changing any live state. Disjoint ranges may be computed
+     * concurrently; the results are applied by {@link #commitUpdate()}.
+     *
+     * @param from The first slot index (inclusive).
+     * @param to The last slot index (exclusive). (Maximum value: size)
+     * @param arenaWidth The width of the arena.
+     * @param arenaHeight The height of the arena.
+     */
+    public void computeUpdate(final int from, final int to, final int arenaWidth, final int arenaHeight) {
+        for (int i = from; i < to; i++) {
+            float newX = x[i] + velocityX[i];
+            float newY = y[i] - velocityY[i]; // Inverted for screen coordinates
+
+            nextX[i] = newX;
+            nextY[i] = newY;
+            despawn[i] = newX >= arenaWidth || newX + width[i] <= 0
+                    || newY >= arenaHeight || newY + height[i] <= 0;
+        }
+    }
+
+    /**
+     * Runs the write phase of a tick, once every live slot has been through
+     * {@link #computeUpdate(int, int, int, int)}: moves the surviving bullets
+     * and removes the rest.
+     * <p>
+     * Removal swaps the last live bullet (with its computed result) into the
+     * freed slot, visiting slots in the same order as {@link #update(int, int)},
+     * so the store ends up identical to a serial update whatever ranges the
+     * read phase was split into.
+     */
+    public void commitUpdate() {
+        int i = 0;
+        while (i < size) {
+            if (despawn[i]) {
+                int last = size - 1;
+                nextX[i] = nextX[last];
+                nextY[i] = nextY[last];
+                despawn[i] = despawn[last];
+                remove(i);
+                continue;
+            }
+
+            x[i] = nextX[i];
+            y[i] = nextY[i];
+            i++;
+        }
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Renders every live bullet's current animation frame.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        long now = AnimationClock.getInstance().getTimeMs();
+        for (int i = 0; i < size; i++) {
+            AnimationTemplate template = animation[i];
+            if (template != null) {
+                template.getFrameAt(now - animationStartMs[i]).draw(g2d, (int) x[i], (int) y[i]);
+            }
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * (Re)allocates every array to the given capacity, keeping live bullets.
+     */
+    private void allocate(final int capacity) {
+        if (x == null) {
+            x = new float[capacity];
+            y = new float[capacity];
+            velocityX = new float[capacity];
+            velocityY = new float[capacity];
+            width = new int[capacity];
+            height = new int[capacity];
+            damage = new int[capacity];
+            owner = new long[capacity];
+            animation = new AnimationTemplate[capacity];
+            animationStartMs = new long[capacity];
+            nextX = new float[capacity];
+            nextY = new float[capacity];
+            despawn = new boolean[capacity];
+            return;
+        }
+
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        animation = Arrays.copyOf(animation, capacity);
+        animationStartMs = Arrays.copyOf(animationStartMs, capacity);
+        // Scratch arrays only hold results within a tick, so need no copying.
+        nextX = new float[capacity];
+        nextY = new float[capacity];
+        despawn = new boolean[capacity];
+    }
+}
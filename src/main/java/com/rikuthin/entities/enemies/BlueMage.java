@@ -1,13 +1,9 @@
 package com.rikuthin.entities.enemies;
 
-import java.util.HashSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import javax.swing.JPanel;
-
+import com.rikuthin.entities.bullets.BulletPattern;
 import com.rikuthin.entities.bullets.BulletSpawner;
-import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.animations.AnimationKey;
+import com.rikuthin.interfaces.ArenaBounds;
 
 /**
  * Represents a Blue Mage enemy in the game.
@@ -17,6 +13,16 @@ import com.rikuthin.graphics.GameFrame;
  */
 public class BlueMage extends Enemy {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The Blue Mage's animation.
+     */
+    private static final AnimationKey ANIMATION = new AnimationKey("mage-guardian-blue");
+    /**
+     * The animation of the Blue Mage's bullets.
+     */
+    private static final AnimationKey BULLET_ANIMATION = new AnimationKey("enemy-bullet");
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor used to create a BlueMage instance.
@@ -36,7 +42,7 @@ public class BlueMage extends Enemy {
      * the y-coordinate with a given amplitude.
      * <p>
      * The final y-coordinate is clamped to stay within the desired range of 1/5
-     * to 3/5 of the screen height.
+     * to 3/5 of the arena height.
      */
     @Override
     public void move() {
@@ -48,15 +54,15 @@ public class BlueMage extends Enemy {
         double amplitude = 50;
 
         // Oscillate within the range, using the amplitude to determine the oscillation
-        double oscillatedY = amplitude * GameFrame.FRAME_HEIGHT * normalizedCos;
+        double oscillatedY = amplitude * arena.getHeight() * normalizedCos;
 
-        // Clamp the result to stay within the limits [1/5 * GameFrame.FRAME_HEIGHT, 3/5 * GameFrame.FRAME_HEIGHT]
+        // Clamp the result to stay within the limits [1/5, 3/5] of the arena height
         position.y = (int) Math.max(
                 Math.min(
-                        oscillatedY + (1.0 / 5.0) * GameFrame.FRAME_HEIGHT,
-                        (1.0 / 5.0) * GameFrame.FRAME_HEIGHT
+                        oscillatedY + (1.0 / 5.0) * arena.getHeight(),
+                        (1.0 / 5.0) * arena.getHeight()
                 ),
-                (3.0 / 5.0) * GameFrame.FRAME_HEIGHT
+                (3.0 / 5.0) * arena.getHeight()
         );
     }
 
@@ -66,12 +72,8 @@ public class BlueMage extends Enemy {
      * initial animation.
      */
     private void setUpBlueMageAnimations() {
-        HashSet<String> blueMageAnimationKeys = Stream.of(
-                "mage-guardian-blue"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        setAnimationKeys(blueMageAnimationKeys);
-        setAnimation("mage-guardian-blue");
+        setAnimationIds(ANIMATION.getId());
+        setAnimation(ANIMATION.getId());
         setMaxHitPoints(20);
         setCurrentHitPoints(20);
     }
@@ -81,15 +83,14 @@ public class BlueMage extends Enemy {
      * initial animation.
      */
     private void setUpBlueMageBulletSpawner() {
-        HashSet<String> blueMageBulletAnimationKeys = Stream.of(
-                "enemy-bullet"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(panel, this)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(arena, this)
                 .bulletDamage(1)
                 .bulletVelocityY(-20)
-                .bulletAnimationKeys(blueMageBulletAnimationKeys)
-                .currentBulletAnimationKey("enemy-bullet")
+                .pattern(BulletPattern.RING)
+                .volleySize(12)
+                .spawnDelayMs(500)
+                .bulletAnimationIds(BULLET_ANIMATION.getId())
+                .currentBulletAnimationId(BULLET_ANIMATION.getId())
                 .build();
 
         setBulletSpawner(spawner);
@@ -99,8 +100,8 @@ public class BlueMage extends Enemy {
     public static class BlueMageBuilder extends EnemyBuilder {
 
         // ----- CONSTRUCTOR -----
-        public BlueMageBuilder(JPanel panel) {
-            super(panel);
+        public BlueMageBuilder(ArenaBounds arena) {
+            super(arena);
         }
 
         // ----- OVERRIDDEN METHODS -----
@@ -2,14 +2,12 @@ package com.rikuthin.entities.enemies;
 
 import java.awt.Dimension;
 import java.awt.Point;
-import java.util.Objects;
-
-import javax.swing.JPanel;
 
 import com.rikuthin.entities.MobileEntity;
 import com.rikuthin.entities.bullets.Bullet;
 import com.rikuthin.entities.bullets.BulletSpawner;
-import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.interfaces.ArenaBounds;
+import com.rikuthin.managers.GameManager;
 import com.rikuthin.utility.Bearing2D;
 
 /**
@@ -18,9 +16,82 @@ import com.rikuthin.utility.Bearing2D;
  * <p>
  * This class extends {@link MobileEntity} and includes functionality for
  * attacking using a {@link BulletSpawner}.
+ * <p>
+ * Attacks are driven by a small state machine ({@link AttackState}) that is
+ * advanced by the fixed simulation tick: the enemy cools down, fires for
+ * {@link #getAttackTimerMs()} milliseconds, then cools down again. Advancing
+ * the state machine is O(1) and never blocks.
  */
 public class Enemy extends MobileEntity {
 
+    /**
+     * The phases of an enemy's attack cycle.
+     */
+    public enum AttackState {
+        /**
+         * Not firing. Moves to {@link #ATTACKING} once the cooldown has passed
+         * (immediately, if the enemy is able to attack).
+         */
+        READY {
+            @Override
+            AttackState advance(final Enemy enemy, final double deltaMs) {
+                if (!enemy.canAttack()) {
+                    return READY;
+                }
+                enemy.elapsedAttackTimeMs = 0;
+                enemy.bulletSpawner.start();
+                return ATTACKING;
+            }
+        },
+        /**
+         * Firing. Moves to {@link #COOLING_DOWN} once the attack timer has
+         * run out.
+         */
+        ATTACKING {
+            @Override
+            AttackState advance(final Enemy enemy, final double deltaMs) {
+                enemy.elapsedAttackTimeMs += deltaMs;
+                if (enemy.elapsedAttackTimeMs < enemy.attackTimerMs) {
+                    return ATTACKING;
+                }
+                enemy.elapsedAttackCooldownMs = 0;
+                enemy.bulletSpawner.stop();
+                return COOLING_DOWN;
+            }
+        },
+        /**
+         * Not firing. Moves to {@link #READY} once the cooldown has passed.
+         */
+        COOLING_DOWN {
+            @Override
+            AttackState advance(final Enemy enemy, final double deltaMs) {
+                enemy.elapsedAttackCooldownMs += deltaMs;
+                return enemy.elapsedAttackCooldownMs < enemy.attackCooldownMs ? COOLING_DOWN : READY;
+            }
+        };
+
+        /**
+         * Advances the attack cycle of the given enemy by the given amount of
+         * simulation time.
+         *
+         * @param enemy The enemy.
+         * @param deltaMs The simulation time that has passed in milliseconds.
+         * @return The enemy's next state.
+         */
+        abstract AttackState advance(Enemy enemy, double deltaMs);
+    }
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default duration (in milliseconds) of an attack wave.
+     */
+    public static final long DEFAULT_ATTACK_TIMER_MS = 1500;
+    /**
+     * The default cooldown (in milliseconds) between attack waves.
+     */
+    public static final long DEFAULT_ATTACK_COOLDOWN_MS = 3000;
+
+    // ----- INSTANCE VARIABLES -----
     /**
      * The enemy's {@link BulletSpawner}, responsible for shooting
      * {@link Bullet}s.
@@ -32,9 +103,10 @@ public class Enemy extends MobileEntity {
      */
     protected long attackTimerMs;
     /**
-     * The elapsed time (in milliseconds) of the current attack wave.
+     * The elapsed simulation time (in milliseconds) of the current attack
+     * wave.
      */
-    protected long elapsedAttackTimeMs;
+    protected double elapsedAttackTimeMs;
     /**
      * The cooldown duration (in milliseconds) before the enemy can attack again
      * after an attack wave ends.
@@ -45,13 +117,15 @@ public class Enemy extends MobileEntity {
      */
     protected long attackCooldownMs;
     /**
-     * The elapsed time (in milliseconds) since the enemy started cooling down.
+     * The elapsed simulation time (in milliseconds) since the enemy started
+     * cooling down.
      */
-    protected long elapsedAttackCooldownMs;
+    protected double elapsedAttackCooldownMs;
     /**
-     * The timestamp (in milliseconds) of the last update call.
+     * The current phase of the enemy's attack cycle. New enemies start by
+     * cooling down.
      */
-    protected long lastUpdateTime;
+    protected AttackState attackState;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -61,6 +135,11 @@ public class Enemy extends MobileEntity {
      */
     public Enemy(EnemyBuilder builder) {
         super(builder);
+        this.attackTimerMs = Math.max(builder.attackTimerMs, 0);
+        this.attackCooldownMs = Math.max(builder.attackCooldownMs, 1);
+        this.elapsedAttackTimeMs = 0;
+        this.elapsedAttackCooldownMs = 0;
+        this.attackState = AttackState.COOLING_DOWN;
     }
 
     // ---- GETTERS -----
@@ -85,6 +164,33 @@ public class Enemy extends MobileEntity {
         return bulletSpawner.isSpawning();
     }
 
+    /**
+     * Returns the current phase of the enemy's attack cycle.
+     *
+     * @return The attack state.
+     */
+    public AttackState getAttackState() {
+        return attackState;
+    }
+
+    /**
+     * Returns the duration (in milliseconds) of each attack wave.
+     *
+     * @return The attack duration.
+     */
+    public long getAttackTimerMs() {
+        return attackTimerMs;
+    }
+
+    /**
+     * Returns how many milliseconds of the current attack wave have passed.
+     *
+     * @return The elapsed time.
+     */
+    public double getElapsedAttackTimeMs() {
+        return elapsedAttackTimeMs;
+    }
+
     /**
      * Gets the cooldown time in milliseconds before the enemy can initiate
      * another attack.
@@ -100,19 +206,10 @@ public class Enemy extends MobileEntity {
      *
      * @return The elasped time.
      */
-    public long getElapsedAttackCooldownMs() {
+    public double getElapsedAttackCooldownMs() {
         return elapsedAttackCooldownMs;
     }
 
-    /**
-     * Returns the last time the enemy was updated in milliseconds.
-     *
-     * @return The last update time.
-     */
-    public long getLastUpdateTime() {
-        return lastUpdateTime;
-    }
-
     // ---- SETTERS -----
     /**
      * Sets the enemy's {@link BulletSpawner}
@@ -141,6 +238,16 @@ public class Enemy extends MobileEntity {
         bulletSpawner.setIsSpawning(isAttacking);
     }
 
+    /**
+     * Sets the duration (in milliseconds) of each attack wave. A duration of 0
+     * disables attacking.
+     *
+     * @param attackTimerMs The attack duration. (Minimum value: 0)
+     */
+    public void setAttackTimerMs(final long attackTimerMs) {
+        this.attackTimerMs = Math.max(attackTimerMs, 0);
+    }
+
     /**
      * Sets the entity's attack delay in milliseconds. Minimum value is 1 ms.
      *
@@ -161,12 +268,11 @@ public class Enemy extends MobileEntity {
             return;
         }
 
-        Point startCoords = getCentreCoordinates();
         Dimension bulletSpriteDimensions = bulletSpawner.getBulletSpriteDimensions();
-        startCoords.x -= bulletSpriteDimensions.width / 2;
-        startCoords.y -= bulletSpriteDimensions.height / 2;
+        int startX = getCentreX() - bulletSpriteDimensions.width / 2;
+        int startY = getCentreY() - bulletSpriteDimensions.height / 2;
 
-        Bearing2D bearing = new Bearing2D(startCoords.x, startCoords.y, target.x, target.y);
+        Bearing2D bearing = new Bearing2D(startX, startY, target.x, target.y);
         double radians = Math.toRadians(bearing.getDegrees());
 
         double currentBulletVelocityX = bulletSpawner.getBulletVelocityX();
@@ -178,88 +284,52 @@ public class Enemy extends MobileEntity {
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Checks whether the enemy can perform an attack.
+     * Checks whether the enemy can begin an attack wave.
      *
-     * @return {@code true} if the enemy has a bullet spawner, is not on
-     * cooldown, and has remaining attack time in the current wave.
+     * @return {@code true} if the enemy has a bullet spawner, a non-zero
+     * attack duration, and is not on cooldown.
      */
     public boolean canAttack() {
         return bulletSpawner != null
-                && !isOnAttackCooldown()
-                && elapsedAttackTimeMs < attackTimerMs;
+                && attackTimerMs > 0
+                && !isOnAttackCooldown();
     }
 
     /**
      * Checks if the attack cooldown is active.
      *
-     * @return {@code true} if the attack cooldown has not expired,
+     * @return {@code true} if the enemy is cooling down between attack waves,
      * {@code false} otherwise.
      */
     public boolean isOnAttackCooldown() {
-        return elapsedAttackCooldownMs < attackCooldownMs;
+        return attackState == AttackState.COOLING_DOWN;
     }
 
     /**
-     * Performs an attack if the enemy is allowed to do so. Automatically stops
-     * attacking when the attack timer runs out.
-     */
-    public void attack() {
-        if (!canAttack()) {
-            return;
-        }
-
-        bulletSpawner.start();  // Start firing bullets
-        long attackStartTime = System.currentTimeMillis();
-
-        while (System.currentTimeMillis() - attackStartTime < attackTimerMs) {
-            updateAttackTimer();
-        }
-
-        bulletSpawner.stop();
-        updateAttackCooldownTimer();
-    }
-
-    // ----- OVERRIDDEN METHODS -----
-    /**
-     * Compares this entity to another object for equality.
+     * Advances the enemy's attack cycle by the given amount of simulation
+     * time, starting or stopping its {@link BulletSpawner} as needed.
+     * <p>
+     * Each call moves through at most one state change and never blocks.
      *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
+     * @param deltaMs The simulation time that has passed in milliseconds.
      */
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (!(obj instanceof Enemy)) {
-            return false;
-        }
-        Enemy other = (Enemy) obj;
-        return super.equals(other)
-                && Objects.equals(bulletSpawner, other.getBulletSpawner())
-                && isAttacking() == other.isAttacking()
-                && attackCooldownMs == other.getAttackCooldownMs()
-                && elapsedAttackCooldownMs == other.getElapsedAttackCooldownMs()
-                && lastUpdateTime == other.lastUpdateTime;
+    public void attack(final double deltaMs) {
+        attackState = attackState.advance(this, deltaMs);
     }
 
     /**
-     * Returns a hash code for this entity.
-     *
-     * @return The hash code of the entity.
+     * Fires any bullet volleys that are due this tick.
+     * <p>
+     * Unlike {@link #update()}, this spawns into the shared bullet store, so
+     * it is called separately, on the thread that commits each tick.
      */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                super.hashCode(),
-                bulletSpawner,
-                isAttacking(),
-                attackCooldownMs,
-                elapsedAttackCooldownMs,
-                lastUpdateTime
-        );
+    public void emitBullets() {
+        if (bulletSpawner != null) {
+            bulletSpawner.update();
+        }
     }
 
+    // ----- OVERRIDDEN METHODS -----
     /**
      * Updates the enntity's current position using their current movement speed
      * values.
@@ -279,8 +349,7 @@ public class Enemy extends MobileEntity {
     @Override
     public void update() {
         super.update();
-        lastUpdateTime = System.currentTimeMillis();
-        attack();
+        attack(GameManager.getInstance().getTickDurationMs());
     }
 
     /**
@@ -301,41 +370,51 @@ public class Enemy extends MobileEntity {
      * screen boundary, simulating a wall bounce.
      */
     private void horizontalScreenBounce() {
-        if (position.x <= 0 || position.x >= panel.getWidth() - getSpriteWidth()) {
+        if (position.x <= 0 || position.x >= arena.getWidth() - getSpriteWidth()) {
             velocityX = -velocityX; // Reverse direction
-            position.x = Math.max(Math.min(position.x, 0), GameFrame.FRAME_HEIGHT - getSpriteWidth()); // Keep within bounds
-        }
-    }
-
-    /**
-     * Updates the attack cooldown timer. This tracks how much time has passed
-     * since the last attack.
-     */
-    private void updateAttackCooldownTimer() {
-        long currentTime = System.currentTimeMillis();
-        elapsedAttackCooldownMs += currentTime - lastUpdateTime;
-
-        // Reset if cooldown has passed
-        if (elapsedAttackCooldownMs >= attackCooldownMs) {
-            elapsedAttackCooldownMs = 0;
+            position.x = Math.max(Math.min(position.x, 0), arena.getWidth() - getSpriteWidth()); // Keep within bounds
         }
     }
 
-    /**
-     * Updates the attack timer. This tracks how long the enemy has been
-     * continuously attacking.
-     */
-    private void updateAttackTimer() {
-        long currentTime = System.currentTimeMillis();
-        elapsedAttackTimeMs += currentTime - lastUpdateTime;
-    }
-
     // ----- STATIC BUILDER FOR ENEMY -----
     public static class EnemyBuilder extends MobileEntityBuilder<EnemyBuilder> {
 
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * The duration (in milliseconds) of each attack wave.
+         */
+        protected long attackTimerMs = DEFAULT_ATTACK_TIMER_MS;
+        /**
+         * The cooldown (in milliseconds) between attack waves.
+         */
+        protected long attackCooldownMs = DEFAULT_ATTACK_COOLDOWN_MS;
+
         // ----- CONSTRUCTOR -----
-        public EnemyBuilder(JPanel panel) {
-            super(panel);
+        public EnemyBuilder(ArenaBounds arena) {
+            super(arena);
+        }
+
+        // ---- SETTERS -----
+        /**
+         * Sets the duration of each attack wave.
+         *
+         * @param attackTimerMs The attack duration in milliseconds.
+         * @return The builder instance.
+         */
+        public EnemyBuilder attackTimerMs(final long attackTimerMs) {
+            this.attackTimerMs = attackTimerMs;
+            return this;
+        }
+
+        /**
+         * Sets the cooldown between attack waves.
+         *
+         * @param attackCooldownMs The cooldown in milliseconds.
+         * @return The builder instance.
+         */
+        public EnemyBuilder attackCooldownMs(final long attackCooldownMs) {
+            this.attackCooldownMs = attackCooldownMs;
+            return this;
         }
 
         // ----- BUSINESS LOGIC METHODS -----
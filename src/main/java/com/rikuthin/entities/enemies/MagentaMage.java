@@ -1,12 +1,9 @@
 package com.rikuthin.entities.enemies;
 
-import java.util.HashSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import javax.swing.JPanel;
-
+import com.rikuthin.entities.bullets.BulletPattern;
 import com.rikuthin.entities.bullets.BulletSpawner;
+import com.rikuthin.graphics.animations.AnimationKey;
+import com.rikuthin.interfaces.ArenaBounds;
 
 /**
  * Represents a Magenta Mage enemy in the game.
@@ -16,6 +13,16 @@ import com.rikuthin.entities.bullets.BulletSpawner;
  */
 public class MagentaMage extends Enemy {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The  Magenta Mage's animation.
+     */
+    private static final AnimationKey ANIMATION = new AnimationKey("mage-guardian-magenta");
+    /**
+     * The animation of the  Magenta Mage's bullets.
+     */
+    private static final AnimationKey BULLET_ANIMATION = new AnimationKey("enemy-bullet");
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor used to create a MagentaMage instance.
@@ -35,12 +42,8 @@ public class MagentaMage extends Enemy {
      * initial animation.
      */
     private void setUpMagentaMageAnimations() {
-        HashSet<String> magentaMageAnimationKeys = Stream.of(
-                "mage-guardian-magenta"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        setAnimationKeys(magentaMageAnimationKeys);
-        setAnimation("mage-guardian-magenta");
+        setAnimationIds(ANIMATION.getId());
+        setAnimation(ANIMATION.getId());
         setMaxHitPoints(20);
         setCurrentHitPoints(20);
     }
@@ -50,15 +53,15 @@ public class MagentaMage extends Enemy {
      * initial animation.
      */
     private void setUpMagentaMageBulletSpawner() {
-        HashSet<String> magentaMageBulletAnimationKeys = Stream.of(
-            "enemy-bullet"
-            ).collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(panel, this)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(arena, this)
                 .bulletDamage(1)
                 .bulletVelocityY(-20)
-                .bulletAnimationKeys(magentaMageBulletAnimationKeys)
-                .currentBulletAnimationKey("enemy-bullet")
+                .pattern(BulletPattern.SPIRAL)
+                .volleySize(4)
+                .angularStepDegrees(15)
+                .spawnDelayMs(100)
+                .bulletAnimationIds(BULLET_ANIMATION.getId())
+                .currentBulletAnimationId(BULLET_ANIMATION.getId())
                 .build();
 
         setBulletSpawner(spawner);
@@ -69,8 +72,8 @@ public class MagentaMage extends Enemy {
     public static class MagentaMageBuilder extends EnemyBuilder {
 
         // ----- CONSTRUCTOR -----
-        public MagentaMageBuilder(JPanel panel) {
-            super(panel);
+        public MagentaMageBuilder(ArenaBounds arena) {
+            super(arena);
         }
 
         // ----- OVERRIDDEN METHODS -----
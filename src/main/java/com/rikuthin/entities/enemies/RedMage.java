@@ -1,13 +1,9 @@
 package com.rikuthin.entities.enemies;
 
-import java.util.HashSet;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import javax.swing.JPanel;
-
+import com.rikuthin.entities.bullets.BulletPattern;
 import com.rikuthin.entities.bullets.BulletSpawner;
-import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.animations.AnimationKey;
+import com.rikuthin.interfaces.ArenaBounds;
 
 /**
  * Represents a Red Mage enemy in the game.
@@ -17,6 +13,16 @@ import com.rikuthin.graphics.GameFrame;
  */
 public class RedMage extends Enemy {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The Red Mage's animation.
+     */
+    private static final AnimationKey ANIMATION = new AnimationKey("mage-guardian-red");
+    /**
+     * The animation of the Red Mage's bullets.
+     */
+    private static final AnimationKey BULLET_ANIMATION = new AnimationKey("enemy-bullet");
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor used to create a RedMage instance.
@@ -35,7 +41,7 @@ public class RedMage extends Enemy {
      * y-coordinate with a given amplitude.
      * <p>
      * The final y-coordinate is clamped to stay within the desired range of 1/5
-     * to 3/5 of the screen height.
+     * to 3/5 of the arena height.
      */
     @Override
     public void move() {
@@ -47,15 +53,15 @@ public class RedMage extends Enemy {
         double amplitude = 50;
 
         // Oscillate within the range, using the amplitude to determine the oscillation
-        double oscillatedY = amplitude * GameFrame.FRAME_HEIGHT * normalizedCos;
+        double oscillatedY = amplitude * arena.getHeight() * normalizedCos;
 
-        // Clamp the result to stay within the limits [1/5 * GameFrame.FRAME_HEIGHT, 3/5 * GameFrame.FRAME_HEIGHT]
+        // Clamp the result to stay within the limits [1/5, 3/5] of the arena height
         position.y = (int) Math.max(
                 Math.min(
-                        oscillatedY + (1.0 / 5.0) * GameFrame.FRAME_HEIGHT,
-                        (1.0 / 5.0) * GameFrame.FRAME_HEIGHT
+                        oscillatedY + (1.0 / 5.0) * arena.getHeight(),
+                        (1.0 / 5.0) * arena.getHeight()
                 ),
-                (3.0 / 5.0) * GameFrame.FRAME_HEIGHT
+                (3.0 / 5.0) * arena.getHeight()
         );
     }
 
@@ -65,12 +71,8 @@ public class RedMage extends Enemy {
      * initial animation.
      */
     private void setUpRedMageAnimations() {
-        HashSet<String> redMageAnimationKeys = Stream.of(
-                "mage-guardian-red"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        setAnimationKeys(redMageAnimationKeys);
-        setAnimation("mage-guardian-red");
+        setAnimationIds(ANIMATION.getId());
+        setAnimation(ANIMATION.getId());
         setMaxHitPoints(20);
         setCurrentHitPoints(20);
     }
@@ -80,15 +82,15 @@ public class RedMage extends Enemy {
      * initial animation.
      */
     private void setUpRedMageBulletSpawner() {
-        HashSet<String> redMageBulletAnimationKeys = Stream.of(
-                "enemy-bullet"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(panel, this)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(arena, this)
                 .bulletDamage(1)
                 .bulletVelocityY(-20)
-                .bulletAnimationKeys(redMageBulletAnimationKeys)
-                .currentBulletAnimationKey("enemy-bullet")
+                .pattern(BulletPattern.AIMED)
+                .volleySize(3)
+                .spreadDegrees(20)
+                .spawnDelayMs(300)
+                .bulletAnimationIds(BULLET_ANIMATION.getId())
+                .currentBulletAnimationId(BULLET_ANIMATION.getId())
                 .build();
 
         setBulletSpawner(spawner);
@@ -98,8 +100,8 @@ public class RedMage extends Enemy {
     public static class RedMageBuilder extends EnemyBuilder {
 
         // ----- CONSTRUCTOR -----
-        public RedMageBuilder(JPanel panel) {
-            super(panel);
+        public RedMageBuilder(ArenaBounds arena) {
+            super(arena);
         }
 
         // ----- OVERRIDDEN METHODS -----
@@ -0,0 +1,177 @@
+package com.rikuthin.graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import com.rikuthin.managers.ImageManager;
+
+/**
+ * A static image that is drawn from video memory where possible.
+ * <p>
+ * The image keeps a compatible (managed) copy of its source in system memory
+ * and lazily uploads it into a {@link VolatileImage}. Volatile contents can be
+ * lost at any time (e.g., when the display mode changes or another
+ * application takes over the screen), so every draw validates the volatile
+ * copy first: it is recreated if it no longer suits the destination's
+ * {@link GraphicsConfiguration}, refilled from the source if its surface was
+ * restored, and drawn again if its contents were lost during the draw.
+ * <p>
+ * When running headless (or if a volatile image cannot be created) the
+ * compatible source is drawn instead.
+ */
+public final class AcceleratedImage {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The compatible copy of the image in system memory, used to restore the
+     * volatile copy.
+     */
+    private final BufferedImage source;
+    /**
+     * The copy of the image in video memory (or {@code null} if not yet
+     * created or unavailable).
+     */
+    private VolatileImage volatileImage;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an accelerated image with the given contents.
+     *
+     * @param source The image contents.
+     * @throws IllegalArgumentException If the source is {@code null}.
+     */
+    public AcceleratedImage(final BufferedImage source) {
+        if (source == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Must provide an image.",
+                    this.getClass().getName()
+            ));
+        }
+        this.source = ImageManager.toCompatibleImage(source);
+        this.volatileImage = null;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the compatible copy of the image in system memory.
+     *
+     * @return The source image.
+     */
+    public BufferedImage getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the image width.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return source.getWidth();
+    }
+
+    /**
+     * Returns the image height.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return source.getHeight();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Draws the image at its natural size.
+     *
+     * @param g2d The graphics context to draw on.
+     * @param x The x-coordinate of the image's top-left corner.
+     * @param y The y-coordinate of the image's top-left corner.
+     */
+    public void draw(final Graphics2D g2d, final int x, final int y) {
+        draw(g2d, x, y, getWidth(), getHeight());
+    }
+
+    /**
+     * Draws the image scaled to the given size.
+     *
+     * @param g2d The graphics context to draw on.
+     * @param x The x-coordinate of the image's top-left corner.
+     * @param y The y-coordinate of the image's top-left corner.
+     * @param width The drawn width.
+     * @param height The drawn height.
+     */
+    public void draw(final Graphics2D g2d, final int x, final int y, final int width, final int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            g2d.drawImage(source, x, y, width, height, null);
+            return;
+        }
+
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        do {
+            if (!validate(gc)) {
+                g2d.drawImage(source, x, y, width, height, null);
+                return;
+            }
+            g2d.drawImage(volatileImage, x, y, width, height, null);
+        } while (volatileImage.contentsLost());
+    }
+
+    /**
+     * Releases the video memory held by the image. It is re-uploaded on the
+     * next draw.
+     */
+    public void flush() {
+        if (volatileImage != null) {
+            volatileImage.flush();
+            volatileImage = null;
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Makes sure the volatile copy exists, suits the given configuration and
+     * holds the image contents.
+     *
+     * @return {@code true} if the volatile copy can be drawn, {@code false} if
+     * it is unavailable.
+     */
+    private boolean validate(final GraphicsConfiguration gc) {
+        if (volatileImage != null) {
+            switch (volatileImage.validate(gc)) {
+                case VolatileImage.IMAGE_OK -> {
+                    return true;
+                }
+                case VolatileImage.IMAGE_RESTORED -> {
+                    restore();
+                    return true;
+                }
+                default -> flush();
+            }
+        }
+
+        volatileImage = gc.createCompatibleVolatileImage(getWidth(), getHeight(), source.getTransparency());
+        if (volatileImage == null) {
+            return false;
+        }
+        volatileImage.validate(gc);
+        restore();
+        return true;
+    }
+
+    /**
+     * Copies the source into the volatile copy.
+     */
+    private void restore() {
+        Graphics2D g2d = volatileImage.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.drawImage(source, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.rikuthin.graphics;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import com.rikuthin.interfaces.Renderable;
+
+/**
+ * A heavyweight drawing surface for active rendering.
+ * <p>
+ * Instead of asking Swing to repaint (and waiting for it to do so on its own
+ * schedule), the game loop calls {@link #render(Renderable)} once per frame.
+ * The scene is drawn straight into the back buffer of a {@link BufferStrategy}
+ * and then shown, by page flipping where the platform supports it and by
+ * blitting otherwise. System repaints are ignored: the next frame redraws
+ * whatever is needed anyway.
+ * <p>
+ * While a scene is being rendered, {@link #isBackBufferRetained()} tells it
+ * whether the back buffer still holds the previous frame, in which case the
+ * scene may redraw only what changed (see
+ * {@link com.rikuthin.utility.DirtyRegionTracker}).
+ * <p>
+ * The canvas is not focusable so that key events keep going to the screen
+ * that contains it.
+ */
+public final class GameCanvas extends Canvas {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of buffers in the strategy (front and back).
+     */
+    private static final int BUFFER_COUNT = 2;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * Whether the back buffer being rendered into still holds the previous
+     * frame.
+     */
+    private boolean isBackBufferRetained;
+    /**
+     * Whether the next frame must be rendered in full (e.g., because the
+     * buffer strategy was just created).
+     */
+    private boolean needsFullRedraw;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new canvas. Its buffer strategy is created lazily on the
+     * first {@link #render(Renderable)} after it becomes displayable.
+     */
+    public GameCanvas() {
+        setIgnoreRepaint(true);
+        setFocusable(false);
+        this.isBackBufferRetained = false;
+        this.needsFullRedraw = true;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns whether the back buffer currently being rendered into still
+     * holds the previous frame's contents. Only meaningful during
+     * {@link #render(Renderable)}.
+     * <p>
+     * This is the case when the strategy copies (blits) its back buffer to
+     * the screen, or flips with {@link BufferCapabilities.FlipContents#COPIED},
+     * and the buffer has not been restored or lost since the previous frame.
+     *
+     * @return {@code true} if only changed areas need redrawing,
+     * {@code false} if the whole frame must be redrawn.
+     */
+    public boolean isBackBufferRetained() {
+        return isBackBufferRetained;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Renders one frame of the given scene and shows it. The frame is
+     * rendered again if the buffer's contents are restored or lost part way.
+     * Every graphics context obtained from the strategy is disposed.
+     *
+     * @param scene The scene to render.
+     * @return {@code true} if a frame was shown, {@code false} if the canvas
+     * is not displayable yet.
+     */
+    public boolean render(final Renderable scene) {
+        BufferStrategy strategy = getOrCreateBufferStrategy();
+        if (strategy == null) {
+            return false;
+        }
+
+        boolean isRetained = !needsFullRedraw && retainsContents(strategy);
+        needsFullRedraw = false;
+
+        do {
+            do {
+                isBackBufferRetained = isRetained;
+                Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    scene.safeRender(g2d);
+                } finally {
+                    g2d.dispose();
+                }
+                // Rendering again means the buffer was restored or lost.
+                isRetained = false;
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        // Flush the windowing system's queue so the frame appears now (no-op on most platforms).
+        Toolkit.getDefaultToolkit().sync();
+        isBackBufferRetained = false;
+        return true;
+    }
+
+    /**
+     * Returns whether the current buffer strategy flips pages (rather than
+     * copying the back buffer to the screen).
+     *
+     * @return {@code true} if page flipping, {@code false} otherwise
+     * (including when no strategy has been created yet).
+     */
+    public boolean isPageFlipping() {
+        BufferStrategy strategy = getBufferStrategy();
+        return strategy != null && strategy.getCapabilities().isPageFlipping();
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the canvas' buffer strategy, creating it first if needed. Page
+     * flipping in accelerated memory is requested; if the platform refuses,
+     * the best available strategy is used instead.
+     *
+     * @return The buffer strategy; {@code null} if the canvas is not
+     * displayable or has no area.
+     */
+    private BufferStrategy getOrCreateBufferStrategy() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy != null) {
+            return strategy;
+        }
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return null;
+        }
+
+        try {
+            createBufferStrategy(BUFFER_COUNT, new BufferCapabilities(
+                    new ImageCapabilities(true),
+                    new ImageCapabilities(true),
+                    BufferCapabilities.FlipContents.UNDEFINED
+            ));
+        } catch (AWTException e) {
+            createBufferStrategy(BUFFER_COUNT);
+        }
+        needsFullRedraw = true;
+        return getBufferStrategy();
+    }
+
+    /**
+     * Returns whether a strategy's back buffer keeps its contents after being
+     * shown.
+     */
+    private static boolean retainsContents(final BufferStrategy strategy) {
+        BufferCapabilities capabilities = strategy.getCapabilities();
+        return !capabilities.isPageFlipping()
+                || capabilities.getFlipContents() == BufferCapabilities.FlipContents.COPIED;
+    }
+}
@@ -1,16 +1,17 @@
 package com.rikuthin.graphics;
 
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-
 import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.WindowConstants;
 
 import static com.rikuthin.App.FRAME_RATE_MS;
-import com.rikuthin.graphics.animations.AnimationLoader;
+import com.rikuthin.graphics.screens.LoadingScreen;
 import com.rikuthin.graphics.screens.MainMenuScreen;
 import com.rikuthin.graphics.screens.Screen;
+import com.rikuthin.managers.AssetLoader;
+import com.rikuthin.utility.FrameProfiler;
+import com.rikuthin.utility.FrameProfiler.Phase;
 
 public final class GameFrame extends JFrame {
 
@@ -26,8 +27,6 @@ public final class GameFrame extends JFrame {
 
     // ----- INSTANCE VARIABLES -----
     private final Timer gameLoopTimer;
-    private final transient BufferedImage backBuffer;
-    private transient Graphics2D g2d;
     private Screen currentScreen;
 
     // ----- CONSTRUCTORS -----
@@ -35,43 +34,45 @@ public final class GameFrame extends JFrame {
      * Constructor to initialize the game frame, set the size, title, and add
      * the main menu and gameplay panels. Also initializes the GameManager
      * instance and sets the blaster and bubble panels.
+     * <p>
+     * Assets are loaded in the background behind a {@link LoadingScreen}; the
+     * main menu is shown once they are ready.
      */
     public GameFrame() {
-        AnimationLoader.loadDefaultAnimations();
+        AssetLoader assetLoader = new AssetLoader();
 
         setTitle("<Untitled Danmaku>");
         setSize(FRAME_WIDTH, FRAME_HEIGHT);
         setResizable(false);
         setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
 
-        // Initialize double buffering
-        backBuffer = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
-        g2d = backBuffer.createGraphics();
-
         setLocationRelativeTo(null);
         setVisible(true);
 
-        setScreen(new MainMenuScreen(this));
+        setScreen(new LoadingScreen(this, assetLoader));
+        assetLoader.start().whenComplete((ignored, e) -> {
+            if (e != null) {
+                System.err.println(String.format(
+                        "%s: Failed to load assets: %s",
+                        this.getClass().getName(),
+                        e.getMessage()
+                ));
+            }
+            SwingUtilities.invokeLater(() -> setScreen(new MainMenuScreen(this)));
+        });
 
         gameLoopTimer = new Timer((int) FRAME_RATE_MS, e -> {
+            FrameProfiler profiler = FrameProfiler.getInstance();
+            long start = profiler.start();
             updateGame();
+            start = profiler.record(Phase.UPDATE, start);
             renderGame();
-            currentScreen.repaint();
+            profiler.record(Phase.RENDER, start);
+            profiler.endFrame();
         });
         gameLoopTimer.start();
     }
 
-    /**
-     * Paints the back buffer onto the JFrame.
-     */
-    @Override
-    public void paint(java.awt.Graphics g) {
-        super.paint(g);
-        if (backBuffer != null) {
-            g.drawImage(backBuffer, 0, 0, this);
-        }
-    }
-
     /**
      * Dynamically switches to a new screen, removing the old one to free up
      * memory.
@@ -104,16 +105,14 @@ public final class GameFrame extends JFrame {
     }
 
     /**
-     * Renders the game onto the back buffer.
+     * Renders one frame of the current screen. Actively rendered content is
+     * drawn and shown directly (once); everything else is left to Swing, which
+     * repaints components only when they change.
      */
     private void renderGame() {
-        if (backBuffer == null || currentScreen == null) {
-            return;
+        if (currentScreen != null) {
+            currentScreen.renderFrame();
         }
-
-        g2d = backBuffer.createGraphics();
-        g2d.clearRect(0, 0, FRAME_WIDTH, FRAME_HEIGHT);
-        currentScreen.safeRender(g2d);
     }
 
     /**
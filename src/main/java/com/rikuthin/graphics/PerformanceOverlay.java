@@ -0,0 +1,217 @@
+package com.rikuthin.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import com.rikuthin.interfaces.Renderable;
+import com.rikuthin.utility.FrameProfiler;
+import com.rikuthin.utility.FrameProfiler.Phase;
+
+/**
+ * A toggleable box of frame timings drawn over the game: the p50, p99 and
+ * maximum duration of every {@link FrameProfiler} phase over the last window,
+ * plus live entity counts.
+ * <p>
+ * The overlay occupies a fixed rectangle (see {@link #getX()} etc.), so the
+ * game panel can mark it for redrawing every frame. Its text is only rebuilt
+ * when the profiler's summary or the entity counts change.
+ */
+public final class PerformanceOverlay implements Renderable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The distance (in pixels) of the overlay from the top-left corner.
+     */
+    private static final int MARGIN = 8;
+    /**
+     * The space (in pixels) between the overlay's edge and its text.
+     */
+    private static final int PADDING = 6;
+    /**
+     * The height (in pixels) of each line of text.
+     */
+    private static final int LINE_HEIGHT = 14;
+    /**
+     * The width (in pixels) of the overlay.
+     */
+    private static final int WIDTH = 280;
+    /**
+     * The phases shown, one per line.
+     */
+    private static final Phase[] PHASES = Phase.values();
+    /**
+     * The number of lines of text: a header, one per phase, and the counts.
+     */
+    private static final int LINE_COUNT = PHASES.length + 2;
+    private static final Color BACKGROUND_COLOUR = new Color(0, 0, 0, 160);
+    private static final Color TEXT_COLOUR = Color.WHITE;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The lines of text currently shown.
+     */
+    private final String[] lines;
+    /**
+     * Whether the overlay is drawn.
+     */
+    private boolean isVisible;
+    /**
+     * The profiler summary the text was built from.
+     */
+    private long shownSummaryVersion;
+    /**
+     * The enemy count the text was built from.
+     */
+    private int shownEnemyCount;
+    /**
+     * The bullet count the text was built from.
+     */
+    private int shownBulletCount;
+    /**
+     * The current number of live enemies.
+     */
+    private int enemyCount;
+    /**
+     * The current number of live bullets.
+     */
+    private int bulletCount;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a hidden overlay.
+     */
+    public PerformanceOverlay() {
+        this.lines = new String[LINE_COUNT];
+        this.isVisible = false;
+        this.shownSummaryVersion = -1;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns whether the overlay is drawn.
+     *
+     * @return {@code true} if visible, {@code false} otherwise.
+     */
+    public boolean isVisible() {
+        return isVisible;
+    }
+
+    /**
+     * Returns the x-coordinate of the overlay's left edge.
+     *
+     * @return The x-coordinate.
+     */
+    public int getX() {
+        return MARGIN;
+    }
+
+    /**
+     * Returns the y-coordinate of the overlay's top edge.
+     *
+     * @return The y-coordinate.
+     */
+    public int getY() {
+        return MARGIN;
+    }
+
+    /**
+     * Returns the width of the overlay.
+     *
+     * @return The width in pixels.
+     */
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    /**
+     * Returns the height of the overlay.
+     *
+     * @return The height in pixels.
+     */
+    public int getHeight() {
+        return LINE_COUNT * LINE_HEIGHT + 2 * PADDING;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets whether the overlay is drawn.
+     *
+     * @param isVisible {@code true} to show the overlay, {@code false} to
+     * hide it.
+     */
+    public void setVisible(final boolean isVisible) {
+        this.isVisible = isVisible;
+    }
+
+    /**
+     * Sets the live entity counts shown.
+     *
+     * @param enemyCount The number of live enemies.
+     * @param bulletCount The number of live bullets.
+     */
+    public void setEntityCounts(final int enemyCount, final int bulletCount) {
+        this.enemyCount = enemyCount;
+        this.bulletCount = bulletCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Shows the overlay if hidden, or hides it if shown.
+     */
+    public void toggle() {
+        isVisible = !isVisible;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Draws the overlay, if visible.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        if (!isVisible) {
+            return;
+        }
+        refreshLines();
+
+        g2d.setColor(BACKGROUND_COLOUR);
+        g2d.fillRect(getX(), getY(), getWidth(), getHeight());
+
+        g2d.setFont(UIConstants.DEBUG_FONT);
+        g2d.setColor(TEXT_COLOUR);
+        int baseline = getY() + PADDING + LINE_HEIGHT - 3;
+        for (String line : lines) {
+            g2d.drawString(line, getX() + PADDING, baseline);
+            baseline += LINE_HEIGHT;
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Rebuilds the text if the profiler summary or entity counts changed.
+     */
+    private void refreshLines() {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long summaryVersion = profiler.getSummaryVersion();
+        if (summaryVersion == shownSummaryVersion && enemyCount == shownEnemyCount && bulletCount == shownBulletCount) {
+            return;
+        }
+
+        lines[0] = String.format("%-10s %8s %8s %8s", "(us)", "p50", "p99", "max");
+        for (int i = 0; i < PHASES.length; i++) {
+            Phase phase = PHASES[i];
+            lines[i + 1] = String.format("%-10s %8.1f %8.1f %8.1f",
+                    phase.getLabel(),
+                    profiler.getP50Nanos(phase) / 1000.0,
+                    profiler.getP99Nanos(phase) / 1000.0,
+                    profiler.getMaxNanos(phase) / 1000.0
+            );
+        }
+        lines[LINE_COUNT - 1] = String.format("Enemies: %d  Bullets: %d", enemyCount, bulletCount);
+
+        shownSummaryVersion = summaryVersion;
+        shownEnemyCount = enemyCount;
+        shownBulletCount = bulletCount;
+    }
+}
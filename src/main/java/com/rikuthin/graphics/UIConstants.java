@@ -13,4 +13,5 @@ public class UIConstants {
     public static final Font TITLE_FONT = new Font("Garamond", Font.BOLD, 48);
     public static final Font BODY_FONT = new Font("Garamond", Font.PLAIN, 20);
     public static final Font BUTTON_FONT = new Font("Garamond", Font.BOLD, 20);
+    public static final Font DEBUG_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
 }
@@ -0,0 +1,68 @@
+package com.rikuthin.graphics.animations;
+
+/**
+ * The single clock every animation is timed against.
+ * <p>
+ * The clock only moves when the simulation ticks (see
+ * {@link com.rikuthin.managers.GameManager#update()}), so animations pause with
+ * the game, run at the same speed headless or on screen, and never read the
+ * system clock themselves. Animations store only the clock time at which they
+ * started; their current frame is resolved from the elapsed time on demand.
+ */
+public final class AnimationClock {
+
+    // ----- STATIC VARIABLES -----
+    private static final AnimationClock INSTANCE = new AnimationClock();
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The simulation time (in milliseconds) since the clock was last reset.
+     */
+    private double timeMs;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private AnimationClock() {
+        timeMs = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Retrieves the singleton instance of the {@link AnimationClock}.
+     *
+     * @return The {@link AnimationClock} instance.
+     */
+    public static AnimationClock getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the current animation time in whole milliseconds.
+     *
+     * @return The time since the clock was last reset.
+     */
+    public long getTimeMs() {
+        return (long) timeMs;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Moves the clock forward. Called once per simulation tick.
+     *
+     * @param deltaMs The simulation time that has passed in milliseconds.
+     */
+    public void advance(final double deltaMs) {
+        if (deltaMs > 0) {
+            timeMs += deltaMs;
+        }
+    }
+
+    /**
+     * Resets the clock to zero (e.g., when a new game starts).
+     */
+    public void reset() {
+        timeMs = 0;
+    }
+}
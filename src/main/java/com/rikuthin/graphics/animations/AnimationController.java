@@ -0,0 +1,380 @@
+package com.rikuthin.graphics.animations;
+
+import com.rikuthin.managers.AnimationManager;
+
+/**
+ * A small state machine choosing which animation an entity plays.
+ * <p>
+ * Each state is an animation ID from {@link AnimationManager}. Requests to
+ * switch state are ignored if they would not change anything, or (once any
+ * transitions have been {@linkplain #addTransition(int, int) declared}) if the
+ * transition was not declared. States marked as
+ * {@linkplain #addOneShot(int) one-shots} (e.g., a death animation) play
+ * through once and then return to the {@linkplain #setDefaultState(int)
+ * default state}, or to whichever state was requested while they played.
+ * One-shots requested while another is playing are queued.
+ * <p>
+ * A single {@link AnimationInstance} is reused for every state, so switching
+ * animations allocates nothing. States and transitions are declared once when
+ * the entity is set up; only the lookups happen per tick. Not thread-safe:
+ * only the thread running the simulation should use it.
+ */
+public class AnimationController {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The most one-shots that can be queued behind the one playing.
+     */
+    public static final int MAX_QUEUED_ONE_SHOTS = 4;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The instance playing the current state's animation (created on first
+     * use, then reused).
+     */
+    private AnimationInstance instance;
+    /**
+     * The current state ({@link AnimationManager#NO_ANIMATION} for none).
+     */
+    private int currentStateId;
+    /**
+     * The state one-shots return to when nothing else was requested.
+     */
+    private int defaultStateId;
+    /**
+     * The state to enter once the playing one-shot (and any queued behind it)
+     * has finished.
+     */
+    private int returnStateId;
+    /**
+     * Whether the current state is a one-shot that is still playing.
+     */
+    private boolean isPlayingOneShot;
+    /**
+     * The declared transitions as a bit matrix, with bit
+     * {@code from * stateCount + to} set if the transition is allowed
+     * ({@code null} while none are declared, allowing every transition).
+     */
+    private long[] transitions;
+    /**
+     * The one-shot states, as a bitset indexed by animation ID.
+     */
+    private long[] oneShots;
+    /**
+     * The number of animation IDs the bitsets cover.
+     */
+    private int stateCount;
+    /**
+     * The queued one-shots (a ring buffer).
+     */
+    private final int[] queuedOneShots;
+    /**
+     * The index of the next queued one-shot.
+     */
+    private int queueHead;
+    /**
+     * The number of queued one-shots.
+     */
+    private int queueSize;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a controller with no state, no declared transitions and no
+     * one-shots.
+     */
+    public AnimationController() {
+        this.instance = null;
+        this.currentStateId = AnimationManager.NO_ANIMATION;
+        this.defaultStateId = AnimationManager.NO_ANIMATION;
+        this.returnStateId = AnimationManager.NO_ANIMATION;
+        this.isPlayingOneShot = false;
+        this.transitions = null;
+        this.oneShots = new long[0];
+        this.stateCount = 0;
+        this.queuedOneShots = new int[MAX_QUEUED_ONE_SHOTS];
+        this.queueHead = 0;
+        this.queueSize = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the current state.
+     *
+     * @return The current animation ID, or
+     * {@link AnimationManager#NO_ANIMATION} if there is none.
+     */
+    public int getCurrentStateId() {
+        return currentStateId;
+    }
+
+    /**
+     * Returns the state one-shots return to when nothing else was requested.
+     *
+     * @return The default animation ID, or
+     * {@link AnimationManager#NO_ANIMATION} if there is none.
+     */
+    public int getDefaultStateId() {
+        return defaultStateId;
+    }
+
+    /**
+     * Returns the animation playing for the current state.
+     *
+     * @return The current {@link AnimationInstance}, or {@code null} if there
+     * is no current state.
+     */
+    public AnimationInstance getCurrentAnimation() {
+        return currentStateId == AnimationManager.NO_ANIMATION ? null : instance;
+    }
+
+    /**
+     * Returns whether a one-shot is still playing.
+     *
+     * @return {@code true} if playing a one-shot, {@code false} otherwise.
+     */
+    public boolean isPlayingOneShot() {
+        return isPlayingOneShot;
+    }
+
+    /**
+     * Returns the number of one-shots queued behind the one playing.
+     *
+     * @return The queued one-shot count.
+     */
+    public int getQueuedOneShotCount() {
+        return queueSize;
+    }
+
+    /**
+     * Returns whether a state is a one-shot.
+     *
+     * @param id The animation ID.
+     * @return {@code true} if it plays once and returns, {@code false}
+     * otherwise.
+     */
+    public boolean isOneShot(final int id) {
+        return id >= 0 && id < stateCount && (oneShots[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns whether a transition is allowed. Every transition is allowed
+     * until the first one is declared.
+     *
+     * @param fromId The animation ID of the state being left.
+     * @param toId The animation ID of the state being entered.
+     * @return {@code true} if allowed, {@code false} otherwise.
+     */
+    public boolean canTransition(final int fromId, final int toId) {
+        if (transitions == null || fromId == AnimationManager.NO_ANIMATION) {
+            return true;
+        }
+        if (fromId < 0 || fromId >= stateCount || toId < 0 || toId >= stateCount) {
+            return false;
+        }
+        int bit = fromId * stateCount + toId;
+        return (transitions[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the state one-shots return to when nothing else was requested.
+     *
+     * @param id The animation ID, or {@link AnimationManager#NO_ANIMATION}
+     * for none.
+     */
+    public void setDefaultState(final int id) {
+        this.defaultStateId = id;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Declares a transition. Once any transition is declared, only declared
+     * transitions are allowed.
+     *
+     * @param fromId The animation ID of the state being left.
+     * @param toId The animation ID of the state being entered.
+     * @throws IllegalArgumentException if either ID does not exist in
+     * {@link AnimationManager}.
+     */
+    public void addTransition(final int fromId, final int toId) throws IllegalArgumentException {
+        requireState(fromId);
+        requireState(toId);
+        ensureCapacity();
+        if (transitions == null) {
+            transitions = new long[(stateCount * stateCount + 63) >>> 6];
+        }
+        int bit = fromId * stateCount + toId;
+        transitions[bit >>> 6] |= 1L << bit;
+    }
+
+    /**
+     * Marks a state as a one-shot, which plays through once and then returns.
+     * Its animation should not loop.
+     *
+     * @param id The animation ID.
+     * @throws IllegalArgumentException if the ID does not exist in
+     * {@link AnimationManager}.
+     */
+    public void addOneShot(final int id) throws IllegalArgumentException {
+        requireState(id);
+        ensureCapacity();
+        oneShots[id >>> 6] |= 1L << id;
+    }
+
+    /**
+     * Asks to switch to another state.
+     * <p>
+     * Requests for the current state, or for undeclared transitions, are
+     * ignored. While a one-shot plays, requests for other states only change
+     * the state returned to afterwards, and requests for one-shots are queued
+     * (or dropped if the queue is full).
+     *
+     * @param id The animation ID of the requested state.
+     * @return {@code true} if the request changed anything, {@code false} if
+     * it was ignored.
+     */
+    public boolean request(final int id) {
+        if (isPlayingOneShot) {
+            if (isOneShot(id)) {
+                return enqueueOneShot(id);
+            }
+            boolean isChanged = id != returnStateId;
+            returnStateId = id;
+            return isChanged;
+        }
+
+        if (id == currentStateId || !canTransition(currentStateId, id)) {
+            return false;
+        }
+
+        if (isOneShot(id)) {
+            returnStateId = defaultStateId != AnimationManager.NO_ANIMATION ? defaultStateId : currentStateId;
+            isPlayingOneShot = true;
+        }
+        enter(id);
+        return true;
+    }
+
+    /**
+     * Switches to a state at once, skipping the transition checks and
+     * clearing any one-shots. Switching to the current state does nothing
+     * (the animation keeps playing).
+     *
+     * @param id The animation ID, or {@link AnimationManager#NO_ANIMATION}
+     * for none.
+     */
+    public void set(final int id) {
+        isPlayingOneShot = false;
+        queueSize = 0;
+        if (id != currentStateId) {
+            enter(id);
+        }
+    }
+
+    /**
+     * Restarts the current state's animation from its first frame.
+     */
+    public void restart() {
+        if (getCurrentAnimation() != null) {
+            instance.init();
+            instance.start();
+        }
+    }
+
+    /**
+     * Leaves a one-shot once it has finished, for the next queued one-shot or
+     * the state to return to. Call once per tick.
+     */
+    public void update() {
+        if (!isPlayingOneShot || instance == null || !instance.isFinished()) {
+            return;
+        }
+
+        if (queueSize > 0) {
+            int next = queuedOneShots[queueHead];
+            queueHead = (queueHead + 1) % queuedOneShots.length;
+            queueSize--;
+            enter(next);
+            return;
+        }
+
+        isPlayingOneShot = false;
+        enter(returnStateId);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Plays a state's animation from the start, reusing the instance.
+     */
+    private void enter(final int id) {
+        currentStateId = id;
+        if (id == AnimationManager.NO_ANIMATION) {
+            return;
+        }
+
+        AnimationTemplate template = AnimationManager.getInstance().getAnimation(id);
+        if (instance == null) {
+            instance = new AnimationInstance(template);
+        } else {
+            instance.setTemplate(template);
+        }
+        instance.start();
+    }
+
+    /**
+     * Queues a one-shot behind the one playing.
+     */
+    private boolean enqueueOneShot(final int id) {
+        if (queueSize == queuedOneShots.length) {
+            return false;
+        }
+        queuedOneShots[(queueHead + queueSize) % queuedOneShots.length] = id;
+        queueSize++;
+        return true;
+    }
+
+    /**
+     * Checks that an ID belongs to a registered animation.
+     */
+    private void requireState(final int id) throws IllegalArgumentException {
+        if (AnimationManager.getInstance().getAnimation(id) == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Animation ID <%d> does not exist within AnimationManager.",
+                    this.getClass().getName(),
+                    id
+            ));
+        }
+    }
+
+    /**
+     * Grows the bitsets to cover every registered animation, keeping any
+     * declared transitions and one-shots.
+     */
+    private void ensureCapacity() {
+        int newStateCount = AnimationManager.getInstance().getAnimationCount();
+        if (newStateCount <= stateCount) {
+            return;
+        }
+
+        long[] newOneShots = new long[(newStateCount + 63) >>> 6];
+        System.arraycopy(oneShots, 0, newOneShots, 0, oneShots.length);
+
+        long[] newTransitions = null;
+        if (transitions != null) {
+            newTransitions = new long[(newStateCount * newStateCount + 63) >>> 6];
+            for (int from = 0; from < stateCount; from++) {
+                for (int to = 0; to < stateCount; to++) {
+                    int bit = from * stateCount + to;
+                    if ((transitions[bit >>> 6] & (1L << bit)) != 0) {
+                        int newBit = from * newStateCount + to;
+                        newTransitions[newBit >>> 6] |= 1L << newBit;
+                    }
+                }
+            }
+        }
+
+        oneShots = newOneShots;
+        transitions = newTransitions;
+        stateCount = newStateCount;
+    }
+}
@@ -1,23 +1,50 @@
 package com.rikuthin.graphics.animations;
 
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import com.rikuthin.managers.ImageManager;
 
 /**
- * Represents a single frame in the animation
+ * Represents a single frame in the animation.
+ * <p>
+ * A frame is a rectangular region of a (usually shared) image: normally a page
+ * of a {@link TextureAtlas}, so that every frame on the page is drawn from the
+ * same surface. Frames should be drawn with
+ * {@link #draw(Graphics2D, int, int)} rather than via {@link #getImage()}.
  */
 public class AnimationFrame {
 
     // ----- INSTANCE VARIABLES -----
     /**
-     * The image displayed by the frame.
+     * The image (e.g., atlas page) that contains the frame.
      */
-    final BufferedImage image;
+    final BufferedImage atlas;
+    /**
+     * The x-coordinate of the frame within {@link #atlas}.
+     */
+    final int atlasX;
+    /**
+     * The y-coordinate of the frame within {@link #atlas}.
+     */
+    final int atlasY;
+    /**
+     * The width of the frame in pixels.
+     */
+    final int width;
+    /**
+     * The height of the frame in pixels.
+     */
+    final int height;
     /**
      * How many milliseconds to display the frame for.
      */
     final long displayDurationMs;
+    /**
+     * A lazily created stand-alone view of the frame, for callers that need
+     * a {@link BufferedImage}.
+     */
+    private BufferedImage image;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -28,7 +55,22 @@ public class AnimationFrame {
      * @param displayDurationMs How many milliseconds to display the frame for.
      */
     public AnimationFrame(final BufferedImage image, final long displayDurationMs) {
-        if (image == null) {
+        this(image, 0, 0, image != null ? image.getWidth() : 0, image != null ? image.getHeight() : 0, displayDurationMs);
+    }
+
+    /**
+     * Constructs a new animation frame from a region of a pre-loaded
+     * {@link BufferedImage} (e.g., a {@link TextureAtlas} page).
+     *
+     * @param atlas The image that contains the frame.
+     * @param atlasX The x-coordinate of the frame within the image.
+     * @param atlasY The y-coordinate of the frame within the image.
+     * @param width The width of the frame.
+     * @param height The height of the frame.
+     * @param displayDurationMs How many milliseconds to display the frame for.
+     */
+    public AnimationFrame(final BufferedImage atlas, final int atlasX, final int atlasY, final int width, final int height, final long displayDurationMs) {
+        if (atlas == null) {
             throw new IllegalArgumentException(String.format(
                     "%s: Must provide an image.",
                     this.getClass().getName()
@@ -42,7 +84,19 @@ public class AnimationFrame {
             ));
         }
 
-        this.image = image;
+        if (width <= 0 || height <= 0 || atlasX < 0 || atlasY < 0
+                || atlasX + width > atlas.getWidth() || atlasY + height > atlas.getHeight()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Frame must be a non-empty region within its image.",
+                    this.getClass().getName()
+            ));
+        }
+
+        this.atlas = atlas;
+        this.atlasX = atlasX;
+        this.atlasY = atlasY;
+        this.width = width;
+        this.height = height;
         this.displayDurationMs = displayDurationMs;
     }
 
@@ -53,31 +107,69 @@ public class AnimationFrame {
      * @param displayDurationMs How many milliseconds to display the frame for.
      */
     public AnimationFrame(final String imageFilepath, final long displayDurationMs) {
-        if (imageFilepath == null || imageFilepath.isEmpty()) {
-            throw new IllegalArgumentException(String.format(
-                    "%s: Must provide a filepath.",
-                    this.getClass().getName()
-            ));
-        }
+        this(loadImage(imageFilepath), displayDurationMs);
+    }
 
-        if (displayDurationMs <= 0) {
-            throw new IllegalArgumentException(String.format(
-                    "%s: Must provide a positive duration.",
-                    this.getClass().getName()
-            ));
-        }
+    // ----- GETTERS -----
+    /**
+     * Returns the image (e.g., atlas page) that contains the frame.
+     *
+     * @return The containing image.
+     */
+    public BufferedImage getAtlas() {
+        return atlas;
+    }
 
-        this.image = ImageManager.loadBufferedImage(imageFilepath);
-        this.displayDurationMs = displayDurationMs;
+    /**
+     * Returns the x-coordinate of the frame within its containing image.
+     *
+     * @return The x-coordinate.
+     */
+    public int getAtlasX() {
+        return atlasX;
     }
 
-    // ----- GETTERS -----
     /**
-     * Returns the image displayed by the frame.
-     * 
+     * Returns the y-coordinate of the frame within its containing image.
+     *
+     * @return The y-coordinate.
+     */
+    public int getAtlasY() {
+        return atlasY;
+    }
+
+    /**
+     * Returns the width of the frame in pixels.
+     *
+     * @return The frame width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the frame in pixels.
+     *
+     * @return The frame height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the image displayed by the frame. For atlas frames this is a
+     * (cached) sub-image view that shares the atlas' pixels; drawing it
+     * defeats the purpose of the atlas, so use
+     * {@link #draw(Graphics2D, int, int)} for rendering.
+     *
      * @return The frame image.
      */
     public BufferedImage getImage() {
+        if (image == null) {
+            image = (atlasX == 0 && atlasY == 0 && width == atlas.getWidth() && height == atlas.getHeight())
+                    ? atlas
+                    : atlas.getSubimage(atlasX, atlasY, width, height);
+        }
         return image;
     }
 
@@ -89,4 +181,45 @@ public class AnimationFrame {
     public long getDisplayDurationMs() {
         return displayDurationMs;
     }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Draws the frame at its natural size, straight from its containing
+     * image.
+     *
+     * @param g2d The graphics context to draw on.
+     * @param x The x-coordinate of the frame's top-left corner.
+     * @param y The y-coordinate of the frame's top-left corner.
+     */
+    public void draw(final Graphics2D g2d, final int x, final int y) {
+        draw(g2d, x, y, width, height);
+    }
+
+    /**
+     * Draws the frame scaled to the given size, straight from its containing
+     * image.
+     *
+     * @param g2d The graphics context to draw on.
+     * @param x The x-coordinate of the frame's top-left corner.
+     * @param y The y-coordinate of the frame's top-left corner.
+     * @param drawWidth The drawn width.
+     * @param drawHeight The drawn height.
+     */
+    public void draw(final Graphics2D g2d, final int x, final int y, final int drawWidth, final int drawHeight) {
+        g2d.drawImage(atlas,
+                x, y, x + drawWidth, y + drawHeight,
+                atlasX, atlasY, atlasX + width, atlasY + height,
+                null);
+    }
+
+    // ----- HELPER METHODS -----
+    private static BufferedImage loadImage(final String imageFilepath) {
+        if (imageFilepath == null || imageFilepath.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Must provide a filepath.",
+                    AnimationFrame.class.getName()
+            ));
+        }
+        return ImageManager.loadBufferedImage(imageFilepath);
+    }
 }
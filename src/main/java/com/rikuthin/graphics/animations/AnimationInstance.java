@@ -1,15 +1,19 @@
 package com.rikuthin.graphics.animations;
 
 import java.awt.image.BufferedImage;
-import java.util.Objects;
-
-import com.rikuthin.interfaces.Updateable;
 
 /**
- * Represents an individual animation instance for an entity. Each instance has
- * its own playback state while sharing the same {@link AnimationTemplate}.
+ * Represents an individual animation instance for an entity. Each instance
+ * shares its {@link AnimationTemplate} (frames and timing) with every other
+ * instance of the same animation.
+ * <p>
+ * Instances are not updated per tick. They only remember the
+ * {@link AnimationClock} time at which they started playing, and resolve the
+ * current frame from the elapsed time when asked, in O(1). Instances of the
+ * same template that started at the same time therefore always show the same
+ * frame.
  */
-public class AnimationInstance implements Updateable {
+public class AnimationInstance {
 
     // ----- INSTANCE VARIABLES -----
     /**
@@ -17,18 +21,15 @@ public class AnimationInstance implements Updateable {
      */
     private AnimationTemplate template;
     /**
-     * Index of the current frame being displayed.
+     * The {@link AnimationClock} time (in milliseconds) at which playback
+     * (last) started, adjusted so that time spent stopped is not counted.
      */
-    private int currentFrameIndex;
+    private long startTimeMs;
     /**
-     * Time elapsed since the current frame was first displayed (in
+     * How long the animation had been playing when it was last stopped (in
      * milliseconds).
      */
-    private long elapsedFrameTime;
-    /**
-     * Last recorded update time (in milliseconds).
-     */
-    private long lastUpdateTime;
+    private long stoppedElapsedMs;
     /**
      * Indicates if the animation is currently playing. Defaults to
      * {@code false}.
@@ -48,12 +49,23 @@ public class AnimationInstance implements Updateable {
 
     // ----- GETTERS -----
     /**
-     * Retrieves the current frame image for rendering.
+     * Retrieves the current frame for rendering.
+     *
+     * @return The current {@link AnimationFrame}.
+     */
+    public AnimationFrame getCurrentFrame() {
+        return template.getFrameAt(getElapsedMs());
+    }
+
+    /**
+     * Retrieves the current frame image. Prefer {@link #getCurrentFrame()}
+     * and {@link AnimationFrame#draw(java.awt.Graphics2D, int, int)} for
+     * rendering.
      *
      * @return The current animation frame as a {@link BufferedImage}.
      */
     public BufferedImage getCurrentFrameImage() {
-        return template.getFrames().get(currentFrameIndex).getImage();
+        return template.getFrameAt(getElapsedMs()).getImage();
     }
 
     /**
@@ -71,27 +83,41 @@ public class AnimationInstance implements Updateable {
      * @return the current frame's index.
      */
     public int getCurrentFrameIndex() {
-        return currentFrameIndex;
+        return template.getFrameIndexAt(getElapsedMs());
     }
 
     /**
-     * Retrieves the time elapsed since the current frame was first displayed.
+     * Retrieves how long (in milliseconds of animation time) the animation has
+     * been playing, excluding any time spent stopped.
      *
-     * @return The elapsed display time of the current frame.
+     * @return The elapsed playback time.
      */
-    public long getElapsedFrameTime() {
-        return elapsedFrameTime;
+    public long getElapsedMs() {
+        if (!isPlaying) {
+            return stoppedElapsedMs;
+        }
+        return AnimationClock.getInstance().getTimeMs() - startTimeMs;
     }
 
     /**
-     * Retrieves the last recorded time the update() method was called (in milliseconds).
+     * Returns whether the animation is currently playing.
      *
-     * @return The last recorded update time.
+     * @return {@code true} if playing, {@code false} otherwise.
      */
-    public boolean getLastUpdateTime() {
+    public boolean isPlaying() {
         return isPlaying;
     }
 
+    /**
+     * Returns whether a non-looping animation has reached its end. Looping
+     * animations never finish.
+     *
+     * @return {@code true} if finished, {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return template.isFinishedAt(getElapsedMs());
+    }
+
     // ----- SETTERS -----
     /**
      * Sets a new {@AnimationTemplate} and initializes the animation.
@@ -108,87 +134,30 @@ public class AnimationInstance implements Updateable {
      * Initialises values in preparation for animation playback from the beginning.
      */
     public final void init() {
-        currentFrameIndex = 0;
-        elapsedFrameTime = 0;
-        lastUpdateTime = System.currentTimeMillis();
+        startTimeMs = AnimationClock.getInstance().getTimeMs();
+        stoppedElapsedMs = 0;
         isPlaying = false;
     }
     
     /**
-     * Starts the animation playback.
+     * Starts (or resumes) the animation playback.
      */
     public void start() {
+        if (isPlaying) {
+            return;
+        }
+        startTimeMs = AnimationClock.getInstance().getTimeMs() - stoppedElapsedMs;
         isPlaying = true;
     }
 
     /**
-     * Stops the animation playback.
+     * Stops the animation playback, holding the current frame.
      */
     public void stop() {
-        isPlaying = false;
-    }
-
-    // ----- OVERRIDDEN METHODS -----
-    /**
-     * Updates the animation frame based on elapsed time. Should be called in
-     * the game loop.
-     */
-    @Override
-    public void update() {
-        if (!isPlaying || template.getFrames().isEmpty()) {
+        if (!isPlaying) {
             return;
         }
-
-        long currentTime = System.currentTimeMillis();
-        elapsedFrameTime += currentTime - lastUpdateTime;
-        lastUpdateTime = currentTime;
-
-        if (elapsedFrameTime >= template.getFrames().get(currentFrameIndex).getDisplayDurationMs()) {
-            elapsedFrameTime = 0;
-            nextFrame();
-        }
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-
-        if (obj == null || getClass() != obj.getClass()) {
-            return false;
-        }
-
-        AnimationInstance that = (AnimationInstance) obj;
-        return Objects.equals(template, that.getTemplate())
-                && currentFrameIndex == that.getCurrentFrameIndex()
-                && elapsedFrameTime == that.getElapsedFrameTime()
-                && isPlaying == that.getLastUpdateTime();
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                template,
-                currentFrameIndex,
-                elapsedFrameTime,
-                isPlaying
-        );
-    }
-
-    // ----- HELPER METHODS -----
-    /**
-     * Advances to the next animation frame.
-     */
-    private void nextFrame() {
-        if (currentFrameIndex >= template.getFrames().size() - 1) {
-            if (template.isLooping()) {
-                currentFrameIndex = 0;
-            } else {
-                stop();
-            }
-        } else {
-            currentFrameIndex++;
-        }
+        stoppedElapsedMs = getElapsedMs();
+        isPlaying = false;
     }
 }
@@ -0,0 +1,75 @@
+package com.rikuthin.graphics.animations;
+
+import com.rikuthin.managers.AnimationManager;
+
+/**
+ * A named animation whose {@link AnimationManager} ID is resolved on first
+ * use and cached.
+ * <p>
+ * Meant to be held in constants, so code that switches animations often
+ * (e.g., on every input change or enemy spawn) only pays for the string lookup
+ * once. This works because IDs never change once given.
+ */
+public final class AnimationKey {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The animation's key in {@link AnimationManager}.
+     */
+    private final String name;
+    /**
+     * The cached ID ({@link AnimationManager#NO_ANIMATION} until resolved).
+     * Racing threads resolve the same value, so it needs no synchronisation.
+     */
+    private int id;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a handle for the animation with the given key. The key is not
+     * resolved (or checked) until {@link #getId()} is first called.
+     *
+     * @param name The animation's key in {@link AnimationManager}.
+     */
+    public AnimationKey(final String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Keys cannot be null nor empty.",
+                    this.getClass().getName()
+            ));
+        }
+        this.name = name;
+        this.id = AnimationManager.NO_ANIMATION;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the animation's key in {@link AnimationManager}.
+     *
+     * @return The key.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the animation's ID, resolving it the first time.
+     *
+     * @return The animation's ID.
+     * @throws IllegalArgumentException if the animation is not (yet)
+     * registered with {@link AnimationManager}.
+     */
+    public int getId() throws IllegalArgumentException {
+        int resolvedId = id;
+        if (resolvedId == AnimationManager.NO_ANIMATION) {
+            resolvedId = AnimationManager.getInstance().requireAnimationId(name);
+            id = resolvedId;
+        }
+        return resolvedId;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public String toString() {
+        return name;
+    }
+}
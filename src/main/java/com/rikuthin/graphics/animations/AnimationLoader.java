@@ -1,10 +1,11 @@
 package com.rikuthin.graphics.animations;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.rikuthin.App;
 import com.rikuthin.managers.AnimationManager;
@@ -20,6 +21,23 @@ public class AnimationLoader {
      * Directory where animations are stored
      */
     private static final String ANIMATION_FOLDER = "/images/animations/";
+    /**
+     * The sprite sheets loaded by {@link #loadDefaultAnimations()}.
+     * <p>
+     * Hard-coding this for now. Might try to make it more dynamic later.
+     */
+    private static final AnimationMetadata[] DEFAULT_ANIMATIONS = {
+        new AnimationMetadata("enemy-bullet.png", 1, 8, App.FRAME_RATE_MS * 4, true),
+        new AnimationMetadata("mage-guardian-blue.png", 1, 14, App.FRAME_RATE_MS * 2, true),
+        new AnimationMetadata("mage-guardian-magenta.png", 1, 14, App.FRAME_RATE_MS * 2, true),
+        new AnimationMetadata("mage-guardian-red.png", 1, 14, App.FRAME_RATE_MS * 2, true),
+        new AnimationMetadata("player-bullet.png", 1, 8, App.FRAME_RATE_MS  * 4, true),
+        new AnimationMetadata("player-death.png", 1, 8, App.FRAME_RATE_MS * 4, false),
+        new AnimationMetadata("player-idle.png", 1, 8, App.FRAME_RATE_MS * 4, true),
+        new AnimationMetadata("player-walk-up-left.png", 1, 8, App.FRAME_RATE_MS * 4, true),
+        new AnimationMetadata("player-walk-up-right.png", 1, 8, App.FRAME_RATE_MS * 4, true),
+        new AnimationMetadata("player-walk-up.png", 1, 8, App.FRAME_RATE_MS * 4, true)
+    };
 
     // ----- CONSTRUCTORS -----
     /**
@@ -30,7 +48,9 @@ public class AnimationLoader {
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Loads an animation from a sprite strip file.
+     * Loads an animation from a sprite strip file. The frames are packed into
+     * their own {@link TextureAtlas}; use {@link #loadDefaultAnimations()} to
+     * share one atlas between many sprite sheets.
      * <p>
      * Valid sprite sheets expect each frame to be the same size and have no
      * space in-between them or along the sheet's margins.
@@ -44,99 +64,205 @@ public class AnimationLoader {
      * @throws IOException If the image file cannot be loaded.
      */
     public static List<AnimationFrame> loadFromSpriteSheet(final String filePath, long frameDurationMs, int numRows, int numColumns) throws IllegalArgumentException, IOException {
-        if (filePath == null || filePath.isEmpty()) {
-            throw new IllegalArgumentException("AnimationLoader: Must provide a valid file path for the sprite sheet.");
+        TextureAtlas atlas = new TextureAtlas();
+        int[] regions = addSpriteSheet(atlas, decodeSpriteSheet(filePath), numRows, numColumns);
+        atlas.pack();
+        return createFrames(atlas, regions, frameDurationMs);
+    }
+
+    /**
+     * Returns the number of sprite sheets loaded by
+     * {@link #loadDefaultAnimations()}.
+     *
+     * @return The sprite sheet count.
+     */
+    public static int getDefaultAnimationCount() {
+        return DEFAULT_ANIMATIONS.length;
+    }
+
+    /**
+     * Returns the resource path of every sprite sheet loaded by
+     * {@link #loadDefaultAnimations()}.
+     *
+     * @return The sprite sheet paths.
+     */
+    public static List<String> getDefaultSpriteSheetPaths() {
+        ArrayList<String> paths = new ArrayList<>(DEFAULT_ANIMATIONS.length);
+        for (AnimationMetadata md : DEFAULT_ANIMATIONS) {
+            paths.add(ANIMATION_FOLDER + md.fileName);
         }
-        
-        frameDurationMs = Math.max(frameDurationMs, 1);        
-        numRows = Math.max(numRows, 1);
-        numColumns = Math.max(numColumns, 1);
+        return paths;
+    }
 
-        BufferedImage spriteSheet = ImageManager.loadBufferedImage(filePath);
-        if (spriteSheet == null) {
-            throw new IOException("AnimationLoader: Failed to load sprite sheet: " + filePath);
+    /**
+     * Loads multiple animations at startup, on the calling thread.
+     * <p>
+     * Every sprite sheet's frames are packed into a single shared
+     * {@link TextureAtlas} (split over more pages only if they do not fit on
+     * one), so all sprites are drawn from the same few images.
+     *
+     * @see #loadDefaultAnimationsAsync(Executor, Runnable)
+     */
+    public static void loadDefaultAnimations() {
+        loadDefaultAnimationsAsync(Runnable::run, () -> {
+        }).join();
+    }
+
+    /**
+     * Loads the same animations as {@link #loadDefaultAnimations()}, decoding
+     * every sprite sheet as a separate task on the given executor.
+     * <p>
+     * Once the last sheet is decoded, the atlas is packed and the animations
+     * are registered with the {@link AnimationManager} on that thread. Sheets
+     * are always packed in the same order, so the atlas layout does not depend
+     * on which sheet finished first. Sheets that fail to load are reported and
+     * skipped.
+     *
+     * @param executor The executor to decode sprite sheets on.
+     * @param onSheetDecoded Called (on the decoding thread) as each sheet
+     * finishes decoding, whether or not it succeeded.
+     * @return A future that completes once every animation is registered.
+     */
+    public static CompletableFuture<Void> loadDefaultAnimationsAsync(final Executor executor, final Runnable onSheetDecoded) {
+        List<CompletableFuture<BufferedImage>> sheets = new ArrayList<>(DEFAULT_ANIMATIONS.length);
+        for (AnimationMetadata md : DEFAULT_ANIMATIONS) {
+            String filePath = ANIMATION_FOLDER + md.fileName;
+            sheets.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return decodeSpriteSheet(filePath);
+                } catch (IOException | IllegalArgumentException e) {
+                    System.err.println(e.getMessage());
+                    return null;
+                } finally {
+                    onSheetDecoded.run();
+                }
+            }, executor));
         }
 
-        ArrayList<AnimationFrame> frames = new ArrayList<>();
-        int frameWidth = spriteSheet.getWidth() / numColumns;
-        int frameHeight = spriteSheet.getHeight() / numRows;
+        return CompletableFuture.allOf(sheets.toArray(CompletableFuture[]::new))
+                .thenRun(() -> registerAnimations(sheets));
+    }
 
-        for (int row = 0; row < numRows; row++) {
-            for (int column = 0; column < numColumns; column++) {
-                int x = column * frameWidth;
-                int y = row * frameHeight;
+    /**
+     * Packs the decoded sprite sheets into a shared atlas and registers one
+     * animation per sheet with the {@link AnimationManager}.
+     *
+     * @param sheets The decoded sheets, in {@link #DEFAULT_ANIMATIONS} order
+     * (each {@code null} if it failed to load).
+     */
+    private static void registerAnimations(final List<CompletableFuture<BufferedImage>> sheets) {
+        // Register every sprite sheet's frames with the shared atlas
+        TextureAtlas atlas = new TextureAtlas();
+        int[][] regions = new int[DEFAULT_ANIMATIONS.length][];
+        for (int i = 0; i < DEFAULT_ANIMATIONS.length; i++) {
+            AnimationMetadata md = DEFAULT_ANIMATIONS[i];
+            BufferedImage sheet = sheets.get(i).join();
+            if (sheet == null) {
+                continue;
+            }
+            try {
+                regions[i] = addSpriteSheet(atlas, sheet, md.numGridRows, md.numGridColumns);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+
+        atlas.pack();
+        System.out.println(String.format(
+                "AnimationLoader: Packed <%d> frames into <%d> atlas page(s).",
+                atlas.getRegionCount(),
+                atlas.getPages().size()
+        ));
 
-                BufferedImage frame = extractFrame(spriteSheet, x, y, frameWidth, frameHeight);
-                frames.add(new AnimationFrame(frame, frameDurationMs));
+        // Create each animation and add it to the AnimationManager
+        for (int i = 0; i < DEFAULT_ANIMATIONS.length; i++) {
+            AnimationMetadata md = DEFAULT_ANIMATIONS[i];
+            if (regions[i] == null) {
+                continue;
             }
+
+            // Create the animation template
+            AnimationTemplate animationTemplate = new AnimationTemplate(createFrames(atlas, regions[i], md.frameDurationMs), md.isLooping);
+
+            // Generate a unique key for the animation from the sprite sheet filename (minus the extension, i.e., "bullet-1" instead of "bullet-1.png").
+            String animationKey = md.fileName.substring(md.fileName.lastIndexOf('/') + 1, md.fileName.lastIndexOf('.'));
+
+            // Add the animation template to the AnimationManager
+            AnimationManager.getInstance().addAnimation(animationKey, animationTemplate);
+
+            System.out.println(String.format(
+                    "AnimationLoader: Loaded animation <'%s'> with <%d> frames.",
+                    animationKey,
+                    animationTemplate.getFrames().size()
+            ));
         }
-        return frames;
+
+        // Every default animation now has its ID, so nothing else may be registered.
+        AnimationManager.getInstance().freeze();
     }
 
+    // ----- HELPER METHODS -----
     /**
-     * Loads multiple animations at startup.
-     * <p>
-     * Hard-coding this for now. Might try to make it more dynamic later.
+     * Decodes a sprite sheet. Safe to call from any thread.
+     *
+     * @param filePath Path to the sprite sheet image.
+     * @return The decoded sprite sheet.
+     * @throws IllegalArgumentException If the file path is empty or {@code null}.
+     * @throws IOException If the image file cannot be loaded.
      */
-    public static void loadDefaultAnimations() {
-        AnimationMetadata[] animationMetadata = {
-            new AnimationMetadata("enemy-bullet.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("mage-guardian-blue.png", 1, 14, App.FRAME_RATE_MS * 2, true),
-            new AnimationMetadata("mage-guardian-magenta.png", 1, 14, App.FRAME_RATE_MS * 2, true),
-            new AnimationMetadata("mage-guardian-red.png", 1, 14, App.FRAME_RATE_MS * 2, true),
-            new AnimationMetadata("player-bullet.png", 1, 8, App.FRAME_RATE_MS  * 4, true),
-            new AnimationMetadata("player-death.png", 1, 8, App.FRAME_RATE_MS * 4, false),
-            new AnimationMetadata("player-idle.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("player-walk-up-left.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("player-walk-up-right.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("player-walk-up.png", 1, 8, App.FRAME_RATE_MS * 4, true)
-        };
-
-        // Load each animation and add it to the AnimationManager
-        for (AnimationMetadata md : animationMetadata) {
-            try {
-                // Load the frames from the sprite sheet
-                List<AnimationFrame> frames = AnimationLoader.loadFromSpriteSheet(
-                        ANIMATION_FOLDER + md.fileName, md.frameDurationMs, md.numGridRows, md.numGridColumns
-                );
+    private static BufferedImage decodeSpriteSheet(final String filePath) throws IllegalArgumentException, IOException {
+        if (filePath == null || filePath.isEmpty()) {
+            throw new IllegalArgumentException("AnimationLoader: Must provide a valid file path for the sprite sheet.");
+        }
 
-                // Create the animation template
-                AnimationTemplate animationTemplate = new AnimationTemplate(frames, md.isLooping);
+        BufferedImage spriteSheet = ImageManager.loadBufferedImage(filePath);
+        if (spriteSheet == null) {
+            throw new IOException("AnimationLoader: Failed to load sprite sheet: " + filePath);
+        }
+        return spriteSheet;
+    }
 
-                // Generate a unique key for the animation from the sprite sheet filename (minus the extension, i.e., "bullet-1" instead of "bullet-1.png").
-                String animationKey = md.fileName.substring(md.fileName.lastIndexOf('/') + 1, md.fileName.lastIndexOf('.'));
+    /**
+     * Registers each frame of a decoded sprite sheet with an atlas.
+     *
+     * @param atlas The (unpacked) atlas to add the frames to.
+     * @param spriteSheet The decoded sprite sheet.
+     * @param numRows The number of rows in the sprite sheet. (Minimum value: 1)
+     * @param numColumns The number of columns in the sprite sheet. (Minimum value: 1)
+     * @return The atlas region index of each frame, in row-major order.
+     */
+    private static int[] addSpriteSheet(final TextureAtlas atlas, final BufferedImage spriteSheet, int numRows, int numColumns) {
+        numRows = Math.max(numRows, 1);
+        numColumns = Math.max(numColumns, 1);
 
-                // Add the animation template to the AnimationManager
-                AnimationManager.getInstance().addAnimation(animationKey, animationTemplate);
+        int frameWidth = spriteSheet.getWidth() / numColumns;
+        int frameHeight = spriteSheet.getHeight() / numRows;
+        int[] regions = new int[numRows * numColumns];
 
-                System.out.println(String.format(
-                        "AnimationLoader: Loaded animation <'%s'> with <%d> frames.",
-                        animationKey,
-                        animationTemplate.getFrames().size()
-                ));
-            } catch (IOException | IllegalArgumentException e) {
-                System.err.println(e.getMessage());
+        for (int row = 0; row < numRows; row++) {
+            for (int column = 0; column < numColumns; column++) {
+                int x = column * frameWidth;
+                int y = row * frameHeight;
+                regions[row * numColumns + column] = atlas.add(spriteSheet, x, y, frameWidth, frameHeight);
             }
         }
+        return regions;
     }
 
-    // ----- HELPER METHODS -----
     /**
-     * Extracts a frame from a sprite sheet.
+     * Creates the animation frames for the given (packed) atlas regions.
      *
-     * @param source The source sprite sheet.
-     * @param x X coordinate of the frame.
-     * @param y Y coordinate of the frame.
-     * @param width Width of the frame.
-     * @param height Height of the frame.
-     * @return A new BufferedImage containing the extracted frame.
+     * @param atlas The packed atlas.
+     * @param regions The atlas region index of each frame.
+     * @param frameDurationMs Duration of each frame in milliseconds. (Minimum value: 1)
+     * @return The frames, in the same order as the regions.
      */
-    private static BufferedImage extractFrame(BufferedImage source, int x, int y, int width, int height) {
-        BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = frame.createGraphics();
-        g.drawImage(source.getSubimage(x, y, width, height), 0, 0, null);
-        g.dispose();
-        return frame;
+    private static List<AnimationFrame> createFrames(final TextureAtlas atlas, final int[] regions, final long frameDurationMs) {
+        ArrayList<AnimationFrame> frames = new ArrayList<>(regions.length);
+        for (int region : regions) {
+            frames.add(atlas.createFrame(region, Math.max(frameDurationMs, 1)));
+        }
+        return frames;
     }
 
     // ----- PRIVATE INNER CLASSES -----
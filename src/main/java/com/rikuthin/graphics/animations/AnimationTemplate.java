@@ -1,17 +1,42 @@
 package com.rikuthin.graphics.animations;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents a reusable animation template containing a sequence of frames.
  * This class is shared among multiple entities, ensuring memory efficiency.
+ * <p>
+ * All playback timing lives here too: given how long an animation has been
+ * playing, {@link #getFrameIndexAt(long)} returns the frame to display in O(1)
+ * using a per-millisecond lookup table built once at construction.
  */
 public class AnimationTemplate {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The longest animation (in milliseconds) that gets a per-millisecond
+     * lookup table. Longer animations fall back to a binary search.
+     */
+    private static final long MAX_LOOKUP_TABLE_MS = 1 << 16;
+
     // ----- INSTANCE VARIABLES -----
     private final List<AnimationFrame> frames;
     private final boolean isLooping;
+    /**
+     * The total duration of one playthrough in milliseconds.
+     */
+    private final long totalDurationMs;
+    /**
+     * The time (in milliseconds from the start) at which each frame ends.
+     */
+    private final long[] frameEndMs;
+    /**
+     * The frame displayed at each millisecond of one playthrough, or
+     * {@code null} if the animation is too long for a table.
+     */
+    private final int[] frameAtMs;
 
     /**
      * Constructs an AnimationTemplate with a list of frames and a looping flag.
@@ -29,6 +54,27 @@ public class AnimationTemplate {
 
         this.frames = frames;
         this.isLooping = isLooping;
+
+        frameEndMs = new long[frames.size()];
+        long end = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            end += frames.get(i).getDisplayDurationMs();
+            frameEndMs[i] = end;
+        }
+        totalDurationMs = end;
+
+        if (totalDurationMs <= MAX_LOOKUP_TABLE_MS) {
+            frameAtMs = new int[(int) totalDurationMs];
+            int frame = 0;
+            for (int ms = 0; ms < frameAtMs.length; ms++) {
+                while (ms >= frameEndMs[frame]) {
+                    frame++;
+                }
+                frameAtMs[ms] = frame;
+            }
+        } else {
+            frameAtMs = null;
+        }
     }
 
     // ----- GETTERS -----
@@ -50,6 +96,69 @@ public class AnimationTemplate {
         return isLooping;
     }
 
+    /**
+     * Returns the total duration of one playthrough in milliseconds.
+     *
+     * @return The duration.
+     */
+    public long getTotalDurationMs() {
+        return totalDurationMs;
+    }
+
+    /**
+     * Returns the index of the frame displayed after the animation has been
+     * playing for the given time. Looping animations wrap around; other
+     * animations hold their last frame once finished.
+     *
+     * @param elapsedMs How long the animation has been playing in
+     * milliseconds.
+     * @return The frame index.
+     */
+    public int getFrameIndexAt(final long elapsedMs) {
+        long t;
+        if (elapsedMs <= 0) {
+            t = 0;
+        } else if (elapsedMs < totalDurationMs) {
+            t = elapsedMs;
+        } else if (isLooping) {
+            t = elapsedMs % totalDurationMs;
+        } else {
+            return frames.size() - 1;
+        }
+
+        if (frameAtMs != null) {
+            return frameAtMs[(int) t];
+        }
+
+        int index = Arrays.binarySearch(frameEndMs, t);
+        // An exact match is the end of that frame, i.e., the start of the next.
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Returns the frame displayed after the animation has been playing for the
+     * given time.
+     *
+     * @param elapsedMs How long the animation has been playing in
+     * milliseconds.
+     * @return The frame.
+     */
+    public AnimationFrame getFrameAt(final long elapsedMs) {
+        return frames.get(getFrameIndexAt(elapsedMs));
+    }
+
+    /**
+     * Returns whether a non-looping animation has finished after playing for
+     * the given time. Looping animations never finish.
+     *
+     * @param elapsedMs How long the animation has been playing in
+     * milliseconds.
+     * @return {@code true} if finished, {@code false} otherwise.
+     */
+    public boolean isFinishedAt(final long elapsedMs) {
+        return !isLooping && elapsedMs >= totalDurationMs;
+    }
+
     // ----- OVERRIDDEN METHODS -----
     @Override
     public boolean equals(Object obj) {
@@ -0,0 +1,277 @@
+package com.rikuthin.graphics.animations;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.rikuthin.managers.ImageManager;
+
+/**
+ * Packs many small sprite frames into a few large atlas pages.
+ * <p>
+ * Regions are first registered with {@link #add(BufferedImage, int, int, int, int)}
+ * and then laid out together by {@link #pack()} using a shelf packer: regions
+ * are sorted by height and placed left to right in rows ("shelves"), starting
+ * a new shelf when a row is full and a new page when a page is full. Each page
+ * is a single translucent image in the screen's pixel format (see
+ * {@link ImageManager#createCompatibleImage(int, int, int)}), so every frame
+ * that shares a page is drawn from the same surface without conversion, and
+ * Java2D only has to cache (and upload) one image per page instead of one per
+ * frame.
+ * <p>
+ * Regions are separated by {@link #PADDING} transparent pixels so that scaled
+ * or filtered drawing never samples a neighbouring frame.
+ */
+public final class TextureAtlas {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default maximum width and height of a single page in pixels.
+     */
+    public static final int DEFAULT_MAX_PAGE_SIZE = 2048;
+    /**
+     * The number of transparent pixels left between neighbouring regions.
+     */
+    public static final int PADDING = 1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The maximum width and height of a single page in pixels.
+     */
+    private final int maxPageSize;
+    /**
+     * Every region added to the atlas, in the order they were added.
+     */
+    private final List<Region> regions;
+    /**
+     * The packed pages (empty until {@link #pack()} is called).
+     */
+    private final List<BufferedImage> pages;
+    /**
+     * Whether {@link #pack()} has been called.
+     */
+    private boolean isPacked;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty atlas with the default maximum page size.
+     */
+    public TextureAtlas() {
+        this(DEFAULT_MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Creates an empty atlas.
+     *
+     * @param maxPageSize The maximum width and height of a single page in
+     * pixels. (Minimum value: 1)
+     */
+    public TextureAtlas(final int maxPageSize) {
+        this.maxPageSize = Math.max(maxPageSize, 1);
+        this.regions = new ArrayList<>();
+        this.pages = new ArrayList<>();
+        this.isPacked = false;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the packed pages.
+     *
+     * @return An unmodifiable view of the pages (empty before packing).
+     */
+    public List<BufferedImage> getPages() {
+        return Collections.unmodifiableList(pages);
+    }
+
+    /**
+     * Returns the number of regions added to the atlas.
+     *
+     * @return The region count.
+     */
+    public int getRegionCount() {
+        return regions.size();
+    }
+
+    /**
+     * Returns whether the atlas has been packed.
+     *
+     * @return {@code true} if packed, {@code false} otherwise.
+     */
+    public boolean isPacked() {
+        return isPacked;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Registers a rectangular region of a source image to be copied into the
+     * atlas when it is packed.
+     *
+     * @param source The source image (e.g., a sprite sheet).
+     * @param x The x-coordinate of the region within the source.
+     * @param y The y-coordinate of the region within the source.
+     * @param width The width of the region.
+     * @param height The height of the region.
+     * @return The region's index, used with {@link #createFrame(int, long)}.
+     * @throws IllegalStateException If the atlas has already been packed.
+     * @throws IllegalArgumentException If the region is empty, lies outside
+     * the source, or does not fit on a single page.
+     */
+    public int add(final BufferedImage source, final int x, final int y, final int width, final int height) {
+        if (isPacked) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot add regions to an atlas that has already been packed.",
+                    this.getClass().getName()
+            ));
+        }
+        if (source == null || width <= 0 || height <= 0 || x < 0 || y < 0
+                || x + width > source.getWidth() || y + height > source.getHeight()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Region must be a non-empty rectangle within the source image.",
+                    this.getClass().getName()
+            ));
+        }
+        if (width + 2 * PADDING > maxPageSize || height + 2 * PADDING > maxPageSize) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: A %dx%d region does not fit on a %dx%d page.",
+                    this.getClass().getName(), width, height, maxPageSize, maxPageSize
+            ));
+        }
+
+        regions.add(new Region(source, x, y, width, height));
+        return regions.size() - 1;
+    }
+
+    /**
+     * Lays out every registered region and copies it into its page. Source
+     * images are released afterwards. Calling this more than once has no
+     * further effect.
+     */
+    public void pack() {
+        if (isPacked) {
+            return;
+        }
+        isPacked = true;
+        if (regions.isEmpty()) {
+            return;
+        }
+
+        // Tallest first keeps shelves tight; ties broken by width for the same reason.
+        List<Region> order = new ArrayList<>(regions);
+        order.sort((a, b) -> a.height != b.height ? b.height - a.height : b.width - a.width);
+
+        int pageWidth = choosePageWidth(order);
+        List<Integer> pageHeights = new ArrayList<>();
+        int page = 0;
+        int cursorX = PADDING;
+        int shelfY = PADDING;
+        int shelfHeight = 0;
+
+        for (Region region : order) {
+            if (cursorX + region.width + PADDING > pageWidth) {
+                shelfY += shelfHeight + PADDING;
+                cursorX = PADDING;
+                shelfHeight = 0;
+            }
+            if (shelfY + region.height + PADDING > maxPageSize) {
+                pageHeights.add(shelfY);
+                page++;
+                cursorX = PADDING;
+                shelfY = PADDING;
+                shelfHeight = 0;
+            }
+
+            region.page = page;
+            region.atlasX = cursorX;
+            region.atlasY = shelfY;
+            cursorX += region.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, region.height);
+        }
+        pageHeights.add(shelfY + shelfHeight + PADDING);
+
+        Graphics2D[] graphics = new Graphics2D[pageHeights.size()];
+        for (int i = 0; i < graphics.length; i++) {
+            BufferedImage image = ImageManager.createCompatibleImage(pageWidth, pageHeights.get(i), Transparency.TRANSLUCENT);
+            pages.add(image);
+            graphics[i] = image.createGraphics();
+        }
+
+        for (Region region : regions) {
+            graphics[region.page].drawImage(region.source,
+                    region.atlasX, region.atlasY, region.atlasX + region.width, region.atlasY + region.height,
+                    region.sourceX, region.sourceY, region.sourceX + region.width, region.sourceY + region.height,
+                    null);
+            region.source = null;
+        }
+
+        for (Graphics2D g : graphics) {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Creates an animation frame that displays a packed region.
+     *
+     * @param region The region's index, as returned by
+     * {@link #add(BufferedImage, int, int, int, int)}.
+     * @param displayDurationMs How many milliseconds to display the frame for.
+     * @return The new frame.
+     * @throws IllegalStateException If the atlas has not been packed yet.
+     */
+    public AnimationFrame createFrame(final int region, final long displayDurationMs) {
+        if (!isPacked) {
+            throw new IllegalStateException(String.format(
+                    "%s: The atlas must be packed before frames can be created.",
+                    this.getClass().getName()
+            ));
+        }
+
+        Region r = regions.get(region);
+        return new AnimationFrame(pages.get(r.page), r.atlasX, r.atlasY, r.width, r.height, displayDurationMs);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Picks a page width: the smallest power of two that would hold the total
+     * padded area as a square (and the widest region), capped at the maximum
+     * page size.
+     */
+    private int choosePageWidth(final List<Region> order) {
+        long totalArea = 0;
+        int widest = 0;
+        for (Region region : order) {
+            totalArea += (long) (region.width + PADDING) * (region.height + PADDING);
+            widest = Math.max(widest, region.width + 2 * PADDING);
+        }
+
+        int side = (int) Math.ceil(Math.sqrt((double) totalArea));
+        int width = Integer.highestOneBit(Math.max(side, widest) - 1) << 1;
+        return Math.max(Math.min(width, maxPageSize), Math.min(widest, maxPageSize));
+    }
+
+    // ----- PRIVATE INNER CLASSES -----
+    /**
+     * A region of a source image and (once packed) its place in the atlas.
+     */
+    private static final class Region {
+
+        BufferedImage source;
+        final int sourceX;
+        final int sourceY;
+        final int width;
+        final int height;
+        int page;
+        int atlasX;
+        int atlasY;
+
+        Region(final BufferedImage source, final int sourceX, final int sourceY, final int width, final int height) {
+            this.source = source;
+            this.sourceX = sourceX;
+            this.sourceY = sourceY;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -4,15 +4,17 @@ import java.awt.BorderLayout;
 import java.awt.Graphics2D;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
-import com.rikuthin.entities.Player;
 import com.rikuthin.graphics.GameFrame;
 import com.rikuthin.graphics.screens.subpanels.GamePanel;
 import com.rikuthin.graphics.screens.subpanels.InfoPanel;
 import com.rikuthin.managers.GameManager;
+import com.rikuthin.managers.InputManager;
 import com.rikuthin.managers.SoundManager;
+import com.rikuthin.simulation.Replay;
 
 /**
  * The main gameplay screen where the game logic and rendering occur. Handles
@@ -21,13 +23,15 @@ import com.rikuthin.managers.SoundManager;
 public final class GameplayScreen extends Screen {
 
     // ----- STATIC VARIABLES -----
-    private static final int BASE_SPEED = 5;
+    /**
+     * The directory replays are saved to (relative to the working directory).
+     */
+    private static final Path REPLAY_DIRECTORY = Path.of("replays");
 
     // INSTANCE VARIABLES -----
     private final transient GameManager gameManager;
     private final GamePanel gamePanel;
     private final InfoPanel infoPanel;
-    private final Map<Integer, Boolean> keyStates;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -49,9 +53,9 @@ public final class GameplayScreen extends Screen {
         add(infoPanel, BorderLayout.LINE_END);
 
         gameManager = GameManager.getInstance();
+        gameManager.setRecordingReplays(true);
         gameManager.init(gamePanel, infoPanel);
 
-        keyStates = new HashMap<>();
         addKeyListener(createKeyListener());
 
         SoundManager soundManager = SoundManager.getInstance();
@@ -80,86 +84,94 @@ public final class GameplayScreen extends Screen {
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Updates the game state if it is running.
+     * Advances the game simulation by however many fixed ticks are due (if it
+     * is running).
      */
     @Override
     public void update() {
+        gameManager.advance();
+    }
+
+    /**
+     * Actively renders the game panel. The info panel is made of regular
+     * Swing components, which repaint themselves when they change.
+     */
+    @Override
+    public void renderFrame() {
         if (gameManager.isRunning()) {
-            gameManager.update();
+            gamePanel.renderFrame();
         }
     }
 
     /**
-     * Renders the game screen.
+     * Does nothing: both panels draw themselves (see {@link #renderFrame()}).
      *
      * @param g2d The graphics context used for rendering.
      */
     @Override
     public void render(Graphics2D g2d) {
-        if (gameManager.isRunning()) {
-            gamePanel.safeRender(g2d);
-            infoPanel.safeRender(g2d);
-        }
+        // The game panel is actively rendered and the info panel paints itself.
     }
 
     // ----- HELPER METHODS -----
+    /**
+     * Saves the replay of the current game so it can be played back later
+     * (e.g., with {@link com.rikuthin.simulation.HeadlessSimulation}).
+     */
+    private void saveReplay() {
+        Replay replay = gameManager.getReplay();
+        if (replay == null) {
+            return;
+        }
+
+        Path path = REPLAY_DIRECTORY.resolve(String.format("replay-%d.rkr", System.currentTimeMillis()));
+        try {
+            Files.createDirectories(REPLAY_DIRECTORY);
+            replay.save(path);
+            System.out.println(String.format(
+                    "%s: Saved <%d> ticks of replay to <%s>.",
+                    this.getClass().getName(),
+                    replay.getTickCount(),
+                    path.toAbsolutePath()
+            ));
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to save replay to <%s>: %s",
+                    this.getClass().getName(),
+                    path,
+                    e.getMessage()
+            ));
+        }
+    }
+
     /**
      * Creates the key listener that handles player input.
+     * <p>
+     * Key events are only queued here; the simulation applies them to the
+     * player at the start of its next tick (see {@link InputManager}).
+     * {@link KeyEvent#VK_F3} toggles the performance overlay and
+     * {@link KeyEvent#VK_F5} saves a replay of the game so far.
      *
      * @return A KeyAdapter instance that listens for key events.
      */
     private KeyAdapter createKeyListener() {
         return new KeyAdapter() {
-            /**
-             * Updates the player's movement based on the current key states.
-             */
-            private void updateMovement() {
-                Player player = gameManager.getPlayer();
-                int speed = keyStates.getOrDefault(KeyEvent.VK_SHIFT, false) ? BASE_SPEED / 2 : BASE_SPEED;
-                int velocityX = 0;
-                int velocityY = 0;
-                String animationKey = "player-idle";
-
-                if (keyStates.getOrDefault(KeyEvent.VK_W, false) || keyStates.getOrDefault(KeyEvent.VK_UP, false)) {
-                    velocityY = speed;
-                    animationKey = "player-walk-up";
-                }
-                if (keyStates.getOrDefault(KeyEvent.VK_S, false) || keyStates.getOrDefault(KeyEvent.VK_DOWN, false)) {
-                    velocityY = -speed;
-                    animationKey = "player-walk-up";
-                }
-                if (keyStates.getOrDefault(KeyEvent.VK_A, false) || keyStates.getOrDefault(KeyEvent.VK_LEFT, false)) {
-                    velocityX = -speed;
-                    animationKey = "player-walk-up-left";
-                }
-                if (keyStates.getOrDefault(KeyEvent.VK_D, false) || keyStates.getOrDefault(KeyEvent.VK_RIGHT, false)) {
-                    velocityX = speed;
-                    animationKey = "player-walk-up-right";
-                }
-
-                player.setVelocityX(velocityX);
-                player.setVelocityY(velocityY);
-                player.setAnimation((velocityX == 0 && velocityY == 0) ? "player-idle" : animationKey);
-            }
-
             @Override
             public void keyPressed(KeyEvent e) {
-                keyStates.put(e.getKeyCode(), true);
-                updateMovement();
-
-                if (e.getKeyCode() == KeyEvent.VK_SPACE) {
-                    gameManager.getPlayer().getBulletSpawner().setIsSpawning(true);
+                if (e.getKeyCode() == KeyEvent.VK_F3) {
+                    gamePanel.getPerformanceOverlay().toggle();
+                    return;
                 }
+                if (e.getKeyCode() == KeyEvent.VK_F5) {
+                    saveReplay();
+                    return;
+                }
+                gameManager.getInputManager().submitKeyEvent(e.getKeyCode(), true);
             }
 
             @Override
             public void keyReleased(KeyEvent e) {
-                keyStates.put(e.getKeyCode(), false);
-                updateMovement();
-
-                if (e.getKeyCode() == KeyEvent.VK_SPACE) {
-                    gameManager.getPlayer().getBulletSpawner().setIsSpawning(false);
-                }
+                gameManager.getInputManager().submitKeyEvent(e.getKeyCode(), false);
             }
         };
     }
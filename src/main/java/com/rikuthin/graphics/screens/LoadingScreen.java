@@ -0,0 +1,105 @@
+package com.rikuthin.graphics.screens;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+
+import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.UIConstants;
+import com.rikuthin.managers.AssetLoader;
+
+/**
+ * Splash screen shown while the game's assets load in the background. Shows
+ * the game's title and a progress bar.
+ */
+public final class LoadingScreen extends Screen {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The width of the progress bar in pixels.
+     */
+    private static final int BAR_WIDTH = 400;
+    /**
+     * The height of the progress bar in pixels.
+     */
+    private static final int BAR_HEIGHT = 24;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The loader whose progress is shown.
+     */
+    private final transient AssetLoader assetLoader;
+    /**
+     * The loaded asset count last drawn ({@code -1} before the first frame).
+     */
+    private int shownLoadedCount;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a splash screen showing the progress of the given loader.
+     *
+     * @param gameFrame The parent {@link GameFrame} to which this screen
+     * belongs.
+     * @param assetLoader The loader whose progress is shown.
+     */
+    public LoadingScreen(GameFrame gameFrame, final AssetLoader assetLoader) {
+        super(gameFrame);
+        if (assetLoader == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: AssetLoader cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.assetLoader = assetLoader;
+        this.shownLoadedCount = -1;
+        setBackground(new Color(87, 73, 100));
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Repaints the screen whenever another asset has finished loading.
+     */
+    @Override
+    public void update() {
+        int loadedCount = assetLoader.getLoadedCount();
+        if (loadedCount != shownLoadedCount) {
+            shownLoadedCount = loadedCount;
+            repaint();
+        }
+    }
+
+    /**
+     * Draws the title and the progress bar.
+     *
+     * @param g2d The graphics context used for rendering.
+     */
+    @Override
+    public void render(Graphics2D g2d) {
+        int centreX = getWidth() / 2;
+        int barX = centreX - BAR_WIDTH / 2;
+        int barY = getHeight() / 2;
+
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(UIConstants.TITLE_FONT);
+        drawCentred(g2d, gameFrame.getTitle(), centreX, barY - 80);
+
+        g2d.drawRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        g2d.fillRect(barX + 2, barY + 2, (int) ((BAR_WIDTH - 3) * assetLoader.getProgress()), BAR_HEIGHT - 3);
+
+        g2d.setFont(UIConstants.BODY_FONT);
+        drawCentred(g2d, String.format(
+                "Loading assets... %d / %d",
+                assetLoader.getLoadedCount(),
+                assetLoader.getTotalCount()
+        ), centreX, barY + BAR_HEIGHT + 32);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Draws a line of text horizontally centred on the given x-coordinate.
+     */
+    private static void drawCentred(final Graphics2D g2d, final String text, final int centreX, final int baselineY) {
+        FontMetrics metrics = g2d.getFontMetrics();
+        g2d.drawString(text, centreX - metrics.stringWidth(text) / 2, baselineY);
+    }
+}
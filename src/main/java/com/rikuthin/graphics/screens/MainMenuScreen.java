@@ -15,6 +15,7 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
+import com.rikuthin.graphics.AcceleratedImage;
 import com.rikuthin.graphics.GameFrame;
 import com.rikuthin.graphics.UIConstants;
 import com.rikuthin.managers.ImageManager;
@@ -33,7 +34,7 @@ public class MainMenuScreen extends Screen {
     private final JPanel centreWrapper;
     private final JPanel titlePanel;
     private final String backgroundImageFilepath;
-    private final transient BufferedImage backgroundImage;
+    private final transient AcceleratedImage backgroundImage;
 
     /**
      * Constructs the main menu screen panel with buttons for starting the game,
@@ -48,7 +49,8 @@ public class MainMenuScreen extends Screen {
         setLayout(new BorderLayout());
 
         backgroundImageFilepath = "/images/backgrounds/main-menu.png";
-        backgroundImage = ImageManager.loadBufferedImage(backgroundImageFilepath);
+        BufferedImage image = ImageManager.loadCompatibleImage(backgroundImageFilepath);
+        backgroundImage = image != null ? new AcceleratedImage(image) : null;
 
         // ----- Title Section (Centered at the top) -----
         titlePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -103,7 +105,7 @@ public class MainMenuScreen extends Screen {
     @Override
     public void render(Graphics2D g2d) {
         if (backgroundImage != null && g2d != null) {
-            g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
+            backgroundImage.draw(g2d, 0, 0, getWidth(), getHeight());
         } else {
             System.err.println(String.format("%s: Could not load background image <'%s'>.", this.getClass().getName(), backgroundImageFilepath));
         }
@@ -41,6 +41,17 @@ public abstract class Screen extends JPanel implements Updateable, Renderable {
     }
 
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Renders one frame of any actively rendered content. Called by the game
+     * loop once per frame, after {@link #update()}.
+     * <p>
+     * By default, does nothing: the screen is a regular Swing component that
+     * Swing repaints whenever its contents change.
+     */
+    public void renderFrame() {
+        // Passive by default.
+    }
+
     /**
      * Cleans up resources and UI elements when switching screens.
      */
@@ -1,57 +1,241 @@
 package com.rikuthin.graphics.screens.subpanels;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.util.Set;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.List;
 
+import com.rikuthin.entities.Entity;
 import com.rikuthin.entities.Player;
-import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.entities.bullets.BulletStore;
 import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.graphics.AcceleratedImage;
+import com.rikuthin.graphics.GameCanvas;
+import com.rikuthin.graphics.PerformanceOverlay;
+import com.rikuthin.interfaces.ArenaBounds;
 import com.rikuthin.managers.GameManager;
+import com.rikuthin.managers.ImageManager;
+import com.rikuthin.utility.DirtyRegionTracker;
+import com.rikuthin.utility.FrameProfiler;
+import com.rikuthin.utility.FrameProfiler.Phase;
 
 /**
- * A component that displays all the game entities
+ * A component that displays all the game entities. Also serves as the
+ * {@link ArenaBounds} the entities live within.
+ * <p>
+ * The panel is actively rendered: it is covered by a {@link GameCanvas} and
+ * the game loop draws each frame into it via {@link #renderFrame()}, rather
+ * than through Swing's repaint mechanism.
+ * <p>
+ * The background is a static layer, rendered once into an off-screen image.
+ * While the canvas keeps its previous frame, only the areas covered by
+ * sprites in this frame or the last (tracked by a
+ * {@link DirtyRegionTracker}) are restored from that layer before the sprites
+ * are drawn, so unchanged pixels cost nothing.
+ * <p>
+ * A {@link PerformanceOverlay} with frame timings can be drawn on top.
  */
-public class GamePanel extends Subpanel {
+public class GamePanel extends Subpanel implements ArenaBounds {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The surface the panel's contents are actively rendered onto.
+     */
+    private final GameCanvas canvas;
+    /**
+     * Tracks which areas of the panel must be redrawn each frame.
+     */
+    private final transient DirtyRegionTracker dirtyRegions;
+    /**
+     * The frame timings drawn over the game when toggled on.
+     */
+    private final transient PerformanceOverlay performanceOverlay;
+    /**
+     * The panel's static contents (its background) at the panel's size.
+     */
+    private transient BufferedImage staticLayer;
+    /**
+     * The scaled background image the static layer was rendered from.
+     */
+    private transient AcceleratedImage staticLayerSource;
 
     // ----- CONSTRUCTORS -----
     public GamePanel(final int width, final int height, final String backgroundImageFilepath) {
         super(width, height, backgroundImageFilepath);
 
+        // Sized up front: the game (and the player's spawn point) is set up
+        // from the arena's size before the panel is first laid out.
+        setSize(width, height);
+
         // Background colour used as a backup in case the image deosn't load.
         setBackground(new Color(200, 170, 170));
+
+        setLayout(new BorderLayout());
+        dirtyRegions = new DirtyRegionTracker();
+        performanceOverlay = new PerformanceOverlay();
+        canvas = new GameCanvas();
+        canvas.setBackground(getBackground());
+        add(canvas, BorderLayout.CENTER);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Retrieves the surface the panel's contents are rendered onto.
+     *
+     * @return The game canvas.
+     */
+    public GameCanvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Retrieves the tracker of the areas redrawn each frame.
+     *
+     * @return The dirty region tracker.
+     */
+    public DirtyRegionTracker getDirtyRegions() {
+        return dirtyRegions;
+    }
+
+    /**
+     * Retrieves the overlay of frame timings.
+     *
+     * @return The performance overlay.
+     */
+    public PerformanceOverlay getPerformanceOverlay() {
+        return performanceOverlay;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Renders and shows one frame of the game.
+     */
+    public void renderFrame() {
+        canvas.render(this);
     }
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Renders the screen's graphical components.
+     * Does nothing: the panel is covered by its canvas, which is rendered
+     * actively by {@link #renderFrame()}.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        // Intentionally empty.
+    }
+
+    /**
+     * Renders the screen's graphical components: restores the static layer
+     * where needed (everywhere, if the previous frame was not kept) and then
+     * draws every sprite and the performance overlay (if shown).
      */
     @Override
     public void render(Graphics2D g2d) {
-        super.render(g2d);
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long start = profiler.start();
+        int width = getWidth();
+        int height = getHeight();
+        dirtyRegions.reset(width, height);
+        if (!canvas.isBackBufferRetained()) {
+            dirtyRegions.markAll();
+        }
+        BufferedImage layer = getStaticLayer(width, height);
 
         GameManager gameManager = GameManager.getInstance();
-        if (!gameManager.isRunning()) {
-            return;
+        boolean isRunning = gameManager.isRunning();
+        if (isRunning) {
+            markSprites(gameManager);
+        }
+        if (performanceOverlay.isVisible()) {
+            dirtyRegions.mark(performanceOverlay.getX(), performanceOverlay.getY(),
+                    performanceOverlay.getWidth(), performanceOverlay.getHeight());
         }
 
-        Player player = gameManager.getPlayer();
-        if (player != null) {
-            player.safeRender(g2d);
+        if (dirtyRegions.isFullRedraw()) {
+            g2d.drawImage(layer, 0, 0, null);
+        } else {
+            int regionCount = dirtyRegions.collectRegions();
+            for (int i = 0; i < regionCount; i++) {
+                int x1 = dirtyRegions.getRegionX(i);
+                int y1 = dirtyRegions.getRegionY(i);
+                int x2 = x1 + dirtyRegions.getRegionWidth(i);
+                int y2 = y1 + dirtyRegions.getRegionHeight(i);
+                g2d.drawImage(layer, x1, y1, x2, y2, x1, y1, x2, y2, null);
+            }
         }
 
-        Set<Enemy> enemies = gameManager.getEnemyManager().getEnemies();
-        if (enemies != null) {
+        if (isRunning) {
+            Player player = gameManager.getPlayer();
+            if (player != null) {
+                player.safeRender(g2d);
+            }
+
+            List<Enemy> enemies = gameManager.getEnemyManager().getEnemies();
             for (Enemy e : enemies) {
                 e.safeRender(g2d);
             }
+
+            gameManager.getBulletManager().safeRender(g2d);
+            performanceOverlay.setEntityCounts(enemies.size(), gameManager.getBulletManager().getBulletCount());
         }
+        performanceOverlay.safeRender(g2d);
+
+        dirtyRegions.endFrame();
+        profiler.record(Phase.DRAW, start);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the static layer, (re)rendering it first if the panel's size
+     * or (scaled) background has changed. A new layer means the whole frame
+     * must be redrawn.
+     */
+    private BufferedImage getStaticLayer(final int width, final int height) {
+        AcceleratedImage background = getScaledBackgroundImage();
+        if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height
+                || staticLayerSource != background) {
+            staticLayer = ImageManager.createCompatibleImage(width, height, Transparency.OPAQUE);
+            staticLayerSource = background;
 
-        Set<Bullet> bullets = gameManager.getBulletManager().getBullets();
-        if (bullets != null) {
-            for (Bullet b : bullets) {
-                b.safeRender(g2d);
+            Graphics2D g2d = staticLayer.createGraphics();
+            try {
+                g2d.setColor(getBackground());
+                g2d.fillRect(0, 0, width, height);
+                if (background != null) {
+                    g2d.drawImage(background.getSource(), 0, 0, null);
+                }
+            } finally {
+                g2d.dispose();
             }
+            dirtyRegions.markAll();
         }
+        return staticLayer;
+    }
+
+    /**
+     * Marks the area covered by every sprite drawn this frame.
+     */
+    private void markSprites(final GameManager gameManager) {
+        Player player = gameManager.getPlayer();
+        if (player != null) {
+            markSprite(player);
+        }
+
+        List<Enemy> enemies = gameManager.getEnemyManager().getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            markSprite(enemies.get(i));
+        }
+
+        BulletStore bullets = gameManager.getBulletManager().getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            dirtyRegions.mark((int) bullets.getX(i), (int) bullets.getY(i), bullets.getWidth(i), bullets.getHeight(i));
+        }
+    }
+
+    private void markSprite(final Entity entity) {
+        dirtyRegions.mark(entity.getX(), entity.getY(), entity.getSpriteWidth(), entity.getSpriteHeight());
     }
 }
@@ -3,22 +3,37 @@ package com.rikuthin.graphics.screens.subpanels;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 
 import javax.swing.JPanel;
 
+import com.rikuthin.graphics.AcceleratedImage;
 import com.rikuthin.interfaces.Renderable;
 import com.rikuthin.managers.ImageManager;
 
 /**
  * Abstract base class for all game screens (e.g., main menu, gameplay).
  * Provides a structure for updating and rendering screens.
+ * <p>
+ * The background image is rescaled to the panel's size once and cached as a
+ * compatible (accelerated) image, so rendering it is a plain 1:1 blit. The
+ * cache is only rebuilt when the panel's size or the image's filepath
+ * changes.
  */
 public abstract class Subpanel extends JPanel implements Renderable {
 
     // ----- INSTANCE VARIABLES -----
     protected String backgroundImageFilepath;
-    protected BufferedImage backgroundImage;
+    /**
+     * The background image at its original size.
+     */
+    protected transient BufferedImage backgroundImage;
+    /**
+     * The background image rescaled to the panel's size (or {@code null} if
+     * not built yet).
+     */
+    private transient AcceleratedImage scaledBackgroundImage;
 
     // ----- CONSTRUCTORS -----
     protected Subpanel(final int width, final int height, final String backgroundImageFilepath) {
@@ -29,15 +44,56 @@ public abstract class Subpanel extends JPanel implements Renderable {
         setBackgroundImage(backgroundImageFilepath);
     }
 
+    // ----- GETTERS -----
+    /**
+     * Returns the background image rescaled to the panel's current size,
+     * rescaling it first if the cached copy does not match that size.
+     *
+     * @return The scaled background; {@code null} if there is no background
+     * image or the panel has no area yet.
+     */
+    public AcceleratedImage getScaledBackgroundImage() {
+        int width = getWidth();
+        int height = getHeight();
+        if (backgroundImage == null || width <= 0 || height <= 0) {
+            return null;
+        }
+
+        if (scaledBackgroundImage == null
+                || scaledBackgroundImage.getWidth() != width
+                || scaledBackgroundImage.getHeight() != height) {
+            invalidateScaledBackgroundImage();
+
+            BufferedImage scaled = ImageManager.createCompatibleImage(width, height, backgroundImage.getTransparency());
+            Graphics2D g2d = scaled.createGraphics();
+            try {
+                // Only done once, so use the better (slower) filter.
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.drawImage(backgroundImage, 0, 0, width, height, null);
+            } finally {
+                g2d.dispose();
+            }
+            scaledBackgroundImage = new AcceleratedImage(scaled);
+        }
+        return scaledBackgroundImage;
+    }
+
     // ----- SETTERS -----
     /**
-     * Sets the background image (and its filepath) for this subpanel.
+     * Sets the background image (and its filepath) for this subpanel. Does
+     * nothing if the filepath is unchanged and the image is already loaded.
      *
      * @param backgroundImageFilepath The image filepath.
      */
     public final void setBackgroundImage(final String backgroundImageFilepath) {
+        if (backgroundImage != null && backgroundImageFilepath != null
+                && backgroundImageFilepath.equals(this.backgroundImageFilepath)) {
+            return;
+        }
+
         this.backgroundImageFilepath = backgroundImageFilepath;
-        backgroundImage = ImageManager.loadBufferedImage(backgroundImageFilepath);
+        backgroundImage = ImageManager.loadCompatibleImage(backgroundImageFilepath);
+        invalidateScaledBackgroundImage();
 
         if (backgroundImage == null) {
             System.err.println(String.format(
@@ -65,18 +121,34 @@ public abstract class Subpanel extends JPanel implements Renderable {
     /**
      * Renders the screen's graphical components.
      *
-     * By default, only renders the background image (if one is set).
+     * By default, only renders the (pre-scaled) background image (if one is
+     * set).
      */
     @Override
     public void render(Graphics2D g2d) {
-        if (backgroundImage == null) {
-            System.err.println(String.format(
-                    "%s: Could not load background image <'%s'>.",
-                    this.getClass().getName(),
-                    backgroundImageFilepath
-            ));
+        AcceleratedImage background = getScaledBackgroundImage();
+        if (background == null) {
+            if (backgroundImage == null) {
+                System.err.println(String.format(
+                        "%s: Could not load background image <'%s'>.",
+                        this.getClass().getName(),
+                        backgroundImageFilepath
+                ));
+            }
             return;
         }
-        g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
+        background.draw(g2d, 0, 0);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Discards the scaled background image (and its video memory), so that it
+     * is rebuilt the next time it is needed.
+     */
+    private void invalidateScaledBackgroundImage() {
+        if (scaledBackgroundImage != null) {
+            scaledBackgroundImage.flush();
+            scaledBackgroundImage = null;
+        }
     }
 }
@@ -0,0 +1,26 @@
+package com.rikuthin.interfaces;
+
+/**
+ * Represents the rectangular play area that entities move within.
+ * <p>
+ * Entities only need to know the size of the space they live in, not how (or
+ * whether) it is displayed. Implemented by the on-screen game panel, and by
+ * {@link com.rikuthin.utility.Arena} for headless simulations that run without
+ * any Swing components.
+ */
+public interface ArenaBounds {
+
+    /**
+     * Returns the width of the arena in pixels.
+     *
+     * @return The arena width.
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the arena in pixels.
+     *
+     * @return The arena height.
+     */
+    int getHeight();
+}
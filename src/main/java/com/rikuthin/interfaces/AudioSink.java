@@ -0,0 +1,35 @@
+package com.rikuthin.interfaces;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.LineUnavailableException;
+
+/**
+ * An interface representing somewhere mixed audio is written to, such as a
+ * sound card line or (on machines without one) nowhere at all.
+ */
+public interface AudioSink {
+
+    /**
+     * Opens the sink for audio of the given format.
+     *
+     * @param format The format of the audio that will be written.
+     * @param bufferBytes How many bytes the sink should buffer ahead of
+     * playback.
+     * @throws LineUnavailableException If the sink cannot be opened.
+     */
+    void open(AudioFormat format, int bufferBytes) throws LineUnavailableException;
+
+    /**
+     * Writes audio to the sink, blocking until there is room for it.
+     *
+     * @param data The audio bytes.
+     * @param offset The index of the first byte to write.
+     * @param length The number of bytes to write.
+     */
+    void write(byte[] data, int offset, int length);
+
+    /**
+     * Closes the sink, discarding anything not yet played.
+     */
+    void close();
+}
@@ -1,7 +1,11 @@
 package com.rikuthin.managers;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.rikuthin.graphics.animations.AnimationTemplate;
 
@@ -9,18 +13,56 @@ import com.rikuthin.graphics.animations.AnimationTemplate;
  * Singleton manager responsible for storing and retrieving shared animation
  * templates. Ensures animations are only loaded once and reused across
  * entities.
+ * <p>
+ * Every animation is given a dense integer ID when it is registered, starting
+ * at 0. IDs never change once given, so entities and spawners resolve their
+ * keys to IDs once and afterwards look templates up with
+ * {@link #getAnimation(int)}, which is a plain array read with no hashing.
+ * Once loading is done the registry is {@linkplain #freeze() frozen} and no
+ * new animations can be added.
+ * <p>
+ * Thread-safe: animations may be registered from asset-loading threads while
+ * others are being looked up. Registration is serialised and publishes a new
+ * copy of the template array, so lookups never lock.
  */
 public class AnimationManager {
 
     // ----- STATIC VARIABLES -----
+    /**
+     * The ID standing for "no animation".
+     */
+    public static final int NO_ANIMATION = -1;
     private static final AnimationManager INSTANCE = new AnimationManager();
-    private static final Map<String, AnimationTemplate> animations = new HashMap<>();
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The ID of every animation, by key.
+     */
+    private final Map<String, Integer> ids;
+    /**
+     * Every animation template, indexed by ID. Replaced (never modified) on
+     * each registration.
+     */
+    private volatile AnimationTemplate[] templates;
+    /**
+     * Every animation key, indexed by ID. Replaced (never modified) on each
+     * registration.
+     */
+    private volatile String[] keys;
+    /**
+     * Whether new animations can no longer be added.
+     */
+    private volatile boolean isFrozen;
 
     // ----- CONSTRUCTORS ------
     /**
      * Private constructor to enforce singleton pattern.
      */
     private AnimationManager() {
+        this.ids = new ConcurrentHashMap<>();
+        this.templates = new AnimationTemplate[0];
+        this.keys = new String[0];
+        this.isFrozen = false;
     }
 
     // ----- GETTERS -----
@@ -33,6 +75,19 @@ public class AnimationManager {
         return INSTANCE;
     }
 
+    /**
+     * Retrieves an animation template by its ID. This is the lookup to use on
+     * hot paths.
+     *
+     * @param id The animation's ID.
+     * @return The corresponding {@link AnimationTemplate}, or null if not
+     * found.
+     */
+    public AnimationTemplate getAnimation(final int id) {
+        AnimationTemplate[] snapshot = templates;
+        return (id >= 0 && id < snapshot.length) ? snapshot[id] : null;
+    }
+
     /**
      * Retrieves an animation template by its key.
      *
@@ -40,28 +95,195 @@ public class AnimationManager {
      * @return The corresponding {@link AnimationTemplate}, or null if not
      * found.
      */
-    public AnimationTemplate getAnimation(String key) {
-        return animations.get(key);
+    public AnimationTemplate getAnimation(final String key) {
+        return getAnimation(getAnimationId(key));
+    }
+
+    /**
+     * Retrieves the ID of an animation.
+     *
+     * @param key The unique identifier for the animation.
+     * @return The animation's ID, or {@link #NO_ANIMATION} if not found.
+     */
+    public int getAnimationId(final String key) {
+        if (key == null) {
+            return NO_ANIMATION;
+        }
+        Integer id = ids.get(key);
+        return id != null ? id : NO_ANIMATION;
+    }
+
+    /**
+     * Retrieves the key of an animation.
+     *
+     * @param id The animation's ID.
+     * @return The animation's key, or null if not found.
+     */
+    public String getAnimationKey(final int id) {
+        String[] snapshot = keys;
+        return (id >= 0 && id < snapshot.length) ? snapshot[id] : null;
+    }
+
+    /**
+     * Returns the number of registered animations. IDs run from 0 up to (but
+     * not including) this count.
+     *
+     * @return The animation count.
+     */
+    public int getAnimationCount() {
+        return templates.length;
     }
 
     /**
-     * Retrieves all stored animations.
+     * Retrieves all stored animations, in ID order.
      *
-     * @return The map of animations.
+     * @return An unmodifiable copy of the map of animations.
      */
     public Map<String, AnimationTemplate> getAllAnimations() {
-        return animations;
+        AnimationTemplate[] templateSnapshot;
+        String[] keySnapshot;
+        synchronized (this) {
+            templateSnapshot = templates;
+            keySnapshot = keys;
+        }
+
+        Map<String, AnimationTemplate> animations = new LinkedHashMap<>();
+        for (int id = 0; id < templateSnapshot.length; id++) {
+            animations.put(keySnapshot[id], templateSnapshot[id]);
+        }
+        return Collections.unmodifiableMap(animations);
+    }
+
+    /**
+     * Returns whether new animations can no longer be added.
+     *
+     * @return {@code true} if frozen, {@code false} otherwise.
+     */
+    public boolean isFrozen() {
+        return isFrozen;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
-     * Adds a new animation template to the manager. If an animation with the
-     * given key already exists, it is not replaced.
+     * Adds a new animation template to the manager and gives it the next free
+     * ID. If an animation with the given key already exists, it is not
+     * replaced.
      *
      * @param key The unique identifier for the animation.
      * @param animation The AnimationTemplate to store.
+     * @return The animation's ID.
+     * @throws IllegalArgumentException if the key is {@code null} or blank, or
+     * the animation is {@code null}.
+     * @throws IllegalStateException if the key is new and the manager is
+     * frozen.
+     */
+    public synchronized int addAnimation(final String key, final AnimationTemplate animation) throws IllegalArgumentException, IllegalStateException {
+        if (key == null || key.isBlank() || animation == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Keys cannot be null nor empty, and animations cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+
+        Integer existingId = ids.get(key);
+        if (existingId != null) {
+            return existingId;
+        }
+        if (isFrozen) {
+            throw new IllegalStateException(String.format(
+                    "%s: Cannot add animation <'%s'> once frozen.",
+                    this.getClass().getName(),
+                    key
+            ));
+        }
+
+        int id = templates.length;
+        AnimationTemplate[] newTemplates = Arrays.copyOf(templates, id + 1);
+        String[] newKeys = Arrays.copyOf(keys, id + 1);
+        newTemplates[id] = animation;
+        newKeys[id] = key;
+
+        // Publish the arrays before the ID, so anyone who can see the ID can also see its template.
+        keys = newKeys;
+        templates = newTemplates;
+        ids.put(key, id);
+        return id;
+    }
+
+    /**
+     * Stops any more animations from being added. Called once loading is
+     * done; IDs already given stay valid.
+     */
+    public synchronized void freeze() {
+        isFrozen = true;
+    }
+
+    /**
+     * Retrieves the ID of an animation that must exist.
+     *
+     * @param key The unique identifier for the animation.
+     * @return The animation's ID.
+     * @throws IllegalArgumentException if the key is {@code null}, blank or
+     * not registered.
+     */
+    public int requireAnimationId(final String key) throws IllegalArgumentException {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Keys cannot be null nor empty.",
+                    this.getClass().getName()
+            ));
+        }
+
+        int id = getAnimationId(key);
+        if (id == NO_ANIMATION) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Animation key <'%s'> does not exist within AnimationManager's key set.",
+                    this.getClass().getName(),
+                    key
+            ));
+        }
+        return id;
+    }
+
+    /**
+     * Retrieves the IDs of a collection of animations that must all exist.
+     *
+     * @param keys The unique identifiers for the animations.
+     * @return The animations' distinct IDs, in ascending order.
+     * @throws IllegalArgumentException if any key is {@code null}, blank or
+     * not registered.
+     */
+    public int[] requireAnimationIds(final Collection<String> keys) throws IllegalArgumentException {
+        if (keys == null) {
+            return new int[0];
+        }
+        return keys.stream()
+                .mapToInt(this::requireAnimationId)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Checks that every ID in an array belongs to a registered animation.
+     *
+     * @param animationIds The animation IDs.
+     * @return A sorted copy of the distinct IDs.
+     * @throws IllegalArgumentException if any ID is not registered.
      */
-    public void addAnimation(String key, AnimationTemplate animation) {
-        animations.putIfAbsent(key, animation);
+    public int[] requireAnimationIds(final int... animationIds) throws IllegalArgumentException {
+        if (animationIds == null) {
+            return new int[0];
+        }
+        for (int id : animationIds) {
+            if (getAnimation(id) == null) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: Animation ID <%d> does not exist within AnimationManager.",
+                        this.getClass().getName(),
+                        id
+                ));
+            }
+        }
+        return Arrays.stream(animationIds).distinct().sorted().toArray();
     }
 }
@@ -0,0 +1,115 @@
+package com.rikuthin.managers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.rikuthin.graphics.animations.AnimationLoader;
+
+/**
+ * Loads the game's default assets (sprite sheets and audio clips) in
+ * parallel at startup.
+ * <p>
+ * Each asset is decoded as its own task on a small pool of daemon threads,
+ * so startup takes about as long as the slowest single asset rather than the
+ * sum of all of them, and the event dispatch thread stays free to paint a
+ * progress screen. Results are registered with the thread-safe
+ * {@link AnimationManager} and {@link SoundManager}. Assets found in the
+ * default {@link AssetPack} are copied from it instead of being decoded.
+ */
+public final class AssetLoader {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The number of assets to load.
+     */
+    private final int totalCount;
+    /**
+     * The number of assets that have finished loading (successfully or not).
+     */
+    private final AtomicInteger loadedCount;
+    /**
+     * Completes once every asset is loaded ({@code null} until started).
+     */
+    private CompletableFuture<Void> result;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a loader for the default assets. Nothing is loaded until
+     * {@link #start()} is called.
+     */
+    public AssetLoader() {
+        this.totalCount = AnimationLoader.getDefaultAnimationCount() + SoundManager.getDefaultClipCount();
+        this.loadedCount = new AtomicInteger();
+        this.result = null;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of assets to load.
+     *
+     * @return The asset count.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of assets that have finished loading (successfully
+     * or not). Safe to call from any thread.
+     *
+     * @return The loaded asset count.
+     */
+    public int getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    /**
+     * Returns how much of the loading is done.
+     *
+     * @return The progress, from 0 to 1.
+     */
+    public double getProgress() {
+        return totalCount == 0 ? 1 : (double) loadedCount.get() / totalCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts loading every asset in the background. Calling this again
+     * returns the same future.
+     *
+     * @return A future that completes once every asset is loaded and
+     * registered (assets that fail to load are reported and skipped).
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (result != null) {
+            return result;
+        }
+
+        int threads = Math.clamp(Runtime.getRuntime().availableProcessors(), 1, Math.max(totalCount, 1));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "asset-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long startTime = System.nanoTime();
+        Runnable onAssetLoaded = loadedCount::incrementAndGet;
+        result = CompletableFuture.allOf(
+                AnimationLoader.loadDefaultAnimationsAsync(pool, onAssetLoaded),
+                SoundManager.getInstance().loadDefaultClipsAsync(pool, onAssetLoaded)
+        ).whenComplete((ignored, e) -> {
+            pool.shutdown();
+            System.out.println(String.format(
+                    "AssetLoader: Loaded <%d> assets on <%d> thread(s) in <%.1f> ms (asset pack holds <%d>).",
+                    loadedCount.get(),
+                    threads,
+                    (System.nanoTime() - startTime) / 1_000_000.0,
+                    AssetPack.getDefault().size()
+            ));
+        });
+        return result;
+    }
+}
@@ -0,0 +1,377 @@
+package com.rikuthin.managers;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+
+/**
+ * A read-only pack of pre-decoded assets, memory-mapped from a single file
+ * written by {@link AssetPackBuilder}.
+ * <p>
+ * Images are stored as raw (non-premultiplied) ARGB pixels and audio as raw
+ * PCM samples, so loading one is a bulk copy out of the mapped file instead of
+ * a PNG or WAV decode. Assets are keyed by the same resource paths the
+ * loaders use (e.g., {@code "/images/animations/player-idle.png"}), which lets
+ * {@link ImageManager} and {@link SoundManager} try the pack first and fall
+ * back to the classpath for anything it does not hold.
+ * <p>
+ * The pack is a snapshot of the resources it was built from, so it must be
+ * rebuilt whenever they change. Instances are immutable and safe to share
+ * between threads.
+ */
+public final class AssetPack {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The system property holding the path of the default pack.
+     */
+    public static final String PATH_PROPERTY = "rikuthin.assetPack";
+    /**
+     * The path of the default pack when {@link #PATH_PROPERTY} is not set
+     * (relative to the working directory).
+     */
+    public static final String DEFAULT_PATH = "assets.pack";
+    /**
+     * The first four bytes of every pack file ("RKAP").
+     */
+    static final int MAGIC = 0x524B4150;
+    /**
+     * The version of the file format.
+     */
+    static final int FORMAT_VERSION = 1;
+    /**
+     * The byte order of every value in the file.
+     */
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    /**
+     * Entry type: an ARGB image.
+     */
+    static final byte TYPE_IMAGE = 1;
+    /**
+     * Entry type: PCM audio.
+     */
+    static final byte TYPE_AUDIO = 2;
+    /**
+     * A pack holding nothing, used when the default pack is missing.
+     */
+    private static final AssetPack EMPTY = new AssetPack(ByteBuffer.allocate(0), Collections.emptyMap());
+    /**
+     * The default pack (lazily opened).
+     */
+    private static AssetPack defaultPack;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The mapped file.
+     */
+    private final ByteBuffer data;
+    /**
+     * Every entry in the pack, by key.
+     */
+    private final Map<String, Entry> entries;
+
+    // ----- CONSTRUCTORS -----
+    private AssetPack(final ByteBuffer data, final Map<String, Entry> entries) {
+        this.data = data;
+        this.entries = entries;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the default pack: the file named by {@link #PATH_PROPERTY}, or
+     * {@link #DEFAULT_PATH} if that is not set. It is opened on first use.
+     *
+     * @return The default pack, or an empty pack if the file does not exist
+     * or cannot be read.
+     */
+    public static synchronized AssetPack getDefault() {
+        if (defaultPack == null) {
+            Path path = Path.of(System.getProperty(PATH_PROPERTY, DEFAULT_PATH));
+            defaultPack = EMPTY;
+            if (Files.isRegularFile(path)) {
+                try {
+                    defaultPack = open(path);
+                    System.out.println(String.format(
+                            "AssetPack: Mapped <%d> assets from <'%s'>.",
+                            defaultPack.size(),
+                            path
+                    ));
+                } catch (IOException e) {
+                    System.err.println(e.getMessage());
+                }
+            }
+        }
+        return defaultPack;
+    }
+
+    /**
+     * Returns the number of assets in the pack.
+     *
+     * @return The asset count.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns whether the pack holds an asset.
+     *
+     * @param key The asset's resource path.
+     * @return {@code true} if it does, {@code false} otherwise.
+     */
+    public boolean contains(final String key) {
+        return entries.containsKey(key);
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Memory-maps a pack file. The file may be deleted or replaced afterwards
+     * only on platforms that allow it while mapped.
+     *
+     * @param path The pack file.
+     * @return The pack.
+     * @throws IOException If the file cannot be read or is not a valid pack.
+     */
+    public static AssetPack open(final Path path) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(String.format(
+                        "%s: Pack <'%s'> is too large to map.",
+                        AssetPack.class.getName(),
+                        path
+                ));
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(BYTE_ORDER);
+        }
+
+        try {
+            return new AssetPack(data, readIndex(data.duplicate().order(BYTE_ORDER)));
+        } catch (RuntimeException e) {
+            throw new IOException(String.format(
+                    "%s: Corrupt pack <'%s'>.",
+                    AssetPack.class.getName(),
+                    path
+            ), e);
+        }
+    }
+
+    /**
+     * Loads an image from the pack as a {@link BufferedImage#TYPE_INT_ARGB}
+     * image. The pixels are bulk-copied out of the mapped file; nothing is
+     * decoded.
+     *
+     * @param key The image's resource path.
+     * @return The image, or {@code null} if the pack does not hold it.
+     */
+    public BufferedImage loadImage(final String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.type != TYPE_IMAGE) {
+            return null;
+        }
+
+        int[] pixels = new int[entry.width * entry.height];
+        data.slice(entry.offset, entry.length).order(BYTE_ORDER).asIntBuffer().get(pixels);
+
+        DirectColorModel colorModel = (DirectColorModel) ColorModel.getRGBdefault();
+        WritableRaster raster = Raster.createPackedRaster(
+                new DataBufferInt(pixels, pixels.length),
+                entry.width,
+                entry.height,
+                entry.width,
+                colorModel.getMasks(),
+                null
+        );
+        return new BufferedImage(colorModel, raster, false, null);
+    }
+
+    /**
+     * Opens a stream over PCM audio in the pack. The samples are read straight
+     * from the mapped file; nothing is decoded or converted.
+     *
+     * @param key The audio's resource path.
+     * @return The audio stream, or {@code null} if the pack does not hold it.
+     */
+    public AudioInputStream openAudio(final String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.type != TYPE_AUDIO) {
+            return null;
+        }
+
+        ByteBuffer samples = data.slice(entry.offset, entry.length);
+        return new AudioInputStream(
+                new ByteBufferInputStream(samples),
+                entry.audioFormat,
+                entry.length / Math.max(entry.audioFormat.getFrameSize(), 1)
+        );
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Reads the index at the start of a pack.
+     */
+    private static Map<String, Entry> readIndex(final ByteBuffer in) throws IOException {
+        if (in.getInt() != MAGIC) {
+            throw new IOException(String.format(
+                    "%s: Not an asset pack.",
+                    AssetPack.class.getName()
+            ));
+        }
+        int version = in.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(
+                    "%s: Unsupported asset pack format version <%d>.",
+                    AssetPack.class.getName(),
+                    version
+            ));
+        }
+
+        int entryCount = in.getInt();
+        Map<String, Entry> entries = new HashMap<>(Math.max(entryCount * 2, 16));
+        for (int i = 0; i < entryCount; i++) {
+            byte[] keyBytes = new byte[in.getShort() & 0xFFFF];
+            in.get(keyBytes);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+
+            Entry entry = new Entry(in.get(), in.getInt(), in.getInt());
+            if (entry.offset < 0 || entry.length < 0 || entry.offset > in.limit() - entry.length) {
+                throw new IOException(String.format(
+                        "%s: Asset <'%s'> lies outside the pack.",
+                        AssetPack.class.getName(),
+                        key
+                ));
+            }
+
+            if (entry.type == TYPE_IMAGE) {
+                entry.width = in.getInt();
+                entry.height = in.getInt();
+                if (entry.width < 1 || entry.height < 1 || (long) entry.width * entry.height * Integer.BYTES != entry.length) {
+                    throw new IOException(String.format(
+                            "%s: Image <'%s'> has inconsistent dimensions.",
+                            AssetPack.class.getName(),
+                            key
+                    ));
+                }
+            } else if (entry.type == TYPE_AUDIO) {
+                AudioFormat.Encoding encoding = in.get() == 1 ? AudioFormat.Encoding.PCM_SIGNED : AudioFormat.Encoding.PCM_UNSIGNED;
+                float sampleRate = in.getFloat();
+                int sampleSizeInBits = in.getInt();
+                int channels = in.getInt();
+                int frameSize = in.getInt();
+                float frameRate = in.getFloat();
+                boolean isBigEndian = in.get() == 1;
+                entry.audioFormat = new AudioFormat(encoding, sampleRate, sampleSizeInBits, channels, frameSize, frameRate, isBigEndian);
+            } else {
+                throw new IOException(String.format(
+                        "%s: Asset <'%s'> has unknown type <%d>.",
+                        AssetPack.class.getName(),
+                        key,
+                        entry.type
+                ));
+            }
+            entries.put(key, entry);
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    // ----- PRIVATE INNER CLASSES -----
+    /**
+     * Where an asset lies in the pack and how to interpret it.
+     */
+    private static final class Entry {
+
+        /**
+         * {@link #TYPE_IMAGE} or {@link #TYPE_AUDIO}.
+         */
+        final byte type;
+        /**
+         * The offset of the asset's data from the start of the file.
+         */
+        final int offset;
+        /**
+         * The length of the asset's data in bytes.
+         */
+        final int length;
+        /**
+         * The image width in pixels (images only).
+         */
+        int width;
+        /**
+         * The image height in pixels (images only).
+         */
+        int height;
+        /**
+         * The sample format (audio only).
+         */
+        AudioFormat audioFormat;
+
+        Entry(final byte type, final int offset, final int length) {
+            this.type = type;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * An input stream reading (without copying) from a byte buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        /**
+         * The remaining bytes.
+         */
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            int count = Math.clamp(n, 0, buffer.remaining());
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.rikuthin.managers;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Builds an {@link AssetPack}: decodes images and audio once, at build time,
+ * and writes the raw pixels and samples into a single file that the game can
+ * memory-map.
+ * <p>
+ * The file is little-endian throughout. It starts with an index (magic
+ * number, format version, entry count, then each entry's key, type, data
+ * offset, data length and type-specific metadata), followed by each entry's
+ * data, aligned to 8 bytes.
+ * <p>
+ * Run {@link #main(String[])} (or {@code mvn -P assetpack package}) to pack
+ * every PNG and WAV under the resources directory.
+ */
+public final class AssetPackBuilder {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The alignment of each entry's data in the file.
+     */
+    private static final int DATA_ALIGNMENT = 8;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The entries added so far, in the order they will be written.
+     */
+    private final List<PendingEntry> entries;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty builder.
+     */
+    public AssetPackBuilder() {
+        this.entries = new ArrayList<>();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Adds an image, stored as non-premultiplied ARGB pixels.
+     *
+     * @param key The image's resource path (e.g.,
+     * {@code "/images/backgrounds/main-menu.png"}).
+     * @param image The image.
+     * @return This builder.
+     */
+    public AssetPackBuilder addImage(final String key, final BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        ByteBuffer data = ByteBuffer.allocate(pixels.length * Integer.BYTES).order(AssetPack.BYTE_ORDER);
+        data.asIntBuffer().put(pixels);
+
+        ByteBuffer metadata = ByteBuffer.allocate(2 * Integer.BYTES).order(AssetPack.BYTE_ORDER);
+        metadata.putInt(width).putInt(height).flip();
+
+        return add(key, AssetPack.TYPE_IMAGE, metadata, data);
+    }
+
+    /**
+     * Adds audio, stored as raw PCM samples. Compressed audio is converted to
+     * 16-bit signed PCM first. The stream is read to the end but not closed.
+     *
+     * @param key The audio's resource path (e.g.,
+     * {@code "/sounds/Goblins_Den_(Regular).wav"}).
+     * @param audio The audio.
+     * @return This builder.
+     * @throws IOException If the audio cannot be read or converted.
+     */
+    public AssetPackBuilder addAudio(final String key, final AudioInputStream audio) throws IOException {
+        AudioInputStream pcm = audio;
+        AudioFormat.Encoding encoding = audio.getFormat().getEncoding();
+        if (encoding != AudioFormat.Encoding.PCM_SIGNED && encoding != AudioFormat.Encoding.PCM_UNSIGNED) {
+            try {
+                pcm = AudioSystem.getAudioInputStream(SoundManager.getSupportedAudioFormat(audio.getFormat()), audio);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(String.format(
+                        "%s: Cannot convert <'%s'> to PCM.",
+                        this.getClass().getName(),
+                        key
+                ), e);
+            }
+        }
+
+        AudioFormat format = pcm.getFormat();
+        ByteBuffer data = ByteBuffer.wrap(pcm.readAllBytes());
+
+        ByteBuffer metadata = ByteBuffer.allocate(2 + 2 * Float.BYTES + 3 * Integer.BYTES).order(AssetPack.BYTE_ORDER);
+        metadata.put((byte) (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED ? 1 : 0))
+                .putFloat(format.getSampleRate())
+                .putInt(format.getSampleSizeInBits())
+                .putInt(format.getChannels())
+                .putInt(format.getFrameSize())
+                .putFloat(format.getFrameRate())
+                .put((byte) (format.isBigEndian() ? 1 : 0))
+                .flip();
+
+        return add(key, AssetPack.TYPE_AUDIO, metadata, data);
+    }
+
+    /**
+     * Decodes and adds a PNG or WAV resource from the classpath.
+     *
+     * @param resourcePath The resource path, which is also its key.
+     * @return This builder.
+     * @throws IOException If the resource does not exist or cannot be decoded.
+     */
+    public AssetPackBuilder addResource(final String resourcePath) throws IOException {
+        URL url = AssetPackBuilder.class.getResource(resourcePath);
+        if (url == null) {
+            throw new IOException(String.format(
+                    "%s: Resource <'%s'> not found.",
+                    this.getClass().getName(),
+                    resourcePath
+            ));
+        }
+        try (InputStream in = url.openStream()) {
+            return addStream(resourcePath, in);
+        }
+    }
+
+    /**
+     * Decodes and adds every PNG and WAV file under a directory, keyed by its
+     * path relative to that directory (e.g., {@code src/main/resources}).
+     *
+     * @param root The directory.
+     * @return This builder.
+     * @throws IOException If the directory cannot be walked or a file cannot
+     * be decoded.
+     */
+    public AssetPackBuilder addDirectory(final Path root) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).filter(AssetPackBuilder::isSupported).sorted().toList();
+        }
+        for (Path file : files) {
+            String key = "/" + root.relativize(file).toString().replace('\\', '/');
+            try (InputStream in = Files.newInputStream(file)) {
+                addStream(key, in);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the pack, replacing the file if it exists.
+     *
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written or the pack would be
+     * too large to map.
+     */
+    public void write(final Path path) throws IOException {
+        int indexSize = 3 * Integer.BYTES;
+        for (PendingEntry entry : entries) {
+            indexSize += Short.BYTES + entry.key.length + 1 + 2 * Integer.BYTES + entry.metadata.remaining();
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(indexSize).order(AssetPack.BYTE_ORDER);
+        index.putInt(AssetPack.MAGIC).putInt(AssetPack.FORMAT_VERSION).putInt(entries.size());
+        long offset = align(indexSize);
+        long[] offsets = new long[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            PendingEntry entry = entries.get(i);
+            offsets[i] = offset;
+            if (offset + entry.data.remaining() > Integer.MAX_VALUE) {
+                throw new IOException(String.format(
+                        "%s: Pack would be too large to map.",
+                        this.getClass().getName()
+                ));
+            }
+            index.putShort((short) entry.key.length)
+                    .put(entry.key)
+                    .put(entry.type)
+                    .putInt((int) offset)
+                    .putInt(entry.data.remaining())
+                    .put(entry.metadata.duplicate());
+            offset = align(offset + entry.data.remaining());
+        }
+        index.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, index, 0);
+            for (int i = 0; i < entries.size(); i++) {
+                writeFully(channel, entries.get(i).data.duplicate(), offsets[i]);
+            }
+        }
+    }
+
+    /**
+     * Packs every PNG and WAV file under a resources directory.
+     *
+     * @param args The resources directory (default {@code src/main/resources})
+     * and the pack file to write (default {@link AssetPack#DEFAULT_PATH}).
+     * @throws IOException If an asset cannot be decoded or the pack cannot be
+     * written.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        Path root = Path.of(args.length > 0 ? args[0] : "src/main/resources");
+        Path output = Path.of(args.length > 1 ? args[1] : AssetPack.DEFAULT_PATH);
+
+        long startTime = System.nanoTime();
+        AssetPackBuilder builder = new AssetPackBuilder().addDirectory(root);
+        builder.write(output);
+
+        System.out.println(String.format(
+                "AssetPackBuilder: Packed <%d> assets (<%d> KiB) into <'%s'> in <%.1f> ms.",
+                builder.entries.size(),
+                Files.size(output) / 1024,
+                output,
+                (System.nanoTime() - startTime) / 1_000_000.0
+        ));
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Adds an entry, replacing any earlier entry with the same key.
+     */
+    private AssetPackBuilder add(final String key, final byte type, final ByteBuffer metadata, final ByteBuffer data) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Key is too long.",
+                    this.getClass().getName()
+            ));
+        }
+        entries.removeIf(entry -> entry.keyString.equals(key));
+        entries.add(new PendingEntry(key, keyBytes, type, metadata, data));
+        return this;
+    }
+
+    /**
+     * Decodes a PNG or WAV stream (chosen by the key's extension) and adds it.
+     */
+    private AssetPackBuilder addStream(final String key, final InputStream in) throws IOException {
+        if (key.toLowerCase(Locale.ROOT).endsWith(".png")) {
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                throw new IOException(String.format(
+                        "%s: Cannot decode image <'%s'>.",
+                        this.getClass().getName(),
+                        key
+                ));
+            }
+            return addImage(key, image);
+        }
+
+        try (AudioInputStream audio = AudioSystem.getAudioInputStream(in.markSupported() ? in : new BufferedInputStream(in))) {
+            return addAudio(key, audio);
+        } catch (UnsupportedAudioFileException e) {
+            throw new IOException(String.format(
+                    "%s: Cannot decode audio <'%s'>.",
+                    this.getClass().getName(),
+                    key
+            ), e);
+        }
+    }
+
+    /**
+     * Returns whether a file is a PNG or WAV file.
+     */
+    private static boolean isSupported(final Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".png") || name.endsWith(".wav");
+    }
+
+    /**
+     * Rounds an offset up to the next multiple of {@link #DATA_ALIGNMENT}.
+     */
+    private static long align(final long offset) {
+        return (offset + DATA_ALIGNMENT - 1) / DATA_ALIGNMENT * DATA_ALIGNMENT;
+    }
+
+    /**
+     * Writes the whole buffer at the given file position.
+     */
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    // ----- PRIVATE INNER CLASSES -----
+    /**
+     * An entry waiting to be written.
+     */
+    private static final class PendingEntry {
+
+        /**
+         * The asset's resource path.
+         */
+        final String keyString;
+        /**
+         * {@link #keyString} as UTF-8.
+         */
+        final byte[] key;
+        /**
+         * {@link AssetPack#TYPE_IMAGE} or {@link AssetPack#TYPE_AUDIO}.
+         */
+        final byte type;
+        /**
+         * The type-specific metadata written after the data length.
+         */
+        final ByteBuffer metadata;
+        /**
+         * The raw pixels or samples.
+         */
+        final ByteBuffer data;
+
+        PendingEntry(final String keyString, final byte[] key, final byte type, final ByteBuffer metadata, final ByteBuffer data) {
+            this.keyString = keyString;
+            this.key = key;
+            this.type = type;
+            this.metadata = metadata;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,635 @@
+package com.rikuthin.managers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+
+import com.rikuthin.interfaces.AudioSink;
+
+/**
+ * A software mixer for sound effects, playing any number of overlapping
+ * sounds through a single {@link AudioSink}.
+ * <p>
+ * Sounds are decoded once, when {@linkplain #addSound(String, AudioInputStream)
+ * added}, into 16-bit stereo PCM at {@link #SAMPLE_RATE}, and given a dense
+ * integer ID. Playing a sound claims one of a fixed pool of voices, each with
+ * its own gain and pan; if every voice is busy, the oldest is stolen. The
+ * mixer thread sums the active voices a block at a time and writes the result
+ * to the sink, whose blocking write paces the thread.
+ * <p>
+ * Play requests from other threads (e.g., the simulation) go through a
+ * bounded, lock-free multi-producer queue of primitives, so requesting a sound
+ * never blocks or allocates. Requests made while the queue is full are dropped
+ * (and counted). Only the mixer thread touches the voices.
+ */
+public final class AudioMixer {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The sample rate of the mixed output (and of every stored sound).
+     */
+    public static final float SAMPLE_RATE = 44_100f;
+    /**
+     * The format of the mixed output: 16-bit signed little-endian stereo.
+     */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+    /**
+     * The number of frames mixed per block (about 12 ms).
+     */
+    public static final int BLOCK_FRAMES = 512;
+    /**
+     * The number of voices when none is given.
+     */
+    public static final int DEFAULT_VOICE_COUNT = 32;
+    /**
+     * The number of play requests that can be queued between blocks.
+     */
+    public static final int COMMAND_CAPACITY = 1024;
+    /**
+     * The ID standing for "no sound".
+     */
+    public static final int NO_SOUND = -1;
+    /**
+     * The number of blocks the sink buffers ahead of playback.
+     */
+    private static final int SINK_BUFFER_BLOCKS = 4;
+    /**
+     * The queued "sound ID" asking to stop every voice.
+     */
+    private static final int STOP_ALL_COMMAND = -1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The ID of every sound, by key.
+     */
+    private final Map<String, Integer> soundIds;
+    /**
+     * Every sound's interleaved stereo samples, indexed by ID. Replaced
+     * (never modified) on each addition.
+     */
+    private volatile short[][] sounds;
+    /**
+     * The overall gain applied to the mix.
+     */
+    private volatile float masterGain;
+
+    /**
+     * The queued sound IDs (or {@link #STOP_ALL_COMMAND}).
+     */
+    private final int[] commandSoundIds;
+    /**
+     * The queued left-channel gains.
+     */
+    private final float[] commandLeftGains;
+    /**
+     * The queued right-channel gains.
+     */
+    private final float[] commandRightGains;
+    /**
+     * Per slot, the sequence number it is ready for: {@code n} to be written
+     * by request {@code n}, or {@code n + 1} once request {@code n} can be
+     * read.
+     */
+    private final AtomicLongArray commandSequences;
+    /**
+     * The sequence number of the next request to be queued.
+     */
+    private final AtomicLong commandTail;
+    /**
+     * The sequence number of the next request to be run. Only used by the
+     * mixer thread.
+     */
+    private long commandHead;
+    /**
+     * The number of requests dropped because the queue was full.
+     */
+    private final AtomicLong droppedCount;
+
+    /**
+     * The ID of the sound each voice is playing ({@link #NO_SOUND} if free).
+     */
+    private final int[] voiceSoundIds;
+    /**
+     * The next frame each voice will play.
+     */
+    private final int[] voicePositions;
+    /**
+     * Each voice's left-channel gain.
+     */
+    private final float[] voiceLeftGains;
+    /**
+     * Each voice's right-channel gain.
+     */
+    private final float[] voiceRightGains;
+    /**
+     * When (in play order) each voice started, for stealing the oldest.
+     */
+    private final long[] voiceStartOrders;
+    /**
+     * The number of sounds started so far.
+     */
+    private long playCount;
+    /**
+     * The number of voices stolen so far.
+     */
+    private volatile long stolenCount;
+    /**
+     * The number of voices playing after the last block.
+     */
+    private volatile int activeVoiceCount;
+
+    /**
+     * The left channel of the block being mixed.
+     */
+    private final float[] mixLeft;
+    /**
+     * The right channel of the block being mixed.
+     */
+    private final float[] mixRight;
+    /**
+     * The mixed block, as output bytes.
+     */
+    private final byte[] block;
+
+    /**
+     * The sink being written to ({@code null} while stopped).
+     */
+    private AudioSink sink;
+    /**
+     * The mixer thread ({@code null} while stopped).
+     */
+    private Thread thread;
+    /**
+     * Whether the mixer thread should keep running.
+     */
+    private volatile boolean isRunning;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a stopped mixer with the default number of voices.
+     */
+    public AudioMixer() {
+        this(DEFAULT_VOICE_COUNT);
+    }
+
+    /**
+     * Creates a stopped mixer.
+     *
+     * @param voiceCount The most sounds that can play at once. (Minimum value:
+     * 1)
+     */
+    public AudioMixer(final int voiceCount) {
+        if (voiceCount < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Voice count must be at least 1.",
+                    this.getClass().getName()
+            ));
+        }
+
+        this.soundIds = new ConcurrentHashMap<>();
+        this.sounds = new short[0][];
+        this.masterGain = 1.0f;
+
+        this.commandSoundIds = new int[COMMAND_CAPACITY];
+        this.commandLeftGains = new float[COMMAND_CAPACITY];
+        this.commandRightGains = new float[COMMAND_CAPACITY];
+        this.commandSequences = new AtomicLongArray(COMMAND_CAPACITY);
+        for (int i = 0; i < COMMAND_CAPACITY; i++) {
+            commandSequences.set(i, i);
+        }
+        this.commandTail = new AtomicLong();
+        this.commandHead = 0;
+        this.droppedCount = new AtomicLong();
+
+        this.voiceSoundIds = new int[voiceCount];
+        Arrays.fill(voiceSoundIds, NO_SOUND);
+        this.voicePositions = new int[voiceCount];
+        this.voiceLeftGains = new float[voiceCount];
+        this.voiceRightGains = new float[voiceCount];
+        this.voiceStartOrders = new long[voiceCount];
+        this.playCount = 0;
+        this.stolenCount = 0;
+        this.activeVoiceCount = 0;
+
+        this.mixLeft = new float[BLOCK_FRAMES];
+        this.mixRight = new float[BLOCK_FRAMES];
+        this.block = new byte[BLOCK_FRAMES * FORMAT.getFrameSize()];
+        this.isRunning = false;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Retrieves the ID of a sound.
+     *
+     * @param key The sound's key.
+     * @return The sound's ID, or {@link #NO_SOUND} if not found.
+     */
+    public int getSoundId(final String key) {
+        Integer id = (key == null) ? null : soundIds.get(key);
+        return id != null ? id : NO_SOUND;
+    }
+
+    /**
+     * Returns the number of stored sounds.
+     *
+     * @return The sound count.
+     */
+    public int getSoundCount() {
+        return sounds.length;
+    }
+
+    /**
+     * Returns the number of voices.
+     *
+     * @return The voice count.
+     */
+    public int getVoiceCount() {
+        return voiceSoundIds.length;
+    }
+
+    /**
+     * Returns the number of voices playing after the last mixed block.
+     *
+     * @return The active voice count.
+     */
+    public int getActiveVoiceCount() {
+        return activeVoiceCount;
+    }
+
+    /**
+     * Returns the number of voices stolen because every voice was busy.
+     *
+     * @return The stolen voice count.
+     */
+    public long getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * Returns the number of requests dropped because the queue was full.
+     *
+     * @return The dropped request count.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the overall gain applied to the mix.
+     *
+     * @return The master gain (range: 0.0 to 1.0).
+     */
+    public float getMasterGain() {
+        return masterGain;
+    }
+
+    /**
+     * Returns whether the mixer thread is running.
+     *
+     * @return {@code true} if running, {@code false} otherwise.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the overall gain applied to the mix.
+     *
+     * @param masterGain The master gain (range: 0.0 to 1.0).
+     */
+    public void setMasterGain(final float masterGain) {
+        this.masterGain = Math.clamp(masterGain, 0.0f, 1.0f);
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Decodes a sound and stores it under the next free ID. If a sound with
+     * the given key already exists, it is not replaced. Safe to call from any
+     * thread, including while the mixer is running.
+     *
+     * @param key The sound's key.
+     * @param audioIn The sound's audio, in any format {@link AudioSystem} can
+     * convert to PCM. The stream is read to the end but not closed.
+     * @return The sound's ID.
+     * @throws IOException If the audio cannot be read or converted.
+     */
+    public int addSound(final String key, final AudioInputStream audioIn) throws IOException {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Key cannot be null or empty.",
+                    this.getClass().getName()
+            ));
+        }
+        return addSamples(key, decode(audioIn));
+    }
+
+    /**
+     * Stores interleaved stereo samples at {@link #SAMPLE_RATE} under the next
+     * free ID, unless a sound with the given key already exists.
+     *
+     * @param key The sound's key.
+     * @param samples The samples (not copied, so must not be modified).
+     * @return The sound's ID.
+     */
+    synchronized int addSamples(final String key, final short[] samples) {
+        Integer existingId = soundIds.get(key);
+        if (existingId != null) {
+            return existingId;
+        }
+
+        int id = sounds.length;
+        short[][] newSounds = Arrays.copyOf(sounds, id + 1);
+        newSounds[id] = samples;
+
+        // Publish the samples before the ID, so anyone who can see the ID can play it.
+        sounds = newSounds;
+        soundIds.put(key, id);
+        return id;
+    }
+
+    /**
+     * Asks for a sound to be played. Never blocks or allocates, so it is safe
+     * to call from the simulation thread every tick.
+     *
+     * @param soundId The sound's ID.
+     * @param gain The sound's volume. (Range: 0.0 to 1.0)
+     * @param pan Where the sound sits between the left ({@code -1}) and right
+     * ({@code 1}) speakers.
+     * @return {@code true} if queued, {@code false} if the sound does not
+     * exist or the queue was full.
+     */
+    public boolean play(final int soundId, final float gain, final float pan) {
+        if (soundId < 0 || soundId >= sounds.length) {
+            return false;
+        }
+
+        // Equal-power panning keeps the loudness steady across the stereo field.
+        double angle = (Math.clamp(pan, -1.0f, 1.0f) + 1) * Math.PI / 4;
+        float clampedGain = Math.clamp(gain, 0.0f, 1.0f);
+        return offerCommand(soundId, (float) (clampedGain * Math.cos(angle)), (float) (clampedGain * Math.sin(angle)));
+    }
+
+    /**
+     * Asks for every playing sound to be stopped.
+     *
+     * @return {@code true} if queued, {@code false} if the queue was full.
+     */
+    public boolean stopAll() {
+        return offerCommand(STOP_ALL_COMMAND, 0, 0);
+    }
+
+    /**
+     * Opens the sink and starts the mixer thread. Does nothing if already
+     * running. If the mixer thread died, its old sink is closed first.
+     *
+     * @param sink The sink to write the mix to.
+     * @throws LineUnavailableException If the sink cannot be opened.
+     */
+    public synchronized void start(final AudioSink sink) throws LineUnavailableException {
+        if (isRunning) {
+            return;
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Sink cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        stop();
+
+        sink.open(FORMAT, block.length * SINK_BUFFER_BLOCKS);
+        this.sink = sink;
+        isRunning = true;
+        thread = new Thread(this::run, "audio-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Stops the mixer thread and closes the sink. Queued requests and playing
+     * voices are kept, and resume if the mixer is started again.
+     */
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+        isRunning = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sink.close();
+        sink = null;
+        thread = null;
+    }
+
+    /**
+     * Runs queued requests and mixes the next block of audio. Called by the
+     * mixer thread; only call it directly while the mixer is stopped (e.g., in
+     * tests).
+     *
+     * @return The mixed block as output bytes ({@link #BLOCK_FRAMES} frames
+     * in {@link #FORMAT}). The array is reused by the next call.
+     */
+    public byte[] mixBlock() {
+        runCommands();
+
+        Arrays.fill(mixLeft, 0);
+        Arrays.fill(mixRight, 0);
+
+        short[][] soundSnapshot = sounds;
+        int activeCount = 0;
+        for (int voice = 0; voice < voiceSoundIds.length; voice++) {
+            int soundId = voiceSoundIds[voice];
+            if (soundId == NO_SOUND) {
+                continue;
+            }
+
+            short[] samples = soundSnapshot[soundId];
+            int position = voicePositions[voice];
+            int frameCount = Math.min(BLOCK_FRAMES, samples.length / 2 - position);
+            float leftGain = voiceLeftGains[voice];
+            float rightGain = voiceRightGains[voice];
+            for (int frame = 0, sample = position * 2; frame < frameCount; frame++, sample += 2) {
+                mixLeft[frame] += samples[sample] * leftGain;
+                mixRight[frame] += samples[sample + 1] * rightGain;
+            }
+
+            voicePositions[voice] = position + frameCount;
+            if (voicePositions[voice] * 2 >= samples.length) {
+                voiceSoundIds[voice] = NO_SOUND;
+            } else {
+                activeCount++;
+            }
+        }
+        activeVoiceCount = activeCount;
+
+        float gain = masterGain;
+        for (int frame = 0, i = 0; frame < BLOCK_FRAMES; frame++, i += 4) {
+            writeSample(block, i, mixLeft[frame] * gain);
+            writeSample(block, i + 2, mixRight[frame] * gain);
+        }
+        return block;
+    }
+
+    /**
+     * Decodes audio into interleaved stereo 16-bit samples at
+     * {@link #SAMPLE_RATE}. Mono audio is copied to both channels and other
+     * sample rates are linearly resampled.
+     *
+     * @param audioIn The audio. The stream is read to the end but not closed.
+     * @return The samples.
+     * @throws IOException If the audio cannot be read or converted.
+     */
+    public static short[] decode(final AudioInputStream audioIn) throws IOException {
+        AudioFormat sourceFormat = audioIn.getFormat();
+        int channels = sourceFormat.getChannels();
+        AudioFormat pcmFormat = new AudioFormat(sourceFormat.getSampleRate(), 16, channels, true, false);
+
+        byte[] bytes;
+        try {
+            bytes = AudioSystem.getAudioInputStream(pcmFormat, audioIn).readAllBytes();
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format(
+                    "%s: Cannot convert <%s> to PCM.",
+                    AudioMixer.class.getName(),
+                    sourceFormat
+            ), e);
+        }
+
+        int sourceFrames = bytes.length / (2 * channels);
+        double step = sourceFormat.getSampleRate() / SAMPLE_RATE;
+        int frames = (int) Math.ceil(sourceFrames / step);
+        short[] samples = new short[frames * 2];
+        for (int frame = 0; frame < frames; frame++) {
+            double sourcePosition = frame * step;
+            int index = (int) sourcePosition;
+            double fraction = sourcePosition - index;
+            int next = Math.min(index + 1, sourceFrames - 1);
+            for (int channel = 0; channel < 2; channel++) {
+                int sourceChannel = Math.min(channel, channels - 1);
+                double a = readSample(bytes, (index * channels + sourceChannel) * 2);
+                double b = readSample(bytes, (next * channels + sourceChannel) * 2);
+                samples[frame * 2 + channel] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return samples;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Mixes blocks and writes them to the sink until stopped. If mixing or
+     * writing fails, the thread ends and the mixer reports itself stopped, so
+     * the next play can start it again.
+     */
+    private void run() {
+        try {
+            while (isRunning) {
+                byte[] mixed = mixBlock();
+                sink.write(mixed, 0, mixed.length);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("AudioMixer: Mixer thread stopped - " + e);
+        } finally {
+            isRunning = false;
+        }
+    }
+
+    /**
+     * Queues a request (lock-free, for any number of producers).
+     */
+    private boolean offerCommand(final int soundId, final float leftGain, final float rightGain) {
+        while (true) {
+            long tail = commandTail.get();
+            int slot = (int) (tail % COMMAND_CAPACITY);
+            long sequence = commandSequences.getAcquire(slot);
+            if (sequence < tail) {
+                // The mixer has not yet run the request a full lap behind: the queue is full.
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            if (sequence == tail && commandTail.compareAndSet(tail, tail + 1)) {
+                commandSoundIds[slot] = soundId;
+                commandLeftGains[slot] = leftGain;
+                commandRightGains[slot] = rightGain;
+                commandSequences.setRelease(slot, tail + 1);
+                return true;
+            }
+            // Another producer claimed the slot first; retry with the new tail.
+        }
+    }
+
+    /**
+     * Runs every request queued so far. Only called by the mixer thread.
+     */
+    private void runCommands() {
+        while (true) {
+            int slot = (int) (commandHead % COMMAND_CAPACITY);
+            if (commandSequences.getAcquire(slot) != commandHead + 1) {
+                return;
+            }
+
+            int soundId = commandSoundIds[slot];
+            if (soundId == STOP_ALL_COMMAND) {
+                Arrays.fill(voiceSoundIds, NO_SOUND);
+            } else {
+                startVoice(soundId, commandLeftGains[slot], commandRightGains[slot]);
+            }
+
+            commandSequences.setRelease(slot, commandHead + COMMAND_CAPACITY);
+            commandHead++;
+        }
+    }
+
+    /**
+     * Starts a sound on a free voice, or on the oldest voice if none is free.
+     */
+    private void startVoice(final int soundId, final float leftGain, final float rightGain) {
+        int chosen = 0;
+        for (int voice = 0; voice < voiceSoundIds.length; voice++) {
+            if (voiceSoundIds[voice] == NO_SOUND) {
+                chosen = voice;
+                break;
+            }
+            if (voiceStartOrders[voice] < voiceStartOrders[chosen]) {
+                chosen = voice;
+            }
+        }
+        if (voiceSoundIds[chosen] != NO_SOUND) {
+            stolenCount++;
+        }
+
+        voiceSoundIds[chosen] = soundId;
+        voicePositions[chosen] = 0;
+        voiceLeftGains[chosen] = leftGain;
+        voiceRightGains[chosen] = rightGain;
+        voiceStartOrders[chosen] = playCount++;
+    }
+
+    /**
+     * Writes a sample as a clipped 16-bit little-endian value.
+     */
+    private static void writeSample(final byte[] out, final int index, final float value) {
+        int sample = (int) Math.clamp(value, Short.MIN_VALUE, Short.MAX_VALUE);
+        out[index] = (byte) sample;
+        out[index + 1] = (byte) (sample >> 8);
+    }
+
+    /**
+     * Reads a 16-bit little-endian sample.
+     */
+    private static short readSample(final byte[] in, final int index) {
+        return (short) ((in[index] & 0xFF) | (in[index + 1] << 8));
+    }
+}
@@ -1,35 +1,165 @@
 package com.rikuthin.managers;
 
+import java.awt.Graphics2D;
 import java.lang.StackWalker.StackFrame;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
+import com.rikuthin.entities.Entity;
 import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.entities.bullets.BulletPool;
+import com.rikuthin.entities.bullets.BulletPool.ExhaustionPolicy;
+import com.rikuthin.entities.bullets.BulletStore;
+import com.rikuthin.graphics.animations.AnimationInstance;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.interfaces.ArenaBounds;
+import com.rikuthin.interfaces.Renderable;
 import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.utility.ParallelChunks;
+
+public class BulletManager implements Updateable, Renderable {
+    // ----- STATIC VARIABLES -----
+    /**
+     * How many bullet slots are allocated up front by default.
+     */
+    public static final int DEFAULT_POOL_PREWARM_SIZE = 4096;
+    /**
+     * What the bullet pool does by default when every slot is in use.
+     */
+    public static final ExhaustionPolicy DEFAULT_POOL_EXHAUSTION_POLICY = ExhaustionPolicy.GROW;
+    /**
+     * The number of bullets each task handles in a parallel update. Moving a
+     * bullet is only a few arithmetic operations, so chunks must be large to
+     * outweigh the cost of forking.
+     */
+    public static final int PARALLEL_CHUNK_SIZE = 4096;
+    /**
+     * The default maximum number of bullets that volleys may emit per tick,
+     * across every spawner.
+     */
+    public static final int DEFAULT_MAX_EMISSIONS_PER_TICK = 2048;
 
-public class BulletManager implements Updateable {
     // ----- INSTANCE VARIABLES -----
     /**
-     * Stores references to all active bullets on screen.
+     * Stores the state of all active bullets on screen in parallel arrays.
+     */
+    private final BulletStore bullets;
+    /**
+     * Hands out (and reclaims) slots in the bullet store.
      */
-    private HashSet<Bullet> bullets;
+    private final BulletPool pool;
+    /**
+     * The pool bullet updates are spread over ({@code null} to update
+     * serially).
+     */
+    private ForkJoinPool updatePool;
+    /**
+     * The maximum number of bullets that volleys may emit per tick.
+     */
+    private int maxEmissionsPerTick;
+    /**
+     * The number of bullets emitted by volleys so far this tick.
+     */
+    private int emissionsThisTick;
 
     // ----- CONSTRUCTORS -----
     public BulletManager() {
+        this(DEFAULT_POOL_PREWARM_SIZE, DEFAULT_POOL_EXHAUSTION_POLICY);
+    }
+
+    /**
+     * Creates a BulletManager whose bullet pool is prewarmed with the given
+     * number of slots.
+     *
+     * @param poolPrewarmSize How many bullet slots to allocate up front.
+     * @param poolExhaustionPolicy What to do when every slot is in use.
+     */
+    public BulletManager(final int poolPrewarmSize, final ExhaustionPolicy poolExhaustionPolicy) {
+        bullets = new BulletStore(poolPrewarmSize);
+        pool = new BulletPool(bullets, poolPrewarmSize, poolExhaustionPolicy);
+        maxEmissionsPerTick = DEFAULT_MAX_EMISSIONS_PER_TICK;
         init();
     }
 
     // ----- GETTERS -----
     /**
-     * Returns all active {@link Bullet} instances.
+     * Returns the storage holding all active bullets.
      *
-     * @return The bullets.
+     * @return The bullet store.
      */
-    public Set<Bullet> getBullets() {
+    public BulletStore getBullets() {
         ensureRunning("getBullets");
         return bullets;
     }
 
+    /**
+     * Returns the number of active bullets.
+     *
+     * @return The bullet count.
+     */
+    public int getBulletCount() {
+        return bullets.size();
+    }
+
+    /**
+     * Returns the pool that hands out bullet slots, e.g., to inspect its
+     * statistics or change its exhaustion policy.
+     *
+     * @return The bullet pool.
+     */
+    public BulletPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the pool bullet updates are spread over.
+     *
+     * @return The pool, or {@code null} if bullets are updated serially.
+     */
+    public ForkJoinPool getUpdatePool() {
+        return updatePool;
+    }
+
+    /**
+     * Returns the maximum number of bullets that volleys may emit per tick.
+     *
+     * @return The emission cap.
+     */
+    public int getMaxEmissionsPerTick() {
+        return maxEmissionsPerTick;
+    }
+
+    /**
+     * Returns the number of bullets emitted by volleys so far this tick.
+     *
+     * @return The emission count.
+     */
+    public int getEmissionsThisTick() {
+        return emissionsThisTick;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the pool bullet updates are spread over. The outcome of a tick is
+     * the same either way.
+     *
+     * @param updatePool The pool, or {@code null} to update serially.
+     */
+    public void setUpdatePool(final ForkJoinPool updatePool) {
+        this.updatePool = updatePool;
+    }
+
+    /**
+     * Sets the maximum number of bullets that volleys may emit per tick,
+     * across every spawner. Once it is reached, further volleys that tick are
+     * cut short, so however much time a tick has to catch up on, it can never
+     * start an unbounded spawn storm.
+     *
+     * @param maxEmissionsPerTick The emission cap. (Minimum value: 0)
+     */
+    public void setMaxEmissionsPerTick(final int maxEmissionsPerTick) {
+        this.maxEmissionsPerTick = Math.max(maxEmissionsPerTick, 0);
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
     /**
      * Initializes the BulletManager for a new game. This method sets up all the necessary objects to manage bullets and
@@ -43,11 +173,77 @@ public class BulletManager implements Updateable {
      * Clears old bullet data.
      */
     public void clear() {
-        bullets = new HashSet<>();
+        pool.releaseAll();
+        emissionsThisTick = 0;
+    }
+
+    /**
+     * Acquires a pooled slot and fills it with a new bullet's state.
+     *
+     * @param x The x-coordinate of the bullet's left edge.
+     * @param y The y-coordinate of the bullet's top edge.
+     * @param velocityX The x-axis velocity in pixels per tick.
+     * @param velocityY The y-axis velocity in pixels per tick (Cartesian).
+     * @param damage The damage dealt on collision.
+     * @param owner The handle of the {@link Entity} that fired the bullet.
+     * @param animation The animation to play ({@code null} for none).
+     * @return The slot index of the new bullet, or {@link BulletPool#NO_SLOT}
+     * if the pool was exhausted and dropped it.
+     */
+    public int spawnBullet(final float x, final float y, final float velocityX, final float velocityY,
+            final int damage, final long owner, final AnimationTemplate animation) {
+        ensureRunning("spawnBullet");
+
+        int slot = pool.acquire();
+        if (slot != BulletPool.NO_SLOT) {
+            bullets.set(slot, x, y, velocityX, velocityY, damage, owner, animation);
+        }
+        return slot;
     }
 
     /**
-     * Adds a new {@link Bullet} instance to the managed list.
+     * Spawns a volley: bullets that leave the same point at the same time,
+     * each with its own velocity. Their slots are acquired from the pool in a
+     * single batch and filled in one pass.
+     * <p>
+     * Counts towards the per-tick emission cap; bullets beyond it (or beyond
+     * what the pool grants) are not spawned.
+     *
+     * @param x The x-coordinate of every bullet's left edge.
+     * @param y The y-coordinate of every bullet's top edge.
+     * @param velocityX The x-axis velocities in pixels per tick, one per
+     * bullet.
+     * @param velocityY The y-axis velocities in pixels per tick (Cartesian),
+     * one per bullet.
+     * @param count The number of bullets in the volley.
+     * @param damage The damage dealt on collision.
+     * @param owner The handle of the {@link Entity} that fired the volley.
+     * @param animation The animation to play ({@code null} for none).
+     * @return The number of bullets actually spawned.
+     */
+    public int spawnVolley(final float x, final float y, final float[] velocityX, final float[] velocityY,
+            final int count, final int damage, final long owner, final AnimationTemplate animation) {
+        ensureRunning("spawnVolley");
+
+        int allowed = Math.min(count, maxEmissionsPerTick - emissionsThisTick);
+        if (allowed <= 0) {
+            return 0;
+        }
+
+        int first = pool.acquire(allowed);
+        if (first == BulletPool.NO_SLOT) {
+            return 0;
+        }
+
+        int spawned = bullets.size() - first;
+        bullets.setVolley(first, spawned, x, y, velocityX, velocityY, damage, owner, animation);
+        emissionsThisTick += spawned;
+        return spawned;
+    }
+
+    /**
+     * Adds the state of a {@link Bullet} instance to the managed bullets. The
+     * instance itself is not retained.
      *
      * @param bullet The new bullet.
      */
@@ -55,18 +251,39 @@ public class BulletManager implements Updateable {
         ensureRunning("addBullet");
 
         if (bullet != null) {
-            bullets.add(bullet);
+            AnimationInstance animation = bullet.getCurrentAnimation();
+            spawnBullet(
+                    bullet.getX(),
+                    bullet.getY(),
+                    (float) bullet.getVelocityX(),
+                    (float) bullet.getVelocityY(),
+                    bullet.getDamage(),
+                    bullet.getOwner(),
+                    animation != null ? animation.getTemplate() : null
+            );
         }
     }
 
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Updates all managed objects and the current game state.
+     * Updates all managed objects and the current game state, then starts a
+     * new per-tick emission budget.
      */
     @Override
     public void update() {
         ensureRunning("update");
         updateBullets();
+        emissionsThisTick = 0;
+    }
+
+    /**
+     * Renders all active bullets.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        bullets.render(g2d);
     }
 
     // ----- HELPER METHODS -----
@@ -85,18 +302,28 @@ public class BulletManager implements Updateable {
     }
 
     /**
-     * Updates the list of managed bullets and removes any defeated bullets.
+     * Moves all managed bullets and removes any that have left the arena.
+     * <p>
+     * Serially, this is a single pass. With an update pool, new positions are
+     * computed in parallel chunks first and then committed (and bullets
+     * despawned) on this thread, giving the same result.
      */
     private void updateBullets() {
-        ensureRunning("updateBullets");
-
         if (bullets.isEmpty()) {
             return;
         }
 
-        bullets.removeIf(bullet -> {
-            bullet.update();
-            return bullet.isFullyOutsidePanel();
-        });
+        ArenaBounds arena = GameManager.getInstance().getArena();
+        int arenaWidth = arena.getWidth();
+        int arenaHeight = arena.getHeight();
+
+        if (updatePool == null) {
+            bullets.update(arenaWidth, arenaHeight);
+            return;
+        }
+
+        ParallelChunks.forEach(updatePool, bullets.size(), PARALLEL_CHUNK_SIZE,
+                (from, to) -> bullets.computeUpdate(from, to, arenaWidth, arenaHeight));
+        bullets.commitUpdate();
     }
 }
@@ -0,0 +1,297 @@
+package com.rikuthin.managers;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.rikuthin.entities.Entity;
+import com.rikuthin.entities.EntityRegistry;
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.BulletStore;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.interfaces.ArenaBounds;
+import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.utility.SpatialGrid;
+
+/**
+ * Resolves collisions between bullets and the entities they can damage.
+ * <p>
+ * Every tick, all live bullets are bucketed into a {@link SpatialGrid} sized
+ * to the arena (the broadphase). Each collidable entity then queries only the
+ * cells under its hitbox, producing a list of candidate (bullet, entity)
+ * pairs. The narrowphase tests each pair's bounding boxes, applies damage and
+ * removes bullets that hit something.
+ * <p>
+ * The cost therefore grows with the number of bullets plus the number of
+ * bullets near each entity, rather than with bullets × entities.
+ * <p>
+ * Bullets fired by the {@link Player} can only hit enemies, and bullets fired
+ * by anything else can only hit the player. A bullet's owner is resolved from
+ * its handle; bullets whose owner has since been removed are treated as enemy
+ * fire.
+ */
+public class CollisionManager implements Updateable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The width and height (in pixels) of each broadphase grid cell.
+     */
+    public static final int DEFAULT_CELL_SIZE = 64;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The broadphase grid the bullets are bucketed into.
+     */
+    private final SpatialGrid grid;
+    /**
+     * The entities bullets are tested against this tick. (Reused each tick.)
+     */
+    private final List<Entity> targets;
+    /**
+     * The bullet slot of each candidate pair.
+     */
+    private int[] pairBullet;
+    /**
+     * The index (into {@link #targets}) of each candidate pair's entity.
+     */
+    private int[] pairTarget;
+    /**
+     * The number of candidate pairs produced this tick.
+     */
+    private int pairCount;
+    /**
+     * Flags bullets that have already hit something this tick.
+     */
+    private boolean[] bulletHasHit;
+    /**
+     * The slots of bullets that hit something this tick.
+     */
+    private int[] hitBullets;
+    /**
+     * The number of bullets that hit something this tick.
+     */
+    private int hitCount;
+
+    // ----- CONSTRUCTORS -----
+    public CollisionManager() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates a CollisionManager whose broadphase grid uses the given cell
+     * size.
+     *
+     * @param cellSize The width and height of each grid cell in pixels.
+     */
+    public CollisionManager(final int cellSize) {
+        grid = new SpatialGrid(cellSize);
+        targets = new ArrayList<>();
+        pairBullet = new int[256];
+        pairTarget = new int[256];
+        bulletHasHit = new boolean[BulletManager.DEFAULT_POOL_PREWARM_SIZE];
+        hitBullets = new int[256];
+        pairCount = 0;
+        hitCount = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the broadphase grid.
+     *
+     * @return The spatial grid.
+     */
+    public SpatialGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Returns how many candidate pairs the broadphase produced on the last
+     * tick.
+     *
+     * @return The candidate pair count.
+     */
+    public int getCandidatePairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Returns how many bullets hit something on the last tick.
+     *
+     * @return The hit count.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Runs the broadphase and narrowphase over the given bullets and entities,
+     * applying damage and removing bullets that hit something.
+     *
+     * @param bulletManager The manager owning the bullets.
+     * @param entityRegistry The registry used to resolve bullet owners.
+     * @param player The player (may be {@code null}).
+     * @param enemies The enemies.
+     * @param arena The arena the broadphase grid should cover.
+     */
+    public void resolve(final BulletManager bulletManager, final EntityRegistry entityRegistry,
+            final Player player, final Iterable<? extends Enemy> enemies, final ArenaBounds arena) {
+        pairCount = 0;
+        hitCount = 0;
+
+        BulletStore bullets = bulletManager.getBullets();
+        if (bullets.isEmpty()) {
+            return;
+        }
+
+        collectTargets(player, enemies);
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        buildBroadphase(bullets, arena);
+        runNarrowphase(bullets, entityRegistry);
+        removeHitBullets(bulletManager);
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Resolves this tick's collisions for the running game.
+     */
+    @Override
+    public void update() {
+        GameManager gameManager = GameManager.getInstance();
+        resolve(
+                gameManager.getBulletManager(),
+                gameManager.getEntityRegistry(),
+                gameManager.getPlayer(),
+                gameManager.getEnemyManager().getEnemies(),
+                gameManager.getArena()
+        );
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Gathers every collidable, living entity bullets can hit.
+     */
+    private void collectTargets(final Player player, final Iterable<? extends Enemy> enemies) {
+        targets.clear();
+
+        if (player != null && player.isCollidable() && player.getCurrentHitPoints() > 0) {
+            targets.add(player);
+        }
+        for (Enemy enemy : enemies) {
+            if (enemy.isCollidable() && enemy.getCurrentHitPoints() > 0) {
+                targets.add(enemy);
+            }
+        }
+    }
+
+    /**
+     * Buckets every bullet's centre into the grid, then queries the cells
+     * under each target's hitbox to produce candidate pairs.
+     */
+    private void buildBroadphase(final BulletStore bullets, final ArenaBounds arena) {
+        grid.reset(arena.getWidth(), arena.getHeight());
+
+        int maxWidth = 0;
+        int maxHeight = 0;
+        int bulletCount = bullets.size();
+        for (int i = 0; i < bulletCount; i++) {
+            int width = bullets.getWidth(i);
+            int height = bullets.getHeight(i);
+            grid.insert(i, bullets.getX(i) + width / 2f, bullets.getY(i) + height / 2f);
+            maxWidth = Math.max(maxWidth, width);
+            maxHeight = Math.max(maxHeight, height);
+        }
+
+        // Bullets are bucketed by centre, so widen each query by the largest half-extent.
+        float marginX = maxWidth / 2f;
+        float marginY = maxHeight / 2f;
+
+        for (int t = 0; t < targets.size(); t++) {
+            Rectangle hitbox = targets.get(t).getHitbox();
+            int found = grid.query(
+                    hitbox.x - marginX,
+                    hitbox.y - marginY,
+                    hitbox.x + hitbox.width + marginX,
+                    hitbox.y + hitbox.height + marginY
+            );
+            for (int r = 0; r < found; r++) {
+                addPair(grid.getResult(r), t);
+            }
+        }
+    }
+
+    /**
+     * Tests each candidate pair exactly, applying damage for every hit. A
+     * bullet can only hit one entity.
+     */
+    private void runNarrowphase(final BulletStore bullets, final EntityRegistry entityRegistry) {
+        if (bulletHasHit.length < bullets.capacity()) {
+            bulletHasHit = new boolean[bullets.capacity()];
+        }
+
+        for (int p = 0; p < pairCount; p++) {
+            int bullet = pairBullet[p];
+            if (bulletHasHit[bullet]) {
+                continue;
+            }
+
+            Entity target = targets.get(pairTarget[p]);
+            if (isFriendly(entityRegistry.get(bullets.getOwner(bullet)), target) || target.getCurrentHitPoints() <= 0) {
+                continue;
+            }
+
+            Rectangle hitbox = target.getHitbox();
+            float x = bullets.getX(bullet);
+            float y = bullets.getY(bullet);
+            if (x < hitbox.x + hitbox.width && x + bullets.getWidth(bullet) > hitbox.x
+                    && y < hitbox.y + hitbox.height && y + bullets.getHeight(bullet) > hitbox.y) {
+                target.applyDamage(bullets.getDamage(bullet));
+                bulletHasHit[bullet] = true;
+                addHit(bullet);
+            }
+        }
+    }
+
+    /**
+     * Removes every bullet that hit something. Slots are released from highest
+     * to lowest so swap-removal never moves a bullet that is still waiting to
+     * be removed.
+     */
+    private void removeHitBullets(final BulletManager bulletManager) {
+        Arrays.sort(hitBullets, 0, hitCount);
+        for (int h = hitCount - 1; h >= 0; h--) {
+            int bullet = hitBullets[h];
+            bulletHasHit[bullet] = false;
+            bulletManager.getPool().release(bullet);
+        }
+    }
+
+    /**
+     * Returns whether a bullet fired by the given owner should pass through
+     * the given target.
+     */
+    private static boolean isFriendly(final Entity owner, final Entity target) {
+        return owner == target || (owner instanceof Player) == (target instanceof Player);
+    }
+
+    private void addPair(final int bullet, final int target) {
+        if (pairCount == pairBullet.length) {
+            pairBullet = Arrays.copyOf(pairBullet, pairCount * 2);
+            pairTarget = Arrays.copyOf(pairTarget, pairCount * 2);
+        }
+        pairBullet[pairCount] = bullet;
+        pairTarget[pairCount] = target;
+        pairCount++;
+    }
+
+    private void addHit(final int bullet) {
+        if (hitCount == hitBullets.length) {
+            hitBullets = Arrays.copyOf(hitBullets, hitCount * 2);
+        }
+        hitBullets[hitCount++] = bullet;
+    }
+}
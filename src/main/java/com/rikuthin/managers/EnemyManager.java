@@ -2,38 +2,67 @@ package com.rikuthin.managers;
 
 import java.awt.Point;
 import java.lang.StackWalker.StackFrame;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
+import com.rikuthin.entities.EntityRegistry;
 import com.rikuthin.entities.Player;
 import com.rikuthin.entities.enemies.BlueMage;
 import com.rikuthin.entities.enemies.Enemy;
 import com.rikuthin.entities.enemies.MagentaMage;
 import com.rikuthin.entities.enemies.RedMage;
-import com.rikuthin.graphics.GameFrame;
-import com.rikuthin.graphics.screens.subpanels.GamePanel;
+import com.rikuthin.interfaces.ArenaBounds;
 import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.utility.ParallelChunks;
 
 public class EnemyManager implements Updateable {
 
     /**
-     * The maximum number of enemies that can exist simultaneously.
+     * The default maximum number of enemies that can exist simultaneously.
      */
-    private static final int MAX_ENEMY_COUNT = 10;
+    public static final int DEFAULT_MAX_ENEMY_COUNT = 10;
     /**
      * The cooldown duration (in milliseconds) before another {@link Enemy} can
      * be created.
      */
     private static final long ENEMY_CREATION_COOLDOWN_MS = 5000; // 5 seconds
+    /**
+     * The number of enemies each task handles in a parallel update.
+     * <p>
+     * Updating one enemy costs far less than forking a task, so a chunk must
+     * hold many enemies to be worth running on its own thread. Up to this many
+     * enemies are always updated on the calling thread, which includes every
+     * game at {@link #DEFAULT_MAX_ENEMY_COUNT}: enemy updates only run in
+     * parallel when the cap is raised with {@link #setMaxEnemyCount(int)}
+     * (e.g., in stress tests and benchmarks).
+     */
+    public static final int PARALLEL_CHUNK_SIZE = 256;
 
     // ----- INSTANCE VARIABLES -----
     /**
-     * Stores references to all active enemies on screen.
+     * The registry every managed enemy is registered with while alive.
      */
-    private HashSet<Enemy> enemies;
+    private final EntityRegistry entityRegistry;
     /**
-     * Random generator used by various methods.
+     * Stores references to all active enemies on screen, densely packed for
+     * iteration. Enemies are looked up by their registry handle, never by
+     * value.
+     */
+    private final ArrayList<Enemy> enemies;
+    /**
+     * A read-only view of {@link #enemies}.
+     */
+    private final List<Enemy> enemiesView;
+    /**
+     * The maximum number of enemies that can exist simultaneously.
+     */
+    private int maxEnemyCount;
+    /**
+     * Random generator used by various methods. Seeded by {@link #init(long)},
+     * so a game's enemies are the same every time it is replayed.
      */
     private Random random;
     /**
@@ -41,29 +70,59 @@ public class EnemyManager implements Updateable {
      */
     private boolean isOnCreationCooldown;
     /**
-     * The elapsed time (in milliseconds) since the enemy creation cooldown
-     * began.
+     * The elapsed simulation time (in milliseconds) since the enemy creation
+     * cooldown began.
      */
-    private long elapsedCreationCooldownMs;
+    private double elapsedCreationCooldownMs;
     /**
-     * The timestamp (in milliseconds) of the last update call.
+     * The pool enemy updates are spread over ({@code null} to update
+     * serially).
      */
-    private long lastUpdateTime;
+    private ForkJoinPool updatePool;
 
     // ----- CONSTRUCTORS -----
-    public EnemyManager() {
-        init();
+    /**
+     * Creates an EnemyManager whose enemies are registered with the given
+     * registry.
+     *
+     * @param entityRegistry The registry handing out enemy handles.
+     */
+    public EnemyManager(final EntityRegistry entityRegistry) {
+        this.entityRegistry = entityRegistry;
+        this.enemies = new ArrayList<>(DEFAULT_MAX_ENEMY_COUNT);
+        this.enemiesView = Collections.unmodifiableList(enemies);
+        init(0);
     }
 
     // ----- GETTERS -----
     /**
      * Returns all active {@link Enemy} instances.
      *
-     * @return The enemies.
+     * @return A read-only view of the enemies.
      */
-    public Set<Enemy> getEnemies() {
+    public List<Enemy> getEnemies() {
         ensureRunning("getEnemies");
-        return enemies;
+        return enemiesView;
+    }
+
+    /**
+     * Returns the active {@link Enemy} a handle refers to.
+     *
+     * @param handle The enemy's handle.
+     * @return The enemy, or {@code null} if it has been removed (or the handle
+     * does not refer to an enemy).
+     */
+    public Enemy getEnemy(final long handle) {
+        return entityRegistry.get(handle, Enemy.class);
+    }
+
+    /**
+     * Returns the maximum number of enemies that can exist simultaneously.
+     *
+     * @return The enemy cap.
+     */
+    public int getMaxEnemyCount() {
+        return maxEnemyCount;
     }
 
     /**
@@ -90,37 +149,65 @@ public class EnemyManager implements Updateable {
      *
      * @return The elasped time.
      */
-    public long getElapsedCreationCooldownMs() {
+    public double getElapsedCreationCooldownMs() {
         return elapsedCreationCooldownMs;
     }
 
     /**
-     * Returns the last time the manager was updated in milliseconds.
+     * Returns the pool enemy updates are spread over.
      *
-     * @return The last update time.
+     * @return The pool, or {@code null} if enemies are updated serially.
      */
-    public long getLastUpdateTime() {
-        return lastUpdateTime;
+    public ForkJoinPool getUpdatePool() {
+        return updatePool;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the maximum number of enemies that can exist simultaneously (e.g.,
+     * to stress-test the simulation). Existing enemies are kept.
+     *
+     * @param maxEnemyCount The enemy cap. (Minimum value: 0)
+     */
+    public void setMaxEnemyCount(final int maxEnemyCount) {
+        this.maxEnemyCount = Math.max(maxEnemyCount, 0);
+    }
+
+    /**
+     * Sets the pool enemy updates are spread over. The outcome of a tick is
+     * the same either way. Ticks with no more than
+     * {@link #PARALLEL_CHUNK_SIZE} enemies run serially even with a pool.
+     *
+     * @param updatePool The pool, or {@code null} to update serially.
+     */
+    public void setUpdatePool(final ForkJoinPool updatePool) {
+        this.updatePool = updatePool;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
     /**
      * Initializes the EnemyManager for a new game. This method sets up all the
      * necessary objects to manage enemies and clears old enemy data.
+     *
+     * @param seed The seed for the random generator choosing enemy types,
+     * positions and speeds.
      */
-    public final void init() {
-        random = new Random();
+    public final void init(final long seed) {
+        random = new Random(seed);
         clear();
+        maxEnemyCount = DEFAULT_MAX_ENEMY_COUNT;
         isOnCreationCooldown = false;
         elapsedCreationCooldownMs = 0;
-        lastUpdateTime = 0;
     }
 
     /**
-     * Clears old enemy data.
+     * Clears old enemy data, unregistering every managed enemy.
      */
     public void clear() {
-        enemies = new HashSet<>();
+        for (Enemy enemy : enemies) {
+            entityRegistry.unregister(enemy.getHandle());
+        }
+        enemies.clear();
     }
 
     /**
@@ -131,12 +218,7 @@ public class EnemyManager implements Updateable {
      */
     public boolean canCreateEnemy() {
         ensureRunning("canCreateEnemy");
-
-        System.out.println("Enemies: " + enemies.size()
-                + " | Elapsed Cooldown Time: " + elapsedCreationCooldownMs
-                + " | On Cooldown: " + isOnCreationCooldown());
-
-        return enemies.size() < MAX_ENEMY_COUNT && !isOnCreationCooldown();
+        return enemies.size() < maxEnemyCount && !isOnCreationCooldown();
     }
 
     /**
@@ -146,9 +228,9 @@ public class EnemyManager implements Updateable {
      */
     public void addEnemy(final Enemy enemy) {
         ensureRunning("addEnemy");
-        updateEnemyCreationCooldownTimer();
 
         if (canCreateEnemy()) {
+            entityRegistry.register(enemy);
             enemies.add(enemy);
         }
     }
@@ -161,25 +243,24 @@ public class EnemyManager implements Updateable {
      */
     public void createRandomEnemy(final Player player) {
         ensureRunning("createRandomEnemy");
-        updateEnemyCreationCooldownTimer();
 
         if (canCreateEnemy()) {
-            GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+            ArenaBounds arena = GameManager.getInstance().getArena();
             Enemy newEnemy;
             int enemyType = random.nextInt(3);
 
             switch (enemyType) {
                 case 0 ->
-                    newEnemy = new RedMage.RedMageBuilder(gamePanel).build();
+                    newEnemy = new RedMage.RedMageBuilder(arena).collidability(true).build();
                 case 1 ->
-                    newEnemy = new BlueMage.BlueMageBuilder(gamePanel).build();
+                    newEnemy = new BlueMage.BlueMageBuilder(arena).collidability(true).build();
                 case 2 ->
-                    newEnemy = new MagentaMage.MagentaMageBuilder(gamePanel).build();
+                    newEnemy = new MagentaMage.MagentaMageBuilder(arena).collidability(true).build();
                 default ->
                     throw new IllegalStateException("Switch-case recieved unexpected value: " + enemyType);
             }
 
-            newEnemy.setPosition(getRandomSpawnPoint());
+            newEnemy.setPosition(getRandomSpawnPoint(arena));
             newEnemy.setTarget(player.getPosition());
 
             int xMoveSpeed = random.nextInt(5);
@@ -187,6 +268,7 @@ public class EnemyManager implements Updateable {
 
             newEnemy.setVelocityX(moveLeft ? -xMoveSpeed : xMoveSpeed);
 
+            entityRegistry.register(newEnemy);
             enemies.add(newEnemy);
 
             isOnCreationCooldown = true;
@@ -202,8 +284,7 @@ public class EnemyManager implements Updateable {
     public void update() {
         ensureRunning("update");
 
-        lastUpdateTime = System.currentTimeMillis();
-
+        updateEnemyCreationCooldownTimer();
         createRandomEnemy(GameManager.getInstance().getPlayer());
         updateEnemies();
     }
@@ -224,16 +305,16 @@ public class EnemyManager implements Updateable {
     }
 
     /**
-     * Updates the attack cooldown timer. This tracks how much time has passed
-     * since the last enemy was created.
+     * Updates the creation cooldown timer. This tracks how much simulation time
+     * has passed since the last enemy was created.
+     * <p>
+     * Advances by one fixed tick per call, so the cooldown lasts the same
+     * number of ticks regardless of how fast the simulation is being run.
      */
     private void updateEnemyCreationCooldownTimer() {
         if (isOnCreationCooldown) {
-            long currentTime = System.currentTimeMillis();
-            long deltaTime = currentTime - lastUpdateTime;
-
             // Increment the cooldown timer
-            elapsedCreationCooldownMs += deltaTime;
+            elapsedCreationCooldownMs += GameManager.getInstance().getTickDurationMs();
 
             // If the cooldown time is passed, reset the flag and elapsed time
             if (elapsedCreationCooldownMs >= ENEMY_CREATION_COOLDOWN_MS) {
@@ -245,6 +326,15 @@ public class EnemyManager implements Updateable {
 
     /**
      * Updates the list of managed enemies and removes any defeated enemies.
+     * Defeated enemies are unregistered, so their handles (e.g., held by
+     * bullets they fired) stop resolving.
+     * <p>
+     * Runs in two phases. First every enemy updates itself, which only
+     * touches that enemy's own state, so this is spread over the update pool
+     * (if any) in chunks. Then, on this thread and in list order, defeated
+     * enemies are removed from the list and registry and the rest fire any
+     * bullet volleys that are due, so the result does not depend on how the
+     * first phase was scheduled.
      */
     private void updateEnemies() {
         ensureRunning("updateEnemies");
@@ -253,15 +343,36 @@ public class EnemyManager implements Updateable {
             return;
         }
 
+        ParallelChunks.forEach(updatePool, enemies.size(), PARALLEL_CHUNK_SIZE, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                enemies.get(i).update();
+            }
+        });
+
         enemies.removeIf(enemy -> {
-            enemy.update();
-            return enemy.getCurrentHitPoints() <= 0;
+            if (enemy.getCurrentHitPoints() > 0) {
+                return false;
+            }
+            entityRegistry.unregister(enemy.getHandle());
+            return true;
         });
+
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).emitBullets();
+        }
     }
 
-    private Point getRandomSpawnPoint() {
-        int x = random.nextInt(GameFrame.FRAME_HEIGHT);
-        int y = random.nextInt(GameFrame.FRAME_HEIGHT * 1 / 5, GameFrame.FRAME_HEIGHT * 3 / 5);
+    /**
+     * Picks a random point across the arena's width, between 1/5 and 3/5 of
+     * its height.
+     *
+     * @param arena The play area the enemy will spawn in.
+     * @return The spawn point.
+     */
+    private Point getRandomSpawnPoint(final ArenaBounds arena) {
+        int height = arena.getHeight();
+        int x = random.nextInt(arena.getWidth());
+        int y = random.nextInt(height * 1 / 5, Math.max(height * 3 / 5, height * 1 / 5 + 1));
         return new Point(x, y);
     }
 }
@@ -4,18 +4,26 @@ import java.awt.Point;
 import java.awt.event.ActionEvent;
 import java.lang.StackWalker.StackFrame;
 import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.swing.Timer;
-
+import com.rikuthin.entities.Entity;
+import com.rikuthin.entities.EntityRegistry;
 import com.rikuthin.entities.Player;
 import com.rikuthin.entities.bullets.BulletSpawner;
 import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.animations.AnimationClock;
 import com.rikuthin.graphics.dialogue.PauseMenuDialogue;
 import com.rikuthin.graphics.screens.subpanels.GamePanel;
 import com.rikuthin.graphics.screens.subpanels.InfoPanel;
+import com.rikuthin.interfaces.ArenaBounds;
 import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.simulation.Replay;
+import com.rikuthin.utility.FixedTimestepLoop;
+import com.rikuthin.utility.FrameProfiler;
+import com.rikuthin.utility.FrameProfiler.Phase;
 
 public class GameManager implements Updateable {
 
@@ -73,8 +81,23 @@ public class GameManager implements Updateable {
      * {@link GameManager} exists throughout the lifetime of the application.
      */
     private static GameManager instance;
+    /**
+     * The default number of simulation ticks per second.
+     */
+    public static final int DEFAULT_TICK_RATE = 60;
+    /**
+     * The default maximum number of simulation ticks that may be run to catch
+     * up after a single slow frame.
+     */
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
 
     // ----- INSTANCE VARIABLES -----
+    /**
+     * Hands out stable handles for every live entity (the player and all
+     * enemies). Bullets refer to their owner by handle, so a removed owner
+     * simply stops resolving.
+     */
+    private final EntityRegistry entityRegistry;
     /**
      * Manages all enemy-related logic, including spawning, tracking, and updating enemies.
      * This instance is responsible for handling enemy creation cooldowns, updating enemy states,
@@ -87,6 +110,17 @@ public class GameManager implements Updateable {
      * and updating their movement over time.
      */
     private final BulletManager bulletManager;
+    /**
+     * Resolves collisions between bullets and the player/enemies each tick,
+     * using a uniform-grid broadphase so the cost stays roughly linear in the
+     * number of bullets.
+     */
+    private final CollisionManager collisionManager;
+    /**
+     * Buffers key events from the UI and applies them to the player at the
+     * start of each tick.
+     */
+    private final InputManager inputManager;
     /**
      * Represents the current state of the game. This determines what actions  
      * can be performed at any given time and helps enforce state-based logic.  
@@ -94,19 +128,57 @@ public class GameManager implements Updateable {
      */
     private GameState currentState = GameState.NOT_INITIALIZED;
     /**
-     * Measures how long the current game has been active.
+     * The total number of simulation ticks run since the game was initialized.
+     */
+    private long tickCount;
+    /**
+     * The seed of the current game's random generator.
+     */
+    private long seed;
+    /**
+     * The seed the next game will use ({@code null} to pick one at random).
      */
-    private Timer gameplayTimer;
+    private Long nextSeed;
+    /**
+     * The replay the next game will play back ({@code null} to play live).
+     */
+    private Replay nextPlayback;
+    /**
+     * Whether each new live game is recorded to a {@link Replay}.
+     */
+    private boolean isRecordingReplays;
+    /**
+     * Whether the game is running without any Swing components (e.g., for
+     * benchmarks and soak tests).
+     */
+    private boolean isHeadless;
+    /**
+     * The fixed-timestep loop that drives all simulation updates. Rendering
+     * may happen at any rate; the world only ever advances in whole ticks.
+     */
+    private final FixedTimestepLoop gameLoop;
+    /**
+     * The pool enemy and bullet updates are spread over in parallel update
+     * mode ({@code null} in serial mode).
+     */
+    private ForkJoinPool updatePool;
     /**
      * The player character.
      */
     private Player player;
     /**
-     * Reference to the where all game entities are displayed.
+     * The play area all game entities live within. This is the
+     * {@link GamePanel} when displayed, or a plain arena when headless.
+     */
+    private ArenaBounds arena;
+    /**
+     * Reference to the where all game entities are displayed. ({@code null}
+     * when headless.)
      */
     private GamePanel gamePanel;
     /**
      * Reference to the panel where game information is displayed.
+     * ({@code null} when headless.)
      */
     private InfoPanel infoPanel;
 
@@ -116,8 +188,12 @@ public class GameManager implements Updateable {
      */
     private GameManager() {
         currentState = GameState.NOT_INITIALIZED;
-        enemyManager = new EnemyManager();
+        entityRegistry = new EntityRegistry();
+        enemyManager = new EnemyManager(entityRegistry);
         bulletManager = new BulletManager();
+        collisionManager = new CollisionManager();
+        inputManager = new InputManager();
+        gameLoop = new FixedTimestepLoop(DEFAULT_TICK_RATE, DEFAULT_MAX_CATCH_UP_TICKS);
     }
 
     // ----- GETTERS -----
@@ -137,6 +213,24 @@ public class GameManager implements Updateable {
         return gamePanel;
     }
 
+    /**
+     * Returns the play area all game entities live within.
+     *
+     * @return The arena.
+     */
+    public ArenaBounds getArena() {
+        return arena;
+    }
+
+    /**
+     * Returns whether the game is running without any Swing components.
+     *
+     * @return {@code true} if headless, {@code false} otherwise.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
     /**
      * Returns the current active {@link Player}.
      *
@@ -147,6 +241,25 @@ public class GameManager implements Updateable {
         return player;
     }
 
+    /**
+     * Returns the registry holding the handles of all live entities.
+     *
+     * @return The entity registry.
+     */
+    public EntityRegistry getEntityRegistry() {
+        return entityRegistry;
+    }
+
+    /**
+     * Resolves an entity handle to the live entity it refers to.
+     *
+     * @param handle The entity's handle.
+     * @return The entity, or {@code null} if it has been removed from the game.
+     */
+    public Entity getEntity(final long handle) {
+        return entityRegistry.get(handle);
+    }
+
     public EnemyManager getEnemyManager() {
         ensureRunning("getEnemyManager");
         return enemyManager;
@@ -157,7 +270,241 @@ public class GameManager implements Updateable {
         return bulletManager;
     }
 
+    public CollisionManager getCollisionManager() {
+        return collisionManager;
+    }
+
+    /**
+     * Returns the manager that key events are submitted to. Available in any
+     * state, as events may arrive at any time.
+     *
+     * @return The input manager.
+     */
+    public InputManager getInputManager() {
+        return inputManager;
+    }
+
+    /**
+     * Returns how many simulation ticks run per second.
+     *
+     * @return The tick rate.
+     */
+    public int getTickRate() {
+        return gameLoop.getTickRate();
+    }
+
+    /**
+     * Returns the fixed duration of a single simulation tick in milliseconds.
+     *
+     * @return The tick duration.
+     */
+    public double getTickDurationMs() {
+        return gameLoop.getTickDurationMs();
+    }
+
+    /**
+     * Returns the maximum number of simulation ticks that may be run to catch
+     * up after a single slow frame.
+     *
+     * @return The catch-up cap.
+     */
+    public int getMaxCatchUpTicks() {
+        return gameLoop.getMaxCatchUpTicks();
+    }
+
+    /**
+     * Returns the total number of simulation ticks run since the game was
+     * initialized.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the seed of the current game's random generator. Starting a
+     * game with the same seed and the same input reproduces it exactly.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns whether each new live game is recorded to a {@link Replay}.
+     *
+     * @return {@code true} if recording, {@code false} otherwise.
+     */
+    public boolean isRecordingReplays() {
+        return isRecordingReplays;
+    }
+
+    /**
+     * Returns the replay of the current (or most recent) game: the one being
+     * recorded, or the one being played back.
+     *
+     * @return The replay, or {@code null} if the game is neither recorded nor
+     * a replay.
+     */
+    public Replay getReplay() {
+        return inputManager.getReplay();
+    }
+
+    /**
+     * Returns how much faster than real time the game runs.
+     *
+     * @return The time scale (1 for real time).
+     */
+    public double getTimeScale() {
+        return gameLoop.getTimeScale();
+    }
+
+    /**
+     * Returns whether enemy and bullet updates are spread over several
+     * threads.
+     *
+     * @return {@code true} in parallel update mode, {@code false} in serial
+     * mode.
+     */
+    public boolean isParallelUpdate() {
+        return updatePool != null;
+    }
+
+    /**
+     * Returns how many threads enemy and bullet updates are spread over.
+     *
+     * @return The parallelism (1 in serial mode).
+     */
+    public int getUpdateParallelism() {
+        return updatePool != null ? updatePool.getParallelism() : 1;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets how many simulation ticks run per second.
+     *
+     * @param tickRate The tick rate. (Minimum value: 1)
+     */
+    public void setTickRate(final int tickRate) {
+        gameLoop.setTickRate(tickRate);
+    }
+
+    /**
+     * Sets the maximum number of simulation ticks that may be run to catch up
+     * after a single slow frame. Any further backlog is dropped, so a heavy
+     * frame slows the game down briefly instead of stalling it.
+     *
+     * @param maxCatchUpTicks The catch-up cap. (Minimum value: 1)
+     */
+    public void setMaxCatchUpTicks(final int maxCatchUpTicks) {
+        gameLoop.setMaxCatchUpTicks(maxCatchUpTicks);
+    }
+
+    /**
+     * Sets the seed the next game's random generator will use, so that it can
+     * be reproduced. Only applies to the next game initialized; later games
+     * pick a seed at random again.
+     *
+     * @param seed The seed.
+     */
+    public void setSeed(final long seed) {
+        this.nextSeed = seed;
+    }
+
+    /**
+     * Sets whether each new live game is recorded to a {@link Replay} (see
+     * {@link #getReplay()}). Takes effect from the next game initialized.
+     *
+     * @param isRecordingReplays Whether to record.
+     */
+    public void setRecordingReplays(final boolean isRecordingReplays) {
+        this.isRecordingReplays = isRecordingReplays;
+    }
+
+    /**
+     * Sets how much faster than real time the game runs (e.g., to
+     * fast-forward a replay). Every tick still simulates the same amount of
+     * game time, so this never changes the outcome. Headless games are not
+     * affected, as they run as fast as they are driven.
+     *
+     * @param timeScale The time scale. (Minimum value: 0.01)
+     */
+    public void setTimeScale(final double timeScale) {
+        gameLoop.setTimeScale(timeScale);
+    }
+
+    /**
+     * Switches between serial and parallel update mode. In parallel mode,
+     * enemy and bullet updates are split into chunks that run on a
+     * {@link ForkJoinPool} with one thread per available processor.
+     * <p>
+     * Only populations larger than one chunk are split, so at the default
+     * enemy cap enemies still update serially; see
+     * {@link EnemyManager#PARALLEL_CHUNK_SIZE}.
+     *
+     * @param isParallel Whether to update in parallel.
+     * @see #setUpdateParallelism(int)
+     */
+    public void setParallelUpdate(final boolean isParallel) {
+        setUpdateParallelism(isParallel ? Runtime.getRuntime().availableProcessors() : 1);
+    }
+
+    /**
+     * Sets how many threads enemy and bullet updates are spread over. A
+     * parallelism of 1 updates everything serially on the calling thread.
+     * <p>
+     * Every tick commits its changes (moves, despawns and removals) on the
+     * calling thread in a fixed order, so the simulation evolves identically
+     * whatever the parallelism.
+     *
+     * @param parallelism The number of threads. (Minimum value: 1)
+     */
+    public void setUpdateParallelism(final int parallelism) {
+        int threads = Math.max(parallelism, 1);
+        if (threads == getUpdateParallelism()) {
+            return;
+        }
+
+        if (updatePool != null) {
+            updatePool.shutdown();
+        }
+        updatePool = threads > 1 ? new ForkJoinPool(threads) : null;
+        enemyManager.setUpdatePool(updatePool);
+        bulletManager.setUpdatePool(updatePool);
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Makes the next game initialized a playback of the given replay: it uses
+     * the replay's seed and tick rate, and the player follows the recorded
+     * input instead of the keys. The arena should be the size the replay was
+     * recorded in.
+     *
+     * @param replay The replay to play back.
+     */
+    public void playReplay(final Replay replay) {
+        if (replay == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Replay cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.nextPlayback = replay;
+    }
+
+    /**
+     * Returns whether the current game is a playback of a replay that has
+     * run out of recorded input.
+     *
+     * @return {@code true} if the replay has finished, {@code false}
+     * otherwise.
+     */
+    public boolean isReplayFinished() {
+        return inputManager.isPlaybackFinished();
+    }
+
     /**
      * Returns whether the game is currently initializing.
      *
@@ -195,11 +542,7 @@ public class GameManager implements Updateable {
      * @param infoPanel The panel where the game information is displayed.
      */
     public final void init(final GamePanel gamePanel, final InfoPanel infoPanel) {
-        if (currentState != GameState.NOT_INITIALIZED && currentState != GameState.INITIALIZING) {
-            System.err.println(String.format(
-                    "%s: Cannot initialize unless the game is in the NOT_INITIALIZED or INITIALIZING state.",
-                    this.getClass().getName()
-            ));
+        if (!canInitialize()) {
             return;
         }
 
@@ -212,17 +555,34 @@ public class GameManager implements Updateable {
 
         this.gamePanel = gamePanel;
         this.infoPanel = infoPanel;
+        initWorld(gamePanel, false);
+    }
 
-        // Transition to initializing state during setup
-        currentState = GameState.INITIALIZING;
+    /**
+     * Initializes the GameManager for a new game without any Swing components.
+     * The player, enemy and bullet logic run exactly as they do on screen, but
+     * entities are bounded by the given arena instead of a {@link GamePanel}.
+     * <p>
+     * Headless games are driven by calling {@link #update()} directly, once per
+     * tick, as fast as the caller likes.
+     *
+     * @param arena The play area all game entities live within.
+     */
+    public final void initHeadless(final ArenaBounds arena) {
+        if (!canInitialize()) {
+            return;
+        }
 
-        initialisePlayer();
-        enemyManager.init();
-        bulletManager.init();
-        setGamePaused(false);
+        if (arena == null) {
+            throw new IllegalStateException(String.format(
+                    "%s: Arena must be provided.",
+                    this.getClass().getName()
+            ));
+        }
 
-        // Initialization complete. Begin running.
-        currentState = GameState.RUNNING;
+        this.gamePanel = null;
+        this.infoPanel = null;
+        initWorld(arena, true);
     }
 
     /**
@@ -230,12 +590,17 @@ public class GameManager implements Updateable {
      */
     public final void clear() {
         if (currentState != GameState.NOT_INITIALIZED) {
-            stopGameplayTimer();
+            gameLoop.stop();
+            arena = null;
             gamePanel = null;
             infoPanel = null;
             player = null;
             enemyManager.clear();
             bulletManager.clear();
+            inputManager.clear();
+            entityRegistry.clear();
+            isHeadless = false;
+            currentState = GameState.NOT_INITIALIZED;
         }
     }
 
@@ -249,22 +614,121 @@ public class GameManager implements Updateable {
         setGamePaused(true);
     }
 
+    /**
+     * Advances the simulation by however many fixed ticks have accumulated
+     * since the previous call. Should be called once per rendered frame.
+     * <p>
+     * Does nothing unless the game is running.
+     *
+     * @return The number of ticks that were run.
+     */
+    public int advance() {
+        if (!isRunning()) {
+            return 0;
+        }
+        return gameLoop.advance(System.nanoTime(), this);
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
-     * Updates all managed objects and the current game state.
+     * Updates all managed objects and the current game state by exactly one
+     * simulation tick. Each step is timed by the {@link FrameProfiler}.
      */
     @Override
     public void update() {
         ensureInitialized("update");
+        tickCount++;
+        AnimationClock.getInstance().advance(getTickDurationMs());
 
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long start = profiler.start();
+        inputManager.update(player);
         if (player != null) {
             player.update();
         }
+        start = profiler.record(Phase.PLAYER, start);
         enemyManager.update();
+        start = profiler.record(Phase.ENEMIES, start);
         bulletManager.update();
+        start = profiler.record(Phase.BULLETS, start);
+        collisionManager.resolve(bulletManager, entityRegistry, player, enemyManager.getEnemies(), arena);
+        profiler.record(Phase.COLLISIONS, start);
     }
 
     // ----- HELPER METHODS -----
+    private boolean canInitialize() {
+        if (currentState != GameState.NOT_INITIALIZED && currentState != GameState.INITIALIZING) {
+            System.err.println(String.format(
+                    "%s: Cannot initialize unless the game is in the NOT_INITIALIZED or INITIALIZING state.",
+                    this.getClass().getName()
+            ));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sets up the player and managers for a new game within the given arena.
+     *
+     * @param arena The play area all game entities live within.
+     * @param isHeadless Whether the game is running without Swing components.
+     */
+    private void initWorld(final ArenaBounds arena, final boolean isHeadless) {
+        this.arena = arena;
+        this.isHeadless = isHeadless;
+        this.tickCount = 0;
+        AnimationClock.getInstance().reset();
+
+        // Transition to initializing state during setup
+        currentState = GameState.INITIALIZING;
+
+        entityRegistry.clear();
+        inputManager.clear();
+        initReplay(arena);
+        initialisePlayer();
+        enemyManager.init(seed);
+        bulletManager.init();
+        setGamePaused(false);
+
+        // Initialization complete. Begin running.
+        currentState = GameState.RUNNING;
+    }
+
+    /**
+     * Picks the new game's seed and attaches the replay it plays back or
+     * records to (if any).
+     *
+     * @param arena The play area all game entities live within.
+     */
+    private void initReplay(final ArenaBounds arena) {
+        Replay playback = nextPlayback;
+        nextPlayback = null;
+
+        if (playback != null) {
+            if (playback.getArenaWidth() != arena.getWidth() || playback.getArenaHeight() != arena.getHeight()) {
+                System.err.println(String.format(
+                        "%s: Replay was recorded in a <%d>x<%d> arena, not <%d>x<%d>, so it may not play back faithfully.",
+                        this.getClass().getName(),
+                        playback.getArenaWidth(),
+                        playback.getArenaHeight(),
+                        arena.getWidth(),
+                        arena.getHeight()
+                ));
+            }
+            seed = playback.getSeed();
+            setTickRate(playback.getTickRate());
+            inputManager.startPlayback(playback);
+        } else {
+            seed = nextSeed != null ? nextSeed : ThreadLocalRandom.current().nextLong();
+            if (isRecordingReplays) {
+                inputManager.startRecording(new Replay(seed, getTickRate(), arena.getWidth(), arena.getHeight()));
+            } else {
+                inputManager.stopReplay();
+            }
+        }
+        nextSeed = null;
+    }
+
     private void ensureInitialized(String methodName) {
         if (currentState == GameState.NOT_INITIALIZED || currentState == GameState.INITIALIZING) {
             StackWalker walker = StackWalker.getInstance();
@@ -303,34 +767,33 @@ public class GameManager implements Updateable {
             );
         }
 
-        HashSet<String> playerAnimationKeys = Stream.of(
-                "player-death",
-                "player-idle",
-                "player-walk-up-left",
-                "player-walk-up-right",
-                "player-walk-up"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        player = new Player.PlayerBuilder(gamePanel)
+        player = new Player.PlayerBuilder(arena)
                 .invisibility(false)
                 .collidability(true)
-                .animationKeys(playerAnimationKeys)
-                .currentAnimationKey("player-idle")
+                .animationIds(
+                        Player.DEATH_ANIMATION.getId(),
+                        Player.IDLE_ANIMATION.getId(),
+                        Player.WALK_UP_LEFT_ANIMATION.getId(),
+                        Player.WALK_UP_RIGHT_ANIMATION.getId(),
+                        Player.WALK_UP_ANIMATION.getId()
+                )
+                .currentAnimationId(Player.IDLE_ANIMATION.getId())
                 .maxHitPoints(20)
                 .currentHitPoints(20)
                 .build();
+        entityRegistry.register(player);
 
-        // Trying to do this dynamically wasn't working, so hard-coding for now
-        int x = (GameFrame.FRAME_HEIGHT / 2) - (player.getSpriteWidth() / 2);
-        int y = GameFrame.FRAME_HEIGHT - (2 * player.getSpriteHeight());
+        int x = (arena.getWidth() / 2) - (player.getSpriteWidth() / 2);
+        int y = arena.getHeight() - (2 * player.getSpriteHeight());
 
         player.setPosition(new Point(x, y));
 
         HashSet<String> playerBulletAnimationKeys = Stream.of("player-bullet").collect(Collectors.toCollection(HashSet::new));
 
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(gamePanel, player)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(arena, player)
                 .bulletDamage(1)
                 .bulletVelocityY(20)
+                .spawnDelayMs(150)
                 .bulletAnimationKeys(playerBulletAnimationKeys)
                 .currentBulletAnimationKey("player-bullet")
                 .build();
@@ -342,6 +805,10 @@ public class GameManager implements Updateable {
      * Displays the pause menu dialogue.
      */
     private void showPauseMenu() {
+        if (isHeadless) {
+            return;
+        }
+
         PauseMenuDialogue pauseMenuDialogue = new PauseMenuDialogue(
                 (GameFrame) gamePanel.getTopLevelAncestor(),
                 this::onResume
@@ -364,30 +831,11 @@ public class GameManager implements Updateable {
     private void setGamePaused(boolean paused) {
         if (paused) {
             currentState = GameState.PAUSED;
-            stopGameplayTimer();
+            gameLoop.stop();
             showPauseMenu();
         } else {
             currentState = GameState.RUNNING;
-            startGameplayTimer();
-        }
-    }
-
-    /**
-     * Starts the current gameplay timer.
-     */
-    private void startGameplayTimer() {
-        if (gameplayTimer == null) {
-            gameplayTimer = new Timer(1000 / 60, e -> update());
-        }
-        gameplayTimer.start();
-    }
-
-    /**
-     * Stops the gameplay timer.
-     */
-    private void stopGameplayTimer() {
-        if (gameplayTimer != null) {
-            gameplayTimer.stop();
+            gameLoop.start(System.nanoTime());
         }
     }
 }
@@ -1,8 +1,13 @@
 package com.rikuthin.managers;
 
+import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -12,6 +17,23 @@ import javax.swing.ImageIcon;
 
 /**
  * The ImageManager class manages the loading and processing of images.
+ * <p>
+ * It also provides the image-acceleration layer. Images decoded by
+ * {@link ImageIO} (or created with an arbitrary {@link BufferedImage} type)
+ * rarely match the screen's pixel format, which forces Java2D to convert them
+ * on every blit and stops it from caching them in video memory. Compatible
+ * images ({@link #createCompatibleImage(int, int, int)},
+ * {@link #toCompatibleImage(BufferedImage)},
+ * {@link #loadCompatibleImage(String)}) match the screen's
+ * {@link GraphicsConfiguration}, so they can be drawn without conversion and
+ * are "managed" (transparently cached and restored by Java2D). Volatile images
+ * ({@link #createVolatileImage(int, int, int)}) live in video memory and must
+ * be validated and restored by the caller; see
+ * {@link com.rikuthin.graphics.AcceleratedImage}.
+ * <p>
+ * In a headless environment there is no screen, so compatible images fall
+ * back to integer (premultiplied) ARGB / RGB images and no volatile images are
+ * created.
  */
 public class ImageManager {
 
@@ -32,9 +54,12 @@ public class ImageManager {
     }
 
     /**
-     * Loads a BufferedImage from the provided file path. If the image is
-     * bundled in the JAR (or the classpath), use a URL. Otherwise, load it as a
-     * regular file.
+     * Loads a BufferedImage from the provided file path. If the image is in
+     * the default {@link AssetPack}, it is copied from there without decoding.
+     * Otherwise, if it is bundled in the JAR (or the classpath), use a URL,
+     * or else load it as a regular file.
+     * <p>
+     * Safe to call from any thread.
      *
      * @param filepath The file path (relative or absolute).
      * @return The loaded image object (if possible); {@code null} if a
@@ -44,7 +69,10 @@ public class ImageManager {
         if (filepath == null || filepath.isEmpty()) {
             return null;
         }
-        BufferedImage bufferedImage = null;
+        BufferedImage bufferedImage = AssetPack.getDefault().loadImage(filepath);
+        if (bufferedImage != null) {
+            return bufferedImage;
+        }
 
         try {
             // Try loading as a resource (for classpath resources, e.g., inside JAR file)
@@ -77,21 +105,140 @@ public class ImageManager {
             return null;
         }
 
-        int imageWidth = source.getWidth();
-        int imageHeight = source.getHeight();
-
-        BufferedImage copy = new BufferedImage(
-                imageWidth,
-                imageHeight,
-                BufferedImage.TYPE_INT_ARGB
+        BufferedImage copy = createCompatibleImage(
+                source.getWidth(),
+                source.getHeight(),
+                Transparency.TRANSLUCENT
         );
 
-        Graphics2D g2d = copy.createGraphics();
-
         // Copy the image content
-        g2d.drawImage(source, 0, 0, null);
-        g2d.dispose();
+        drawInto(copy, source);
 
         return copy;
     }
+
+    /**
+     * Loads a BufferedImage (see {@link #loadBufferedImage(String)}) and
+     * converts it to the screen's pixel format.
+     *
+     * @param filepath The file path (relative or absolute).
+     * @return The loaded, compatible image (if possible); {@code null} if a
+     * null/empty filepath is provided or the image cannot be found.
+     */
+    public static BufferedImage loadCompatibleImage(final String filepath) {
+        return toCompatibleImage(loadBufferedImage(filepath));
+    }
+
+    // ----- ACCELERATION -----
+    /**
+     * Returns the graphics configuration of the default screen.
+     *
+     * @return The default configuration; {@code null} if running headless.
+     */
+    public static GraphicsConfiguration getGraphicsConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration();
+    }
+
+    /**
+     * Creates an empty image in the screen's pixel format.
+     *
+     * @param width The image width. (Minimum value: 1)
+     * @param height The image height. (Minimum value: 1)
+     * @param transparency One of {@link Transparency#OPAQUE},
+     * {@link Transparency#BITMASK} or {@link Transparency#TRANSLUCENT}.
+     * @return The new image.
+     */
+    public static BufferedImage createCompatibleImage(final int width, final int height, final int transparency) {
+        int w = Math.max(width, 1);
+        int h = Math.max(height, 1);
+
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(w, h, transparency);
+        }
+        return new BufferedImage(w, h, getFallbackType(transparency));
+    }
+
+    /**
+     * Returns whether an image already matches the screen's pixel format for
+     * its transparency, i.e., can be drawn without conversion.
+     *
+     * @param image The image to check.
+     * @return {@code true} if compatible, {@code false} otherwise.
+     */
+    public static boolean isCompatible(final BufferedImage image) {
+        if (image == null) {
+            return false;
+        }
+
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc != null) {
+            return image.getColorModel().equals(gc.getColorModel(image.getTransparency()));
+        }
+        return image.getType() == getFallbackType(image.getTransparency());
+    }
+
+    /**
+     * Converts an image to the screen's pixel format, keeping its
+     * transparency. Already compatible images are returned unchanged.
+     *
+     * @param source The image to convert.
+     * @return A compatible image with the same contents (or {@code null} if
+     * the source is {@code null}).
+     */
+    public static BufferedImage toCompatibleImage(final BufferedImage source) {
+        if (source == null || isCompatible(source)) {
+            return source;
+        }
+
+        BufferedImage compatible = createCompatibleImage(source.getWidth(), source.getHeight(), source.getTransparency());
+        drawInto(compatible, source);
+        return compatible;
+    }
+
+    /**
+     * Creates a volatile (video memory) image in the screen's pixel format.
+     * Its contents can be lost at any time, so it must be validated before
+     * every use and restored when needed.
+     *
+     * @param width The image width. (Minimum value: 1)
+     * @param height The image height. (Minimum value: 1)
+     * @param transparency One of {@link Transparency#OPAQUE},
+     * {@link Transparency#BITMASK} or {@link Transparency#TRANSLUCENT}.
+     * @return The new image; {@code null} if running headless.
+     */
+    public static VolatileImage createVolatileImage(final int width, final int height, final int transparency) {
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc == null) {
+            return null;
+        }
+        return gc.createCompatibleVolatileImage(Math.max(width, 1), Math.max(height, 1), transparency);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Replaces the contents of an image with those of another.
+     */
+    private static void drawInto(final Image destination, final Image source) {
+        Graphics2D g2d = (Graphics2D) destination.getGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.drawImage(source, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Returns the image type used for compatible images when running
+     * headless.
+     */
+    private static int getFallbackType(final int transparency) {
+        return transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+    }
 }
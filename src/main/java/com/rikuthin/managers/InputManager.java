@@ -0,0 +1,338 @@
+package com.rikuthin.managers;
+
+import java.awt.event.KeyEvent;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.BulletSpawner;
+import com.rikuthin.graphics.animations.AnimationKey;
+import com.rikuthin.simulation.Replay;
+import com.rikuthin.utility.KeyEventRingBuffer;
+import com.rikuthin.utility.KeyEventRingBuffer.KeyEventHandler;
+import com.rikuthin.utility.KeyState;
+
+/**
+ * Turns keyboard input into player movement and firing, one tick at a time.
+ * <p>
+ * Key events are {@linkplain #submitKeyEvent(int, boolean) submitted} from the
+ * UI thread into a lock-free {@link KeyEventRingBuffer}. At the start of each
+ * tick the simulation drains them into a {@link KeyState} bitset and, if any
+ * key changed, applies the result to the player. Input is therefore sampled at
+ * tick boundaries, whichever thread runs the simulation, and costs no
+ * allocation.
+ * <p>
+ * Each tick's keys are reduced to a few input flags (e.g., {@link #MOVE_UP},
+ * {@link #FIRE}). These flags are all the simulation ever sees of the
+ * keyboard, so a game can be {@linkplain #startRecording(Replay) recorded} by
+ * storing them and {@linkplain #startPlayback(Replay) played back} by
+ * feeding them in again instead of reading the keys.
+ */
+public class InputManager {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The player's movement speed in pixels per tick. Halved while
+     * {@link KeyEvent#VK_SHIFT} is held.
+     */
+    public static final int BASE_SPEED = 5;
+    /**
+     * Input flag: move up ({@link KeyEvent#VK_W} or {@link KeyEvent#VK_UP}).
+     */
+    public static final int MOVE_UP = 1;
+    /**
+     * Input flag: move down ({@link KeyEvent#VK_S} or
+     * {@link KeyEvent#VK_DOWN}).
+     */
+    public static final int MOVE_DOWN = 1 << 1;
+    /**
+     * Input flag: move left ({@link KeyEvent#VK_A} or
+     * {@link KeyEvent#VK_LEFT}).
+     */
+    public static final int MOVE_LEFT = 1 << 2;
+    /**
+     * Input flag: move right ({@link KeyEvent#VK_D} or
+     * {@link KeyEvent#VK_RIGHT}).
+     */
+    public static final int MOVE_RIGHT = 1 << 3;
+    /**
+     * Input flag: move at half speed ({@link KeyEvent#VK_SHIFT}).
+     */
+    public static final int SLOW = 1 << 4;
+    /**
+     * Input flag: fire ({@link KeyEvent#VK_SPACE}).
+     */
+    public static final int FIRE = 1 << 5;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The key events submitted since the last tick.
+     */
+    private final KeyEventRingBuffer events;
+    /**
+     * The keys held down as of the last tick.
+     */
+    private final KeyState keyState;
+    /**
+     * Applies a drained event to {@link #keyState} (created once, so draining
+     * allocates nothing).
+     */
+    private final KeyEventHandler applyEvent;
+    /**
+     * Discards a drained event.
+     */
+    private final KeyEventHandler discardEvent;
+    /**
+     * The input flags last applied to the player.
+     */
+    private int currentInput;
+    /**
+     * The number of ticks since the input was last cleared.
+     */
+    private int tick;
+    /**
+     * The replay each tick's input is appended to ({@code null} if not
+     * recording).
+     */
+    private Replay recording;
+    /**
+     * The replay each tick's input is read from instead of the keys
+     * ({@code null} if not playing back).
+     */
+    private Replay playback;
+
+    // ----- CONSTRUCTORS -----
+    public InputManager() {
+        this.events = new KeyEventRingBuffer();
+        this.keyState = new KeyState();
+        this.applyEvent = keyState::set;
+        this.discardEvent = (keyCode, isPressed) -> {
+        };
+        this.currentInput = 0;
+        this.tick = 0;
+        this.recording = null;
+        this.playback = null;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the keys held down as of the last tick.
+     *
+     * @return The key state.
+     */
+    public KeyState getKeyState() {
+        return keyState;
+    }
+
+    /**
+     * Returns the number of key events dropped because too many arrived
+     * between two ticks.
+     *
+     * @return The dropped event count.
+     */
+    public long getDroppedEventCount() {
+        return events.getDroppedCount();
+    }
+
+    /**
+     * Returns the input flags last applied to the player.
+     *
+     * @return The input flags.
+     */
+    public int getCurrentInput() {
+        return currentInput;
+    }
+
+    /**
+     * Returns the replay being recorded or played back.
+     *
+     * @return The replay, or {@code null} if neither.
+     */
+    public Replay getReplay() {
+        return playback != null ? playback : recording;
+    }
+
+    /**
+     * Returns whether input is being played back from a replay.
+     *
+     * @return {@code true} if playing back, {@code false} otherwise.
+     */
+    public boolean isPlayingBack() {
+        return playback != null;
+    }
+
+    /**
+     * Returns whether every tick of the replay being played back has been
+     * run.
+     *
+     * @return {@code true} if playback has finished, {@code false} otherwise
+     * (including when not playing back).
+     */
+    public boolean isPlaybackFinished() {
+        return playback != null && tick >= playback.getTickCount();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Queues a key press or release for the next tick. Must only be called
+     * from one thread (normally the Swing event dispatch thread).
+     *
+     * @param keyCode The key code (see {@link KeyEvent}).
+     * @param isPressed {@code true} if pressed, {@code false} if released.
+     * @return {@code true} if queued, {@code false} if dropped.
+     */
+    public boolean submitKeyEvent(final int keyCode, final boolean isPressed) {
+        return events.offer(keyCode, isPressed);
+    }
+
+    /**
+     * Releases every key, discards any queued events and restarts the tick
+     * count. Any replay being recorded or played back stays attached. Must be
+     * called from the simulation thread.
+     */
+    public void clear() {
+        events.drain(discardEvent);
+        keyState.clear();
+        currentInput = 0;
+        tick = 0;
+    }
+
+    /**
+     * Appends the input of every following tick to a replay, replacing any
+     * replay being recorded or played back.
+     *
+     * @param replay The replay to record into.
+     */
+    public void startRecording(final Replay replay) {
+        if (replay == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Replay cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.recording = replay;
+        this.playback = null;
+    }
+
+    /**
+     * Reads the input of every following tick from a replay, starting at its
+     * first tick, replacing any replay being recorded or played back. Key
+     * events are ignored until playback is stopped; once the replay runs out
+     * there is no input.
+     *
+     * @param replay The replay to play back.
+     */
+    public void startPlayback(final Replay replay) {
+        if (replay == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Replay cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.playback = replay;
+        this.recording = null;
+        this.tick = 0;
+    }
+
+    /**
+     * Stops recording or playing back, returning control to the keys.
+     */
+    public void stopReplay() {
+        this.recording = null;
+        this.playback = null;
+    }
+
+    /**
+     * Drains the key events queued since the last tick and works out this
+     * tick's input flags (from the keys, or from the replay being played
+     * back). If they changed, updates the player's velocity, animation and
+     * firing to match. Must be called from the simulation thread, once per
+     * tick.
+     *
+     * @param player The player to control ({@code null} to only track input).
+     */
+    public void update(final Player player) {
+        int input;
+        if (playback != null) {
+            events.drain(discardEvent);
+            input = playback.getInput(tick);
+        } else {
+            events.drain(applyEvent);
+            input = readKeys();
+        }
+        if (recording != null) {
+            recording.append(input);
+        }
+        tick++;
+
+        if (input == currentInput || player == null) {
+            return;
+        }
+        currentInput = input;
+        applyInput(player, input);
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Reduces the keys currently held to input flags.
+     */
+    private int readKeys() {
+        int input = 0;
+        if (keyState.isEitherPressed(KeyEvent.VK_W, KeyEvent.VK_UP)) {
+            input |= MOVE_UP;
+        }
+        if (keyState.isEitherPressed(KeyEvent.VK_S, KeyEvent.VK_DOWN)) {
+            input |= MOVE_DOWN;
+        }
+        if (keyState.isEitherPressed(KeyEvent.VK_A, KeyEvent.VK_LEFT)) {
+            input |= MOVE_LEFT;
+        }
+        if (keyState.isEitherPressed(KeyEvent.VK_D, KeyEvent.VK_RIGHT)) {
+            input |= MOVE_RIGHT;
+        }
+        if (keyState.isPressed(KeyEvent.VK_SHIFT)) {
+            input |= SLOW;
+        }
+        if (keyState.isPressed(KeyEvent.VK_SPACE)) {
+            input |= FIRE;
+        }
+        return input;
+    }
+
+    /**
+     * Sets the player's velocity, animation and firing to match the given
+     * input flags.
+     */
+    private void applyInput(final Player player, final int input) {
+        int speed = (input & SLOW) != 0 ? BASE_SPEED / 2 : BASE_SPEED;
+        int velocityX = 0;
+        int velocityY = 0;
+        AnimationKey animation = Player.IDLE_ANIMATION;
+
+        if ((input & MOVE_UP) != 0) {
+            velocityY = speed;
+            animation = Player.WALK_UP_ANIMATION;
+        }
+        if ((input & MOVE_DOWN) != 0) {
+            velocityY = -speed;
+            animation = Player.WALK_UP_ANIMATION;
+        }
+        if ((input & MOVE_LEFT) != 0) {
+            velocityX = -speed;
+            animation = Player.WALK_UP_LEFT_ANIMATION;
+        }
+        if ((input & MOVE_RIGHT) != 0) {
+            velocityX = speed;
+            animation = Player.WALK_UP_RIGHT_ANIMATION;
+        }
+
+        player.setVelocityX(velocityX);
+        player.setVelocityY(velocityY);
+
+        // The controller ignores requests for the current animation, so it keeps playing.
+        player.requestAnimation(animation.getId());
+
+        BulletSpawner spawner = player.getBulletSpawner();
+        if (spawner != null) {
+            spawner.setIsSpawning((input & FIRE) != 0);
+        }
+    }
+}
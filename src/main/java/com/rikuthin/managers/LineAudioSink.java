@@ -0,0 +1,61 @@
+package com.rikuthin.managers;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+import com.rikuthin.interfaces.AudioSink;
+
+/**
+ * An {@link AudioSink} that plays audio through a single
+ * {@link SourceDataLine} on the default audio device.
+ */
+public final class LineAudioSink implements AudioSink {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The line being written to ({@code null} until opened).
+     */
+    private SourceDataLine line;
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Opens and starts a line on the default audio device.
+     *
+     * @param format The format of the audio that will be written.
+     * @param bufferBytes How many bytes the line should buffer ahead of
+     * playback.
+     * @throws LineUnavailableException If there is no audio device, or it
+     * cannot play the format.
+     */
+    @Override
+    public void open(final AudioFormat format, final int bufferBytes) throws LineUnavailableException {
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+        } catch (IllegalArgumentException | SecurityException e) {
+            throw new LineUnavailableException(String.format(
+                    "%s: No line can play <%s>: %s",
+                    this.getClass().getName(),
+                    format,
+                    e.getMessage()
+            ));
+        }
+        line.open(format, bufferBytes);
+        line.start();
+    }
+
+    @Override
+    public void write(final byte[] data, final int offset, final int length) {
+        line.write(data, offset, length);
+    }
+
+    @Override
+    public void close() {
+        if (line != null) {
+            line.stop();
+            line.close();
+            line = null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.rikuthin.managers;
+
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+
+import com.rikuthin.interfaces.AudioSink;
+
+/**
+ * An {@link AudioSink} that discards everything written to it, for machines
+ * with no audio device (and for tests).
+ * <p>
+ * When paced, writes block for as long as the audio would have taken to play,
+ * so an {@link AudioMixer} writing to it runs at the same rate as it would
+ * with a real line instead of spinning.
+ */
+public final class NullAudioSink implements AudioSink {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * Whether writes wait for the audio to have "played".
+     */
+    private final boolean isPaced;
+    /**
+     * The number of bytes played per second (0 until opened).
+     */
+    private volatile double bytesPerSecond;
+    /**
+     * The {@link System#nanoTime()} at which the sink was opened.
+     */
+    private volatile long openedAtNanos;
+    /**
+     * The total number of bytes written since the sink was opened.
+     */
+    private volatile long writtenBytes;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a sink that discards its audio.
+     *
+     * @param isPaced {@code true} to block writes in real time, {@code false}
+     * to return at once.
+     */
+    public NullAudioSink(final boolean isPaced) {
+        this.isPaced = isPaced;
+        this.bytesPerSecond = 0;
+        this.openedAtNanos = 0;
+        this.writtenBytes = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the total number of bytes written since the sink was opened.
+     *
+     * @return The written byte count.
+     */
+    public long getWrittenBytes() {
+        return writtenBytes;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public void open(final AudioFormat format, final int bufferBytes) {
+        bytesPerSecond = (double) format.getFrameRate() * format.getFrameSize();
+        openedAtNanos = System.nanoTime();
+        writtenBytes = 0;
+    }
+
+    @Override
+    public void write(final byte[] data, final int offset, final int length) {
+        writtenBytes += length;
+        if (!isPaced || bytesPerSecond <= 0) {
+            return;
+        }
+
+        long dueAtNanos = openedAtNanos + (long) (writtenBytes / bytesPerSecond * 1_000_000_000L);
+        long waitNanos = dueAtNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+
+    @Override
+    public void close() {
+        bytesPerSecond = 0;
+    }
+}
@@ -3,9 +3,11 @@ package com.rikuthin.managers;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
@@ -22,6 +24,19 @@ import javax.sound.sampled.UnsupportedAudioFileException;
  * The {@link SoundManager} loads, plays, and stops audio clips efficiently.
  * Audio files can be loaded either from the JAR's resources or as external
  * files.
+ * <p>
+ * Clips are not loaded when the manager is created. Call
+ * {@link #loadDefaultClips()} (or
+ * {@link #loadDefaultClipsAsync(Executor, Runnable)} to decode them off the
+ * event dispatch thread) before playing them; clips may be played while
+ * others are still loading.
+ * <p>
+ * Each clip holds its own line and cannot overlap itself, so clips are meant
+ * for music. Short sound effects are {@linkplain #loadSound(String, String)
+ * loaded} into a software {@link AudioMixer} instead, which plays any number
+ * of overlapping sounds through one line. The mixer starts on the first
+ * {@link #playSound(int, float, float)}, and falls back to a
+ * {@link NullAudioSink} if there is no audio device.
  */
 public class SoundManager {
 
@@ -35,6 +50,13 @@ public class SoundManager {
      * Directory where sound files are stored.
      */
     private static final String SOUNDS_FOLDER = "/sounds/";
+    /**
+     * The key and file name of each clip loaded by {@link #loadDefaultClips()}.
+     */
+    private static final String[][] DEFAULT_CLIPS = {
+        {"goblinsDance", "Goblins_Dance_(Battle).wav"},
+        {"goblinsDen", "Goblins_Den_(Regular).wav"}
+    };
 
     // ----- INSTANCE VARIABLES -----
     /**
@@ -45,24 +67,21 @@ public class SoundManager {
     /**
      * Volume control (range: 0.0 to 1.0).
      */
-    private float volume;
+    private volatile float volume;
+
+    /**
+     * Mixes sound effects (started on first use).
+     */
+    private final AudioMixer mixer;
 
     // ----- CONSTRUCTORS -----
     /**
      * Private constructor to enforce the singleton pattern.
      */
     private SoundManager() {
-        clips = new HashMap<>();
+        clips = new ConcurrentHashMap<>();
         volume = 1.0f; // Default volume
-        loadDefaultClips();
-    }
-
-    /**
-     * Loads the default audio clips when the sound manager is initialized.
-     */
-    private void loadDefaultClips() {
-        loadAndStoreClip("goblinsDance", "Goblins_Dance_(Battle).wav");
-        loadAndStoreClip("goblinsDen", "Goblins_Den_(Regular).wav");
+        mixer = new AudioMixer();
     }
 
     // ----- SINGLETON GETTER -----
@@ -71,7 +90,7 @@ public class SoundManager {
      *
      * @return The single instance of {@link SoundManager}.
      */
-    public static SoundManager getInstance() {
+    public static synchronized SoundManager getInstance() {
         if (instance == null) {
             instance = new SoundManager();
         }
@@ -98,6 +117,34 @@ public class SoundManager {
         return clips.keySet();
     }
 
+    /**
+     * Returns the number of clips loaded by {@link #loadDefaultClips()}.
+     *
+     * @return The clip count.
+     */
+    public static int getDefaultClipCount() {
+        return DEFAULT_CLIPS.length;
+    }
+
+    /**
+     * Returns the mixer that plays sound effects.
+     *
+     * @return The {@link AudioMixer}.
+     */
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+
+    /**
+     * Retrieves the ID of a loaded sound effect.
+     *
+     * @param key The key of the sound.
+     * @return The sound's ID, or {@link AudioMixer#NO_SOUND} if not found.
+     */
+    public int getSoundId(final String key) {
+        return mixer.getSoundId(key);
+    }
+
     /**
      * Gets the current volume level.
      *
@@ -116,9 +163,46 @@ public class SoundManager {
     public void setVolume(float volume) {
         this.volume = Math.clamp(volume, 0.0f, 1.0f);
         applyVolumeToAllClips();
+        mixer.setMasterGain(this.volume);
     }
 
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Loads the default audio clips on the calling thread.
+     *
+     * @see #loadDefaultClipsAsync(Executor, Runnable)
+     */
+    public void loadDefaultClips() {
+        loadDefaultClipsAsync(Runnable::run, () -> {
+        }).join();
+    }
+
+    /**
+     * Loads the default audio clips, decoding each one as a separate task on
+     * the given executor. Each clip can be played as soon as it is stored.
+     * Clips that fail to load are reported and skipped.
+     *
+     * @param executor The executor to decode clips on.
+     * @param onClipDecoded Called (on the decoding thread) as each clip
+     * finishes loading, whether or not it succeeded.
+     * @return A future that completes once every clip has been attempted.
+     */
+    public CompletableFuture<Void> loadDefaultClipsAsync(final Executor executor, final Runnable onClipDecoded) {
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[DEFAULT_CLIPS.length];
+        for (int i = 0; i < DEFAULT_CLIPS.length; i++) {
+            String key = DEFAULT_CLIPS[i][0];
+            String fileName = DEFAULT_CLIPS[i][1];
+            loads[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    loadAndStoreClip(key, fileName);
+                } finally {
+                    onClipDecoded.run();
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(loads);
+    }
+
     /**
      * Loads an audio clip from the specified file and stores it in the clips
      * map.
@@ -153,8 +237,10 @@ public class SoundManager {
     /**
      * Loads an audio clip from a specified file path.
      * <p>
-     * If the audio file is bundled in the JAR (or the classpath), it is loaded
-     * using a URL. Otherwise, it is loaded as a regular file.
+     * If the audio is in the default {@link AssetPack}, its PCM samples are
+     * read from there without decoding. Otherwise, if the audio file is
+     * bundled in the JAR (or the classpath), it is loaded using a URL, or else
+     * as a regular file.
      * <p>
      * The file must be a valid audio format supported by {@link AudioSystem}.
      *
@@ -179,18 +265,7 @@ public class SoundManager {
         Clip clip;
 
         try {
-            // Try loading as a resource (for classpath resources, e.g., inside JAR file)
-            URL audioUrl = SoundManager.class.getResource(filePath);
-            if (audioUrl != null) {
-                audioIn = AudioSystem.getAudioInputStream(audioUrl);
-            } else {
-                // If URL is not found, try loading as a normal file (e.g., file system)
-                File file = new File(filePath);
-                if (!file.exists() || !file.isFile()) {
-                    throw new IOException("SoundManager: Audio file not found: " + filePath);
-                }
-                audioIn = AudioSystem.getAudioInputStream(file);
-            }
+            audioIn = openAudioStream(filePath);
 
             // Get the original audio format
             AudioFormat baseFormat = audioIn.getFormat();
@@ -217,6 +292,62 @@ public class SoundManager {
         return clip;
     }
 
+    /**
+     * Loads a sound effect into the {@link AudioMixer}, from the same places
+     * as {@link #loadClipFromAudioFile(String)}. Sounds are decoded once, here,
+     * so playing them later costs no decoding.
+     *
+     * @param key The key under which the sound is stored.
+     * @param filePath The path to the audio file (relative to classpath or
+     * absolute).
+     * @return The sound's ID, for {@link #playSound(int, float, float)}.
+     * @throws IllegalArgumentException If either the key or file path are blank
+     * or {@code null}.
+     * @throws IOException If there is an error reading the file or it does not
+     * exist.
+     * @throws UnsupportedAudioFileException If the audio format is not
+     * supported.
+     */
+    public int loadSound(final String key, final String filePath) throws IllegalArgumentException, IOException, UnsupportedAudioFileException {
+        if (filePath == null || filePath.isBlank()) {
+            throw new IllegalArgumentException("SoundManager: Must provide a valid file path for the sound.");
+        }
+
+        try (AudioInputStream audioIn = openAudioStream(filePath)) {
+            int id = mixer.addSound(key, audioIn);
+            System.out.println("SoundManager: Loaded sound <'" + filePath + "'> as <" + id + ">");
+            return id;
+        }
+    }
+
+    /**
+     * Plays a sound effect through the {@link AudioMixer}, overlapping any
+     * other sounds (including itself). Never blocks or allocates, so it is
+     * safe to call from the simulation thread; the mixer is started on the
+     * first call.
+     *
+     * @param soundId The sound's ID.
+     * @param gain The sound's volume. (Range: 0.0 to 1.0)
+     * @param pan Where the sound sits between the left ({@code -1}) and right
+     * ({@code 1}) speakers.
+     */
+    public void playSound(final int soundId, final float gain, final float pan) {
+        if (!mixer.isRunning()) {
+            startMixer();
+        }
+        mixer.play(soundId, gain, pan);
+    }
+
+    /**
+     * Plays a sound effect at full volume, centred. Prefer
+     * {@link #playSound(int, float, float)} with a cached ID on hot paths.
+     *
+     * @param key The key of the sound.
+     */
+    public void playSound(final String key) {
+        playSound(getSoundId(key), 1.0f, 0.0f);
+    }
+
     /**
      * Plays a sound clip.
      *
@@ -256,9 +387,56 @@ public class SoundManager {
                 clip.stop();
             }
         }
+        if (mixer.isRunning()) {
+            mixer.stopAll();
+        }
     }
 
     // ----- HELPER METHODS -----
+    /**
+     * Opens an audio stream from the default {@link AssetPack} (already PCM,
+     * so nothing to decode), the classpath (e.g., inside the JAR file), or
+     * else the file system, in that order.
+     */
+    private static AudioInputStream openAudioStream(final String filePath) throws IOException, UnsupportedAudioFileException {
+        AudioInputStream audioIn = AssetPack.getDefault().openAudio(filePath);
+        if (audioIn != null) {
+            return audioIn;
+        }
+
+        URL audioUrl = SoundManager.class.getResource(filePath);
+        if (audioUrl != null) {
+            return AudioSystem.getAudioInputStream(audioUrl);
+        }
+
+        File file = new File(filePath);
+        if (!file.exists() || !file.isFile()) {
+            throw new IOException("SoundManager: Audio file not found: " + filePath);
+        }
+        return AudioSystem.getAudioInputStream(file);
+    }
+
+    /**
+     * Starts the sound effect mixer on the default audio device, or on a
+     * {@link NullAudioSink} if there is none.
+     */
+    private synchronized void startMixer() {
+        if (mixer.isRunning()) {
+            return;
+        }
+
+        try {
+            mixer.start(new LineAudioSink());
+        } catch (LineUnavailableException e) {
+            System.err.println("SoundManager: No audio line for the mixer, sound effects are muted - " + e.getMessage());
+            try {
+                mixer.start(new NullAudioSink(true));
+            } catch (LineUnavailableException ignored) {
+                // A null sink always opens.
+            }
+        }
+    }
+
     /**
      * Adjusts the volume for all loaded clips.
      */
@@ -313,7 +491,7 @@ public class SoundManager {
      * @return A supported audio format (16-bit PCM) or null if no conversion is
      * possible.
      */
-    private static AudioFormat getSupportedAudioFormat(AudioFormat baseFormat) {
+    static AudioFormat getSupportedAudioFormat(AudioFormat baseFormat) {
         // Try converting to 16-bit PCM, stereo, little-endian
         if (baseFormat.getEncoding() != AudioFormat.Encoding.PCM_SIGNED) {
             return new AudioFormat(
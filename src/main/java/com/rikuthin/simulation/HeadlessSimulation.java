@@ -0,0 +1,203 @@
+package com.rikuthin.simulation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.rikuthin.graphics.animations.AnimationLoader;
+import com.rikuthin.interfaces.ArenaBounds;
+import com.rikuthin.managers.AnimationManager;
+import com.rikuthin.managers.GameManager;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Runs the game simulation without any window, panels or Swing timers.
+ * <p>
+ * The player, enemy and bullet update path is exactly the one used on screen;
+ * only the arena is replaced by a plain {@link Arena}. Ticks are run back to
+ * back as fast as the machine allows, which makes this suitable for
+ * benchmarking and soak-testing the simulation on machines with no display.
+ * <p>
+ * A {@link Replay} recorded on screen can be {@linkplain #start(Replay)
+ * played back} here at full speed, reproducing the recorded game exactly.
+ */
+public final class HeadlessSimulation {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of ticks run by {@link #main(String[])} when none are given.
+     */
+    private static final long DEFAULT_TICKS = 100_000;
+    /**
+     * The width and height of the default arena, matching the on-screen game
+     * panel (which is as wide as the game window is tall).
+     */
+    public static final int DEFAULT_ARENA_SIZE = 720;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The play area the simulation runs within.
+     */
+    private final ArenaBounds arena;
+    /**
+     * The game manager driving the simulation.
+     */
+    private final GameManager gameManager;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a headless simulation using the same arena size as the on-screen
+     * game panel.
+     */
+    public HeadlessSimulation() {
+        this(new Arena(DEFAULT_ARENA_SIZE, DEFAULT_ARENA_SIZE));
+    }
+
+    /**
+     * Creates a headless simulation within the given arena.
+     *
+     * @param arena The play area the simulation runs within.
+     */
+    public HeadlessSimulation(final ArenaBounds arena) {
+        if (arena == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Arena cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.arena = arena;
+        this.gameManager = GameManager.getInstance();
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the play area the simulation runs within.
+     *
+     * @return The arena.
+     */
+    public ArenaBounds getArena() {
+        return arena;
+    }
+
+    /**
+     * Returns the game manager driving the simulation.
+     *
+     * @return The game manager.
+     */
+    public GameManager getGameManager() {
+        return gameManager;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Loads the default animations (if they have not been loaded already) and
+     * initializes a new headless game.
+     */
+    public void start() {
+        if (AnimationManager.getInstance().getAnimationCount() == 0) {
+            AnimationLoader.loadDefaultAnimations();
+        }
+        gameManager.clear();
+        gameManager.initHeadless(arena);
+    }
+
+    /**
+     * Loads the default animations (if they have not been loaded already) and
+     * initializes a new headless game that plays back the given replay. The
+     * arena should be the size the replay was recorded in.
+     *
+     * @param replay The replay to play back.
+     */
+    public void start(final Replay replay) {
+        if (AnimationManager.getInstance().getAnimationCount() == 0) {
+            AnimationLoader.loadDefaultAnimations();
+        }
+        gameManager.clear();
+        gameManager.playReplay(replay);
+        gameManager.initHeadless(arena);
+    }
+
+    /**
+     * Runs ticks back to back until the replay being played back runs out of
+     * recorded input.
+     *
+     * @return The number of ticks that were run.
+     * @throws IllegalStateException If the game is not playing back a replay
+     * (i.e., it was not started with {@link #start(Replay)}).
+     */
+    public long runReplay() throws IllegalStateException {
+        if (!gameManager.getInputManager().isPlayingBack()) {
+            throw new IllegalStateException(String.format(
+                    "%s: No replay is being played back; start the simulation with a replay first.",
+                    this.getClass().getName()
+            ));
+        }
+
+        long ticks = 0;
+        while (!gameManager.isReplayFinished()) {
+            gameManager.update();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Runs the given number of simulation ticks back to back.
+     *
+     * @param ticks The number of ticks to run.
+     */
+    public void runTicks(final long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            gameManager.update();
+        }
+    }
+
+    /**
+     * Ends the headless game and clears all game data.
+     */
+    public void stop() {
+        gameManager.clear();
+    }
+
+    /**
+     * Runs a headless simulation and reports its throughput.
+     *
+     * @param args Optionally, the number of ticks to run, or
+     * {@code replay <file>} to play back a recorded replay.
+     * @throws IOException If the replay file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        HeadlessSimulation simulation;
+        long ticks;
+        long startTime;
+        if (args.length > 1 && args[0].equals("replay")) {
+            Replay replay = Replay.load(Path.of(args[1]));
+            simulation = new HeadlessSimulation(new Arena(replay.getArenaWidth(), replay.getArenaHeight()));
+            simulation.start(replay);
+
+            startTime = System.nanoTime();
+            ticks = simulation.runReplay();
+        } else {
+            ticks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+            simulation = new HeadlessSimulation();
+            simulation.start();
+
+            startTime = System.nanoTime();
+            simulation.runTicks(ticks);
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        GameManager gameManager = simulation.getGameManager();
+        System.out.println(String.format(
+                "HeadlessSimulation: Ran <%d> ticks in <%.1f> ms (<%.0f> ticks/s). Enemies: <%d>, Bullets: <%d>.",
+                ticks,
+                elapsedNanos / 1_000_000.0,
+                ticks / (elapsedNanos / 1_000_000_000.0),
+                gameManager.getEnemyManager().getEnemies().size(),
+                gameManager.getBulletManager().getBulletCount()
+        ));
+
+        simulation.stop();
+    }
+}
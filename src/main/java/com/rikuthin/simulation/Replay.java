@@ -0,0 +1,323 @@
+package com.rikuthin.simulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Everything needed to reproduce a game exactly: the random seed, the tick
+ * rate, the arena size and the player's input on every tick.
+ * <p>
+ * The simulation only advances in fixed ticks and draws every random number
+ * from the seeded generator, so feeding the same inputs back in on the same
+ * ticks rebuilds the same game, whether on screen or headless, and at any
+ * speed.
+ * <p>
+ * Each tick's input is one byte of flags (see
+ * {@link com.rikuthin.managers.InputManager}). Input rarely changes from one
+ * tick to the next, so files store it run-length encoded: an hour of play is
+ * usually a few kilobytes.
+ */
+public final class Replay {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The first four bytes of every replay file ("RKRP").
+     */
+    private static final int MAGIC = 0x524B5250;
+    /**
+     * The version of the file format written by {@link #writeTo(OutputStream)}.
+     */
+    private static final short FORMAT_VERSION = 1;
+    /**
+     * The largest input a single tick can hold.
+     */
+    public static final int MAX_INPUT = 0xFF;
+    /**
+     * The number of ticks of input buffered before the first growth.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The seed of the game's random generator.
+     */
+    private final long seed;
+    /**
+     * How many simulation ticks ran per second.
+     */
+    private final int tickRate;
+    /**
+     * The width of the arena in pixels.
+     */
+    private final int arenaWidth;
+    /**
+     * The height of the arena in pixels.
+     */
+    private final int arenaHeight;
+    /**
+     * The input on each tick, in tick order.
+     */
+    private byte[] inputs;
+    /**
+     * The number of ticks recorded.
+     */
+    private int tickCount;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty replay for a game with the given settings.
+     *
+     * @param seed The seed of the game's random generator.
+     * @param tickRate How many simulation ticks run per second. (Minimum value:
+     * 1)
+     * @param arenaWidth The width of the arena in pixels. (Minimum value: 1)
+     * @param arenaHeight The height of the arena in pixels. (Minimum value: 1)
+     */
+    public Replay(final long seed, final int tickRate, final int arenaWidth, final int arenaHeight) {
+        if (tickRate < 1 || arenaWidth < 1 || arenaHeight < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Tick rate and arena size must be positive.",
+                    this.getClass().getName()
+            ));
+        }
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.arenaWidth = arenaWidth;
+        this.arenaHeight = arenaHeight;
+        this.inputs = new byte[INITIAL_CAPACITY];
+        this.tickCount = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the seed of the game's random generator.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns how many simulation ticks ran per second.
+     *
+     * @return The tick rate.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Returns the width of the arena in pixels.
+     *
+     * @return The arena width.
+     */
+    public int getArenaWidth() {
+        return arenaWidth;
+    }
+
+    /**
+     * Returns the height of the arena in pixels.
+     *
+     * @return The arena height.
+     */
+    public int getArenaHeight() {
+        return arenaHeight;
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     *
+     * @return The tick count.
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the input on the given tick. Ticks past the end of the replay
+     * have no input.
+     *
+     * @param tick The zero-based tick index.
+     * @return The input flags, or 0 if out of range.
+     */
+    public int getInput(final int tick) {
+        if (tick < 0 || tick >= tickCount) {
+            return 0;
+        }
+        return inputs[tick] & MAX_INPUT;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Records the input for the next tick.
+     *
+     * @param input The input flags. (Range: 0 to {@link #MAX_INPUT})
+     */
+    public void append(final int input) {
+        if (input < 0 || input > MAX_INPUT) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Input <%d> does not fit in a single tick.",
+                    this.getClass().getName(),
+                    input
+            ));
+        }
+        if (tickCount == inputs.length) {
+            inputs = Arrays.copyOf(inputs, inputs.length * 2);
+        }
+        inputs[tickCount++] = (byte) input;
+    }
+
+    /**
+     * Writes the replay to a stream, run-length encoding the inputs. The
+     * stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream cannot be written to.
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        data.writeLong(seed);
+        data.writeInt(tickRate);
+        data.writeInt(arenaWidth);
+        data.writeInt(arenaHeight);
+        data.writeInt(tickCount);
+
+        int i = 0;
+        while (i < tickCount) {
+            byte input = inputs[i];
+            int runEnd = i + 1;
+            while (runEnd < tickCount && inputs[runEnd] == input) {
+                runEnd++;
+            }
+            data.writeByte(input);
+            writeVarInt(data, runEnd - i);
+            i = runEnd;
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the replay to a file, replacing it if it exists.
+     *
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(final Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a replay written by {@link #writeTo(OutputStream)}. The stream is
+     * not closed.
+     *
+     * @param in The stream to read from.
+     * @return The replay.
+     * @throws IOException If the stream cannot be read or does not hold a
+     * valid replay.
+     */
+    public static Replay readFrom(final InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException(String.format(
+                    "%s: Not a replay file.",
+                    Replay.class.getName()
+            ));
+        }
+        short version = data.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(
+                    "%s: Unsupported replay format version <%d>.",
+                    Replay.class.getName(),
+                    version
+            ));
+        }
+
+        long seed = data.readLong();
+        int tickRate = data.readInt();
+        int arenaWidth = data.readInt();
+        int arenaHeight = data.readInt();
+        int tickCount = data.readInt();
+        if (tickRate < 1 || arenaWidth < 1 || arenaHeight < 1 || tickCount < 0) {
+            throw new IOException(String.format(
+                    "%s: Corrupt replay header.",
+                    Replay.class.getName()
+            ));
+        }
+
+        Replay replay = new Replay(seed, tickRate, arenaWidth, arenaHeight);
+        replay.inputs = new byte[Math.max(tickCount, INITIAL_CAPACITY)];
+        while (replay.tickCount < tickCount) {
+            byte input = data.readByte();
+            int runLength = readVarInt(data);
+            if (runLength < 1 || runLength > tickCount - replay.tickCount) {
+                throw new IOException(String.format(
+                        "%s: Corrupt replay input run at tick <%d>.",
+                        Replay.class.getName(),
+                        replay.tickCount
+                ));
+            }
+            Arrays.fill(replay.inputs, replay.tickCount, replay.tickCount + runLength, input);
+            replay.tickCount += runLength;
+        }
+        return replay;
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param path The file to read from.
+     * @return The replay.
+     * @throws IOException If the file cannot be read or does not hold a valid
+     * replay.
+     */
+    public static Replay load(final Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return readFrom(in);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Writes a non-negative int in as few bytes as possible, seven bits at a
+     * time.
+     */
+    private static void writeVarInt(final DataOutputStream data, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            data.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        data.writeByte(remaining);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    private static int readVarInt(final DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(String.format(
+                "%s: Corrupt run length.",
+                Replay.class.getName()
+        ));
+    }
+}
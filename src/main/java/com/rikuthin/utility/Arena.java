@@ -0,0 +1,56 @@
+package com.rikuthin.utility;
+
+import com.rikuthin.interfaces.ArenaBounds;
+
+/**
+ * A plain, fixed-size {@link ArenaBounds} with no dependency on Swing or any
+ * display. Used to run the simulation headlessly (e.g., for benchmarks and
+ * soak tests).
+ */
+public final class Arena implements ArenaBounds {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The width of the arena in pixels.
+     */
+    private final int width;
+    /**
+     * The height of the arena in pixels.
+     */
+    private final int height;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new arena with the given dimensions.
+     *
+     * @param width The width of the arena in pixels. (Minimum value: 1)
+     * @param height The height of the arena in pixels. (Minimum value: 1)
+     * @throws IllegalArgumentException If either dimension is less than 1.
+     */
+    public Arena(final int width, final int height) throws IllegalArgumentException {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Arena dimensions must be positive.",
+                    this.getClass().getName()
+            ));
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Arena{width=%d, height=%d}", width, height);
+    }
+}
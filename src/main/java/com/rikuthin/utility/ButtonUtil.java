@@ -35,7 +35,7 @@ public class ButtonUtil {
     public static JButton createButtonWithIcon(final String imageFilepath, final int buttonWidth, final int buttonHeight, boolean enabled, final ActionListener actionListener) {
         JButton button = createGenericButton(new JButton(), buttonWidth, buttonHeight, enabled, actionListener);
         try {
-            BufferedImage image = ImageManager.loadBufferedImage(imageFilepath);
+            BufferedImage image = ImageManager.loadCompatibleImage(imageFilepath);
             button.setIcon(new ImageIcon (image));
         } catch (Exception e) {
             e.printStackTrace();
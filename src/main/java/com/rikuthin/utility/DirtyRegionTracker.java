@@ -0,0 +1,348 @@
+package com.rikuthin.utility;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which parts of a rectangular surface need to be redrawn between two
+ * frames, at the granularity of square tiles.
+ * <p>
+ * Each frame, everything drawn on top of a static layer (sprites, counters,
+ * etc.) is {@linkplain #mark(int, int, int, int) marked} by its bounds. A tile
+ * is dirty if it was covered this frame or the previous one: either something
+ * is drawn there now, or something drawn there last frame has to be erased.
+ * {@link #collectRegions()} merges the dirty tiles into a small number of
+ * rectangles (horizontal runs, joined vertically when they line up), which
+ * are the only areas that need the static layer restored.
+ * <p>
+ * Tile flags and regions are kept in flat arrays, so tracking allocates
+ * nothing once the arrays have grown to fit.
+ */
+public final class DirtyRegionTracker {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default width and height of each (square) tile in pixels.
+     */
+    public static final int DEFAULT_TILE_SIZE = 32;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The width and height of each (square) tile in pixels.
+     */
+    private final int tileSize;
+    /**
+     * The width of the tracked surface in pixels.
+     */
+    private int width;
+    /**
+     * The height of the tracked surface in pixels.
+     */
+    private int height;
+    /**
+     * The number of tile columns.
+     */
+    private int columns;
+    /**
+     * The number of tile rows.
+     */
+    private int rows;
+    /**
+     * The tiles covered during the current frame.
+     */
+    private boolean[] current;
+    /**
+     * The tiles covered during the previous frame.
+     */
+    private boolean[] previous;
+    /**
+     * Whether the whole surface must be redrawn this frame.
+     */
+    private boolean isFullRedraw;
+    /**
+     * The dirty regions found by the last {@link #collectRegions()}, as
+     * {@code x, y, width, height} quadruples.
+     */
+    private int[] regions;
+    /**
+     * The number of dirty regions found by the last
+     * {@link #collectRegions()}.
+     */
+    private int regionCount;
+    /**
+     * The total area (in pixels) of the dirty regions found by the last
+     * {@link #collectRegions()}.
+     */
+    private long dirtyArea;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a tracker with the default tile size. It must be sized with
+     * {@link #reset(int, int)} before use.
+     */
+    public DirtyRegionTracker() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Creates a tracker with the given tile size. It must be sized with
+     * {@link #reset(int, int)} before use.
+     *
+     * @param tileSize The width and height of each tile in pixels. (Minimum
+     * value: 1)
+     */
+    public DirtyRegionTracker(final int tileSize) {
+        this.tileSize = Math.max(tileSize, 1);
+        this.current = new boolean[0];
+        this.previous = new boolean[0];
+        this.regions = new int[64];
+        this.isFullRedraw = true;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the width and height of each tile in pixels.
+     *
+     * @return The tile size.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Returns whether the whole surface must be redrawn this frame.
+     *
+     * @return {@code true} if a full redraw is needed, {@code false} if only
+     * the dirty regions need to be redrawn.
+     */
+    public boolean isFullRedraw() {
+        return isFullRedraw;
+    }
+
+    /**
+     * Returns the number of dirty regions found by the last
+     * {@link #collectRegions()}.
+     *
+     * @return The region count.
+     */
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /**
+     * Returns the x-coordinate of a dirty region.
+     *
+     * @param i The region index, in the range [0, region count).
+     * @return The region's left edge.
+     */
+    public int getRegionX(final int i) {
+        return regions[i * 4];
+    }
+
+    /**
+     * Returns the y-coordinate of a dirty region.
+     *
+     * @param i The region index, in the range [0, region count).
+     * @return The region's top edge.
+     */
+    public int getRegionY(final int i) {
+        return regions[i * 4 + 1];
+    }
+
+    /**
+     * Returns the width of a dirty region.
+     *
+     * @param i The region index, in the range [0, region count).
+     * @return The region width.
+     */
+    public int getRegionWidth(final int i) {
+        return regions[i * 4 + 2];
+    }
+
+    /**
+     * Returns the height of a dirty region.
+     *
+     * @param i The region index, in the range [0, region count).
+     * @return The region height.
+     */
+    public int getRegionHeight(final int i) {
+        return regions[i * 4 + 3];
+    }
+
+    /**
+     * Returns the total area (in pixels) that has to be redrawn this frame:
+     * the whole surface for a full redraw, otherwise the area of the dirty
+     * regions found by the last {@link #collectRegions()}.
+     *
+     * @return The dirty area.
+     */
+    public long getDirtyArea() {
+        return isFullRedraw ? (long) width * height : dirtyArea;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * (Re)sizes the tracker to a surface of the given dimensions, if they
+     * differ from the current ones. Resizing forgets the previous frame and
+     * requests a full redraw.
+     *
+     * @param surfaceWidth The surface width in pixels.
+     * @param surfaceHeight The surface height in pixels.
+     */
+    public void reset(final int surfaceWidth, final int surfaceHeight) {
+        if (surfaceWidth == width && surfaceHeight == height && current.length > 0) {
+            return;
+        }
+
+        width = Math.max(surfaceWidth, 0);
+        height = Math.max(surfaceHeight, 0);
+        columns = Math.max((width + tileSize - 1) / tileSize, 1);
+        rows = Math.max((height + tileSize - 1) / tileSize, 1);
+        current = new boolean[columns * rows];
+        previous = new boolean[columns * rows];
+        isFullRedraw = true;
+    }
+
+    /**
+     * Requests that the whole surface be redrawn this frame (e.g., because
+     * the static layer changed or the surface's contents were lost).
+     */
+    public void markAll() {
+        isFullRedraw = true;
+    }
+
+    /**
+     * Marks the tiles overlapping the given rectangle as covered this frame.
+     * Parts outside the surface are ignored.
+     *
+     * @param x The rectangle's left edge.
+     * @param y The rectangle's top edge.
+     * @param w The rectangle's width.
+     * @param h The rectangle's height.
+     */
+    public void mark(final int x, final int y, final int w, final int h) {
+        if (w <= 0 || h <= 0 || x >= width || y >= height || x + w <= 0 || y + h <= 0) {
+            return;
+        }
+
+        int firstColumn = Math.max(x, 0) / tileSize;
+        int lastColumn = Math.min(x + w - 1, width - 1) / tileSize;
+        int firstRow = Math.max(y, 0) / tileSize;
+        int lastRow = Math.min(y + h - 1, height - 1) / tileSize;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            int rowStart = row * columns;
+            Arrays.fill(current, rowStart + firstColumn, rowStart + lastColumn + 1, true);
+        }
+    }
+
+    /**
+     * Merges the tiles covered this frame or the previous one into
+     * rectangles. The results can be read with {@link #getRegionX(int)} etc.
+     * until the next call.
+     *
+     * @return The number of dirty regions (0 for a full redraw, which covers
+     * everything anyway).
+     */
+    public int collectRegions() {
+        regionCount = 0;
+        dirtyArea = 0;
+        if (isFullRedraw) {
+            return 0;
+        }
+
+        // Regions that end on the previous row, so that identical runs below them can extend them.
+        int previousRowStart = 0;
+        int previousRowEnd = 0;
+
+        for (int row = 0; row < rows; row++) {
+            int rowStart = row * columns;
+            int rowRegionStart = regionCount;
+            int candidate = previousRowStart;
+
+            int column = 0;
+            while (column < columns) {
+                if (!isDirty(rowStart + column)) {
+                    column++;
+                    continue;
+                }
+                int runStart = column;
+                while (column < columns && isDirty(rowStart + column)) {
+                    column++;
+                }
+
+                int x = runStart * tileSize;
+                int y = row * tileSize;
+                int w = Math.min(column * tileSize, width) - x;
+                int h = Math.min(y + tileSize, height) - y;
+                dirtyArea += (long) w * h;
+
+                // Runs are found left to right on both rows, so a single forward scan finds a match.
+                while (candidate < previousRowEnd && getRegionX(candidate) < x) {
+                    candidate++;
+                }
+                if (candidate < previousRowEnd && getRegionX(candidate) == x && getRegionWidth(candidate) == w) {
+                    regions[candidate * 4 + 3] += h;
+                    moveToEnd(candidate);
+                    previousRowEnd--;
+                    rowRegionStart--;
+                } else {
+                    addRegion(x, y, w, h);
+                }
+            }
+
+            previousRowStart = rowRegionStart;
+            previousRowEnd = regionCount;
+        }
+        return regionCount;
+    }
+
+    /**
+     * Finishes the frame: this frame's covered tiles become the previous
+     * frame's, and any full redraw request is cleared.
+     */
+    public void endFrame() {
+        boolean[] swap = previous;
+        previous = current;
+        current = swap;
+        Arrays.fill(current, false);
+        isFullRedraw = false;
+    }
+
+    // ----- HELPER METHODS -----
+    private boolean isDirty(final int tile) {
+        return current[tile] || previous[tile];
+    }
+
+    private void addRegion(final int x, final int y, final int w, final int h) {
+        if ((regionCount + 1) * 4 > regions.length) {
+            regions = Arrays.copyOf(regions, regions.length * 2);
+        }
+        int i = regionCount * 4;
+        regions[i] = x;
+        regions[i + 1] = y;
+        regions[i + 2] = w;
+        regions[i + 3] = h;
+        regionCount++;
+    }
+
+    /**
+     * Moves a region to the end of the list, shifting the ones after it
+     * down. Used to keep the regions that end on the current row contiguous
+     * (and sorted by x) once a region from the previous row is extended.
+     */
+    private void moveToEnd(final int index) {
+        int last = regionCount - 1;
+        if (index == last) {
+            return;
+        }
+        int x = regions[index * 4];
+        int y = regions[index * 4 + 1];
+        int w = regions[index * 4 + 2];
+        int h = regions[index * 4 + 3];
+        System.arraycopy(regions, (index + 1) * 4, regions, index * 4, (last - index) * 4);
+        regions[last * 4] = x;
+        regions[last * 4 + 1] = y;
+        regions[last * 4 + 2] = w;
+        regions[last * 4 + 3] = h;
+    }
+}
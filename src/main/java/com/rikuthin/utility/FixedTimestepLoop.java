@@ -0,0 +1,274 @@
+package com.rikuthin.utility;
+
+import com.rikuthin.interfaces.Updateable;
+
+/**
+ * A fixed-timestep simulation loop driven by an accumulator.
+ * <p>
+ * Each call to {@link #advance(long, Updateable)} adds the real time that has
+ * passed since the previous call to the accumulator, then runs the simulation
+ * once for every whole tick the accumulator holds. The simulation therefore
+ * always moves forward in steps of exactly {@link #getTickDurationNanos()},
+ * regardless of how often (or how regularly) the loop is pumped.
+ * <p>
+ * To avoid a "spiral of death" when a frame takes far longer than expected,
+ * at most {@link #getMaxCatchUpTicks()} ticks are run per call. Any whole ticks
+ * still owed after that are discarded, so the simulation slows down briefly
+ * rather than freezing the application while it tries to catch up.
+ * <p>
+ * A {@linkplain #setTimeScale(double) time scale} speeds the loop up or slows
+ * it down (e.g., to fast-forward a replay). Only the number of ticks run per
+ * second changes; each tick still simulates exactly one tick duration.
+ */
+public final class FixedTimestepLoop {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of nanoseconds in one second.
+     */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * How many simulation ticks should run per second.
+     */
+    private int tickRate;
+    /**
+     * The fixed duration of a single tick in nanoseconds.
+     */
+    private long tickDurationNanos;
+    /**
+     * The maximum number of ticks that may be run in a single call to
+     * {@link #advance(long, Updateable)}.
+     */
+    private int maxCatchUpTicks;
+    /**
+     * How much faster than real time ticks are run.
+     */
+    private double timeScale;
+    /**
+     * Real time (in nanoseconds) that has passed but has not yet been consumed
+     * by a simulation tick.
+     */
+    private long accumulatorNanos;
+    /**
+     * The timestamp (in nanoseconds) of the last call to
+     * {@link #advance(long, Updateable)} or {@link #start(long)}.
+     */
+    private long lastAdvanceTimeNanos;
+    /**
+     * The total number of ticks run since the loop was created.
+     */
+    private long tickCount;
+    /**
+     * The total number of whole ticks discarded because the catch-up cap was
+     * reached.
+     */
+    private long droppedTickCount;
+    /**
+     * Whether the loop is currently running.
+     */
+    private boolean isRunning;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new (stopped) loop.
+     *
+     * @param tickRate How many simulation ticks should run per second.
+     * (Minimum value: 1)
+     * @param maxCatchUpTicks The maximum number of ticks that may be run per
+     * call to {@link #advance(long, Updateable)}. (Minimum value: 1)
+     */
+    public FixedTimestepLoop(final int tickRate, final int maxCatchUpTicks) {
+        setTickRate(tickRate);
+        setMaxCatchUpTicks(maxCatchUpTicks);
+        this.timeScale = 1;
+        this.accumulatorNanos = 0;
+        this.lastAdvanceTimeNanos = 0;
+        this.tickCount = 0;
+        this.droppedTickCount = 0;
+        this.isRunning = false;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns how many simulation ticks run per second.
+     *
+     * @return The tick rate.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Returns the fixed duration of a single tick in nanoseconds.
+     *
+     * @return The tick duration.
+     */
+    public long getTickDurationNanos() {
+        return tickDurationNanos;
+    }
+
+    /**
+     * Returns the fixed duration of a single tick in milliseconds.
+     *
+     * @return The tick duration.
+     */
+    public double getTickDurationMs() {
+        return tickDurationNanos / 1_000_000.0;
+    }
+
+    /**
+     * Returns the maximum number of ticks that may be run per call to
+     * {@link #advance(long, Updateable)}.
+     *
+     * @return The catch-up cap.
+     */
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    /**
+     * Returns how much faster than real time ticks are run.
+     *
+     * @return The time scale (1 for real time).
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Returns the total number of ticks run since the loop was created.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the total number of whole ticks discarded because the catch-up
+     * cap was reached.
+     *
+     * @return The dropped tick count.
+     */
+    public long getDroppedTickCount() {
+        return droppedTickCount;
+    }
+
+    /**
+     * Returns how far (in the range [0, 1)) real time has progressed into the
+     * next, not yet simulated, tick. Useful for interpolating rendered
+     * positions between ticks.
+     *
+     * @return The interpolation factor.
+     */
+    public double getInterpolationAlpha() {
+        return (double) accumulatorNanos / tickDurationNanos;
+    }
+
+    /**
+     * Returns whether the loop is currently running.
+     *
+     * @return {@code true} if running, {@code false} otherwise.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets how many simulation ticks should run per second.
+     *
+     * @param tickRate The tick rate. (Minimum value: 1)
+     */
+    public void setTickRate(final int tickRate) {
+        this.tickRate = Math.max(tickRate, 1);
+        this.tickDurationNanos = NANOS_PER_SECOND / this.tickRate;
+    }
+
+    /**
+     * Sets the maximum number of ticks that may be run per call to
+     * {@link #advance(long, Updateable)}.
+     *
+     * @param maxCatchUpTicks The catch-up cap. (Minimum value: 1)
+     */
+    public void setMaxCatchUpTicks(final int maxCatchUpTicks) {
+        this.maxCatchUpTicks = Math.max(maxCatchUpTicks, 1);
+    }
+
+    /**
+     * Sets how much faster than real time ticks are run. The catch-up cap
+     * still applies per call, so it may need raising for large scales.
+     *
+     * @param timeScale The time scale (e.g., 4 to run four ticks for every
+     * tick of real time). (Minimum value: 0.01)
+     */
+    public void setTimeScale(final double timeScale) {
+        this.timeScale = Double.isNaN(timeScale) ? 1 : Math.max(timeScale, 0.01);
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts (or restarts) the loop. Time that passed while the loop was
+     * stopped is never simulated.
+     *
+     * @param nowNanos The current time in nanoseconds (e.g.,
+     * {@link System#nanoTime()}).
+     */
+    public void start(final long nowNanos) {
+        accumulatorNanos = 0;
+        lastAdvanceTimeNanos = nowNanos;
+        isRunning = true;
+    }
+
+    /**
+     * Stops the loop. Subsequent calls to {@link #advance(long, Updateable)}
+     * do nothing until the loop is started again.
+     */
+    public void stop() {
+        isRunning = false;
+    }
+
+    /**
+     * Runs the simulation once for every whole tick that has accumulated since
+     * the previous call, up to the catch-up cap.
+     *
+     * @param nowNanos The current time in nanoseconds (e.g.,
+     * {@link System#nanoTime()}).
+     * @param simulation The simulation to update once per tick.
+     * @return The number of ticks that were run.
+     */
+    public int advance(final long nowNanos, final Updateable simulation) {
+        if (!isRunning) {
+            return 0;
+        }
+
+        accumulatorNanos += (long) (Math.max(nowNanos - lastAdvanceTimeNanos, 0) * timeScale);
+        lastAdvanceTimeNanos = nowNanos;
+
+        int ticksRun = 0;
+        while (accumulatorNanos >= tickDurationNanos && ticksRun < maxCatchUpTicks) {
+            simulation.update();
+            accumulatorNanos -= tickDurationNanos;
+            tickCount++;
+            ticksRun++;
+
+            // The simulation may have stopped the loop (e.g., by pausing the game).
+            // Ticks still owed are not run (nor counted as dropped); keep only
+            // the remainder so the interpolation factor stays in [0, 1).
+            if (!isRunning) {
+                accumulatorNanos %= tickDurationNanos;
+                return ticksRun;
+            }
+        }
+
+        // Cap reached: discard the whole ticks still owed, keep the remainder.
+        if (accumulatorNanos >= tickDurationNanos) {
+            droppedTickCount += accumulatorNanos / tickDurationNanos;
+            accumulatorNanos %= tickDurationNanos;
+        }
+
+        return ticksRun;
+    }
+}
@@ -0,0 +1,280 @@
+package com.rikuthin.utility;
+
+/**
+ * Times each phase of the game loop with {@link System#nanoTime()} and keeps a
+ * {@link LatencyHistogram} per phase.
+ * <p>
+ * A phase is timed by taking a {@link #start()} timestamp and passing it to
+ * {@link #record(Phase, long)}, which returns the end time so consecutive
+ * phases can be chained with one clock read each. Recording allocates
+ * nothing, and does nothing at all while the profiler is disabled.
+ * <p>
+ * When driven by a game loop, {@link #endFrame()} is called once per rendered
+ * frame. Every {@link #WINDOW_FRAMES} frames the histograms are summarised
+ * (p50, p99 and maximum per phase) and cleared, so the summary always
+ * describes the last couple of seconds rather than the whole session.
+ * <p>
+ * Like the rest of the game loop, the profiler is single-threaded.
+ */
+public final class FrameProfiler {
+
+    // ----- ENUMERATORS -----
+    /**
+     * The timed phases of the game loop.
+     */
+    public enum Phase {
+        /**
+         * Every simulation tick run in one frame.
+         */
+        UPDATE("Update"),
+        /**
+         * Updating the player, within a tick.
+         */
+        PLAYER("Player"),
+        /**
+         * Updating the enemies, within a tick.
+         */
+        ENEMIES("Enemies"),
+        /**
+         * Updating the bullets, within a tick.
+         */
+        BULLETS("Bullets"),
+        /**
+         * Resolving collisions, within a tick.
+         */
+        COLLISIONS("Collisions"),
+        /**
+         * Rendering and showing one frame of the current screen.
+         */
+        RENDER("Render"),
+        /**
+         * Drawing the game panel's contents, within rendering. The rest of
+         * rendering is spent showing the frame.
+         */
+        DRAW("Draw");
+
+        private final String label;
+
+        Phase(final String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the phase's display name.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Singleton instance of the {@link FrameProfiler}.
+     */
+    private static FrameProfiler instance;
+    /**
+     * The number of frames summarised together.
+     */
+    public static final int WINDOW_FRAMES = 120;
+    /**
+     * Every phase, cached to avoid copying {@link Phase#values()}.
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The samples of each phase recorded in the current window.
+     */
+    private final LatencyHistogram[] histograms;
+    /**
+     * The median duration (in nanoseconds) of each phase in the last window.
+     */
+    private final long[] p50Nanos;
+    /**
+     * The 99th percentile duration (in nanoseconds) of each phase in the last
+     * window.
+     */
+    private final long[] p99Nanos;
+    /**
+     * The longest duration (in nanoseconds) of each phase in the last window.
+     */
+    private final long[] maxNanos;
+    /**
+     * Whether phases are being timed.
+     */
+    private boolean isEnabled;
+    /**
+     * The number of frames ended in the current window.
+     */
+    private int windowFrameCount;
+    /**
+     * The number of windows summarised so far. Changes whenever the summary
+     * does.
+     */
+    private long summaryVersion;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent direct instantiation. Singleton pattern.
+     */
+    private FrameProfiler() {
+        histograms = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        p50Nanos = new long[PHASES.length];
+        p99Nanos = new long[PHASES.length];
+        maxNanos = new long[PHASES.length];
+        isEnabled = true;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the singleton instance of the {@link FrameProfiler}.
+     *
+     * @return The single instance of FrameProfiler.
+     */
+    public static FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns whether phases are being timed.
+     *
+     * @return {@code true} if enabled, {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Returns the samples of a phase recorded in the current window (or since
+     * the last reset, if frames are not being ended).
+     *
+     * @param phase The phase.
+     * @return The phase's histogram.
+     */
+    public LatencyHistogram getHistogram(final Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the median duration of a phase in the last summarised window.
+     *
+     * @param phase The phase.
+     * @return The median in nanoseconds.
+     */
+    public long getP50Nanos(final Phase phase) {
+        return p50Nanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the 99th percentile duration of a phase in the last summarised
+     * window.
+     *
+     * @param phase The phase.
+     * @return The 99th percentile in nanoseconds.
+     */
+    public long getP99Nanos(final Phase phase) {
+        return p99Nanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the longest duration of a phase in the last summarised window.
+     *
+     * @param phase The phase.
+     * @return The maximum in nanoseconds.
+     */
+    public long getMaxNanos(final Phase phase) {
+        return maxNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns a number that changes every time a new window is summarised.
+     *
+     * @return The summary version.
+     */
+    public long getSummaryVersion() {
+        return summaryVersion;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets whether phases are timed. Disabling the profiler keeps its last
+     * summary.
+     *
+     * @param isEnabled {@code true} to time phases, {@code false} otherwise.
+     */
+    public void setEnabled(final boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the start time of a phase.
+     *
+     * @return The current {@link System#nanoTime()}, or 0 if disabled.
+     */
+    public long start() {
+        return isEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a phase that started at the given time and ends now.
+     *
+     * @param phase The phase.
+     * @param startNanos The phase's start time, from {@link #start()} or a
+     * previous {@code record}.
+     * @return The end time, which can be used as the start of the next phase
+     * (0 if disabled).
+     */
+    public long record(final Phase phase, final long startNanos) {
+        if (!isEnabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        if (startNanos != 0) {
+            histograms[phase.ordinal()].record(now - startNanos);
+        }
+        return now;
+    }
+
+    /**
+     * Marks the end of a rendered frame, summarising and clearing the
+     * histograms once a full window has passed.
+     */
+    public void endFrame() {
+        if (!isEnabled || ++windowFrameCount < WINDOW_FRAMES) {
+            return;
+        }
+
+        for (int i = 0; i < histograms.length; i++) {
+            LatencyHistogram histogram = histograms[i];
+            p50Nanos[i] = histogram.getValueAtPercentile(50);
+            p99Nanos[i] = histogram.getValueAtPercentile(99);
+            maxNanos[i] = histogram.getMax();
+            histogram.reset();
+        }
+        windowFrameCount = 0;
+        summaryVersion++;
+    }
+
+    /**
+     * Clears every histogram and the summary.
+     */
+    public void reset() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i].reset();
+            p50Nanos[i] = 0;
+            p99Nanos[i] = 0;
+            maxNanos[i] = 0;
+        }
+        windowFrameCount = 0;
+        summaryVersion++;
+    }
+}
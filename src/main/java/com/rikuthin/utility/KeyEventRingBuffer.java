@@ -0,0 +1,172 @@
+package com.rikuthin.utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, lock-free single-producer/single-consumer queue of key presses
+ * and releases.
+ * <p>
+ * Each event is packed into one {@code int} (the key code and whether it was
+ * pressed) in a preallocated power-of-two array, so neither side ever
+ * allocates or boxes. One thread (e.g., the Swing event dispatch thread) may
+ * {@linkplain #offer(int, boolean) offer} events while one other thread
+ * (e.g., the simulation) {@linkplain #drain(KeyEventHandler) drains} them;
+ * the two only synchronise through a release/acquire pair on the head and
+ * tail counters.
+ * <p>
+ * If the consumer falls so far behind that the buffer fills up, new events
+ * are dropped (and counted) rather than blocking the producer.
+ */
+public final class KeyEventRingBuffer {
+
+    // ----- INNER INTERFACES -----
+    /**
+     * Receives drained key events.
+     */
+    @FunctionalInterface
+    public interface KeyEventHandler {
+
+        /**
+         * Handles one key event.
+         *
+         * @param keyCode The key code (see {@link java.awt.event.KeyEvent}).
+         * @param isPressed {@code true} if pressed, {@code false} if released.
+         */
+        void onKeyEvent(int keyCode, boolean isPressed);
+    }
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of events buffered when no capacity is given.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The packed events: the key code shifted left by one, with the lowest
+     * bit set for a press.
+     */
+    private final int[] events;
+    /**
+     * The bit mask mapping a sequence number to its index in
+     * {@link #events}.
+     */
+    private final int mask;
+    /**
+     * The sequence number of the next event to be drained. Only written by
+     * the consumer.
+     */
+    private final AtomicLong head;
+    /**
+     * The sequence number of the next event to be offered. Only written by
+     * the producer.
+     */
+    private final AtomicLong tail;
+    /**
+     * The number of events dropped because the buffer was full. Only written
+     * by the producer.
+     */
+    private volatile long droppedCount;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty buffer with the default capacity.
+     */
+    public KeyEventRingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty buffer that holds at least the given number of events.
+     *
+     * @param capacity The minimum capacity, rounded up to a power of two.
+     * (Minimum value: 2)
+     */
+    public KeyEventRingBuffer(final int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.events = new int[size];
+        this.mask = size - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.droppedCount = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the maximum number of buffered events.
+     *
+     * @return The capacity.
+     */
+    public int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Returns the number of buffered events. Only a snapshot if the other
+     * side is active.
+     *
+     * @return The event count.
+     */
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return The dropped event count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Adds a key event. Must only be called from the producer thread.
+     *
+     * @param keyCode The key code (see {@link java.awt.event.KeyEvent}).
+     * (Minimum value: 0)
+     * @param isPressed {@code true} if pressed, {@code false} if released.
+     * @return {@code true} if the event was added, {@code false} if it was
+     * dropped because the buffer is full or the key code is negative.
+     */
+    public boolean offer(final int keyCode, final boolean isPressed) {
+        if (keyCode < 0) {
+            return false;
+        }
+
+        long sequence = tail.getPlain();
+        if (sequence - head.getAcquire() >= events.length) {
+            droppedCount++;
+            return false;
+        }
+
+        events[(int) sequence & mask] = (keyCode << 1) | (isPressed ? 1 : 0);
+        // Publishes the event written above to the consumer.
+        tail.setRelease(sequence + 1);
+        return true;
+    }
+
+    /**
+     * Passes every buffered event to the handler, oldest first, and removes
+     * them. Must only be called from the consumer thread.
+     *
+     * @param handler The handler to receive the events.
+     * @return The number of events drained.
+     */
+    public int drain(final KeyEventHandler handler) {
+        long sequence = head.getPlain();
+        long end = tail.getAcquire();
+        if (sequence == end) {
+            return 0;
+        }
+
+        for (long i = sequence; i < end; i++) {
+            int event = events[(int) i & mask];
+            handler.onKeyEvent(event >>> 1, (event & 1) != 0);
+        }
+        // Hands the drained slots back to the producer.
+        head.setRelease(end);
+        return (int) (end - sequence);
+    }
+}
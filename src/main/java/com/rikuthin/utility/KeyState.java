@@ -0,0 +1,85 @@
+package com.rikuthin.utility;
+
+import java.util.Arrays;
+
+/**
+ * The set of keys currently held down, stored as a bitset indexed by key code
+ * (see {@link java.awt.event.KeyEvent}).
+ * <p>
+ * Lookups and updates are a shift and a mask on a preallocated array, so they
+ * never box or allocate. Key codes outside the tracked range are ignored and
+ * always read as released.
+ */
+public final class KeyState {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of key codes tracked (enough for every standard
+     * {@link java.awt.event.KeyEvent} virtual key).
+     */
+    public static final int KEY_CODE_COUNT = 1024;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * One bit per key code: set while the key is held down.
+     */
+    private final long[] words;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a key state with every key released.
+     */
+    public KeyState() {
+        this.words = new long[KEY_CODE_COUNT / Long.SIZE];
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns whether a key is held down.
+     *
+     * @param keyCode The key code.
+     * @return {@code true} if held down, {@code false} otherwise.
+     */
+    public boolean isPressed(final int keyCode) {
+        if (keyCode < 0 || keyCode >= KEY_CODE_COUNT) {
+            return false;
+        }
+        return (words[keyCode >>> 6] & (1L << keyCode)) != 0;
+    }
+
+    /**
+     * Returns whether either of two keys is held down (e.g., a letter key
+     * and the matching arrow key).
+     *
+     * @param keyCode The first key code.
+     * @param alternateKeyCode The second key code.
+     * @return {@code true} if either is held down, {@code false} otherwise.
+     */
+    public boolean isEitherPressed(final int keyCode, final int alternateKeyCode) {
+        return isPressed(keyCode) || isPressed(alternateKeyCode);
+    }
+
+    /**
+     * Records a key as held down or released.
+     *
+     * @param keyCode The key code.
+     * @param isPressed {@code true} if held down, {@code false} if released.
+     */
+    public void set(final int keyCode, final boolean isPressed) {
+        if (keyCode < 0 || keyCode >= KEY_CODE_COUNT) {
+            return;
+        }
+        if (isPressed) {
+            words[keyCode >>> 6] |= 1L << keyCode;
+        } else {
+            words[keyCode >>> 6] &= ~(1L << keyCode);
+        }
+    }
+
+    /**
+     * Releases every key.
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+}
@@ -0,0 +1,163 @@
+package com.rikuthin.utility;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-bucket histogram of non-negative durations (e.g., nanoseconds).
+ * <p>
+ * Buckets are log-linear: values below 16 get a bucket each, and every
+ * power-of-two range above that is split into 8 equal buckets. Any recorded
+ * value is therefore reported to within 12.5%, across the whole range of a
+ * {@code long}, using fewer than 500 counters.
+ * <p>
+ * All counters are allocated up front, so recording a sample and querying
+ * percentiles allocate nothing. Not thread-safe: each histogram must only be
+ * recorded into from one thread at a time.
+ */
+public final class LatencyHistogram {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The number of bits of each value kept below its leading one bit.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+    /**
+     * The number of buckets each power-of-two range is split into.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /**
+     * The total number of buckets needed to cover every {@code long} value.
+     */
+    private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The number of samples recorded in each bucket.
+     */
+    private final long[] counts;
+    /**
+     * The total number of samples recorded.
+     */
+    private long count;
+    /**
+     * The sum of every sample recorded.
+     */
+    private long total;
+    /**
+     * The largest sample recorded.
+     */
+    private long max;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+        reset();
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of samples recorded.
+     *
+     * @return The sample count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the largest sample recorded (exactly).
+     *
+     * @return The maximum, or 0 if empty.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of every sample recorded (exactly).
+     *
+     * @return The mean, or 0 if empty.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns the value below which the given percentage of samples fall, to
+     * within the resolution of its bucket. Reports the upper edge of the
+     * bucket (never more than the maximum), so it errs on the slow side.
+     *
+     * @param percentile The percentile, in the range [0, 100].
+     * @return The value at that percentile, or 0 if empty.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        double clamped = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max((long) Math.ceil(clamped / 100 * count), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Records one sample. Negative values are recorded as 0.
+     *
+     * @param value The sample.
+     */
+    public void record(final long value) {
+        long sample = Math.max(value, 0);
+        counts[bucketIndex(sample)]++;
+        count++;
+        total += sample;
+        if (sample > max) {
+            max = sample;
+        }
+    }
+
+    /**
+     * Forgets every recorded sample.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        max = 0;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the bucket a (non-negative) value falls in.
+     */
+    private static int bucketIndex(final long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the largest value that falls in a bucket.
+     */
+    private static long bucketUpperBound(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long mantissa = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        long lower = mantissa << shift;
+        return lower + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,98 @@
+package com.rikuthin.utility;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a task over the index range [0, count) in fixed-size chunks, in
+ * parallel on a {@link ForkJoinPool}.
+ * <p>
+ * The range is split in half recursively until each piece is no larger than
+ * the chunk size, so every chunk covers a contiguous run of indices and chunk
+ * boundaries depend only on the count and chunk size (never on the number of
+ * threads). Tasks must only write to state owned by the indices in their
+ * chunk; anything shared has to be deferred to a serial step afterwards.
+ */
+public final class ParallelChunks {
+
+    // ----- INNER INTERFACES -----
+    /**
+     * A task over a contiguous range of indices.
+     */
+    @FunctionalInterface
+    public interface RangeTask {
+
+        /**
+         * Processes the indices in [from, to).
+         *
+         * @param from The first index (inclusive).
+         * @param to The last index (exclusive).
+         */
+        void run(int from, int to);
+    }
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelChunks() {
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Runs a task over [0, count) and waits for it to finish. The range is
+     * processed on the calling thread in one go if there is no pool or it
+     * fits in a single chunk.
+     *
+     * @param pool The pool to run chunks on ({@code null} to run serially).
+     * @param count The number of indices.
+     * @param chunkSize The maximum number of indices per chunk. (Minimum
+     * value: 1)
+     * @param task The task to run.
+     */
+    public static void forEach(final ForkJoinPool pool, final int count, final int chunkSize, final RangeTask task) {
+        if (count <= 0) {
+            return;
+        }
+
+        int size = Math.max(chunkSize, 1);
+        if (pool == null || count <= size) {
+            task.run(0, count);
+            return;
+        }
+        pool.invoke(new ChunkAction(task, 0, count, size));
+    }
+
+    // ----- PRIVATE INNER CLASSES -----
+    /**
+     * Splits its range in half until it is no larger than a chunk.
+     */
+    private static final class ChunkAction extends RecursiveAction {
+
+        private final transient RangeTask task;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ChunkAction(final RangeTask task, final int from, final int to, final int chunkSize) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                task.run(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new ChunkAction(task, from, middle, chunkSize),
+                    new ChunkAction(task, middle, to, chunkSize)
+            );
+        }
+    }
+}
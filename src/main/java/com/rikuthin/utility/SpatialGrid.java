@@ -0,0 +1,214 @@
+package com.rikuthin.utility;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid (spatial hash) over a rectangular area, used as a collision
+ * broadphase.
+ * <p>
+ * Items are identified by dense integer indices and inserted by a single
+ * point (typically their centre). Each cell keeps an intrusive singly linked
+ * list of its items, stored in flat {@code int} arrays, so a full rebuild is
+ * O(items + cells) and allocates nothing once the arrays have grown to fit.
+ * <p>
+ * {@link #query(float, float, float, float)} returns every item whose cell
+ * overlaps the given rectangle. Because items are bucketed by a point, callers
+ * should expand their query rectangle by the largest item half-extent so that
+ * items overhanging a cell boundary are not missed. Results are candidates
+ * only; an exact (narrowphase) test is still required.
+ */
+public final class SpatialGrid {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Marks the end of a cell's item list.
+     */
+    private static final int END = -1;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The width and height of each (square) cell in pixels.
+     */
+    private final int cellSize;
+    /**
+     * The number of cell columns.
+     */
+    private int columns;
+    /**
+     * The number of cell rows.
+     */
+    private int rows;
+    /**
+     * The first item in each cell's list (or {@link #END}).
+     */
+    private int[] cellHead;
+    /**
+     * The next item in the same cell as each item (or {@link #END}).
+     */
+    private int[] next;
+    /**
+     * The number of items inserted since the last reset.
+     */
+    private int itemCount;
+    /**
+     * The items found by the most recent query.
+     */
+    private int[] results;
+    /**
+     * The number of items found by the most recent query.
+     */
+    private int resultCount;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty grid with the given cell size. The grid must be sized
+     * with {@link #reset(int, int)} before use.
+     *
+     * @param cellSize The width and height of each cell in pixels. (Minimum
+     * value: 1)
+     */
+    public SpatialGrid(final int cellSize) {
+        this.cellSize = Math.max(cellSize, 1);
+        this.columns = 0;
+        this.rows = 0;
+        this.cellHead = new int[0];
+        this.next = new int[256];
+        this.results = new int[256];
+        this.itemCount = 0;
+        this.resultCount = 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the width and height of each cell in pixels.
+     *
+     * @return The cell size.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the number of cell columns.
+     *
+     * @return The column count.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of cell rows.
+     *
+     * @return The row count.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of items inserted since the last reset.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns one of the items found by the most recent query.
+     *
+     * @param i The result index, in the range [0, query count).
+     * @return The item index.
+     */
+    public int getResult(final int i) {
+        return results[i];
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Empties the grid and (if needed) resizes it to cover an area of the
+     * given dimensions.
+     *
+     * @param width The width of the covered area in pixels.
+     * @param height The height of the covered area in pixels.
+     */
+    public void reset(final int width, final int height) {
+        int newColumns = Math.max(ceilDiv(width, cellSize), 1);
+        int newRows = Math.max(ceilDiv(height, cellSize), 1);
+
+        if (newColumns != columns || newRows != rows) {
+            columns = newColumns;
+            rows = newRows;
+            cellHead = new int[columns * rows];
+        }
+
+        Arrays.fill(cellHead, END);
+        itemCount = 0;
+    }
+
+    /**
+     * Inserts an item at the given point. Points outside the covered area are
+     * clamped into the nearest edge cell.
+     *
+     * @param item The item's index. Items must be inserted with consecutive
+     * indices starting from 0 after each reset.
+     * @param x The item's x-coordinate.
+     * @param y The item's y-coordinate.
+     */
+    public void insert(final int item, final float x, final float y) {
+        if (item >= next.length) {
+            next = Arrays.copyOf(next, Math.max(next.length * 2, item + 1));
+        }
+
+        int cell = cellRow(y) * columns + cellColumn(x);
+        next[item] = cellHead[cell];
+        cellHead[cell] = item;
+        itemCount = Math.max(itemCount, item + 1);
+    }
+
+    /**
+     * Finds every item in a cell that overlaps the given rectangle. The results
+     * can be read with {@link #getResult(int)} until the next query.
+     *
+     * @param minX The left edge of the rectangle.
+     * @param minY The top edge of the rectangle.
+     * @param maxX The right edge of the rectangle.
+     * @param maxY The bottom edge of the rectangle.
+     * @return The number of items found.
+     */
+    public int query(final float minX, final float minY, final float maxX, final float maxY) {
+        resultCount = 0;
+
+        int firstColumn = cellColumn(minX);
+        int lastColumn = cellColumn(maxX);
+        int firstRow = cellRow(minY);
+        int lastRow = cellRow(maxY);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            int rowStart = row * columns;
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                for (int item = cellHead[rowStart + column]; item != END; item = next[item]) {
+                    if (resultCount == results.length) {
+                        results = Arrays.copyOf(results, results.length * 2);
+                    }
+                    results[resultCount++] = item;
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    // ----- HELPER METHODS -----
+    private int cellColumn(final float x) {
+        return Math.clamp((int) Math.floor(x / cellSize), 0, columns - 1);
+    }
+
+    private int cellRow(final float y) {
+        return Math.clamp((int) Math.floor(y / cellSize), 0, rows - 1);
+    }
+
+    private static int ceilDiv(final int value, final int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
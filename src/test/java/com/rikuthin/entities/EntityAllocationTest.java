@@ -0,0 +1,148 @@
+package com.rikuthin.entities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.entities.enemies.RedMage;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Checks that the per-tick {@link Entity} / {@link MobileEntity} update path
+ * does not allocate once it has warmed up.
+ */
+public class EntityAllocationTest
+{
+    private static final int WARM_UP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 10_000;
+
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @Before
+    public void setUp()
+    {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        simulation.start();
+    }
+
+    @After
+    public void tearDown()
+    {
+        simulation.stop();
+    }
+
+    /**
+     * Updating, moving, bounds-checking and re-positioning entities allocates
+     * nothing per tick.
+     */
+    @Test
+    public void shouldNotAllocateWhileUpdating()
+    {
+        Player player = simulation.getGameManager().getPlayer();
+        Enemy enemy = new RedMage.RedMageBuilder(simulation.getArena()).build();
+        enemy.setVelocityX(3);
+        Point centre = new Point();
+
+        runTicks(player, enemy, centre, WARM_UP_TICKS);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        long sink = runTicks(player, enemy, centre, MEASURED_TICKS);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        // Anything allocated every tick would cost at least 16 bytes per tick;
+        // allow a few one-off bytes (e.g., lazy class initialisation).
+        assertTrue(sink != 0);
+        assertTrue(
+                "Allocated " + allocated + " bytes over " + MEASURED_TICKS + " ticks",
+                allocated < MEASURED_TICKS
+        );
+    }
+
+    /**
+     * Switching the player's animation back and forth reuses one instance
+     * and allocates nothing.
+     */
+    @Test
+    public void shouldNotAllocateWhileSwitchingAnimations()
+    {
+        Player player = simulation.getGameManager().getPlayer();
+        int[] animationIds = {
+            Player.IDLE_ANIMATION.getId(),
+            Player.WALK_UP_ANIMATION.getId(),
+            Player.WALK_UP_LEFT_ANIMATION.getId(),
+            Player.WALK_UP_RIGHT_ANIMATION.getId()
+        };
+
+        switchAnimations(player, animationIds, WARM_UP_TICKS);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        long sink = switchAnimations(player, animationIds, MEASURED_TICKS);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(sink != 0);
+        assertTrue(
+                "Allocated " + allocated + " bytes over " + MEASURED_TICKS + " ticks",
+                allocated < MEASURED_TICKS
+        );
+    }
+
+    /**
+     * The centre of an entity is its position plus half its sprite size.
+     */
+    @Test
+    public void shouldComputeCentreFromPositionAndSize()
+    {
+        Player player = simulation.getGameManager().getPlayer();
+        player.setPosition(100, 200);
+
+        Point centre = player.getCentreCoordinates(new Point());
+        assertEquals(100 + player.getSpriteWidth() / 2, centre.x);
+        assertEquals(200 + player.getSpriteHeight() / 2, centre.y);
+    }
+
+    private static long switchAnimations(final Player player, final int[] animationIds, final int ticks)
+    {
+        long sink = 0;
+        for (int i = 0; i < ticks; i++) {
+            // Every other request is for the current animation, which must be skipped.
+            if (player.requestAnimation(animationIds[(i >> 1) % animationIds.length])) {
+                sink += player.getCurrentAnimationId() + 1;
+            }
+            player.update();
+        }
+        return sink;
+    }
+
+    private static long runTicks(final Player player, final Enemy enemy, final Point centre, final int ticks)
+    {
+        long sink = 0;
+        for (int i = 0; i < ticks; i++) {
+            player.setVelocityX((i & 1) == 0 ? 2 : -2);
+            player.update();
+            enemy.update();
+
+            enemy.getCentreCoordinates(centre);
+            player.setPosition(centre.x, player.getPosition().y);
+
+            if (!enemy.isFullyOutsideArena() && player.isFullyWithinArena()) {
+                sink += player.getHitbox().x + centre.y;
+            }
+        }
+        return sink;
+    }
+}
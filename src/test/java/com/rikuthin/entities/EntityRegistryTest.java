@@ -0,0 +1,124 @@
+package com.rikuthin.entities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.entities.enemies.RedMage;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for {@link EntityRegistry} and {@link EntityHandle}.
+ */
+public class EntityRegistryTest
+{
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private EntityRegistry registry;
+
+    @Before
+    public void setUp()
+    {
+        simulation.start();
+        registry = new EntityRegistry(1);
+    }
+
+    @After
+    public void tearDown()
+    {
+        simulation.stop();
+    }
+
+    /**
+     * A handle stops resolving as soon as its entity is unregistered, and
+     * copies of it never alias the entity that reuses the slot.
+     */
+    @Test
+    public void shouldStopResolvingStaleHandles()
+    {
+        Enemy first = createEnemy();
+        long handle = registry.register(first);
+        assertSame(first, registry.get(handle));
+        assertEquals(handle, first.getHandle());
+
+        assertTrue(registry.unregister(handle));
+        assertNull(registry.get(handle));
+        assertFalse(registry.isAlive(handle));
+        assertEquals(EntityHandle.NONE, first.getHandle());
+        assertFalse(registry.unregister(handle));
+
+        Enemy second = createEnemy();
+        long reused = registry.register(second);
+        assertEquals(EntityHandle.indexOf(handle), EntityHandle.indexOf(reused));
+        assertEquals(EntityHandle.generationOf(handle) + 1, EntityHandle.generationOf(reused));
+        assertNull(registry.get(handle));
+        assertSame(second, registry.get(reused));
+
+        assertNull(registry.get(EntityHandle.NONE));
+        assertNull(registry.get(EntityHandle.of(5, 1)));
+        assertEquals(1, registry.size());
+    }
+
+    /**
+     * Typed lookups only resolve entities of the requested type (or a
+     * subtype).
+     */
+    @Test
+    public void shouldRejectWrongTypeOnTypedLookup()
+    {
+        long playerHandle = registry.register(createPlayer());
+        long mageHandle = registry.register(new RedMage.RedMageBuilder(simulation.getArena()).build());
+
+        assertNull(registry.get(playerHandle, Enemy.class));
+        assertSame(registry.get(playerHandle), registry.get(playerHandle, Player.class));
+        assertSame(registry.get(mageHandle), registry.get(mageHandle, Enemy.class));
+        assertNull(registry.get(mageHandle, Player.class));
+
+        registry.clear();
+        assertNull(registry.get(mageHandle, Enemy.class));
+        assertTrue(registry.isEmpty());
+    }
+
+    /**
+     * Generations count up as unsigned values and skip 0 when they wrap, so a
+     * reused slot's handle can never equal {@link EntityHandle#NONE}.
+     */
+    @Test
+    public void shouldSkipGenerationZeroOnWrapAround()
+    {
+        assertEquals(2, EntityRegistry.nextGeneration(1));
+        assertEquals(Integer.MIN_VALUE, EntityRegistry.nextGeneration(Integer.MAX_VALUE));
+        assertEquals(1, EntityRegistry.nextGeneration(-1));
+        assertTrue(EntityHandle.of(0, EntityRegistry.nextGeneration(-1)) != EntityHandle.NONE);
+
+        long handle = EntityHandle.of(7, -1);
+        assertEquals(7, EntityHandle.indexOf(handle));
+        assertEquals(-1, EntityHandle.generationOf(handle));
+    }
+
+    private Enemy createEnemy()
+    {
+        return new Enemy.EnemyBuilder(simulation.getArena()).build();
+    }
+
+    private Player createPlayer()
+    {
+        return new Player.PlayerBuilder(simulation.getArena())
+                .animationIds(
+                        Player.DEATH_ANIMATION.getId(),
+                        Player.IDLE_ANIMATION.getId(),
+                        Player.WALK_UP_LEFT_ANIMATION.getId(),
+                        Player.WALK_UP_RIGHT_ANIMATION.getId(),
+                        Player.WALK_UP_ANIMATION.getId()
+                )
+                .currentAnimationId(Player.IDLE_ANIMATION.getId())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.rikuthin.entities.bullets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.rikuthin.entities.bullets.BulletPool.ExhaustionPolicy;
+
+/**
+ * Unit tests for {@link BulletPool} sizing, exhaustion policies and
+ * statistics.
+ */
+public class BulletPoolTest
+{
+    /**
+     * Prewarming allocates the requested slots up front, and never shrinks the
+     * store.
+     */
+    @Test
+    public void shouldPrewarmRequestedCapacity()
+    {
+        BulletPool pool = new BulletPool(new BulletStore(4), 64, ExhaustionPolicy.DROP);
+        assertEquals(64, pool.getCapacity());
+
+        pool.prewarm(16);
+        assertEquals(64, pool.getCapacity());
+        pool.prewarm(100);
+        assertEquals(100, pool.getCapacity());
+
+        assertEquals(ExhaustionPolicy.GROW, new BulletPool(new BulletStore(1), 0, null).getExhaustionPolicy());
+    }
+
+    /**
+     * A growing pool doubles its capacity when full, counting the acquire that
+     * caused it as a miss.
+     */
+    @Test
+    public void shouldGrowWhenExhausted()
+    {
+        BulletPool pool = new BulletPool(new BulletStore(4), 4, ExhaustionPolicy.GROW);
+        fill(pool, 4);
+
+        assertEquals(4, pool.acquire());
+        assertEquals(8, pool.getCapacity());
+        assertEquals(4, pool.getHits());
+        assertEquals(1, pool.getMisses());
+
+        // A batch larger than double the capacity grows to fit it.
+        assertEquals(5, pool.acquire(20));
+        assertEquals(25, pool.getStore().size());
+        assertEquals(25, pool.getCapacity());
+        assertEquals(7, pool.getHits());
+        assertEquals(18, pool.getMisses());
+    }
+
+    /**
+     * A dropping pool refuses new bullets when full, and grants only the free
+     * slots of a batch, without ever allocating.
+     */
+    @Test
+    public void shouldDropWhenExhausted()
+    {
+        BulletPool pool = new BulletPool(new BulletStore(4), 4, ExhaustionPolicy.DROP);
+        fill(pool, 3);
+
+        assertEquals(3, pool.acquire(3));
+        assertEquals(4, pool.getStore().size());
+        assertEquals(BulletPool.NO_SLOT, pool.acquire());
+        assertEquals(BulletPool.NO_SLOT, pool.acquire(2));
+
+        assertEquals(4, pool.getCapacity());
+        assertEquals(4, pool.getHits());
+        assertEquals(5, pool.getMisses());
+    }
+
+    /**
+     * A throwing pool fails loudly when full, leaving the store as it was.
+     */
+    @Test
+    public void shouldThrowWhenExhausted()
+    {
+        BulletPool pool = new BulletPool(new BulletStore(4), 4, ExhaustionPolicy.THROW);
+        fill(pool, 3);
+
+        try {
+            pool.acquire(2);
+            fail("Acquired more slots than were free.");
+        } catch (IllegalStateException e) {
+            assertEquals(3, pool.getStore().size());
+        }
+
+        assertEquals(3, pool.acquire());
+        try {
+            pool.acquire();
+            fail("Acquired a slot from a full pool.");
+        } catch (IllegalStateException e) {
+            assertEquals(4, pool.getStore().size());
+            assertEquals(4, pool.getCapacity());
+        }
+    }
+
+    /**
+     * Released slots are reused as hits, and the high-water mark keeps the
+     * most bullets alive at once until the statistics are reset.
+     */
+    @Test
+    public void shouldTrackStatsAcrossAcquireReleaseCycles()
+    {
+        BulletPool pool = new BulletPool(new BulletStore(8), 8, ExhaustionPolicy.DROP);
+
+        for (int cycle = 0; cycle < 3; cycle++) {
+            fill(pool, 6);
+            pool.release(2);
+            pool.release(0);
+            pool.releaseAll();
+        }
+        assertEquals(18, pool.getHits());
+        assertEquals(0, pool.getMisses());
+        assertEquals(6, pool.getHighWaterMark());
+        assertEquals(8, pool.getCapacity());
+
+        fill(pool, 2);
+        pool.resetStats();
+        assertEquals(0, pool.getHits());
+        assertEquals(0, pool.getMisses());
+        assertEquals(2, pool.getHighWaterMark());
+
+        pool.acquire();
+        pool.release(0);
+        assertEquals(3, pool.getHighWaterMark());
+        assertEquals(2, pool.getStore().size());
+    }
+
+    private static void fill(final BulletPool pool, final int count)
+    {
+        for (int i = 0; i < count; i++) {
+            assertEquals(pool.getStore().size(), pool.acquire());
+        }
+    }
+}
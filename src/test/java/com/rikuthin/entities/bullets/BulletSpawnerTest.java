@@ -0,0 +1,143 @@
+package com.rikuthin.entities.bullets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.managers.BulletManager;
+import com.rikuthin.managers.GameManager;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for {@link BulletSpawner} volleys and their limits.
+ */
+public class BulletSpawnerTest
+{
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private BulletManager bulletManager;
+    private Player player;
+
+    @Before
+    public void setUp()
+    {
+        simulation.start();
+        GameManager gameManager = simulation.getGameManager();
+        bulletManager = gameManager.getBulletManager();
+        player = gameManager.getPlayer();
+    }
+
+    @After
+    public void tearDown()
+    {
+        bulletManager.setMaxEmissionsPerTick(BulletManager.DEFAULT_MAX_EMISSIONS_PER_TICK);
+        simulation.stop();
+    }
+
+    /**
+     * A ring volley is inserted as one batch of bullets with equal speeds,
+     * spaced evenly around the circle.
+     */
+    @Test
+    public void shouldSpawnRingAsSingleVolley()
+    {
+        BulletSpawner spawner = createSpawner(BulletPattern.RING, 8).build();
+
+        assertEquals(8, spawner.spawnVolley());
+        BulletStore bullets = bulletManager.getBullets();
+        assertEquals(8, bullets.size());
+
+        for (int i = 0; i < 8; i++) {
+            double radians = Math.toRadians(i * 45);
+            assertEquals(10 * Math.cos(radians), bullets.getVelocityX(i), 1e-4);
+            assertEquals(10 * Math.sin(radians), bullets.getVelocityY(i), 1e-4);
+        }
+    }
+
+    /**
+     * A spawner with a delay far shorter than a tick fires at most its
+     * catch-up limit of volleys, and drops the rest of the backlog.
+     */
+    @Test
+    public void shouldLimitVolleysPerTick()
+    {
+        BulletSpawner spawner = createSpawner(BulletPattern.SINGLE, 1)
+                .spawnDelayMs(1)
+                .maxVolleysPerTick(3)
+                .build();
+        spawner.start();
+
+        spawner.update();
+        assertEquals(3, bulletManager.getBulletCount());
+        assertTrue(spawner.getElapsedDelayMs() < spawner.getSpawnDelayMs());
+
+        spawner.update();
+        assertEquals(6, bulletManager.getBulletCount());
+    }
+
+    /**
+     * Volleys stop at the per-tick emission cap, which is renewed every tick.
+     */
+    @Test
+    public void shouldCapEmissionsPerTick()
+    {
+        BulletSpawner spawner = createSpawner(BulletPattern.FAN, 8).build();
+        bulletManager.setMaxEmissionsPerTick(10);
+
+        assertEquals(8, spawner.spawnVolley());
+        assertEquals(2, spawner.spawnVolley());
+        assertEquals(0, spawner.spawnVolley());
+        assertEquals(10, bulletManager.getEmissionsThisTick());
+
+        bulletManager.update();
+        assertEquals(0, bulletManager.getEmissionsThisTick());
+        assertEquals(8, spawner.spawnVolley());
+    }
+
+    /**
+     * Spawners are compared by identity: identically configured spawners are
+     * distinct, and a spawner's equality and hash do not change as its timers
+     * tick.
+     */
+    @Test
+    public void shouldCompareSpawnersByIdentity()
+    {
+        BulletSpawner spawner = createSpawner(BulletPattern.SPIRAL, 4).spawnDelayMs(40).build();
+        BulletSpawner twin = createSpawner(BulletPattern.SPIRAL, 4).spawnDelayMs(40).build();
+        assertFalse(spawner.equals(twin));
+
+        Set<BulletSpawner> spawners = new HashSet<>();
+        spawners.add(spawner);
+        int hash = spawner.hashCode();
+
+        spawner.start();
+        for (int i = 0; i < 10; i++) {
+            spawner.update();
+        }
+        assertTrue(bulletManager.getBulletCount() > 0);
+        assertEquals(hash, spawner.hashCode());
+        assertTrue(spawners.contains(spawner));
+        assertFalse(spawners.contains(twin));
+    }
+
+    private BulletSpawner.BulletSpawnerBuilder createSpawner(final BulletPattern pattern, final int volleySize)
+    {
+        Set<String> keys = new HashSet<>();
+        keys.add("player-bullet");
+
+        return new BulletSpawner.BulletSpawnerBuilder(simulation.getArena(), player)
+                .bulletVelocityX(10)
+                .bulletAnimationKeys(keys)
+                .currentBulletAnimationKey("player-bullet")
+                .pattern(pattern)
+                .volleySize(volleySize);
+    }
+}
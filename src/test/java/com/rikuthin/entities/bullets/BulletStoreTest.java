@@ -0,0 +1,98 @@
+package com.rikuthin.entities.bullets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.rikuthin.graphics.animations.AnimationFrame;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+
+/**
+ * Unit tests for swap-removal in {@link BulletStore}.
+ */
+public class BulletStoreTest
+{
+    private static final int BULLET_COUNT = 5;
+
+    private final AnimationTemplate[] templates = new AnimationTemplate[BULLET_COUNT];
+
+    /**
+     * Removing a bullet from the middle moves the last bullet into its slot,
+     * carrying every one of its fields with it.
+     */
+    @Test
+    public void shouldMoveLastBulletIntoRemovedMiddleSlot()
+    {
+        BulletStore bullets = createStore();
+
+        bullets.remove(1);
+
+        assertEquals(BULLET_COUNT - 1, bullets.size());
+        assertBullet(bullets, 0, 0);
+        assertBullet(bullets, 1, 4);
+        assertBullet(bullets, 2, 2);
+        assertBullet(bullets, 3, 3);
+    }
+
+    /**
+     * Removing the last bullet (or the only one) leaves every other slot
+     * untouched.
+     */
+    @Test
+    public void shouldRemoveLastBulletWithoutMovingOthers()
+    {
+        BulletStore bullets = createStore();
+
+        bullets.remove(BULLET_COUNT - 1);
+        bullets.remove(0);
+        bullets.remove(bullets.size() - 1);
+
+        assertEquals(2, bullets.size());
+        assertBullet(bullets, 0, 3);
+        assertBullet(bullets, 1, 1);
+
+        bullets.remove(1);
+        bullets.remove(0);
+        assertEquals(0, bullets.size());
+
+        try {
+            bullets.remove(0);
+            fail("Removed a bullet from an empty store.");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(0, bullets.size());
+        }
+    }
+
+    /**
+     * Creates a store holding {@link #BULLET_COUNT} bullets, where every field
+     * of bullet {@code n} is derived from {@code n}.
+     */
+    private BulletStore createStore()
+    {
+        BulletStore bullets = new BulletStore(BULLET_COUNT);
+        for (int n = 0; n < BULLET_COUNT; n++) {
+            BufferedImage image = new BufferedImage(n + 1, n + 2, BufferedImage.TYPE_INT_ARGB);
+            templates[n] = new AnimationTemplate(List.of(new AnimationFrame(image, 10)), true);
+            bullets.add(n, 10 + n, 20 + n, 30 + n, 40 + n, 50L + n, templates[n]);
+        }
+        return bullets;
+    }
+
+    private void assertBullet(final BulletStore bullets, final int slot, final int n)
+    {
+        assertEquals(n, bullets.getX(slot), 0);
+        assertEquals(10 + n, bullets.getY(slot), 0);
+        assertEquals(20 + n, bullets.getVelocityX(slot), 0);
+        assertEquals(30 + n, bullets.getVelocityY(slot), 0);
+        assertEquals(n + 1, bullets.getWidth(slot));
+        assertEquals(n + 2, bullets.getHeight(slot));
+        assertEquals(40 + n, bullets.getDamage(slot));
+        assertEquals(50L + n, bullets.getOwner(slot));
+        assertSame(templates[n], bullets.getAnimation(slot));
+    }
+}
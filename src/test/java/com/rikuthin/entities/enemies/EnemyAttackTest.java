@@ -0,0 +1,78 @@
+package com.rikuthin.entities.enemies;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.enemies.Enemy.AttackState;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for the tick-driven {@link Enemy} attack cycle.
+ */
+public class EnemyAttackTest
+{
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private Enemy enemy;
+
+    @Before
+    public void setUp()
+    {
+        simulation.start();
+        enemy = new RedMage.RedMageBuilder(simulation.getArena())
+                .attackTimerMs(100)
+                .attackCooldownMs(200)
+                .build();
+    }
+
+    @After
+    public void tearDown()
+    {
+        simulation.stop();
+    }
+
+    /**
+     * Enemies cool down, attack for the attack duration, then cool down again.
+     */
+    @Test
+    public void shouldCycleThroughAttackStates()
+    {
+        assertEquals(AttackState.COOLING_DOWN, enemy.getAttackState());
+        assertFalse(enemy.isAttacking());
+
+        enemy.attack(150);
+        assertEquals(AttackState.COOLING_DOWN, enemy.getAttackState());
+        enemy.attack(50);
+        assertEquals(AttackState.READY, enemy.getAttackState());
+
+        enemy.attack(10);
+        assertEquals(AttackState.ATTACKING, enemy.getAttackState());
+        assertTrue(enemy.isAttacking());
+
+        enemy.attack(60);
+        assertEquals(AttackState.ATTACKING, enemy.getAttackState());
+        enemy.attack(40);
+        assertEquals(AttackState.COOLING_DOWN, enemy.getAttackState());
+        assertFalse(enemy.isAttacking());
+        assertEquals(0, enemy.getElapsedAttackCooldownMs(), 0);
+    }
+
+    /**
+     * Enemies with no attack duration never start attacking.
+     */
+    @Test
+    public void shouldNeverAttackWithoutAttackDuration()
+    {
+        enemy.setAttackTimerMs(0);
+
+        for (int i = 0; i < 100; i++) {
+            enemy.attack(50);
+            assertFalse(enemy.isAttacking());
+        }
+    }
+}
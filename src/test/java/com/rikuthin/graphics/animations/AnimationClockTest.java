@@ -0,0 +1,84 @@
+package com.rikuthin.graphics.animations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for frame resolution against the shared {@link AnimationClock}.
+ */
+public class AnimationClockTest
+{
+    private static final BufferedImage IMAGE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    @After
+    public void tearDown()
+    {
+        AnimationClock.getInstance().reset();
+    }
+
+    /**
+     * Frames are resolved from elapsed time, wrapping for looping animations
+     * and holding the last frame otherwise.
+     */
+    @Test
+    public void shouldResolveFrameFromElapsedTime()
+    {
+        AnimationTemplate looping = createTemplate(true);
+        assertEquals(0, looping.getFrameIndexAt(0));
+        assertEquals(0, looping.getFrameIndexAt(9));
+        assertEquals(1, looping.getFrameIndexAt(10));
+        assertEquals(2, looping.getFrameIndexAt(59));
+        assertEquals(0, looping.getFrameIndexAt(60));
+        assertEquals(1, looping.getFrameIndexAt(75));
+        assertFalse(looping.isFinishedAt(1000));
+
+        AnimationTemplate oneShot = createTemplate(false);
+        assertEquals(2, oneShot.getFrameIndexAt(60));
+        assertEquals(2, oneShot.getFrameIndexAt(1000));
+        assertTrue(oneShot.isFinishedAt(60));
+    }
+
+    /**
+     * Instances follow the clock without being updated, and instances started
+     * at the same time stay in phase.
+     */
+    @Test
+    public void shouldFollowSharedClock()
+    {
+        AnimationClock clock = AnimationClock.getInstance();
+        AnimationTemplate template = createTemplate(true);
+
+        AnimationInstance first = new AnimationInstance(template);
+        AnimationInstance second = new AnimationInstance(template);
+        first.start();
+        second.start();
+
+        clock.advance(15);
+        assertEquals(1, first.getCurrentFrameIndex());
+        assertEquals(first.getCurrentFrameIndex(), second.getCurrentFrameIndex());
+
+        second.stop();
+        clock.advance(20);
+        assertEquals(2, first.getCurrentFrameIndex());
+        assertEquals(1, second.getCurrentFrameIndex());
+
+        second.start();
+        assertEquals(15, second.getElapsedMs());
+    }
+
+    private static AnimationTemplate createTemplate(final boolean isLooping)
+    {
+        return new AnimationTemplate(List.of(
+                new AnimationFrame(IMAGE, 10),
+                new AnimationFrame(IMAGE, 20),
+                new AnimationFrame(IMAGE, 30)
+        ), isLooping);
+    }
+}
@@ -0,0 +1,114 @@
+package com.rikuthin.graphics.animations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for the per-entity {@link AnimationController}, using the
+ * player's declared animation states.
+ */
+public class AnimationControllerTest
+{
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private Player player;
+    private AnimationController controller;
+    private int idleId;
+    private int walkUpId;
+    private int deathId;
+
+    @Before
+    public void setUp()
+    {
+        simulation.start();
+        player = simulation.getGameManager().getPlayer();
+        controller = player.getAnimationController();
+        idleId = Player.IDLE_ANIMATION.getId();
+        walkUpId = Player.WALK_UP_ANIMATION.getId();
+        deathId = Player.DEATH_ANIMATION.getId();
+    }
+
+    @After
+    public void tearDown()
+    {
+        simulation.stop();
+        AnimationClock.getInstance().reset();
+    }
+
+    /**
+     * Requesting the current animation neither restarts it nor replaces it,
+     * and real switches reuse the same instance.
+     */
+    @Test
+    public void shouldReuseInstanceAndSkipNoOpRequests()
+    {
+        AnimationInstance instance = player.getCurrentAnimation();
+        assertEquals(idleId, player.getCurrentAnimationId());
+
+        AnimationClock.getInstance().advance(30);
+        assertFalse(player.requestAnimation(idleId));
+        assertEquals(30, instance.getElapsedMs());
+
+        assertTrue(player.requestAnimation(walkUpId));
+        assertEquals(walkUpId, player.getCurrentAnimationId());
+        assertSame(instance, player.getCurrentAnimation());
+        assertEquals(0, instance.getElapsedMs());
+    }
+
+    /**
+     * One-shots play through once, queue behind each other and then return
+     * to the default state.
+     */
+    @Test
+    public void shouldReturnToDefaultStateAfterOneShots()
+    {
+        player.requestAnimation(walkUpId);
+        assertTrue(player.requestAnimation(deathId));
+        assertTrue(controller.isPlayingOneShot());
+        assertTrue(player.requestAnimation(deathId));
+        assertEquals(1, controller.getQueuedOneShotCount());
+
+        long deathDurationMs = player.getCurrentAnimation().getTemplate().getTotalDurationMs();
+        AnimationClock.getInstance().advance(deathDurationMs);
+        player.update();
+        assertEquals(deathId, player.getCurrentAnimationId());
+        assertEquals(0, controller.getQueuedOneShotCount());
+
+        AnimationClock.getInstance().advance(deathDurationMs);
+        player.update();
+        assertFalse(controller.isPlayingOneShot());
+        assertEquals(idleId, player.getCurrentAnimationId());
+    }
+
+    /**
+     * States requested while a one-shot plays are returned to afterwards, and
+     * undeclared transitions are ignored.
+     */
+    @Test
+    public void shouldHonourRequestsAndDeclaredTransitions()
+    {
+        player.requestAnimation(deathId);
+        assertTrue(player.requestAnimation(walkUpId));
+        assertEquals(deathId, player.getCurrentAnimationId());
+
+        AnimationClock.getInstance().advance(player.getCurrentAnimation().getTemplate().getTotalDurationMs());
+        player.update();
+        assertEquals(walkUpId, player.getCurrentAnimationId());
+
+        // Death is only ever left by finishing, so forcing it and then asking to walk is ignored.
+        player.setAnimation(deathId);
+        assertFalse(controller.isPlayingOneShot());
+        assertFalse(controller.canTransition(deathId, walkUpId));
+        assertFalse(player.requestAnimation(walkUpId));
+        assertEquals(deathId, player.getCurrentAnimationId());
+    }
+}
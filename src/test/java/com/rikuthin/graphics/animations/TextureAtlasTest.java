@@ -0,0 +1,95 @@
+package com.rikuthin.graphics.animations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for packing sprite frames into a {@link TextureAtlas}.
+ */
+public class TextureAtlasTest
+{
+    /**
+     * Frames from different sheets share one page, keep their pixels and do
+     * not overlap.
+     */
+    @Test
+    public void shouldPackFramesOntoSharedPage()
+    {
+        BufferedImage wide = createSheet(8, 40, 10, 0xFF0000);
+        BufferedImage tall = createSheet(3, 20, 30, 0x00FF00);
+
+        TextureAtlas atlas = new TextureAtlas();
+        int[] regions = new int[11];
+        for (int i = 0; i < 8; i++) {
+            regions[i] = atlas.add(wide, i * 40, 0, 40, 10);
+        }
+        for (int i = 0; i < 3; i++) {
+            regions[8 + i] = atlas.add(tall, i * 20, 0, 20, 30);
+        }
+        atlas.pack();
+
+        assertEquals(1, atlas.getPages().size());
+
+        AnimationFrame[] frames = new AnimationFrame[regions.length];
+        for (int i = 0; i < regions.length; i++) {
+            frames[i] = atlas.createFrame(regions[i], 10);
+            assertSame(atlas.getPages().get(0), frames[i].getAtlas());
+        }
+
+        for (int i = 0; i < frames.length; i++) {
+            BufferedImage source = i < 8 ? wide : tall;
+            int sourceX = i < 8 ? i * 40 : (i - 8) * 20;
+            assertEquals(source.getRGB(sourceX, 0), frames[i].getImage().getRGB(0, 0));
+            assertEquals(source.getRGB(sourceX + frames[i].getWidth() - 1, frames[i].getHeight() - 1),
+                    frames[i].getImage().getRGB(frames[i].getWidth() - 1, frames[i].getHeight() - 1));
+
+            for (int j = i + 1; j < frames.length; j++) {
+                assertFalse(bounds(frames[i]).intersects(bounds(frames[j])));
+            }
+        }
+    }
+
+    /**
+     * Regions that do not fit on one page spill onto further pages.
+     */
+    @Test
+    public void shouldSpillOntoNewPages()
+    {
+        BufferedImage sheet = createSheet(6, 30, 30, 0x0000FF);
+
+        // A 64x64 page holds two rows of two 30x30 frames.
+        TextureAtlas atlas = new TextureAtlas(64);
+        for (int i = 0; i < 6; i++) {
+            atlas.add(sheet, i * 30, 0, 30, 30);
+        }
+        atlas.pack();
+
+        assertEquals(2, atlas.getPages().size());
+    }
+
+    private static Rectangle bounds(final AnimationFrame frame)
+    {
+        return new Rectangle(frame.getAtlasX(), frame.getAtlasY(), frame.getWidth(), frame.getHeight());
+    }
+
+    /**
+     * Creates a 1-row sheet whose frames are distinct shades of a colour.
+     */
+    private static BufferedImage createSheet(final int frameCount, final int frameWidth, final int frameHeight, final int colour)
+    {
+        BufferedImage sheet = new BufferedImage(frameCount * frameWidth, frameHeight, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < sheet.getWidth(); x++) {
+            for (int y = 0; y < frameHeight; y++) {
+                int shade = (x / frameWidth + 1) * 16 + y;
+                sheet.setRGB(x, y, 0xFF000000 | (colour & (shade * 0x010101)));
+            }
+        }
+        return sheet;
+    }
+}
@@ -0,0 +1,103 @@
+package com.rikuthin.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.entities.enemies.RedMage;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for the integer-ID lookups of {@link AnimationManager}.
+ */
+public class AnimationManagerTest
+{
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private final AnimationManager animationManager = AnimationManager.getInstance();
+
+    @Before
+    public void setUp()
+    {
+        simulation.start();
+    }
+
+    @After
+    public void tearDown()
+    {
+        simulation.stop();
+    }
+
+    /**
+     * Every loaded animation has a dense ID that maps back to its key and
+     * template, and the registry is frozen once loading is done.
+     */
+    @Test
+    public void shouldGiveEveryAnimationADenseId()
+    {
+        assertTrue(animationManager.isFrozen());
+        assertTrue(animationManager.getAnimationCount() > 0);
+
+        for (int id = 0; id < animationManager.getAnimationCount(); id++) {
+            String key = animationManager.getAnimationKey(id);
+            assertEquals(id, animationManager.getAnimationId(key));
+            assertSame(animationManager.getAnimation(key), animationManager.getAnimation(id));
+        }
+
+        assertEquals(AnimationManager.NO_ANIMATION, animationManager.getAnimationId("missing"));
+        assertNull(animationManager.getAnimation(animationManager.getAnimationCount()));
+        assertNull(animationManager.getAnimation(AnimationManager.NO_ANIMATION));
+    }
+
+    /**
+     * No new animations can be added once frozen, but re-adding a known key
+     * still returns its ID.
+     */
+    @Test
+    public void shouldRejectNewAnimationsOnceFrozen()
+    {
+        int id = animationManager.getAnimationId("player-idle");
+        int count = animationManager.getAnimationCount();
+        assertEquals(id, animationManager.addAnimation("player-idle", animationManager.getAnimation(id)));
+
+        try {
+            animationManager.addAnimation("missing", animationManager.getAnimation(id));
+            fail("Added an animation after freezing.");
+        } catch (IllegalStateException e) {
+            assertEquals(count, animationManager.getAnimationCount());
+        }
+    }
+
+    /**
+     * Entities switch animations by ID, but only to animations in their set.
+     */
+    @Test
+    public void shouldOnlySwitchEntitiesToAnimationsInTheirSet()
+    {
+        Enemy enemy = new RedMage.RedMageBuilder(simulation.getArena()).build();
+        int mageId = animationManager.getAnimationId("mage-guardian-red");
+        int playerId = animationManager.getAnimationId("player-idle");
+
+        assertEquals(mageId, enemy.getCurrentAnimationId());
+        assertEquals("mage-guardian-red", enemy.getCurrentAnimationKey());
+
+        try {
+            enemy.setAnimation(playerId);
+            fail("Switched to an animation outside the entity's set.");
+        } catch (IllegalArgumentException e) {
+            assertEquals(mageId, enemy.getCurrentAnimationId());
+        }
+
+        enemy.addAnimationId(playerId);
+        enemy.setAnimation(playerId);
+        assertEquals(playerId, enemy.getCurrentAnimationId());
+        assertSame(animationManager.getAnimation(playerId), enemy.getCurrentAnimation().getTemplate());
+    }
+}
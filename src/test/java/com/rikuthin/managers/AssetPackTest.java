@@ -0,0 +1,75 @@
+package com.rikuthin.managers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AssetPack} and {@link AssetPackBuilder}.
+ */
+public class AssetPackTest
+{
+    private Path packFile;
+
+    @After
+    public void tearDown() throws IOException
+    {
+        if (packFile != null) {
+            Files.deleteIfExists(packFile);
+        }
+    }
+
+    /**
+     * Images and audio come back out of the pack exactly as they went in, and
+     * anything not packed is reported as missing.
+     */
+    @Test
+    public void shouldRoundTripImagesAndAudio() throws IOException
+    {
+        BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = {0xFF102030, 0x80FFFFFF, 0x00000000, 0xFF0000FF, 0x7F00FF00, 0xFFFF0000};
+        image.setRGB(0, 0, 3, 2, pixels, 0, 3);
+
+        AudioFormat format = new AudioFormat(22050, 16, 2, true, false);
+        byte[] samples = new byte[4 * 100];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (byte) (i * 7);
+        }
+
+        packFile = Files.createTempFile("asset-pack-test", ".pack");
+        new AssetPackBuilder()
+                .addImage("/images/test.png", image)
+                .addAudio("/sounds/test.wav", new AudioInputStream(new ByteArrayInputStream(samples), format, 100))
+                .write(packFile);
+
+        AssetPack pack = AssetPack.open(packFile);
+        assertEquals(2, pack.size());
+
+        BufferedImage loaded = pack.loadImage("/images/test.png");
+        assertEquals(3, loaded.getWidth());
+        assertEquals(2, loaded.getHeight());
+        assertArrayEquals(pixels, loaded.getRGB(0, 0, 3, 2, null, 0, 3));
+
+        try (AudioInputStream audio = pack.openAudio("/sounds/test.wav")) {
+            assertEquals(100, audio.getFrameLength());
+            assertEquals(format.toString(), audio.getFormat().toString());
+            assertArrayEquals(samples, audio.readAllBytes());
+        }
+
+        assertNull(pack.loadImage("/sounds/test.wav"));
+        assertNull(pack.loadImage("/images/missing.png"));
+        assertNull(pack.openAudio("/sounds/missing.wav"));
+    }
+}
@@ -0,0 +1,201 @@
+package com.rikuthin.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.LineUnavailableException;
+
+import org.junit.Test;
+
+import com.rikuthin.interfaces.AudioSink;
+
+/**
+ * Unit tests for the software {@link AudioMixer}, run without an audio
+ * device.
+ */
+public class AudioMixerTest
+{
+    /**
+     * The same sound can overlap itself, and voices are summed with their own
+     * gain and pan.
+     */
+    @Test
+    public void shouldMixOverlappingVoicesWithGainAndPan()
+    {
+        AudioMixer mixer = new AudioMixer(4);
+        int id = mixer.addSamples("beep", constantSamples(AudioMixer.BLOCK_FRAMES * 2, 1000));
+
+        assertTrue(mixer.play(id, 1.0f, 0.0f));
+        assertTrue(mixer.play(id, 1.0f, 0.0f));
+        byte[] block = mixer.mixBlock();
+        assertEquals(2, mixer.getActiveVoiceCount());
+        assertEquals(Math.round(2 * 1000 * Math.cos(Math.PI / 4)), sampleAt(block, 0), 1);
+        assertEquals(sampleAt(block, 0), sampleAt(block, 1));
+
+        mixer.stopAll();
+        mixer.play(id, 0.5f, -1.0f);
+        block = mixer.mixBlock();
+        assertEquals(1, mixer.getActiveVoiceCount());
+        assertEquals(500, sampleAt(block, 0), 1);
+        assertEquals(0, sampleAt(block, 1));
+
+        // The rest of the sound plays out, then the voice is freed.
+        mixer.mixBlock();
+        assertEquals(0, mixer.getActiveVoiceCount());
+        assertEquals(0, sampleAt(mixer.mixBlock(), 0));
+    }
+
+    /**
+     * Once every voice is busy, new sounds steal the oldest voice, and loud
+     * mixes are clipped rather than wrapped.
+     */
+    @Test
+    public void shouldStealOldestVoiceAndClip()
+    {
+        AudioMixer mixer = new AudioMixer(2);
+        int loud = mixer.addSamples("loud", constantSamples(AudioMixer.BLOCK_FRAMES * 4, Short.MAX_VALUE));
+
+        for (int i = 0; i < 3; i++) {
+            mixer.play(loud, 1.0f, 1.0f);
+        }
+        byte[] block = mixer.mixBlock();
+
+        assertEquals(2, mixer.getActiveVoiceCount());
+        assertEquals(1, mixer.getStolenCount());
+        assertEquals(Short.MAX_VALUE, sampleAt(block, 1));
+    }
+
+    /**
+     * Requests from several threads are all run, and a full queue drops new
+     * requests instead of blocking.
+     */
+    @Test(timeout = 10_000)
+    public void shouldQueueRequestsFromSeveralThreads() throws InterruptedException
+    {
+        AudioMixer mixer = new AudioMixer(1);
+        int id = mixer.addSamples("click", constantSamples(1, 1));
+
+        final int perThread = AudioMixer.COMMAND_CAPACITY / 4;
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    mixer.play(id, 1.0f, 0.0f);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertFalse(mixer.play(id, 1.0f, 0.0f));
+        assertEquals(1, mixer.getDroppedCount());
+
+        mixer.mixBlock();
+        assertEquals(AudioMixer.COMMAND_CAPACITY - 1, mixer.getStolenCount());
+        assertTrue(mixer.play(id, 1.0f, 0.0f));
+    }
+
+    /**
+     * Sounds are converted to the mixer's stereo format, and the mixer thread
+     * runs against a null sink on machines with no audio device.
+     */
+    @Test(timeout = 10_000)
+    public void shouldDecodeAndRunWithoutAudioDevice() throws IOException, LineUnavailableException, InterruptedException
+    {
+        AudioMixer mixer = new AudioMixer();
+        int id = mixer.addSound("tone", monoStream(22_050, 100, 2000));
+        assertEquals(0, id);
+        assertEquals(id, mixer.addSound("tone", monoStream(22_050, 100, 2000)));
+        assertEquals(1, mixer.getSoundCount());
+
+        NullAudioSink sink = new NullAudioSink(true);
+        mixer.start(sink);
+        assertTrue(mixer.play(id, 1.0f, 0.0f));
+        while (sink.getWrittenBytes() < 4L * AudioMixer.BLOCK_FRAMES * AudioMixer.FORMAT.getFrameSize()) {
+            Thread.sleep(5);
+        }
+        mixer.stop();
+
+        assertFalse(mixer.isRunning());
+        assertEquals(0, mixer.getActiveVoiceCount());
+    }
+
+    /**
+     * A sink that fails stops the mixer thread and clears its running flag,
+     * so the mixer can be started again on another sink.
+     */
+    @Test(timeout = 10_000)
+    public void shouldStopWhenSinkFails() throws LineUnavailableException, InterruptedException
+    {
+        AudioMixer mixer = new AudioMixer();
+        mixer.start(new FailingAudioSink());
+        while (mixer.isRunning()) {
+            Thread.sleep(5);
+        }
+
+        NullAudioSink sink = new NullAudioSink(true);
+        mixer.start(sink);
+        assertTrue(mixer.isRunning());
+        while (sink.getWrittenBytes() == 0) {
+            Thread.sleep(5);
+        }
+        mixer.stop();
+        assertFalse(mixer.isRunning());
+    }
+
+    private static short[] constantSamples(final int frames, final int value)
+    {
+        short[] samples = new short[frames * 2];
+        Arrays.fill(samples, (short) value);
+        return samples;
+    }
+
+    private static int sampleAt(final byte[] block, final int sample)
+    {
+        return (short) ((block[sample * 2] & 0xFF) | (block[sample * 2 + 1] << 8));
+    }
+
+    private static AudioInputStream monoStream(final float sampleRate, final int frames, final int value)
+    {
+        byte[] bytes = new byte[frames * 2];
+        for (int i = 0; i < frames; i++) {
+            bytes[i * 2] = (byte) value;
+            bytes[i * 2 + 1] = (byte) (value >> 8);
+        }
+        AudioFormat format = new AudioFormat(sampleRate, 16, 1, true, false);
+        return new AudioInputStream(new ByteArrayInputStream(bytes), format, frames);
+    }
+
+    /**
+     * A sink whose every write fails, like a line unplugged mid-game.
+     */
+    private static final class FailingAudioSink implements AudioSink
+    {
+        @Override
+        public void open(final AudioFormat format, final int bufferBytes)
+        {
+            // Always opens.
+        }
+
+        @Override
+        public void write(final byte[] data, final int offset, final int length)
+        {
+            throw new IllegalStateException("FailingAudioSink: Line was closed.");
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to release.
+        }
+    }
+}
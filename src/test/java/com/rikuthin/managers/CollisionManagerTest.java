@@ -0,0 +1,195 @@
+package com.rikuthin.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rikuthin.entities.Entity;
+import com.rikuthin.entities.EntityRegistry;
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.BulletStore;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.simulation.HeadlessSimulation;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for {@link CollisionManager}, checked against a brute-force
+ * bullets × entities search over a seeded layout.
+ */
+public class CollisionManagerTest
+{
+    private static final int HIT_POINTS = 100_000;
+
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+    private BulletManager bulletManager;
+    private EntityRegistry entityRegistry;
+    private Player player;
+    private List<Enemy> enemies;
+    private List<Entity> targets;
+
+    @Before
+    public void setUp()
+    {
+        simulation.start();
+        GameManager gameManager = simulation.getGameManager();
+        bulletManager = gameManager.getBulletManager();
+        entityRegistry = gameManager.getEntityRegistry();
+        bulletManager.clear();
+
+        // The player hangs off the left edge of the arena, and one enemy off the right.
+        player = new Player.PlayerBuilder(simulation.getArena())
+                .collidability(true)
+                .animationIds(
+                        Player.DEATH_ANIMATION.getId(),
+                        Player.IDLE_ANIMATION.getId(),
+                        Player.WALK_UP_LEFT_ANIMATION.getId(),
+                        Player.WALK_UP_RIGHT_ANIMATION.getId(),
+                        Player.WALK_UP_ANIMATION.getId()
+                )
+                .currentAnimationId(Player.IDLE_ANIMATION.getId())
+                .maxHitPoints(HIT_POINTS)
+                .currentHitPoints(HIT_POINTS)
+                .build();
+        player.setHitboxFromRectangle(new Rectangle(-20, 600, 60, 80));
+        entityRegistry.register(player);
+
+        enemies = new ArrayList<>();
+        enemies.add(createEnemy(new Rectangle(100, 100, 60, 60)));
+        enemies.add(createEnemy(new Rectangle(300, 300, 60, 60)));
+        enemies.add(createEnemy(new Rectangle(680, 200, 70, 60)));
+
+        targets = new ArrayList<>();
+        targets.add(player);
+        targets.addAll(enemies);
+    }
+
+    @After
+    public void tearDown()
+    {
+        bulletManager.clear();
+        simulation.stop();
+    }
+
+    /**
+     * Exactly the bullets brute force says hit a hostile entity are removed
+     * (even with many swap-removes in one tick), each entity takes exactly the
+     * damage of the bullets that hit it, and no bullet hits its owner or its
+     * owner's side.
+     */
+    @Test
+    public void shouldResolveSameHitsAsBruteForce()
+    {
+        SplittableRandom random = new SplittableRandom(7);
+        AnimationManager animationManager = AnimationManager.getInstance();
+        AnimationTemplate[] templates = {
+            animationManager.getAnimation(animationManager.getAnimationId("player-bullet")),
+            animationManager.getAnimation(animationManager.getAnimationId("enemy-bullet"))
+        };
+
+        // Includes a handle whose entity has since been removed (treated as enemy fire).
+        Enemy removed = createEnemy(new Rectangle(0, 0, 1, 1));
+        long staleHandle = removed.getHandle();
+        entityRegistry.unregister(staleHandle);
+        long[] owners = new long[targets.size() + 1];
+        for (int t = 0; t < targets.size(); t++) {
+            owners[t] = targets.get(t).getHandle();
+        }
+        owners[targets.size()] = staleHandle;
+
+        int[] expectedDamage = new int[targets.size()];
+        TreeSet<Integer> expectedSurvivors = new TreeSet<>();
+        int expectedHits = 0;
+
+        BulletStore bullets = bulletManager.getBullets();
+        for (int id = 0; id < 600; id++) {
+            AnimationTemplate template = templates[random.nextInt(templates.length)];
+            int width = template.getFrames().get(0).getWidth();
+            int height = template.getFrames().get(0).getHeight();
+            Rectangle near = targets.get(random.nextInt(targets.size())).getHitbox();
+
+            Rectangle bullet;
+            int overlapped;
+            do {
+                bullet = new Rectangle(
+                        near.x + random.nextInt(-width - 20, near.width + 20),
+                        near.y + random.nextInt(-height - 20, near.height + 20),
+                        width,
+                        height
+                );
+                overlapped = overlappedTarget(bullet);
+            } while (overlapped == -2);
+
+            long owner = owners[random.nextInt(owners.length)];
+            int damage = random.nextInt(1, 4);
+            bulletManager.spawnBullet(bullet.x, bullet.y, id, 0, damage, owner, template);
+
+            if (overlapped >= 0 && isHostile(entityRegistry.get(owner), targets.get(overlapped))) {
+                expectedDamage[overlapped] += damage;
+                expectedHits++;
+            } else {
+                expectedSurvivors.add(id);
+            }
+        }
+        assertTrue(expectedHits > 50);
+
+        CollisionManager collisionManager = new CollisionManager(32);
+        collisionManager.resolve(bulletManager, entityRegistry, player, enemies, simulation.getArena());
+
+        assertEquals(expectedHits, collisionManager.getHitCount());
+        for (int t = 0; t < targets.size(); t++) {
+            assertEquals(HIT_POINTS - expectedDamage[t], targets.get(t).getCurrentHitPoints());
+        }
+
+        TreeSet<Integer> survivors = new TreeSet<>();
+        for (int i = 0; i < bullets.size(); i++) {
+            survivors.add((int) bullets.getVelocityX(i));
+        }
+        assertEquals(expectedSurvivors.size(), bullets.size());
+        assertEquals(expectedSurvivors, survivors);
+    }
+
+    private Enemy createEnemy(final Rectangle hitbox)
+    {
+        Enemy enemy = new Enemy.EnemyBuilder(simulation.getArena())
+                .collidability(true)
+                .maxHitPoints(HIT_POINTS)
+                .currentHitPoints(HIT_POINTS)
+                .build();
+        enemy.setHitboxFromRectangle(hitbox);
+        entityRegistry.register(enemy);
+        return enemy;
+    }
+
+    /**
+     * Returns the index of the only target the bullet overlaps, -1 if it
+     * overlaps none, or -2 if it overlaps several.
+     */
+    private int overlappedTarget(final Rectangle bullet)
+    {
+        int overlapped = -1;
+        for (int t = 0; t < targets.size(); t++) {
+            if (bullet.intersects(targets.get(t).getHitbox())) {
+                if (overlapped != -1) {
+                    return -2;
+                }
+                overlapped = t;
+            }
+        }
+        return overlapped;
+    }
+
+    private static boolean isHostile(final Entity owner, final Entity target)
+    {
+        return owner != target && (owner instanceof Player) != (target instanceof Player);
+    }
+}
@@ -0,0 +1,233 @@
+package com.rikuthin.simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Point;
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.BulletStore;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.entities.enemies.RedMage;
+import com.rikuthin.managers.AnimationManager;
+import com.rikuthin.managers.BulletManager;
+import com.rikuthin.managers.EnemyManager;
+import com.rikuthin.managers.GameManager;
+import com.rikuthin.managers.InputManager;
+import com.rikuthin.utility.Arena;
+
+/**
+ * Unit tests for {@link HeadlessSimulation}.
+ */
+public class HeadlessSimulationTest
+{
+    private final HeadlessSimulation simulation = new HeadlessSimulation(new Arena(720, 720));
+
+    @After
+    public void tearDown()
+    {
+        simulation.stop();
+        simulation.getGameManager().setParallelUpdate(false);
+        simulation.getGameManager().setRecordingReplays(false);
+    }
+
+    /**
+     * The full update path runs with no Swing panels attached.
+     */
+    @Test
+    public void shouldRunWithoutAnyPanels()
+    {
+        simulation.start();
+        simulation.runTicks(2000);
+
+        GameManager gameManager = simulation.getGameManager();
+        assertTrue(gameManager.isHeadless());
+        assertEquals(2000, gameManager.getTickCount());
+
+        Player player = gameManager.getPlayer();
+        assertNotNull(player);
+        assertTrue(player.isFullyWithinArena());
+        assertFalse(gameManager.getEnemyManager().getEnemies().isEmpty());
+    }
+
+    /**
+     * The player and enemies spawn inside arenas of any size, not just one the
+     * size of the game window.
+     */
+    @Test
+    public void shouldSpawnWithinNonDefaultArena()
+    {
+        HeadlessSimulation small = new HeadlessSimulation(new Arena(400, 300));
+        small.start();
+        small.runTicks(600);
+
+        GameManager gameManager = small.getGameManager();
+        assertTrue(gameManager.getPlayer().isFullyWithinArena());
+        assertFalse(gameManager.getEnemyManager().getEnemies().isEmpty());
+        for (Enemy enemy : gameManager.getEnemyManager().getEnemies()) {
+            Point position = enemy.getPosition();
+            assertTrue(position.x >= 0 && position.x < 400);
+            assertTrue(position.y >= 0 && position.y < 300);
+        }
+        small.stop();
+    }
+
+    /**
+     * Running a replay without one attached fails at once instead of running
+     * forever.
+     */
+    @Test(timeout = 10_000)
+    public void shouldRejectRunningReplayWithoutPlayback()
+    {
+        simulation.start();
+
+        try {
+            simulation.runReplay();
+            fail("Ran a replay with no playback attached.");
+        } catch (IllegalStateException e) {
+            assertEquals(0, simulation.getGameManager().getTickCount());
+        }
+    }
+
+    /**
+     * Parallel update mode evolves the world exactly as serial mode does,
+     * including which bullets despawn and which enemies are defeated.
+     */
+    @Test
+    public void shouldUpdateIdenticallyInParallel()
+    {
+        List<Float> serial = runSeededWorld(1);
+        List<Float> parallel = runSeededWorld(4);
+
+        assertEquals(serial, parallel);
+    }
+
+    /**
+     * A recorded game, saved and loaded again, plays back to exactly the same
+     * world: same random enemies, same player path, same bullets.
+     */
+    @Test
+    public void shouldPlayBackRecordedGameExactly() throws IOException
+    {
+        GameManager gameManager = simulation.getGameManager();
+        gameManager.setRecordingReplays(true);
+        gameManager.setSeed(1234);
+        simulation.start();
+
+        InputManager inputManager = gameManager.getInputManager();
+        int[][] script = {
+            {30, KeyEvent.VK_SPACE, 1}, {45, KeyEvent.VK_LEFT, 1}, {200, KeyEvent.VK_SHIFT, 1},
+            {260, KeyEvent.VK_LEFT, 0}, {261, KeyEvent.VK_UP, 1}, {400, KeyEvent.VK_SPACE, 0},
+            {500, KeyEvent.VK_D, 1}, {700, KeyEvent.VK_SHIFT, 0}, {900, KeyEvent.VK_UP, 0}
+        };
+        int next = 0;
+        for (int tick = 0; tick < 1500; tick++) {
+            while (next < script.length && script[next][0] == tick) {
+                inputManager.submitKeyEvent(script[next][1], script[next][2] == 1);
+                next++;
+            }
+            simulation.runTicks(1);
+        }
+        List<Float> recorded = snapshot(gameManager);
+        assertFalse(gameManager.getEnemyManager().getEnemies().isEmpty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        gameManager.getReplay().writeTo(out);
+        Replay replay = Replay.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(1500, replay.getTickCount());
+        assertEquals(1234, replay.getSeed());
+        assertTrue(out.size() < 100);
+
+        gameManager.setRecordingReplays(false);
+        simulation.start(replay);
+        assertEquals(1500, simulation.runReplay());
+        assertTrue(gameManager.isReplayFinished());
+
+        assertEquals(recorded, snapshot(gameManager));
+    }
+
+    /**
+     * Returns the positions of the player, every enemy and every bullet.
+     */
+    private static List<Float> snapshot(final GameManager gameManager)
+    {
+        List<Float> snapshot = new ArrayList<>();
+        Player player = gameManager.getPlayer();
+        snapshot.add((float) player.getX());
+        snapshot.add((float) player.getY());
+        for (Enemy enemy : gameManager.getEnemyManager().getEnemies()) {
+            snapshot.add((float) enemy.getX());
+            snapshot.add((float) enemy.getY());
+            snapshot.add((float) enemy.getCurrentHitPoints());
+        }
+        BulletStore bullets = gameManager.getBulletManager().getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            snapshot.add(bullets.getX(i));
+            snapshot.add(bullets.getY(i));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Runs a seeded world with enough bullets and enemies to be split into
+     * several chunks, then returns a snapshot of every bullet and enemy.
+     */
+    private List<Float> runSeededWorld(final int parallelism)
+    {
+        GameManager gameManager = simulation.getGameManager();
+        gameManager.setUpdateParallelism(parallelism);
+        simulation.start();
+
+        SplittableRandom random = new SplittableRandom(42);
+        EnemyManager enemyManager = gameManager.getEnemyManager();
+        enemyManager.setMaxEnemyCount(4 * EnemyManager.PARALLEL_CHUNK_SIZE);
+        for (int i = 0; i < 4 * EnemyManager.PARALLEL_CHUNK_SIZE; i++) {
+            Enemy enemy = new RedMage.RedMageBuilder(gameManager.getArena()).collidability(true).build();
+            enemy.setPosition(new Point(random.nextInt(720), random.nextInt(720)));
+            enemy.setVelocityX(random.nextInt(-4, 5));
+            enemyManager.addEnemy(enemy);
+        }
+        // No random enemies, so defeated ones are not replaced.
+        enemyManager.setMaxEnemyCount(0);
+
+        BulletManager bulletManager = gameManager.getBulletManager();
+        long owner = gameManager.getPlayer().getHandle();
+        for (int i = 0; i < 4 * BulletManager.PARALLEL_CHUNK_SIZE; i++) {
+            bulletManager.spawnBullet(random.nextInt(720), random.nextInt(720),
+                    random.nextInt(-8, 9), random.nextInt(-8, 9), 5, owner,
+                    AnimationManager.getInstance().getAnimation("player-bullet"));
+        }
+
+        simulation.runTicks(60);
+
+        List<Float> snapshot = new ArrayList<>();
+        BulletStore bullets = bulletManager.getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            snapshot.add(bullets.getX(i));
+            snapshot.add(bullets.getY(i));
+        }
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            snapshot.add((float) enemy.getX());
+            snapshot.add((float) enemy.getY());
+            snapshot.add((float) enemy.getCurrentHitPoints());
+        }
+        assertTrue(bullets.size() > 0);
+        assertTrue(bullets.size() < 4 * BulletManager.PARALLEL_CHUNK_SIZE);
+
+        simulation.stop();
+        return snapshot;
+    }
+}
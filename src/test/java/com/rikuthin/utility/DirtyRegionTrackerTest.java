@@ -0,0 +1,130 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DirtyRegionTracker}.
+ */
+public class DirtyRegionTrackerTest
+{
+    private static final int WIDTH = 720;
+    private static final int HEIGHT = 700;
+    private static final int TILE_SIZE = 32;
+
+    /**
+     * The first frame (and any frame after a resize) is a full redraw; after
+     * that, an empty frame has nothing to redraw.
+     */
+    @Test
+    public void shouldRequireFullRedrawOnlyAfterReset()
+    {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(TILE_SIZE);
+        tracker.reset(WIDTH, HEIGHT);
+        assertTrue(tracker.isFullRedraw());
+        assertEquals((long) WIDTH * HEIGHT, tracker.getDirtyArea());
+        tracker.endFrame();
+
+        assertFalse(tracker.isFullRedraw());
+        assertEquals(0, tracker.collectRegions());
+        assertEquals(0, tracker.getDirtyArea());
+        tracker.endFrame();
+
+        tracker.reset(WIDTH, HEIGHT);
+        assertFalse(tracker.isFullRedraw());
+        tracker.reset(WIDTH + 1, HEIGHT);
+        assertTrue(tracker.isFullRedraw());
+    }
+
+    /**
+     * The collected regions cover exactly the tiles marked in this frame or
+     * the previous one, without overlapping.
+     */
+    @Test
+    public void shouldCoverCurrentAndPreviousTilesExactly()
+    {
+        Random random = new Random(42);
+        DirtyRegionTracker tracker = new DirtyRegionTracker(TILE_SIZE);
+        tracker.reset(WIDTH, HEIGHT);
+        tracker.endFrame();
+
+        boolean[][] previous = new boolean[HEIGHT][WIDTH];
+        for (int frame = 0; frame < 50; frame++) {
+            boolean[][] current = new boolean[HEIGHT][WIDTH];
+            for (int i = 0; i < random.nextInt(40); i++) {
+                int x = random.nextInt(WIDTH + 100) - 50;
+                int y = random.nextInt(HEIGHT + 100) - 50;
+                int w = 1 + random.nextInt(80);
+                int h = 1 + random.nextInt(80);
+                tracker.mark(x, y, w, h);
+                markTiles(current, x, y, w, h);
+            }
+
+            int[][] covered = new int[HEIGHT][WIDTH];
+            long area = 0;
+            for (int r = 0; r < tracker.collectRegions(); r++) {
+                for (int y = tracker.getRegionY(r); y < tracker.getRegionY(r) + tracker.getRegionHeight(r); y++) {
+                    for (int x = tracker.getRegionX(r); x < tracker.getRegionX(r) + tracker.getRegionWidth(r); x++) {
+                        covered[y][x]++;
+                    }
+                }
+                area += (long) tracker.getRegionWidth(r) * tracker.getRegionHeight(r);
+            }
+            assertEquals(area, tracker.getDirtyArea());
+
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    assertEquals(current[y][x] || previous[y][x] ? 1 : 0, covered[y][x]);
+                }
+            }
+
+            tracker.endFrame();
+            previous = current;
+        }
+    }
+
+    /**
+     * Vertically adjacent dirty runs with the same extent are merged.
+     */
+    @Test
+    public void shouldMergeAlignedRuns()
+    {
+        DirtyRegionTracker tracker = new DirtyRegionTracker(TILE_SIZE);
+        tracker.reset(WIDTH, HEIGHT);
+        tracker.endFrame();
+
+        tracker.mark(0, 0, 64, 96);
+        tracker.mark(200, 0, 10, 10);
+        assertEquals(2, tracker.collectRegions());
+
+        int merged = tracker.getRegionX(0) == 0 ? 0 : 1;
+        assertEquals(0, tracker.getRegionX(merged));
+        assertEquals(0, tracker.getRegionY(merged));
+        assertEquals(64, tracker.getRegionWidth(merged));
+        assertEquals(96, tracker.getRegionHeight(merged));
+    }
+
+    /**
+     * Marks every pixel of every tile the rectangle overlaps.
+     */
+    private static void markTiles(final boolean[][] pixels, final int x, final int y, final int w, final int h)
+    {
+        if (x + w <= 0 || y + h <= 0 || x >= WIDTH || y >= HEIGHT) {
+            return;
+        }
+        int minX = Math.max(x, 0) / TILE_SIZE * TILE_SIZE;
+        int minY = Math.max(y, 0) / TILE_SIZE * TILE_SIZE;
+        int maxX = Math.min((Math.min(x + w, WIDTH) - 1) / TILE_SIZE * TILE_SIZE + TILE_SIZE, WIDTH);
+        int maxY = Math.min((Math.min(y + h, HEIGHT) - 1) / TILE_SIZE * TILE_SIZE + TILE_SIZE, HEIGHT);
+        for (int py = minY; py < maxY; py++) {
+            for (int px = minX; px < maxX; px++) {
+                pixels[py][px] = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FixedTimestepLoop}, driven by synthetic timestamps.
+ */
+public class FixedTimestepLoopTest
+{
+    /**
+     * 100 ticks per second, so one tick lasts exactly 10 ms.
+     */
+    private static final long TICK = 10_000_000L;
+
+    /**
+     * Whole ticks are run as time accumulates, and the remainder is kept as
+     * the interpolation alpha.
+     */
+    @Test
+    public void shouldRunOneTickPerAccumulatedTickDuration()
+    {
+        FixedTimestepLoop loop = new FixedTimestepLoop(100, 5);
+        int[] updates = {0};
+
+        assertEquals(0, loop.advance(TICK, () -> updates[0]++));
+        loop.start(0);
+
+        assertEquals(0, loop.advance(TICK / 2, () -> updates[0]++));
+        assertEquals(0.5, loop.getInterpolationAlpha(), 1e-9);
+
+        assertEquals(1, loop.advance(TICK + TICK / 4, () -> updates[0]++));
+        assertEquals(0.25, loop.getInterpolationAlpha(), 1e-9);
+
+        assertEquals(3, loop.advance(4 * TICK + TICK / 4, () -> updates[0]++));
+        assertEquals(0.25, loop.getInterpolationAlpha(), 1e-9);
+
+        // Time going backwards is ignored rather than un-simulated.
+        assertEquals(0, loop.advance(TICK, () -> updates[0]++));
+
+        assertEquals(4, updates[0]);
+        assertEquals(4, loop.getTickCount());
+        assertEquals(0, loop.getDroppedTickCount());
+    }
+
+    /**
+     * A long stall runs at most the catch-up cap, and the whole ticks still
+     * owed are counted as dropped instead of being run later.
+     */
+    @Test
+    public void shouldCapCatchUpAndCountDroppedTicks()
+    {
+        FixedTimestepLoop loop = new FixedTimestepLoop(100, 3);
+        int[] updates = {0};
+        loop.start(0);
+
+        assertEquals(3, loop.advance(10 * TICK + TICK / 2, () -> updates[0]++));
+        assertEquals(7, loop.getDroppedTickCount());
+        assertEquals(0.5, loop.getInterpolationAlpha(), 1e-9);
+
+        assertEquals(1, loop.advance(11 * TICK, () -> updates[0]++));
+        assertEquals(4, updates[0]);
+        assertEquals(7, loop.getDroppedTickCount());
+
+        // Restarting discards the time that passed while stopped.
+        loop.stop();
+        assertEquals(0, loop.advance(100 * TICK, () -> updates[0]++));
+        loop.start(200 * TICK);
+        assertEquals(0, loop.advance(200 * TICK, () -> updates[0]++));
+        assertEquals(0.0, loop.getInterpolationAlpha(), 1e-9);
+        assertEquals(7, loop.getDroppedTickCount());
+    }
+
+    /**
+     * Stopping the loop from inside an update returns at once, discarding the
+     * ticks still owed without counting them as dropped.
+     */
+    @Test
+    public void shouldReturnEarlyWhenStoppedDuringUpdate()
+    {
+        FixedTimestepLoop loop = new FixedTimestepLoop(100, 5);
+        int[] updates = {0};
+        loop.start(0);
+
+        assertEquals(2, loop.advance(5 * TICK + TICK / 2, () -> {
+            if (++updates[0] == 2) {
+                loop.stop();
+            }
+        }));
+
+        assertFalse(loop.isRunning());
+        assertEquals(2, loop.getTickCount());
+        assertEquals(0, loop.getDroppedTickCount());
+        assertEquals(0.5, loop.getInterpolationAlpha(), 1e-9);
+    }
+
+    /**
+     * The time scale changes how many ticks run per second of real time, not
+     * how long each tick is.
+     */
+    @Test
+    public void shouldScaleTicksRunPerRealSecond()
+    {
+        FixedTimestepLoop loop = new FixedTimestepLoop(100, 10);
+        int[] updates = {0};
+        loop.setTimeScale(4);
+        loop.start(0);
+
+        assertEquals(4, loop.advance(TICK, () -> updates[0]++));
+        assertEquals(TICK, loop.getTickDurationNanos());
+
+        loop.setTimeScale(0.5);
+        assertEquals(0, loop.advance(TICK + TICK / 2, () -> updates[0]++));
+        assertEquals(0.25, loop.getInterpolationAlpha(), 1e-9);
+        assertEquals(1, loop.advance(3 * TICK, () -> updates[0]++));
+
+        loop.setTimeScale(Double.NaN);
+        assertEquals(1.0, loop.getTimeScale(), 1e-9);
+        loop.setTimeScale(0);
+        assertTrue(loop.getTimeScale() > 0);
+        assertEquals(5, updates[0]);
+    }
+}
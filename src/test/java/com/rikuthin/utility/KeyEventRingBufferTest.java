@@ -0,0 +1,73 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link KeyEventRingBuffer}.
+ */
+public class KeyEventRingBufferTest
+{
+    /**
+     * Events offered on one thread are drained on another, complete and in
+     * order, even while the buffer keeps wrapping around.
+     */
+    @Test(timeout = 10_000)
+    public void shouldDeliverEveryEventInOrderAcrossThreads() throws InterruptedException
+    {
+        final int eventCount = 10_000;
+        KeyEventRingBuffer buffer = new KeyEventRingBuffer(16);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < eventCount; i++) {
+                while (!buffer.offer(i % KeyState.KEY_CODE_COUNT, i % 2 == 0)) {
+                    Thread.onSpinWait();
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        int[] received = {0};
+        boolean[] isInOrder = {true};
+        while (received[0] < eventCount) {
+            int drained = buffer.drain((keyCode, isPressed) -> {
+                int i = received[0]++;
+                isInOrder[0] &= keyCode == i % KeyState.KEY_CODE_COUNT && isPressed == (i % 2 == 0);
+            });
+            if (drained == 0) {
+                // Let the producer run, even with a single processor.
+                Thread.onSpinWait();
+                Thread.yield();
+            }
+        }
+        producer.join();
+
+        assertTrue(isInOrder[0]);
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * A full buffer drops (and counts) new events instead of overwriting
+     * unread ones.
+     */
+    @Test
+    public void shouldDropEventsWhenFull()
+    {
+        KeyEventRingBuffer buffer = new KeyEventRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, true));
+        }
+        assertFalse(buffer.offer(99, true));
+        assertEquals(1, buffer.getDroppedCount());
+
+        KeyState keyState = new KeyState();
+        assertEquals(4, buffer.drain(keyState::set));
+        assertTrue(keyState.isPressed(3));
+        assertFalse(keyState.isPressed(99));
+        assertTrue(buffer.offer(99, true));
+    }
+}
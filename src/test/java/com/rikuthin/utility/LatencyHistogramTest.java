@@ -0,0 +1,56 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest
+{
+    /**
+     * Percentiles land within the 12.5% bucket resolution of the true value,
+     * never below it, and the maximum is exact.
+     */
+    @Test
+    public void shouldReportPercentilesWithinBucketResolution()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 1e-9);
+
+        long p50 = histogram.getValueAtPercentile(50);
+        assertTrue("p50 was " + p50, p50 >= 500_000 && p50 <= 500_000 * 1.125);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue("p99 was " + p99, p99 >= 990_000 && p99 <= 1_000_000);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Small values are recorded exactly, and resetting forgets everything.
+     */
+    @Test
+    public void shouldRecordSmallValuesExactlyAndReset()
+    {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(99));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,89 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link SpatialGrid} broadphase, checked against a
+ * brute-force search over a seeded layout.
+ */
+public class SpatialGridTest
+{
+    private static final int ARENA_WIDTH = 300;
+    private static final int ARENA_HEIGHT = 200;
+    private static final int MAX_ITEM_SIZE = 24;
+
+    /**
+     * Every item whose box overlaps a query rectangle is returned exactly once,
+     * including items straddling cell boundaries or hanging off the arena
+     * edges, and across rebuilds of the grid.
+     */
+    @Test
+    public void shouldFindEveryItemBruteForceFinds()
+    {
+        SplittableRandom random = new SplittableRandom(42);
+        SpatialGrid grid = new SpatialGrid(32);
+
+        for (int round = 0; round < 3; round++) {
+            int itemCount = 200 + round * 150;
+            float[][] boxes = new float[itemCount][];
+
+            grid.reset(ARENA_WIDTH, ARENA_HEIGHT);
+            for (int i = 0; i < itemCount; i++) {
+                boxes[i] = randomBox(random, MAX_ITEM_SIZE);
+                grid.insert(i, boxes[i][0] + boxes[i][2] / 2f, boxes[i][1] + boxes[i][3] / 2f);
+            }
+            assertEquals(itemCount, grid.getItemCount());
+            assertEquals(10, grid.getColumns());
+            assertEquals(7, grid.getRows());
+
+            float margin = MAX_ITEM_SIZE / 2f;
+            for (int q = 0; q < 200; q++) {
+                float[] query = randomBox(random, 80);
+                int found = grid.query(
+                        query[0] - margin,
+                        query[1] - margin,
+                        query[0] + query[2] + margin,
+                        query[1] + query[3] + margin
+                );
+
+                boolean[] isCandidate = new boolean[itemCount];
+                for (int r = 0; r < found; r++) {
+                    int item = grid.getResult(r);
+                    assertFalse(isCandidate[item]);
+                    isCandidate[item] = true;
+                }
+                for (int i = 0; i < itemCount; i++) {
+                    if (overlaps(boxes[i], query)) {
+                        assertTrue(isCandidate[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a random box {x, y, width, height}, positioned so that some
+     * boxes hang off (or lie entirely outside) the arena.
+     */
+    private static float[] randomBox(final SplittableRandom random, final int maxSize)
+    {
+        return new float[]{
+            (float) random.nextDouble(-40, ARENA_WIDTH + 40),
+            (float) random.nextDouble(-40, ARENA_HEIGHT + 40),
+            random.nextInt(1, maxSize + 1),
+            random.nextInt(1, maxSize + 1)
+        };
+    }
+
+    private static boolean overlaps(final float[] a, final float[] b)
+    {
+        return a[0] < b[0] + b[2] && a[0] + a[2] > b[0]
+                && a[1] < b[1] + b[3] && a[1] + a[3] > b[1];
+    }
+}